@@ -0,0 +1,95 @@
+package com.area.server.capacity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Stored capacity baseline ({@code capacity-baseline.properties}) and the results
+ * of the current run. Keys are {@code <engine>.<entities>.<metric>}; a metric
+ * regresses when it exceeds its baseline by more than {@code tolerance.<metric>}
+ * (a fraction). Metrics without a baseline are reported but never fail.
+ *
+ * Every run writes its own values to {@code target/capacity/capacity-results.properties}
+ * in the same format, so accepting a new baseline is a copy of that file.
+ */
+final class CapacityBaseline {
+
+    static final String CYCLE_MS = "cycle-ms";
+    static final String SQL_STATEMENTS = "sql-statements";
+    static final String ALLOC_BYTES_PER_ENTITY = "alloc-bytes-per-entity";
+    static final String PEAK_HEAP_MB = "peak-heap-mb";
+
+    private static final String RESOURCE = "/capacity-baseline.properties";
+    private static final Path RESULTS = Path.of("target", "capacity", "capacity-results.properties");
+
+    private final Properties baseline = new Properties();
+    private final Map<String, Long> results = new TreeMap<>();
+
+    CapacityBaseline() {
+        try (InputStream in = CapacityBaseline.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                baseline.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Record a cycle sample and compare it with the baseline.
+     *
+     * @return one message per regressed metric, empty when within tolerance
+     */
+    synchronized List<String> check(String engine, int entities, CycleProbe.Sample sample) {
+        Map<String, Long> values = Map.of(
+            CYCLE_MS, sample.cycleMs(),
+            SQL_STATEMENTS, sample.sqlStatements(),
+            ALLOC_BYTES_PER_ENTITY, sample.allocatedBytes() / entities,
+            PEAK_HEAP_MB, sample.peakHeapBytes() / (1024 * 1024));
+
+        List<String> regressions = new ArrayList<>();
+        values.forEach((metric, actual) -> {
+            String key = engine + "." + entities + "." + metric;
+            results.put(key, actual);
+            String expected = baseline.getProperty(key);
+            if (expected == null) {
+                return;
+            }
+            long limit = Math.round(Long.parseLong(expected.trim()) * (1 + tolerance(metric)));
+            if (actual > limit) {
+                regressions.add(String.format("%s = %d exceeds baseline %s (limit %d)", key, actual, expected, limit));
+            }
+        });
+        writeResults();
+        return regressions;
+    }
+
+    private double tolerance(String metric) {
+        return Double.parseDouble(baseline.getProperty("tolerance." + metric, "0.25"));
+    }
+
+    private void writeResults() {
+        try {
+            Files.createDirectories(RESULTS.getParent());
+            try (Writer writer = Files.newBufferedWriter(RESULTS)) {
+                for (String metric : List.of(CYCLE_MS, SQL_STATEMENTS, ALLOC_BYTES_PER_ENTITY, PEAK_HEAP_MB)) {
+                    writer.write("tolerance." + metric + "=" + baseline.getProperty("tolerance." + metric, "0.25") + "\n");
+                }
+                for (Map.Entry<String, Long> entry : results.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.area.server.capacity;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk-inserts capacity test entities with JDBC batches; going through the JPA
+ * repositories would make seeding 100k rows take longer than polling them.
+ * All entities belong to one user and reference one reaction connection.
+ */
+final class CapacitySeeder {
+
+    private static final int BATCH = 1_000;
+    private static final String WORKFLOW_DATA = "{\"trigger\":{\"service\":\"capacity\",\"type\":\"tick\",\"config\":{}},"
+        + "\"actions\":[{\"service\":\"capacity\",\"type\":\"noop\",\"config\":{}}]}";
+
+    private final JdbcTemplate jdbc;
+    private Long userId;
+    private Long connectionId;
+
+    CapacitySeeder(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Remove every area, workflow and their states and logs left by a previous size.
+     */
+    void reset() {
+        for (String table : List.of("area_execution_logs", "area_trigger_states", "areas",
+                "workflow_execution_logs", "workflow_trigger_states", "workflows")) {
+            jdbc.update("DELETE FROM " + table);
+        }
+        ensureOwner();
+    }
+
+    void seedWorkflows(int count) {
+        Timestamp now = Timestamp.from(Instant.now());
+        batches(count, (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                rows.add(new Object[] { userId, "capacity-" + i, true, now, now, WORKFLOW_DATA });
+            }
+            jdbc.batchUpdate("INSERT INTO workflows (user_id, name, active, created_at, updated_at, workflow_data) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", rows);
+        });
+    }
+
+    void seedAreas(int count) {
+        batches(count, (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                rows.add(new Object[] { userId, connectionId, "capacity.tick", "capacity.noop", true });
+            }
+            jdbc.batchUpdate("INSERT INTO areas (user_id, reaction_connection_id, action_type, reaction_type, active) "
+                + "VALUES (?, ?, ?, ?, ?)", rows);
+        });
+    }
+
+    void seedTimers(int count) {
+        batches(count, (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                rows.add(new Object[] { userId, connectionId, "timer.current_time", "capacity.noop", true,
+                    "current_time", 60 });
+            }
+            jdbc.batchUpdate("INSERT INTO areas (user_id, reaction_connection_id, action_type, reaction_type, active, "
+                + "timer_type, timer_interval_minutes) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+    }
+
+    private void ensureOwner() {
+        if (userId != null) {
+            return;
+        }
+        List<Long> existing = jdbc.queryForList("SELECT id FROM users WHERE username = 'capacity'", Long.class);
+        if (!existing.isEmpty()) {
+            userId = existing.get(0);
+            connectionId = jdbc.queryForObject("SELECT MAX(id) FROM service_connections WHERE user_id = ?",
+                Long.class, userId);
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbc.update("INSERT INTO users (email, username, full_name, email_verified, account_locked, "
+            + "failed_login_attempts, created_at, updated_at) VALUES (?, ?, ?, false, false, 0, ?, ?)",
+            "capacity@example.com", "capacity", "Capacity", now, now);
+        userId = jdbc.queryForObject("SELECT id FROM users WHERE username = 'capacity'", Long.class);
+        jdbc.update("INSERT INTO service_connections (user_id, type, access_token) VALUES (?, 'DISCORD', 'unused')",
+            userId);
+        connectionId = jdbc.queryForObject("SELECT MAX(id) FROM service_connections WHERE user_id = ?",
+            Long.class, userId);
+    }
+
+    private static void batches(int count, BatchWriter writer) {
+        for (int from = 0; from < count; from += BATCH) {
+            writer.write(from, Math.min(count, from + BATCH));
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchWriter {
+        void write(int from, int to);
+    }
+}
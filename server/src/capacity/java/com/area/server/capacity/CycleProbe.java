@@ -0,0 +1,50 @@
+package com.area.server.capacity;
+
+import org.hibernate.stat.Statistics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures one poll cycle: wall time, SQL statements prepared by Hibernate, bytes
+ * allocated by all live threads and peak heap usage. Allocation is read from the
+ * HotSpot thread MXBean, so threads that start and die inside the cycle are not
+ * counted; the schedulers run their work on the calling thread or on pooled
+ * threads that outlive the cycle.
+ */
+final class CycleProbe {
+
+    record Sample(long cycleMs, long sqlStatements, long allocatedBytes, long peakHeapBytes) {}
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private CycleProbe() {
+    }
+
+    static Sample measure(Statistics statistics, Runnable cycle) {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        statistics.clear();
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+
+        cycle.run();
+
+        long cycleMs = (System.nanoTime() - start) / 1_000_000;
+        long allocated = allocatedBytes() - allocatedBefore;
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return new Sample(cycleMs, statistics.getPrepareStatementCount(), allocated, peakHeap);
+    }
+
+    private static long allocatedBytes() {
+        long[] ids = THREADS.getAllThreadIds();
+        return Arrays.stream(THREADS.getThreadAllocatedBytes(ids)).filter(bytes -> bytes > 0).sum();
+    }
+}
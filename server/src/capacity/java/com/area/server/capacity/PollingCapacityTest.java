@@ -0,0 +1,194 @@
+package com.area.server.capacity;
+
+import com.area.server.model.AutomationEntity;
+import com.area.server.scheduler.AreaPollingScheduler;
+import com.area.server.scheduler.TimerPollingScheduler;
+import com.area.server.scheduler.WorkflowPollingScheduler;
+import com.area.server.service.integration.executor.ActionExecutor;
+import com.area.server.service.integration.executor.ReactionExecutor;
+import com.area.server.service.integration.executor.ContextKeys;
+import com.area.server.service.integration.executor.TriggerContext;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Capacity regression suite for the three polling engines. Each engine is run
+ * against stubbed executors at every size in {@code capacity.sizes}. A few cycles
+ * over a small data set first warm up the JIT, so results do not depend on which
+ * sizes are run. At each size one cycle creates the trigger states, then a second
+ * cycle is measured and compared with {@code capacity-baseline.properties}
+ * (see {@link CapacityBaseline}).
+ *
+ * One entity in ten fires and runs its no-op reaction, the rest are skipped, so
+ * both paths through the engine are covered. The SQL statement count is the
+ * metric that catches a per-cycle query turning into one query per entity.
+ *
+ * Run with {@code mvn -Pcapacity verify [-Dcapacity.sizes=1000,10000]}.
+ */
+@Tag("capacity")
+@SpringBootTest(properties = {
+    "workflow.polling.initial-delay=86400000",
+    "area.polling.initial-delay=86400000",
+    "timer.polling.initial-delay=86400000",
+    "oauth.refresh.proactive.initial-delay=86400000",
+    "workflow.polling.cycle-timeout-ms=3600000",
+    "area.polling.cycle-timeout-ms=3600000",
+    "timer.polling.cycle-timeout-ms=3600000",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.root=WARN",
+    "logging.level.com.area.server=WARN",
+    "logging.level.com.area.server.service=WARN",
+    "logging.level.com.area.server.logging=WARN",
+    "logging.level.com.area.server.scheduler=WARN",
+    "logging.level.org.hibernate.SQL=WARN",
+    "tracing.enabled=false"
+})
+@ActiveProfiles("test")
+public class PollingCapacityTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollingCapacityTest.class);
+    private static final CapacityBaseline BASELINE = new CapacityBaseline();
+    private static final int WARMUP_ENTITIES = 500;
+    private static final int WARMUP_CYCLES = 5;
+
+    @Autowired
+    private WorkflowPollingScheduler workflowScheduler;
+
+    @Autowired
+    private AreaPollingScheduler areaScheduler;
+
+    @Autowired
+    private TimerPollingScheduler timerScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CapacitySeeder seeder;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        seeder = new CapacitySeeder(jdbc);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void testWorkflowEngine() {
+        runAtEverySize("workflow", seeder::seedWorkflows, workflowScheduler::pollActiveWorkflows);
+    }
+
+    @Test
+    public void testAreaEngine() {
+        runAtEverySize("area", seeder::seedAreas, areaScheduler::pollActiveAreas);
+    }
+
+    @Test
+    public void testTimerEngine() {
+        runAtEverySize("timer", seeder::seedTimers, timerScheduler::pollActiveTimers);
+    }
+
+    private void runAtEverySize(String engine, IntConsumer seed, Runnable cycle) {
+        seeder.reset();
+        seed.accept(WARMUP_ENTITIES);
+        for (int i = 0; i < WARMUP_CYCLES; i++) {
+            cycle.run();
+        }
+
+        List<String> regressions = new ArrayList<>();
+        for (int size : sizes()) {
+            // Arrange
+            seeder.reset();
+            seed.accept(size);
+            cycle.run();
+
+            // Act
+            CycleProbe.Sample sample = CycleProbe.measure(statistics, cycle);
+
+            // Assert
+            logger.warn("{} x {}: {} ms, {} statements, {} bytes/entity allocated, {} MB peak heap",
+                engine, size, sample.cycleMs(), sample.sqlStatements(),
+                sample.allocatedBytes() / size, sample.peakHeapBytes() / (1024 * 1024));
+            regressions.addAll(BASELINE.check(engine, size, sample));
+        }
+        assertTrue(regressions.isEmpty(), String.join("\n", regressions));
+    }
+
+    private static int[] sizes() {
+        return Arrays.stream(System.getProperty("capacity.sizes", "1000,10000,100000").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    }
+
+    @TestConfiguration
+    static class StubExecutors {
+
+        @Bean
+        ActionExecutor capacityTrigger() {
+            return new ActionExecutor() {
+                @Override
+                public String getActionType() {
+                    return "capacity.tick";
+                }
+
+                @Override
+                public Mono<Boolean> isTriggered(AutomationEntity entity) {
+                    return Mono.just(fires(entity));
+                }
+
+                @Override
+                public Mono<TriggerContext> getTriggerContext(AutomationEntity entity) {
+                    boolean fires = fires(entity);
+                    return Mono.just(TriggerContext.builder()
+                        .putBoolean(ContextKeys.TRIGGERED, fires)
+                        .put(ContextKeys.NEW_MESSAGES, List.of())
+                        .putInt(ContextKeys.MESSAGE_COUNT, fires ? 1 : 0)
+                        .build());
+                }
+
+                private boolean fires(AutomationEntity entity) {
+                    return entity.getId() != null && entity.getId() % 10 == 0;
+                }
+            };
+        }
+
+        @Bean
+        ReactionExecutor capacityReaction() {
+            return new ReactionExecutor() {
+                @Override
+                public String getReactionType() {
+                    return "capacity.noop";
+                }
+
+                @Override
+                public Mono<Void> execute(AutomationEntity entity, TriggerContext context) {
+                    return Mono.empty();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.area.server.benchmark;
+
+import com.area.server.model.GitHubActionConfig;
+import com.area.server.model.GitHubReactionConfig;
+import com.area.server.util.GitHubValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of GitHub action and reaction configs, for valid input and for
+ * input that fails several checks (error messages are built on that path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GitHubValidatorBenchmark {
+
+    private GitHubValidator validator;
+    private GitHubActionConfig action;
+    private GitHubReactionConfig createPr;
+    private GitHubReactionConfig invalidIssue;
+
+    @Setup
+    public void setUp() {
+        validator = new GitHubValidator();
+
+        action = new GitHubActionConfig();
+        action.setActionType("issue_created");
+        action.setRepository("acme/area-platform");
+
+        createPr = new GitHubReactionConfig();
+        createPr.setReactionType("create_pr");
+        createPr.setRepository("acme/area-platform");
+        createPr.setPrTitle("Update docs for {email.subject}");
+        createPr.setPrBody("Opened automatically from {email.from}");
+        createPr.setSourceBranch("area/docs-update");
+        createPr.setTargetBranch("main");
+        createPr.setCommitMessage("docs: update");
+        createPr.setFilePath("docs/CHANGELOG.md");
+        createPr.setFileContent("# Changelog\n");
+
+        invalidIssue = new GitHubReactionConfig();
+        invalidIssue.setReactionType("create_issue");
+        invalidIssue.setRepository("acme/bad repo!");
+        invalidIssue.setIssueTitle("");
+    }
+
+    @Benchmark
+    public GitHubValidator.ValidationResult validateAction() {
+        return validator.validateActionConfig(action);
+    }
+
+    @Benchmark
+    public GitHubValidator.ValidationResult validateCreatePr() {
+        return validator.validateReactionConfig(createPr);
+    }
+
+    @Benchmark
+    public GitHubValidator.ValidationResult validateInvalidIssue() {
+        return validator.validateReactionConfig(invalidIssue);
+    }
+}
@@ -0,0 +1,71 @@
+package com.area.server.benchmark;
+
+import com.area.server.service.integration.executor.ContextKeys;
+import com.area.server.service.integration.executor.TriggerContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A trigger context is built once per event by the trigger and then read by the
+ * scheduler and every reaction, through typed keys or by name from templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TriggerContextBenchmark {
+
+    private TriggerContext context;
+
+    @Setup
+    public void setUp() {
+        context = build();
+    }
+
+    @Benchmark
+    public TriggerContext put() {
+        return build();
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        blackhole.consume(context.get(ContextKeys.SUBJECT));
+        blackhole.consume(context.get(ContextKeys.FROM));
+        blackhole.consume(context.getLong(ContextKeys.ISSUE_NUMBER, 0));
+        blackhole.consume(context.has(ContextKeys.PR_NUMBER));
+    }
+
+    @Benchmark
+    public void getByName(Blackhole blackhole) {
+        blackhole.consume(context.getString("subject"));
+        blackhole.consume(context.getString("from"));
+        blackhole.consume(context.get("issueNumber"));
+        blackhole.consume(context.has("prNumber"));
+    }
+
+    @Benchmark
+    public List<String> keys() {
+        return context.keys();
+    }
+
+    private static TriggerContext build() {
+        return TriggerContext.builder()
+            .put(ContextKeys.MESSAGE_ID, "18c2f0a9b7e3d401")
+            .put(ContextKeys.SUBJECT, "Build failed on main")
+            .put(ContextKeys.FROM, "ci@example.com")
+            .put(ContextKeys.SNIPPET, "The nightly build failed at step test: 3 failures in WorkflowExecutorTest")
+            .put("receivedAt", "2026-01-01T08:00:00Z")
+            .putLong(ContextKeys.ISSUE_NUMBER, 1234)
+            .put(ContextKeys.ISSUE_AUTHOR, "bob")
+            .put(ContextKeys.ISSUE_URL, "https://github.com/acme/area/issues/1234")
+            .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.area.server.benchmark;
+
+import com.area.server.dto.WorkflowData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Workflow definitions are stored as JSON and parsed on every poll, after which
+ * the trigger and each action resolve their full type. {@link #parse} mirrors
+ * {@code WorkflowPollingScheduler.parseWorkflowData}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorkflowDataBenchmark {
+
+    private static final String WORKFLOW_JSON = """
+        {
+          "trigger": {
+            "service": "gmail",
+            "type": "email_received",
+            "connectionId": 12,
+            "config": {"label": "INBOX", "subjectContains": "Build failed", "fromAddress": "ci@example.com"}
+          },
+          "actions": [
+            {
+              "service": "discord",
+              "type": "send_message",
+              "connectionId": 13,
+              "config": {"channelId": "1187340000000000000", "message": "New mail from {{from}}: {{subject}}"}
+            },
+            {
+              "service": "github",
+              "type": "github.create_issue",
+              "connectionId": 14,
+              "config": {"repository": "acme/area", "issueTitle": "{email.subject}", "issueBody": "{email.snippet}", "labels": "ci,bug"}
+            }
+          ]
+        }
+        """;
+
+    private ObjectMapper objectMapper;
+    private WorkflowData workflowData;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        workflowData = objectMapper.readValue(WORKFLOW_JSON, WorkflowData.class);
+    }
+
+    @Benchmark
+    public WorkflowData parse() throws IOException {
+        return objectMapper.readValue(WORKFLOW_JSON, WorkflowData.class);
+    }
+
+    @Benchmark
+    public String triggerFullType() {
+        return workflowData.getTrigger().getFullType();
+    }
+
+    @Benchmark
+    public String actionFullType() {
+        // Already prefixed with the service, the common case for GitHub reactions
+        return workflowData.getActions().get(1).getFullType();
+    }
+}
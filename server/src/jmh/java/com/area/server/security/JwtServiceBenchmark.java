@@ -0,0 +1,45 @@
+package com.area.server.security;
+
+import com.area.server.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token validation, done by the JWT filter on every authenticated request.
+ * Lives in the security package to call the package-private {@code init()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", "benchmark-secret-key-that-is-at-least-256-bits-long");
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(jwtService, "issuer", "area-platform");
+        jwtService.init();
+
+        User user = new User("alice@example.com", "alice", "hash", "Alice");
+        user.setId(42L);
+        accessToken = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtService.validateToken(accessToken, "access");
+    }
+}
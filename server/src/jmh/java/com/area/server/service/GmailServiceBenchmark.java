@@ -0,0 +1,76 @@
+package com.area.server.service;
+
+import com.area.server.dto.GmailApiResponse;
+import com.area.server.dto.GmailMessage;
+import com.area.server.logging.ExternalApiLogger;
+import com.area.server.model.GmailActionConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gmail polling hot path without the network: the search query built for each
+ * area and the conversion of one message detail, with a realistic header count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GmailServiceBenchmark {
+
+    private GmailService gmailService;
+    private GmailActionConfig config;
+    private GmailApiResponse.MessageDetail detail;
+
+    @Setup
+    public void setUp() {
+        gmailService = new GmailService(WebClient.create(), new ExternalApiLogger(""), 500);
+
+        config = new GmailActionConfig();
+        config.setLabel("INBOX");
+        config.setSubjectContains("Build failed");
+        config.setFromAddress("ci@example.com");
+
+        List<GmailApiResponse.Header> headers = new ArrayList<>();
+        for (String name : List.of("Delivered-To", "Received", "Received", "DKIM-Signature", "Message-ID",
+                "Date", "MIME-Version", "Content-Type", "To", "Reply-To", "List-Unsubscribe")) {
+            headers.add(header(name, "value-of-" + name));
+        }
+        headers.add(header("Subject", "Build failed on main"));
+        headers.add(header("From", "CI Bot <ci@example.com>"));
+
+        GmailApiResponse.Payload payload = new GmailApiResponse.Payload();
+        payload.setHeaders(headers);
+        detail = new GmailApiResponse.MessageDetail();
+        detail.setId("18c2f0a9b7e3d401");
+        detail.setThreadId("18c2f0a9b7e3d401");
+        detail.setSnippet("The nightly build failed at step test: 3 failures in WorkflowExecutorTest");
+        detail.setInternalDate(1_767_254_400_000L);
+        detail.setPayload(payload);
+    }
+
+    @Benchmark
+    public String buildQuery() {
+        return gmailService.buildQuery(config);
+    }
+
+    @Benchmark
+    public GmailMessage parseMessage() {
+        return gmailService.parseMessage(detail);
+    }
+
+    private static GmailApiResponse.Header header(String name, String value) {
+        GmailApiResponse.Header header = new GmailApiResponse.Header();
+        header.setName(name);
+        header.setValue(value);
+        return header;
+    }
+}
@@ -0,0 +1,88 @@
+package com.area.server.service;
+
+import com.area.server.logging.ExternalApiLogger;
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.model.Area;
+import com.area.server.service.integration.executor.ContextKeys;
+import com.area.server.service.integration.executor.TriggerContext;
+import com.area.server.service.template.CompiledTemplate;
+import com.area.server.service.template.TemplateEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placeholder substitution run for every Discord and GitHub reaction: a message
+ * template with a handful of placeholders filled from the trigger context.
+ * {@code discordReplacePlaceholders} compiles the template on every call; the
+ * others go through the {@link TemplateEngine} cache like the reactions do.
+ * Lives in the service package to reach {@code GitHubService.substituteVariables}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TemplateSubstitutionBenchmark {
+
+    private DiscordService discordService;
+    private GitHubService gitHubService;
+    private TemplateEngine templateEngine;
+    private Area entity;
+    private Map<String, String> placeholders;
+    private TriggerContext context;
+
+    private final String discordTemplate =
+        "New mail from {{from}}: **{{subject}}**\n> {{snippet}}\nReceived {{receivedAt}} ({unknown})";
+    private final String gitHubTemplate =
+        "Follow-up for {email.subject}\n\nReported by {email.from}:\n{email.snippet}\n\nSee #{issue.number} by {issue.author}";
+
+    @Setup
+    public void setUp() {
+        ExternalApiLogger apiLogger = new ExternalApiLogger("");
+        discordService = new DiscordService(WebClient.create(), null, new ObjectMapper(), apiLogger);
+        templateEngine = new TemplateEngine(10_000);
+        gitHubService = new GitHubService(WebClient.create(), new ObjectMapper(), apiLogger, templateEngine,
+            new EngineMetrics(new SimpleMeterRegistry(), Clock.systemUTC(), 500, 900_000, 512), Clock.systemUTC(), 30_000, 500);
+        entity = new Area();
+        entity.setId(1L);
+
+        placeholders = Map.of(
+            "from", "alice@example.com",
+            "subject", "Build failed on main",
+            "snippet", "The nightly build failed at step test: 3 failures in WorkflowExecutorTest",
+            "receivedAt", "2026-01-01T08:00:00Z");
+
+        context = TriggerContext.builder()
+            .put(ContextKeys.SUBJECT, "Build failed on main")
+            .put(ContextKeys.FROM, "alice@example.com")
+            .put(ContextKeys.SNIPPET, "The nightly build failed at step test: 3 failures in WorkflowExecutorTest")
+            .putLong(ContextKeys.ISSUE_NUMBER, 1234)
+            .put(ContextKeys.ISSUE_AUTHOR, "bob")
+            .build();
+    }
+
+    @Benchmark
+    public String discordReplacePlaceholders() {
+        return discordService.replacePlaceholders(discordTemplate, placeholders);
+    }
+
+    @Benchmark
+    public String discordTemplateEngine() {
+        return templateEngine.render(entity, discordTemplate, context, CompiledTemplate.Missing.EMPTY);
+    }
+
+    @Benchmark
+    public String gitHubSubstituteVariables() {
+        return gitHubService.substituteVariables(entity, gitHubTemplate, context);
+    }
+}
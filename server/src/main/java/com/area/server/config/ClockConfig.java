@@ -0,0 +1,21 @@
+package com.area.server.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Provides the {@link Clock} used by the schedulers, trigger state and token
+ * refresh code. Tests replace it with a virtual clock to replay long periods
+ * deterministically. Uses the system zone because timer triggers format local
+ * dates and times.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -1,22 +1,54 @@
 package com.area.server.config;
 
+import com.area.server.fault.FaultInjector;
 import com.area.server.logging.ExternalApiLogger;
 import com.area.server.logging.LoggingWebClientFilter;
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.tracing.Tracer;
+import com.area.server.traffic.TrafficFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.List;
+
 /**
  * Configuration class for WebClient beans with logging support.
  * Provides pre-configured WebClient builders for each external service.
+ * Base URLs are configurable so the clients can be pointed at local stubs.
+ * Behind the logging filter, a {@link FaultInjector} (when {@code faults.enabled})
+ * and a {@link TrafficFilter} (when {@code traffic.mode} is set) are added, so
+ * injected faults are logged but never recorded, and replayed calls can be faulted.
  */
 @Configuration
 public class WebClientConfig {
 
     private final ExternalApiLogger apiLogger;
+    private final EngineMetrics metrics;
+    private final Tracer tracer;
+    private final FaultInjector faultInjector;
+    private final TrafficFilter trafficFilter;
+    private final String googleApiBase;
+    private final String discordApiBase;
+    private final String githubApiBase;
 
-    public WebClientConfig(ExternalApiLogger apiLogger) {
+    public WebClientConfig(ExternalApiLogger apiLogger, EngineMetrics metrics, Tracer tracer,
+                           ObjectProvider<FaultInjector> faultInjector,
+                           ObjectProvider<TrafficFilter> trafficFilter,
+                           @Value("${google.api.base:https://www.googleapis.com}") String googleApiBase,
+                           @Value("${discord.api.base:https://discord.com/api/v10}") String discordApiBase,
+                           @Value("${github.api.base:https://api.github.com}") String githubApiBase) {
         this.apiLogger = apiLogger;
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.faultInjector = faultInjector.getIfAvailable();
+        this.trafficFilter = trafficFilter.getIfAvailable();
+        this.googleApiBase = googleApiBase;
+        this.discordApiBase = discordApiBase;
+        this.githubApiBase = githubApiBase;
     }
 
     /**
@@ -24,7 +56,7 @@ public class WebClientConfig {
      */
     @Bean
     public LoggingWebClientFilter loggingWebClientFilter() {
-        return new LoggingWebClientFilter(apiLogger);
+        return new LoggingWebClientFilter(apiLogger, metrics, tracer);
     }
 
     /**
@@ -33,8 +65,9 @@ public class WebClientConfig {
     @Bean
     public WebClient gmailWebClient(LoggingWebClientFilter loggingFilter) {
         return WebClient.builder()
-            .baseUrl("https://www.googleapis.com")
+            .baseUrl(googleApiBase)
             .filter(loggingFilter.logExchange("Gmail"))
+            .filters(filters -> addOptionalFilters(filters, "Gmail"))
             .build();
     }
 
@@ -45,6 +78,7 @@ public class WebClientConfig {
     public WebClient discordWebClient(LoggingWebClientFilter loggingFilter) {
         return WebClient.builder()
             .filter(loggingFilter.logExchange("Discord"))
+            .filters(filters -> addOptionalFilters(filters, "Discord"))
             .build();
     }
 
@@ -54,8 +88,9 @@ public class WebClientConfig {
     @Bean
     public WebClient discordBotWebClient(LoggingWebClientFilter loggingFilter) {
         return WebClient.builder()
-            .baseUrl("https://discord.com/api/v10")
+            .baseUrl(discordApiBase)
             .filter(loggingFilter.logExchange("Discord-Bot"))
+            .filters(filters -> addOptionalFilters(filters, "Discord-Bot"))
             .build();
     }
 
@@ -65,10 +100,20 @@ public class WebClientConfig {
     @Bean
     public WebClient githubWebClient(LoggingWebClientFilter loggingFilter) {
         return WebClient.builder()
-            .baseUrl("https://api.github.com")
+            .baseUrl(githubApiBase)
             .defaultHeader("Accept", "application/vnd.github+json")
             .defaultHeader("X-GitHub-Api-Version", "2022-11-28")
             .filter(loggingFilter.logExchange("GitHub"))
+            .filters(filters -> addOptionalFilters(filters, "GitHub"))
             .build();
     }
+
+    private void addOptionalFilters(List<ExchangeFilterFunction> filters, String serviceName) {
+        if (faultInjector != null) {
+            filters.add(faultInjector.filter(serviceName));
+        }
+        if (trafficFilter != null) {
+            filters.add(trafficFilter.filter(serviceName));
+        }
+    }
 }
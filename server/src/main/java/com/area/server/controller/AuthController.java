@@ -2,6 +2,7 @@ package com.area.server.controller;
 
 import com.area.server.dto.auth.*;
 import com.area.server.dto.response.ApiResponse;
+import com.area.server.security.AuthenticatedUser;
 import com.area.server.security.CustomUserDetailsService;
 import com.area.server.service.AuthService;
 import jakarta.validation.Valid;
@@ -9,8 +10,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -106,12 +105,14 @@ public class AuthController {
      */
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
+        AuthenticatedUser principal = AuthenticatedUser.current();
+        if (principal == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("Authentication required. Please log in."));
+        }
 
-        logger.info("Current user request for email: {}", email);
+        logger.info("Current user request for email: {}", principal.getEmail());
 
-        var user = userDetailsService.loadUserEntityByEmail(email);
+        var user = userDetailsService.loadUserEntityById(principal.getUserId());
         UserResponse userResponse = UserResponse.fromUser(user);
 
         return ResponseEntity.ok(ApiResponse.success(userResponse));
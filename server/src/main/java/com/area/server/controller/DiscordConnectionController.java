@@ -30,9 +30,10 @@ public class DiscordConnectionController {
     private final WebClient discordClient;
 
     public DiscordConnectionController(ServiceConnectionService connectionService,
-                                       WebClient.Builder webClientBuilder) {
+                                       WebClient.Builder webClientBuilder,
+                                       @Value("${discord.api.base:https://discord.com/api/v10}") String discordApiBase) {
         this.connectionService = connectionService;
-        this.discordClient = webClientBuilder.baseUrl("https://discord.com/api/v10").build();
+        this.discordClient = webClientBuilder.baseUrl(discordApiBase).build();
     }
 
     /**
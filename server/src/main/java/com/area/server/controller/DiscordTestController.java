@@ -24,8 +24,9 @@ public class DiscordTestController {
     @Value("${discord.bot.channel-id}")
     private String channelId;
 
-    public DiscordTestController(WebClient.Builder webClientBuilder) {
-        this.discordClient = webClientBuilder.baseUrl("https://discord.com/api/v10").build();
+    public DiscordTestController(WebClient.Builder webClientBuilder,
+                                 @Value("${discord.api.base:https://discord.com/api/v10}") String discordApiBase) {
+        this.discordClient = webClientBuilder.baseUrl(discordApiBase).build();
     }
 
     /**
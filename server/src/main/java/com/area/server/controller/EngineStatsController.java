@@ -0,0 +1,67 @@
+package com.area.server.controller;
+
+import com.area.server.dto.response.ApiResponse;
+import com.area.server.exception.ResourceNotFoundException;
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.metrics.EngineStats;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Admin endpoints reporting the state of every polling engine.
+ * Restricted to ROLE_ADMIN (see {@code app.security.admin-user-ids}).
+ */
+@RestController
+@RequestMapping("/api/admin/scheduler/engines")
+public class EngineStatsController {
+
+    private static final int MAX_TOP = 100;
+
+    private final EngineMetrics metrics;
+    private final Clock clock;
+
+    public EngineStatsController(EngineMetrics metrics, Clock clock) {
+        this.metrics = metrics;
+        this.clock = clock;
+    }
+
+    /**
+     * Backlog, in-flight count, cycle timing, schedule-lag percentiles and the
+     * slowest items of the current window for every polling engine.
+     * Served from in-memory counters.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<EngineStats.Snapshot>>> getEngines(
+            @RequestParam(defaultValue = "10") int top) {
+        long now = clock.millis();
+        int limit = Math.max(0, Math.min(top, MAX_TOP));
+        List<EngineStats.Snapshot> engines = metrics.getEngineStats().stream()
+                .map(stats -> stats.snapshot(now, limit, false))
+                .sorted(Comparator.comparing(EngineStats.Snapshot::engine))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success("Engine stats retrieved", engines));
+    }
+
+    /**
+     * Same as {@link #getEngines(int)} for one engine, plus the last run and
+     * next due time of every item it processes.
+     */
+    @GetMapping("/{engine}")
+    public ResponseEntity<ApiResponse<EngineStats.Snapshot>> getEngine(
+            @PathVariable String engine,
+            @RequestParam(defaultValue = "10") int top) {
+        EngineStats stats = metrics.getEngineStats(engine)
+                .orElseThrow(() -> new ResourceNotFoundException("Engine", engine));
+        int limit = Math.max(0, Math.min(top, MAX_TOP));
+        return ResponseEntity.ok(ApiResponse.success("Engine stats retrieved",
+                stats.snapshot(clock.millis(), limit, true)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.area.server.controller;
+
+import com.area.server.controller.dto.FaultRuleRequest;
+import com.area.server.dto.response.ApiResponse;
+import com.area.server.exception.ResourceNotFoundException;
+import com.area.server.fault.FaultInjector;
+import com.area.server.fault.FaultRule;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Admin endpoints to manage fault injection rules for the external API clients.
+ * Only present with {@code faults.enabled=true}; restricted to ROLE_ADMIN.
+ */
+@RestController
+@RequestMapping("/api/admin/faults")
+@ConditionalOnProperty(name = "faults.enabled", havingValue = "true")
+public class FaultInjectionController {
+
+    private final FaultInjector faultInjector;
+
+    public FaultInjectionController(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStatus() {
+        return ResponseEntity.ok(ApiResponse.success("Fault injection status retrieved", status()));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<FaultRule>> addRule(@Valid @RequestBody FaultRuleRequest request) {
+        FaultRule rule = faultInjector.addRule(request.getService(), request.getMethod(), request.getUrlPattern(),
+            request.getType(), request.getProbability(), request.getDelayMs(), request.getStatus(),
+            request.getRetryAfterSeconds());
+        return ResponseEntity.ok(ApiResponse.success("Fault rule added", rule));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> removeRule(@PathVariable Long id) {
+        if (!faultInjector.removeRule(id)) {
+            throw new ResourceNotFoundException("Fault rule", id);
+        }
+        return ResponseEntity.ok(ApiResponse.success("Fault rule removed", status()));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> clearRules() {
+        faultInjector.clearRules();
+        return ResponseEntity.ok(ApiResponse.success("Fault rules cleared", status()));
+    }
+
+    @PostMapping("/active")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> setActive(@RequestParam boolean active) {
+        faultInjector.setActive(active);
+        return ResponseEntity.ok(ApiResponse.success(active ? "Fault injection resumed" : "Fault injection paused",
+            status()));
+    }
+
+    private Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("active", faultInjector.isActive());
+        status.put("rules", faultInjector.getRules());
+        return status;
+    }
+}
@@ -0,0 +1,57 @@
+package com.area.server.controller;
+
+import com.area.server.dto.response.ApiResponse;
+import com.area.server.jfr.FlightRecorderService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Admin endpoints to capture a Flight Recorder recording with the engine's
+ * custom events. Restricted to ROLE_ADMIN (see {@code app.security.admin-user-ids}).
+ */
+@RestController
+@RequestMapping("/api/admin/jfr")
+public class FlightRecorderController {
+
+    private final FlightRecorderService flightRecorderService;
+
+    public FlightRecorderController(FlightRecorderService flightRecorderService) {
+        this.flightRecorderService = flightRecorderService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStatus() {
+        return ResponseEntity.ok(ApiResponse.success("Recording status retrieved", flightRecorderService.status()));
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> start(
+            @RequestParam(required = false) Long maxAgeMinutes) {
+        Duration maxAge = maxAgeMinutes != null ? Duration.ofMinutes(maxAgeMinutes) : null;
+        return ResponseEntity.ok(ApiResponse.success("Recording started", flightRecorderService.start(maxAge)));
+    }
+
+    @PostMapping("/dump")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> dump() throws Exception {
+        Path file = flightRecorderService.dump();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("file", file.toAbsolutePath().toString());
+        result.put("sizeBytes", Files.size(file));
+        return ResponseEntity.ok(ApiResponse.success("Recording dumped", result));
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> stop() {
+        return ResponseEntity.ok(ApiResponse.success("Recording stopped", flightRecorderService.stop()));
+    }
+}
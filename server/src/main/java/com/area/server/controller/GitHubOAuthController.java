@@ -5,9 +5,12 @@ import com.area.server.dto.GitHubRepositoryDTO;
 import com.area.server.dto.response.ApiResponse;
 import com.area.server.model.ServiceConnection;
 import com.area.server.model.User;
+import com.area.server.security.AuthenticatedUser;
 import com.area.server.security.CustomUserDetailsService;
+import com.area.server.service.GitHubRepositoryCache;
 import com.area.server.service.GitHubService;
 import com.area.server.service.ServiceConnectionService;
+import com.area.server.service.integration.oauth.OAuthStateStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,22 +18,18 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.StreamSupport;
 
 /**
@@ -43,30 +42,7 @@ public class GitHubOAuthController {
 
     private static final Logger logger = LoggerFactory.getLogger(GitHubOAuthController.class);
 
-    /**
-     * Inner class to store OAuth state with expiration
-     */
-    private static class OAuthState {
-        private final Long userId;
-        private final Instant createdAt;
-
-        public OAuthState(Long userId) {
-            this.userId = userId;
-            this.createdAt = Instant.now();
-        }
-
-        public Long getUserId() {
-            return userId;
-        }
-
-        public boolean isExpired() {
-            return Instant.now().isAfter(createdAt.plusSeconds(600)); // 10 minutes
-        }
-    }
-
-    // Server-side storage for OAuth states (token -> OAuthState)
-    // Using ConcurrentHashMap for thread-safe access
-    private final Map<String, OAuthState> stateStore = new ConcurrentHashMap<>();
+    private static final String OAUTH_PROVIDER = "github";
 
     @Value("${github.oauth.client-id}")
     private String clientId;
@@ -77,18 +53,27 @@ public class GitHubOAuthController {
     @Value("${github.oauth.redirect-uri}")
     private String redirectUri;
 
+    @Value("${github.oauth.token-url:https://github.com/login/oauth/access_token}")
+    private String tokenUrl;
+
     private final ServiceConnectionService connectionService;
     private final GitHubService githubService;
+    private final GitHubRepositoryCache repositoryCache;
     private final CustomUserDetailsService userDetailsService;
+    private final OAuthStateStore stateStore;
     private final WebClient webClient;
 
     public GitHubOAuthController(ServiceConnectionService connectionService,
                                   GitHubService githubService,
+                                  GitHubRepositoryCache repositoryCache,
                                   CustomUserDetailsService userDetailsService,
+                                  OAuthStateStore stateStore,
                                   WebClient.Builder webClientBuilder) {
         this.connectionService = connectionService;
         this.githubService = githubService;
+        this.repositoryCache = repositoryCache;
         this.userDetailsService = userDetailsService;
+        this.stateStore = stateStore;
         this.webClient = webClientBuilder.build();
     }
 
@@ -102,26 +87,20 @@ public class GitHubOAuthController {
             throw new IllegalStateException("GitHub OAuth not configured. Please set GITHUB_CLIENT_ID in your .env file");
         }
 
-        // Get current authenticated user
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        // Check if user is authenticated (not anonymous)
-        if (authentication == null || !authentication.isAuthenticated() ||
-            "anonymousUser".equals(authentication.getName())) {
+        // Get current authenticated user (from token claims)
+        AuthenticatedUser principal = AuthenticatedUser.current();
+        if (principal == null) {
             logger.error("Unauthenticated user tried to access GitHub OAuth URL");
             return ResponseEntity.status(401)
                 .body(ApiResponse.error("Authentication required. Please log in again."));
         }
 
-        String email = authentication.getName();
-        User user = userDetailsService.loadUserEntityByEmail(email);
-
         // Request repo scope for full repository access (issues, PRs, code)
         String scope = URLEncoder.encode("repo", StandardCharsets.UTF_8);
         String redirectEncoded = URLEncoder.encode(redirectUri, StandardCharsets.UTF_8);
 
         // Pass user ID in state parameter to identify user in callback
-        String state = generateState(user.getId());
+        String state = generateState(principal.getUserId());
 
         String authUrl = String.format(
             "https://github.com/login/oauth/authorize?" +
@@ -197,7 +176,7 @@ public class GitHubOAuthController {
             formData.add("redirect_uri", redirectUri);
 
             GitHubApiResponse.TokenResponse tokenResponse = webClient.post()
-                .uri("https://github.com/login/oauth/access_token")
+                .uri(tokenUrl)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .accept(MediaType.APPLICATION_JSON)
                 .body(BodyInserters.fromFormData(formData))
@@ -286,80 +265,64 @@ public class GitHubOAuthController {
      * This endpoint is used for dynamic repository selection in workflow configuration
      */
     @GetMapping("/repositories")
-    public ResponseEntity<ApiResponse<List<GitHubRepositoryDTO>>> getRepositories(
+    public Mono<ResponseEntity<ApiResponse<List<GitHubRepositoryDTO>>>> getRepositories(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(name = "per_page", defaultValue = "100") int perPage) {
 
         // Get authenticated user
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() ||
-            "anonymousUser".equals(authentication.getName())) {
-            return ResponseEntity.status(401)
-                .body(ApiResponse.error("Authentication required. Please log in."));
+        AuthenticatedUser principal = AuthenticatedUser.current();
+        if (principal == null) {
+            return Mono.just(ResponseEntity.status(401)
+                .body(ApiResponse.error("Authentication required. Please log in.")));
         }
 
-        String email = authentication.getName();
-        User user = userDetailsService.loadUserEntityByEmail(email);
+        String email = principal.getEmail();
+        User user = userDetailsService.getUserReference(principal.getUserId());
 
         // Find GitHub connection
         Optional<ServiceConnection> connectionOpt = connectionService
             .findFirstByUserAndType(user, ServiceConnection.ServiceType.GITHUB);
 
         if (connectionOpt.isEmpty()) {
-            return ResponseEntity.status(404)
-                .body(ApiResponse.error("No GitHub connection found. Please connect your GitHub account first."));
+            return Mono.just(ResponseEntity.status(404)
+                .body(ApiResponse.error("No GitHub connection found. Please connect your GitHub account first.")));
         }
 
         ServiceConnection connection = connectionOpt.get();
         String accessToken = connection.getAccessToken();
 
         if (accessToken == null || accessToken.isBlank()) {
-            return ResponseEntity.status(500)
-                .body(ApiResponse.error("GitHub connection is invalid. Please reconnect your account."));
+            return Mono.just(ResponseEntity.status(500)
+                .body(ApiResponse.error("GitHub connection is invalid. Please reconnect your account.")));
         }
 
-        // Fetch repositories
-        try {
-            List<GitHubRepositoryDTO> repositories = githubService
-                .getUserRepositories(accessToken, page, perPage)
-                .block();
-
-            if (repositories == null) {
-                return ResponseEntity.status(500)
-                    .body(ApiResponse.error("Failed to fetch repositories from GitHub."));
-            }
-
-            return ResponseEntity.ok(ApiResponse.success(repositories));
-
-        } catch (Exception e) {
-            logger.error("Error fetching repositories for user {}: {}", email, e.getMessage(), e);
-
-            if (e.getCause() instanceof WebClientResponseException webClientError) {
-                HttpStatus status = (HttpStatus) webClientError.getStatusCode();
-                if (status == HttpStatus.UNAUTHORIZED || status == HttpStatus.FORBIDDEN) {
-                    return ResponseEntity.status(401)
-                        .body(ApiResponse.error("GitHub access token is invalid or expired. Please reconnect your account."));
+        // Served from the per-connection cache; the request thread is released while GitHub is called
+        return repositoryCache.getRepositories(connection.getId(), accessToken, page, perPage)
+            .map(repositories -> ResponseEntity.ok(ApiResponse.success(repositories)))
+            .onErrorResume(e -> {
+                logger.error("Error fetching repositories for user {}: {}", email, e.getMessage(), e);
+
+                Throwable cause = e instanceof WebClientResponseException ? e : e.getCause();
+                if (cause instanceof WebClientResponseException webClientError) {
+                    HttpStatus status = (HttpStatus) webClientError.getStatusCode();
+                    if (status == HttpStatus.UNAUTHORIZED || status == HttpStatus.FORBIDDEN) {
+                        return Mono.just(ResponseEntity.status(401)
+                            .body(ApiResponse.error("GitHub access token is invalid or expired. Please reconnect your account.")));
+                    }
                 }
-            }
 
-            return ResponseEntity.status(500)
-                .body(ApiResponse.error("Failed to fetch repositories: " + e.getMessage()));
-        }
+                return Mono.just(ResponseEntity.status(500)
+                    .body(ApiResponse.error("Failed to fetch repositories: " + e.getMessage())));
+            });
     }
 
     /**
      * Generate secure state parameter for OAuth flow
-     * Uses UUID stored server-side to prevent CSRF attacks and state prediction
-     * State expires after 10 minutes
+     * Stored server-side (see OAuthStateStore) to prevent CSRF attacks and state prediction
      */
     private String generateState(Long userId) {
-        String token = UUID.randomUUID().toString();
-        stateStore.put(token, new OAuthState(userId));
-
-        // Clean up expired states (basic cleanup, not comprehensive)
-        stateStore.entrySet().removeIf(entry -> entry.getValue().isExpired());
-
-        logger.debug("Generated OAuth state token for user {}, active states: {}", userId, stateStore.size());
+        String token = stateStore.issue(OAUTH_PROVIDER, userId);
+        logger.debug("Generated OAuth state token for user {}", userId);
         return token;
     }
 
@@ -368,19 +331,17 @@ public class GitHubOAuthController {
      * State is one-time use and must not be expired
      */
     private Long extractUserIdFromState(String state) {
-        OAuthState oauthState = stateStore.remove(state); // One-time use
-
-        if (oauthState == null) {
-            logger.warn("Invalid or already used OAuth state token");
-            throw new IllegalArgumentException("Invalid or expired state");
-        }
-
-        if (oauthState.isExpired()) {
-            logger.warn("Expired OAuth state token for user {}", oauthState.getUserId());
-            throw new IllegalArgumentException("State expired");
+        OAuthStateStore.IssuedState issued = stateStore.consume(OAUTH_PROVIDER, state)
+            .orElseThrow(() -> {
+                logger.warn("Invalid, expired or already used OAuth state token");
+                return new IllegalArgumentException("Invalid or expired state");
+            });
+
+        if (issued.userId() == null) {
+            throw new IllegalArgumentException("State is not bound to a user");
         }
 
-        return oauthState.getUserId();
+        return issued.userId();
     }
 
     /**
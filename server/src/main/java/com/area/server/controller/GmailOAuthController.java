@@ -2,7 +2,9 @@ package com.area.server.controller;
 
 import com.area.server.dto.response.ApiResponse;
 import com.area.server.model.ServiceConnection;
+import com.area.server.security.AuthenticatedUser;
 import com.area.server.service.ServiceConnectionService;
+import com.area.server.service.integration.oauth.OAuthStateStore;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -27,6 +29,7 @@ import java.util.stream.StreamSupport;
 public class GmailOAuthController {
 
     private static final Logger logger = LoggerFactory.getLogger(GmailOAuthController.class);
+    private static final String OAUTH_PROVIDER = "gmail";
 
     @Value("${google.oauth.client-id}")
     private String clientId;
@@ -37,14 +40,23 @@ public class GmailOAuthController {
     @Value("${google.oauth.redirect-uri}")
     private String redirectUri;
 
+    @Value("${google.oauth.token-url:https://oauth2.googleapis.com}")
+    private String tokenUrl;
+
+    @Value("${google.api.base:https://www.googleapis.com}")
+    private String apiBase;
+
     private final ServiceConnectionService connectionService;
+    private final OAuthStateStore stateStore;
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
 
     public GmailOAuthController(ServiceConnectionService connectionService,
+                                OAuthStateStore stateStore,
                                 WebClient.Builder webClientBuilder,
                                 ObjectMapper objectMapper) {
         this.connectionService = connectionService;
+        this.stateStore = stateStore;
         this.webClient = webClientBuilder.build();
         this.objectMapper = objectMapper;
     }
@@ -64,6 +76,10 @@ public class GmailOAuthController {
         String scope = URLEncoder.encode("https://www.googleapis.com/auth/gmail.readonly", StandardCharsets.UTF_8);
         String redirectEncoded = URLEncoder.encode(redirectUri, StandardCharsets.UTF_8);
 
+        // One-time state checked by the callback to prevent CSRF
+        AuthenticatedUser principal = AuthenticatedUser.current();
+        String state = stateStore.issue(OAUTH_PROVIDER, principal != null ? principal.getUserId() : null);
+
         String authUrl = String.format(
             "https://accounts.google.com/o/oauth2/v2/auth?" +
             "client_id=%s&" +
@@ -71,8 +87,9 @@ public class GmailOAuthController {
             "response_type=code&" +
             "scope=%s&" +
             "access_type=offline&" +
-            "prompt=consent",
-            clientId, redirectEncoded, scope
+            "prompt=consent&" +
+            "state=%s",
+            clientId, redirectEncoded, scope, state
         );
 
         Map<String, String> data = Map.of(
@@ -91,6 +108,7 @@ public class GmailOAuthController {
      */
     @GetMapping(value = "/callback", produces = "text/html")
     public ResponseEntity<String> handleCallback(@RequestParam("code") String code,
+                                                               @RequestParam(value = "state", required = false) String state,
                                                                @RequestParam(value = "error", required = false) String error) {
         if (error != null) {
             logger.error("OAuth error: {}", error);
@@ -99,6 +117,13 @@ public class GmailOAuthController {
             );
         }
 
+        if (state == null || state.isBlank() || stateStore.consume(OAUTH_PROVIDER, state).isEmpty()) {
+            logger.warn("Missing, invalid or expired OAuth state in Gmail callback");
+            return ResponseEntity.badRequest().body(
+                generateHtmlResponse("Error", "Invalid OAuth state. Please try connecting again.", false)
+            );
+        }
+
         try {
             // Exchange authorization code for tokens
             logger.info("Exchanging authorization code for tokens");
@@ -111,7 +136,7 @@ public class GmailOAuthController {
             formData.add("grant_type", "authorization_code");
 
             String responseBody = webClient.post()
-                .uri("https://oauth2.googleapis.com/token")
+                .uri(tokenUrl + "/token")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .body(BodyInserters.fromFormData(formData))
                 .retrieve()
@@ -206,7 +231,7 @@ public class GmailOAuthController {
     private String getUserEmail(String accessToken) {
         try {
             String response = webClient.get()
-                .uri("https://www.googleapis.com/oauth2/v2/userinfo")
+                .uri(apiBase + "/oauth2/v2/userinfo")
                 .headers(headers -> headers.setBearerAuth(accessToken))
                 .retrieve()
                 .bodyToMono(String.class)
@@ -2,8 +2,10 @@ package com.area.server.controller;
 
 import com.area.server.controller.dto.*;
 import com.area.server.dto.response.ApiResponse;
+import com.area.server.exception.AuthenticationException;
 import com.area.server.model.*;
 import com.area.server.repository.ServiceConnectionRepository;
+import com.area.server.security.AuthenticatedUser;
 import com.area.server.security.CustomUserDetailsService;
 import com.area.server.service.integration.executor.*;
 import jakarta.validation.Valid;
@@ -11,8 +13,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
@@ -88,7 +88,7 @@ public class TestController {
 
         return executor.getTriggerContext(testArea)
                 .flatMap(context -> {
-                    Integer messageCount = context.getInteger("messageCount");
+                    Integer messageCount = context.get(ContextKeys.MESSAGE_COUNT);
                     boolean triggered = messageCount != null && messageCount > 0;
 
                     String message = triggered
@@ -97,7 +97,7 @@ public class TestController {
                             : "Trigger would not fire. No new emails found matching your filters.";
 
                     // Remove complex objects for clean JSON response
-                    Map<String, Object> cleanContext = new HashMap<>(context.getData());
+                    Map<String, Object> cleanContext = context.toMap();
                     cleanContext.remove("newMessages"); // Remove full message list
                     cleanContext.remove("latestMessage"); // Remove full message object
 
@@ -155,7 +155,7 @@ public class TestController {
 
         return executor.getTriggerContext(testArea)
                 .flatMap(context -> {
-                    Integer issueCount = context.getInteger("issueCount");
+                    Integer issueCount = context.get(ContextKeys.ISSUE_COUNT);
                     boolean triggered = issueCount != null && issueCount > 0;
 
                     String message = triggered
@@ -165,7 +165,7 @@ public class TestController {
                                     request.getGithubRepository());
 
                     // Remove complex objects for clean JSON response
-                    Map<String, Object> cleanContext = new HashMap<>(context.getData());
+                    Map<String, Object> cleanContext = context.toMap();
                     cleanContext.remove("newIssues");
                     cleanContext.remove("latestIssue");
 
@@ -223,7 +223,7 @@ public class TestController {
 
         return executor.getTriggerContext(testArea)
                 .flatMap(context -> {
-                    Integer prCount = context.getInteger("prCount");
+                    Integer prCount = context.get(ContextKeys.PR_COUNT);
                     boolean triggered = prCount != null && prCount > 0;
 
                     String message = triggered
@@ -233,7 +233,7 @@ public class TestController {
                                     request.getGithubRepository());
 
                     // Remove complex objects for clean JSON response
-                    Map<String, Object> cleanContext = new HashMap<>(context.getData());
+                    Map<String, Object> cleanContext = context.toMap();
                     cleanContext.remove("newPullRequests");
                     cleanContext.remove("latestPullRequest");
 
@@ -290,7 +290,7 @@ public class TestController {
         testArea.setDiscordConfig(discordConfig);
 
         // Create mock context
-        TriggerContext context = new TriggerContext(
+        TriggerContext context = TriggerContext.of(
                 request.getMockContextData() != null
                         ? request.getMockContextData()
                         : createDefaultMockContext());
@@ -365,7 +365,7 @@ public class TestController {
         testArea.setGithubReactionConfig(githubConfig);
 
         // Create mock context
-        TriggerContext context = new TriggerContext(
+        TriggerContext context = TriggerContext.of(
                 request.getMockContextData() != null
                         ? request.getMockContextData()
                         : createDefaultMockContext());
@@ -456,7 +456,7 @@ public class TestController {
         testArea.setGithubReactionConfig(githubConfig);
 
         // Create mock context
-        TriggerContext context = new TriggerContext(
+        TriggerContext context = TriggerContext.of(
                 request.getMockContextData() != null
                         ? request.getMockContextData()
                         : createDefaultMockContext());
@@ -499,9 +499,12 @@ public class TestController {
      * Get the currently authenticated user
      */
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userDetailsService.loadUserEntityByEmail(email);
+        AuthenticatedUser principal = AuthenticatedUser.current();
+        if (principal == null) {
+            throw new AuthenticationException("Authentication required");
+        }
+        // Only the ID is needed for ownership checks and associations
+        return userDetailsService.getUserReference(principal.getUserId());
     }
 
     /**
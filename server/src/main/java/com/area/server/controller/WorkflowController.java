@@ -1,11 +1,13 @@
 package com.area.server.controller;
 
 import com.area.server.dto.CreateWorkflowRequest;
+import com.area.server.dto.WorkflowData;
 import com.area.server.dto.response.ApiResponse;
 import com.area.server.exception.ResourceNotFoundException;
 import com.area.server.model.Workflow;
 import com.area.server.repository.WorkflowRepository;
 import com.area.server.service.WorkflowExecutionService;
+import com.area.server.service.integration.window.TriggerWindowService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -24,11 +26,14 @@ public class WorkflowController {
     private final WorkflowRepository workflowRepository;
     private final WorkflowExecutionService executionService;
     private final ObjectMapper objectMapper;
+    private final TriggerWindowService windowService;
 
-    public WorkflowController(WorkflowRepository workflowRepository, WorkflowExecutionService executionService, ObjectMapper objectMapper) {
+    public WorkflowController(WorkflowRepository workflowRepository, WorkflowExecutionService executionService,
+                              ObjectMapper objectMapper, TriggerWindowService windowService) {
         this.workflowRepository = workflowRepository;
         this.executionService = executionService;
         this.objectMapper = objectMapper;
+        this.windowService = windowService;
     }
 
     /**
@@ -103,6 +108,7 @@ public class WorkflowController {
         } catch (Exception e) {
             throw new IllegalArgumentException("Failed to serialize workflow data: " + e.getMessage(), e);
         }
+        validateWorkflowData(workflow.getWorkflowData());
 
         Workflow saved = workflowRepository.save(workflow);
 
@@ -114,6 +120,21 @@ public class WorkflowController {
         return ResponseEntity.ok(ApiResponse.success("Workflow created successfully", mapToResponse(saved)));
     }
 
+    /**
+     * Reject workflow data the poller could not run, such as an incomplete trigger window
+     */
+    private void validateWorkflowData(String workflowDataJson) {
+        WorkflowData workflowData;
+        try {
+            workflowData = objectMapper.readValue(workflowDataJson, WorkflowData.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid workflow data: " + e.getMessage(), e);
+        }
+        if (workflowData.getTrigger() != null) {
+            windowService.validate(workflowData.getTrigger());
+        }
+    }
+
     /**
      * Build a description of the actions for the workflow
      */
@@ -155,6 +176,7 @@ public class WorkflowController {
             } catch (Exception e) {
                 throw new IllegalArgumentException("Failed to serialize workflow data: " + e.getMessage(), e);
             }
+            validateWorkflowData(workflow.getWorkflowData());
         }
 
         Workflow saved = workflowRepository.save(workflow);
@@ -0,0 +1,102 @@
+package com.area.server.controller.dto;
+
+import com.area.server.fault.FaultRule;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO for adding a fault injection rule.
+ * Service, method and URL pattern are optional and match any call when omitted;
+ * the URL pattern is a regular expression searched in the full request URL.
+ */
+public class FaultRuleRequest {
+
+    private String service;
+    private String method;
+    private String urlPattern;
+
+    @NotNull(message = "Fault type is required")
+    private FaultRule.Type type;
+
+    @DecimalMin(value = "0.0", message = "Probability must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Probability must be between 0 and 1")
+    private double probability = 1.0;
+
+    @Min(value = 0, message = "Delay must not be negative")
+    private long delayMs;
+
+    // Response status for ERROR and RATE_LIMIT (defaults to 503 and 429)
+    @Min(100)
+    @Max(599)
+    private Integer status;
+
+    @Min(value = 0, message = "Retry-After must not be negative")
+    private long retryAfterSeconds = 1;
+
+    public String getService() {
+        return service;
+    }
+
+    public void setService(String service) {
+        this.service = service;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getUrlPattern() {
+        return urlPattern;
+    }
+
+    public void setUrlPattern(String urlPattern) {
+        this.urlPattern = urlPattern;
+    }
+
+    public FaultRule.Type getType() {
+        return type;
+    }
+
+    public void setType(FaultRule.Type type) {
+        this.type = type;
+    }
+
+    public double getProbability() {
+        return probability;
+    }
+
+    public void setProbability(double probability) {
+        this.probability = probability;
+    }
+
+    public long getDelayMs() {
+        return delayMs;
+    }
+
+    public void setDelayMs(long delayMs) {
+        this.delayMs = delayMs;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -29,6 +29,7 @@ public class CreateWorkflowRequest {
         private String type;
         private Map<String, Object> config;
         private Long connectionId;
+        private WorkflowData.WindowConfig window;
 
         public String getService() {
             return service;
@@ -61,6 +62,14 @@ public class CreateWorkflowRequest {
         public void setConnectionId(Long connectionId) {
             this.connectionId = connectionId;
         }
+
+        public WorkflowData.WindowConfig getWindow() {
+            return window;
+        }
+
+        public void setWindow(WorkflowData.WindowConfig window) {
+            this.window = window;
+        }
     }
 
     public static class ActionConfig {
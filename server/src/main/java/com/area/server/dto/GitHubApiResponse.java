@@ -140,6 +140,45 @@ public class GitHubApiResponse {
         }
     }
 
+    /**
+     * Response from getting or creating a Git commit object
+     */
+    public static class GitCommitResponse {
+        private String sha;
+        private GitRefResponse.GitObject tree;
+
+        public String getSha() {
+            return sha;
+        }
+
+        public void setSha(String sha) {
+            this.sha = sha;
+        }
+
+        public GitRefResponse.GitObject getTree() {
+            return tree;
+        }
+
+        public void setTree(GitRefResponse.GitObject tree) {
+            this.tree = tree;
+        }
+    }
+
+    /**
+     * Response from creating a Git tree object
+     */
+    public static class GitTreeResponse {
+        private String sha;
+
+        public String getSha() {
+            return sha;
+        }
+
+        public void setSha(String sha) {
+            this.sha = sha;
+        }
+    }
+
     /**
      * Response from creating or updating file content
      */
@@ -0,0 +1,41 @@
+package com.area.server.dto;
+
+import java.util.List;
+
+/**
+ * One page of the user's repositories together with the ETag GitHub returned for it.
+ * When the request was revalidated with If-None-Match and nothing changed,
+ * {@link #isNotModified()} is true and no repositories are carried.
+ */
+public class GitHubRepositoryPage {
+
+    private final String etag;
+    private final List<GitHubRepositoryDTO> repositories;
+    private final boolean notModified;
+
+    private GitHubRepositoryPage(String etag, List<GitHubRepositoryDTO> repositories, boolean notModified) {
+        this.etag = etag;
+        this.repositories = repositories;
+        this.notModified = notModified;
+    }
+
+    public static GitHubRepositoryPage of(String etag, List<GitHubRepositoryDTO> repositories) {
+        return new GitHubRepositoryPage(etag, List.copyOf(repositories), false);
+    }
+
+    public static GitHubRepositoryPage notModified(String etag) {
+        return new GitHubRepositoryPage(etag, List.of(), true);
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public List<GitHubRepositoryDTO> getRepositories() {
+        return repositories;
+    }
+
+    public boolean isNotModified() {
+        return notModified;
+    }
+}
@@ -1,5 +1,6 @@
 package com.area.server.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,8 @@ public class WorkflowData {
         @JsonProperty("connectionId")
         private Long connectionId;
 
+        private WindowConfig window;
+
         public String getService() {
             return service;
         }
@@ -72,6 +75,14 @@ public class WorkflowData {
             this.connectionId = connectionId;
         }
 
+        public WindowConfig getWindow() {
+            return window;
+        }
+
+        public void setWindow(WindowConfig window) {
+            this.window = window;
+        }
+
         /**
          * Get the full action type in the format "service.type"
          */
@@ -94,6 +105,58 @@ public class WorkflowData {
         }
     }
 
+    /**
+     * Optional aggregation window for a trigger: new items accumulate and the actions run
+     * once per window with all of them.
+     * A tumbling window closes {@code sizeSeconds} after its first item or once it holds
+     * {@code count} items, whichever comes first. A sliding window covers the items of the
+     * last {@code sizeSeconds}; it fires when it holds at least {@code count} items (default 1)
+     * including a new one, at most once every {@code slideSeconds} (default {@code sizeSeconds}).
+     */
+    public static class WindowConfig {
+        private String type = "tumbling";
+        private Long sizeSeconds;
+        private Integer count;
+        private Long slideSeconds;
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public Long getSizeSeconds() {
+            return sizeSeconds;
+        }
+
+        public void setSizeSeconds(Long sizeSeconds) {
+            this.sizeSeconds = sizeSeconds;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+
+        public Long getSlideSeconds() {
+            return slideSeconds;
+        }
+
+        public void setSlideSeconds(Long slideSeconds) {
+            this.slideSeconds = slideSeconds;
+        }
+
+        @JsonIgnore
+        public boolean isSliding() {
+            return "sliding".equalsIgnoreCase(type);
+        }
+    }
+
     /**
      * Configuration for a workflow action/reaction (the "THEN" part).
      */
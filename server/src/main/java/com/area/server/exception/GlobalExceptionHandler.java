@@ -3,6 +3,7 @@ package com.area.server.exception;
 import com.area.server.dto.response.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -154,6 +155,17 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error("Invalid Token", e.getMessage()));
     }
 
+    /**
+     * Handle TooManyRequestsException - request shed under load
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<?>> handleTooManyRequests(TooManyRequestsException e) {
+        logger.warn("Request rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(ApiResponse.error("Too Many Requests", e.getMessage()));
+    }
+
     /**
      * Catch-all handler for unexpected exceptions
      */
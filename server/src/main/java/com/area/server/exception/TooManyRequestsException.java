@@ -0,0 +1,19 @@
+package com.area.server.exception;
+
+/**
+ * Exception thrown when a request is shed because a bounded resource is saturated.
+ * Carries the number of seconds the client should wait before retrying.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,154 @@
+package com.area.server.fault;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Injects latency and failures into the external API clients to exercise
+ * timeouts, retries and backoff ({@code faults.enabled=true}).
+ * Rules are managed at runtime through {@code /api/admin/faults}; they are
+ * evaluated in order and the first matching rule whose probability roll succeeds
+ * is applied. Without the property no bean exists and the clients carry no filter;
+ * with it, a call costs one volatile read while no rule is active.
+ */
+@Component
+@ConditionalOnProperty(name = "faults.enabled", havingValue = "true")
+public class FaultInjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjector.class);
+    private static final int DEFAULT_ERROR_STATUS = 503;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final List<FaultRule> rules = new ArrayList<>();
+    private boolean active = true;
+    // Copy read by the filter: the rules when active, empty otherwise
+    private volatile List<FaultRule> effectiveRules = List.of();
+
+    public FaultInjector() {
+        logger.warn("Fault injection is enabled; manage rules through /api/admin/faults");
+    }
+
+    /**
+     * @param serviceName client name, e.g. "Gmail", "Discord", "GitHub"
+     */
+    public ExchangeFilterFunction filter(String serviceName) {
+        return (request, next) -> {
+            List<FaultRule> current = effectiveRules;
+            if (current.isEmpty()) {
+                return next.exchange(request);
+            }
+            FaultRule rule = select(current, serviceName, request);
+            return rule != null ? inject(rule, request, next) : next.exchange(request);
+        };
+    }
+
+    public synchronized FaultRule addRule(String service, String method, String urlPattern, FaultRule.Type type,
+                                          double probability, long delayMs, Integer status,
+                                          long retryAfterSeconds) {
+        int effectiveStatus = status != null ? status
+            : type == FaultRule.Type.RATE_LIMIT ? HttpStatus.TOO_MANY_REQUESTS.value() : DEFAULT_ERROR_STATUS;
+        FaultRule rule = new FaultRule(nextId.getAndIncrement(), service, method, urlPattern, type,
+            probability, delayMs, effectiveStatus, retryAfterSeconds);
+        rules.add(rule);
+        publish();
+        logger.warn("Fault rule {} added: {} on {} {} {} (p={})", rule.getId(), type,
+            service != null ? service : "*", method != null ? method : "*",
+            urlPattern != null ? urlPattern : "*", probability);
+        return rule;
+    }
+
+    public synchronized boolean removeRule(long id) {
+        boolean removed = rules.removeIf(rule -> rule.getId() == id);
+        if (removed) {
+            publish();
+            logger.info("Fault rule {} removed", id);
+        }
+        return removed;
+    }
+
+    public synchronized void clearRules() {
+        rules.clear();
+        publish();
+        logger.info("All fault rules removed");
+    }
+
+    /**
+     * Pause or resume injection without dropping the configured rules.
+     */
+    public synchronized void setActive(boolean active) {
+        this.active = active;
+        publish();
+        logger.warn("Fault injection {}", active ? "resumed" : "paused");
+    }
+
+    public synchronized boolean isActive() {
+        return active;
+    }
+
+    public synchronized List<FaultRule> getRules() {
+        return List.copyOf(rules);
+    }
+
+    private void publish() {
+        effectiveRules = active ? List.copyOf(rules) : List.of();
+    }
+
+    private static FaultRule select(List<FaultRule> rules, String serviceName, ClientRequest request) {
+        for (FaultRule rule : rules) {
+            if (rule.matches(serviceName, request)
+                    && ThreadLocalRandom.current().nextDouble() < rule.getProbability()) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static Mono<ClientResponse> inject(FaultRule rule, ClientRequest request, ExchangeFunction next) {
+        rule.countInjection();
+        Duration delay = Duration.ofMillis(rule.getDelayMs());
+        return switch (rule.getType()) {
+            case LATENCY -> delayed(delay, next.exchange(request));
+            case ERROR -> delayed(delay, Mono.fromSupplier(() -> errorResponse(rule.getStatus(), null)));
+            case RATE_LIMIT -> delayed(delay, Mono.fromSupplier(() ->
+                errorResponse(rule.getStatus(), Long.toString(rule.getRetryAfterSeconds()))));
+            case CONNECTION_RESET -> delayed(delay, Mono.error(() -> new WebClientRequestException(
+                new SocketException("Connection reset (injected)"),
+                request.method(), request.url(), request.headers())));
+            case SLOW_BODY -> next.exchange(request).map(response -> delay.isZero() ? response
+                : response.mutate().body(body -> body.delayElements(delay)).build());
+        };
+    }
+
+    private static <T> Mono<T> delayed(Duration delay, Mono<T> result) {
+        return delay.isZero() ? result : Mono.delay(delay).then(result);
+    }
+
+    private static ClientResponse errorResponse(int status, String retryAfter) {
+        ClientResponse.Builder builder = ClientResponse.create(HttpStatusCode.valueOf(status))
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body("{\"message\":\"Injected fault\"}");
+        if (retryAfter != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return builder.build();
+    }
+}
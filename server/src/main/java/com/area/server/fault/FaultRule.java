@@ -0,0 +1,104 @@
+package com.area.server.fault;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * One fault injected into matching external API calls.
+ * A rule matches on client name and method (null matches any) and on a regular
+ * expression found anywhere in the request URL, and fires with the given probability.
+ */
+public class FaultRule {
+
+    public enum Type {
+        /** Call goes through after {@code delayMs} */
+        LATENCY,
+        /** Responds with {@code status} (default 503) without calling the provider */
+        ERROR,
+        /** Responds 429 with {@code Retry-After: retryAfterSeconds} */
+        RATE_LIMIT,
+        /** Fails like a connection reset by the peer */
+        CONNECTION_RESET,
+        /** Call goes through, each body chunk is held back by {@code delayMs} */
+        SLOW_BODY
+    }
+
+    private final long id;
+    private final String service;
+    private final String method;
+    private final Pattern urlPattern;
+    private final Type type;
+    private final double probability;
+    private final long delayMs;
+    private final int status;
+    private final long retryAfterSeconds;
+    private final AtomicLong injected = new AtomicLong();
+
+    public FaultRule(long id, String service, String method, String urlPattern, Type type,
+                     double probability, long delayMs, int status, long retryAfterSeconds) {
+        this.id = id;
+        this.service = service;
+        this.method = method;
+        this.urlPattern = urlPattern != null && !urlPattern.isBlank() ? Pattern.compile(urlPattern) : null;
+        this.type = type;
+        this.probability = probability;
+        this.delayMs = delayMs;
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    boolean matches(String serviceName, ClientRequest request) {
+        return (service == null || service.equalsIgnoreCase(serviceName))
+            && (method == null || method.equalsIgnoreCase(request.method().name()))
+            && (urlPattern == null || urlPattern.matcher(request.url().toString()).find());
+    }
+
+    void countInjection() {
+        injected.incrementAndGet();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUrlPattern() {
+        return urlPattern != null ? urlPattern.pattern() : null;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public double getProbability() {
+        return probability;
+    }
+
+    public long getDelayMs() {
+        return delayMs;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Number of calls this rule has been applied to.
+     */
+    public long getInjected() {
+        return injected.get();
+    }
+}
@@ -0,0 +1,68 @@
+package com.area.server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * One outbound HTTP call made through a logged WebClient. The event duration
+ * runs from the request being sent to the response headers being received.
+ */
+@Name("com.area.server.ExternalApiCall")
+@Label("External API Call")
+@Category({"AREA", "External API"})
+@Description("HTTP call to a provider API (Gmail, Discord, GitHub)")
+@StackTrace(false)
+public class ExternalApiCallEvent extends Event {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile("^(\\d+|[0-9a-fA-F-]{16,}|[A-Za-z0-9_-]{40,})$");
+
+    @Label("Provider")
+    public String provider;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    @Description("Request path with ids and tokens replaced by {id}")
+    public String endpoint;
+
+    @Label("Status")
+    @Description("HTTP status, or 0 if the call failed without a response")
+    public int status;
+
+    @Label("Response Size")
+    @Description("Content-Length of the response, -1 if unknown")
+    @DataAmount
+    public long bytes;
+
+    /**
+     * Reduce a URL to its path with numeric ids, hashes and tokens replaced by
+     * {@code {id}}, so calls to the same endpoint can be grouped.
+     */
+    public static String endpointTemplate(URI url) {
+        String path = url.getPath();
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String[] segments = path.split("/", -1);
+        StringBuilder template = new StringBuilder(path.length());
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                template.append('/');
+            }
+            // Discord webhook URLs carry the id and token as the two segments after "webhooks"
+            boolean webhookSecret = (i > 0 && "webhooks".equals(segments[i - 1]))
+                || (i > 1 && "webhooks".equals(segments[i - 2]));
+            template.append(webhookSecret || ID_SEGMENT.matcher(segments[i]).matches() ? "{id}" : segments[i]);
+        }
+        return template.toString();
+    }
+}
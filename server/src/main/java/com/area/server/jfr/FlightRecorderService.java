@@ -0,0 +1,136 @@
+package com.area.server.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts, dumps and stops an on-demand Flight Recorder recording that includes
+ * the application's own events ({@link WorkflowExecutionEvent}, {@link ExternalApiCallEvent},
+ * {@link TriggerStateFlushEvent}, {@link PollCycleEvent}) next to the JDK ones.
+ *
+ * Only one recording is managed at a time. Dumping without an active recording
+ * takes a snapshot of whatever the JVM is already recording, e.g. when started
+ * with {@code -XX:StartFlightRecording}.
+ */
+@Service
+public class FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+    private static final List<Class<? extends jdk.jfr.Event>> APPLICATION_EVENTS = List.of(
+        WorkflowExecutionEvent.class, ExternalApiCallEvent.class, TriggerStateFlushEvent.class, PollCycleEvent.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final Path dumpDirectory;
+    private final String settings;
+    private final Duration defaultMaxAge;
+
+    private Recording recording;
+
+    public FlightRecorderService(@Value("${jfr.dump-dir:logs/jfr}") String dumpDirectory,
+                                 @Value("${jfr.settings:profile}") String settings,
+                                 @Value("${jfr.max-age-minutes:30}") long defaultMaxAgeMinutes) {
+        this.dumpDirectory = Path.of(dumpDirectory);
+        this.settings = settings;
+        this.defaultMaxAge = Duration.ofMinutes(defaultMaxAgeMinutes);
+    }
+
+    /**
+     * Start a continuous recording kept in memory for {@code maxAge}.
+     *
+     * @throws IllegalStateException if a recording is already running
+     */
+    public synchronized Map<String, Object> start(Duration maxAge) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A recording is already running (id " + recording.getId() + ")");
+        }
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings '" + settings + "': " + e.getMessage(), e);
+        }
+        started.setName("area-on-demand");
+        started.setToDisk(true);
+        started.setMaxAge(maxAge != null ? maxAge : defaultMaxAge);
+        for (Class<? extends jdk.jfr.Event> event : APPLICATION_EVENTS) {
+            started.enable(event).withoutThreshold();
+        }
+        started.start();
+        recording = started;
+        logger.info("Started flight recording {} with '{}' settings", started.getId(), settings);
+        return status();
+    }
+
+    /**
+     * Write the active recording, or a snapshot of all JVM recordings, to the dump directory.
+     *
+     * @return the written file
+     */
+    public synchronized Path dump() {
+        Path file = dumpDirectory.resolve("area-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+        try {
+            Files.createDirectories(dumpDirectory);
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                recording.dump(file);
+            } else {
+                try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+                    if (snapshot.getSize() == 0) {
+                        throw new IllegalStateException("No recording is running");
+                    }
+                    snapshot.dump(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump flight recording", e);
+        }
+        logger.info("Dumped flight recording to {}", file.toAbsolutePath());
+        return file;
+    }
+
+    /**
+     * Stop and discard the managed recording. Dump it first to keep its data.
+     */
+    public synchronized Map<String, Object> stop() {
+        if (recording == null) {
+            throw new IllegalStateException("No recording is running");
+        }
+        recording.close();
+        logger.info("Stopped flight recording {}", recording.getId());
+        recording = null;
+        return status();
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", recording != null && recording.getState() == RecordingState.RUNNING);
+        if (recording != null) {
+            status.put("id", recording.getId());
+            status.put("settings", settings);
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAgeSeconds", recording.getMaxAge() != null ? recording.getMaxAge().toSeconds() : null);
+            status.put("sizeBytes", recording.getSize());
+        }
+        status.put("dumpDirectory", dumpDirectory.toAbsolutePath().toString());
+        return status;
+    }
+}
@@ -0,0 +1,35 @@
+package com.area.server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One poll cycle of a scheduler.
+ */
+@Name("com.area.server.PollCycle")
+@Label("Poll Cycle")
+@Category({"AREA", "Engine"})
+@Description("A polling scheduler cycle over all active items")
+@StackTrace(false)
+public class PollCycleEvent extends Event {
+
+    @Label("Scheduler")
+    @Description("workflow, area or timer")
+    public String scheduler;
+
+    @Label("Items")
+    public int items;
+
+    @Label("Succeeded")
+    public int succeeded;
+
+    @Label("Failed")
+    public int failed;
+
+    @Label("Skipped")
+    public int skipped;
+}
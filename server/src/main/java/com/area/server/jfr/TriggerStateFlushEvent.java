@@ -0,0 +1,47 @@
+package com.area.server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * A trigger state write by the workflow or area state services.
+ */
+@Name("com.area.server.TriggerStateFlush")
+@Label("Trigger State Flush")
+@Category({"AREA", "Engine"})
+@Description("Trigger state saved after a poll, success or failure")
+@StackTrace(false)
+public class TriggerStateFlushEvent extends Event {
+
+    @Label("Engine")
+    @Description("workflow or area")
+    public String engine;
+
+    @Label("Item Id")
+    public long itemId;
+
+    @Label("Operation")
+    public String operation;
+
+    /**
+     * Run a state save inside an event.
+     */
+    public static <T> T record(String engine, Long itemId, String operation, Supplier<T> save) {
+        TriggerStateFlushEvent event = new TriggerStateFlushEvent();
+        event.begin();
+        try {
+            return save.get();
+        } finally {
+            event.engine = engine;
+            event.itemId = itemId != null ? itemId : -1;
+            event.operation = operation;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.area.server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One workflow processed by a poll cycle, from the circuit-breaker check to the
+ * last reaction. The event duration is the processing time.
+ */
+@Name("com.area.server.WorkflowExecution")
+@Label("Workflow Execution")
+@Category({"AREA", "Engine"})
+@Description("A workflow checked and, if triggered, executed by the polling engine")
+@StackTrace(false)
+public class WorkflowExecutionEvent extends Event {
+
+    @Label("Workflow Id")
+    public long workflowId;
+
+    @Label("Trigger Type")
+    public String triggerType;
+
+    @Label("Status")
+    @Description("SUCCESS, FAILURE or SKIPPED")
+    public String status;
+
+    @Label("Reactions")
+    @Description("Number of reactions executed")
+    public int reactions;
+}
@@ -1,6 +1,7 @@
 package com.area.server.logging;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.area.server.tracing.Span;
+import com.area.server.tracing.Tracer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -9,12 +10,15 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.reactivestreams.Publisher;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.IOException;
 import java.util.UUID;
 
 /**
@@ -22,18 +26,33 @@ import java.util.UUID;
  * This provides visibility into what the API returns to clients.
  *
  * Logs are written to both the main log and a dedicated api-responses.log file.
+ * Requests and responses are only rendered when DEBUG is enabled and the handler
+ * is sampled ({@code logging.api-responses.sampling}, keyed by
+ * {@code Controller.method}). Arguments and bodies are serialized into a bounded
+ * buffer that stops the serializer after {@code logging.api-responses.max-body-length}
+ * characters; reactive results are not serialized. Errors are always logged, without body.
+ * Each request is a server span; its trace id is the MDC {@code traceId}, and
+ * reactive calls the handler blocks on are traced as its children.
  */
 @Aspect
 @Component
 public class ApiResponseLogger {
 
     private static final Logger logger = LoggerFactory.getLogger(ApiResponseLogger.class);
-    private static final int MAX_BODY_LENGTH = 5000;
+    private static final String TRUNCATED = "... [truncated]";
 
     private final ObjectMapper objectMapper;
+    private final Tracer tracer;
+    private final LogSampler sampler;
+    private final int maxBodyLength;
 
-    public ApiResponseLogger(ObjectMapper objectMapper) {
+    public ApiResponseLogger(ObjectMapper objectMapper, Tracer tracer,
+                             @Value("${logging.api-responses.sampling:}") String sampling,
+                             @Value("${logging.api-responses.max-body-length:5000}") int maxBodyLength) {
         this.objectMapper = objectMapper;
+        this.tracer = tracer;
+        this.sampler = new LogSampler(sampling);
+        this.maxBodyLength = maxBodyLength;
     }
 
     /**
@@ -59,8 +78,6 @@ public class ApiResponseLogger {
     @Around("controllerMethods() && requestMappingMethods()")
     public Object logApiResponse(ProceedingJoinPoint joinPoint) throws Throwable {
         long startTime = System.currentTimeMillis();
-        String traceId = generateTraceId();
-        MDC.put("traceId", traceId);
 
         HttpServletRequest request = getRequest();
         String method = request != null ? request.getMethod() : "UNKNOWN";
@@ -68,16 +85,33 @@ public class ApiResponseLogger {
         String queryString = request != null ? request.getQueryString() : null;
         String fullPath = queryString != null ? uri + "?" + queryString : uri;
 
+        String handler = joinPoint.getSignature().getDeclaringType().getSimpleName()
+            + "." + joinPoint.getSignature().getName();
+        Span span = tracer.startSpan(method + " " + uri, Span.Kind.SERVER, null)
+            .setAttribute("http.request.method", method)
+            .setAttribute("url.path", uri)
+            .setAttribute("code.function", handler);
+        String traceId = span.isSampled() ? span.getTraceId() : generateTraceId();
+        MDC.put("traceId", traceId);
+        boolean logged = logger.isDebugEnabled() && sampler.sample(handler);
+
         // Log incoming request
-        logIncomingRequest(traceId, method, fullPath, joinPoint);
+        if (logged) {
+            logIncomingRequest(traceId, method, fullPath, joinPoint);
+        }
 
         Object result;
-        try {
+        try (Tracer.Scope ignored = tracer.withSpan(span)) {
             result = joinPoint.proceed();
             long duration = System.currentTimeMillis() - startTime;
 
             // Log successful response
-            logSuccessResponse(traceId, method, fullPath, result, duration);
+            if (logged) {
+                logSuccessResponse(traceId, method, fullPath, result, duration);
+            }
+            if (result instanceof ResponseEntity<?> responseEntity) {
+                span.setAttribute("http.response.status_code", responseEntity.getStatusCode().value());
+            }
 
             return result;
         } catch (Throwable ex) {
@@ -85,9 +119,11 @@ public class ApiResponseLogger {
 
             // Log error response
             logErrorResponse(traceId, method, fullPath, ex, duration);
+            span.recordError(ex);
 
             throw ex;
         } finally {
+            span.end();
             MDC.remove("traceId");
         }
     }
@@ -152,6 +188,9 @@ public class ApiResponseLogger {
 
     private void logErrorResponse(String traceId, String method, String path,
                                   Throwable error, long duration) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
         StringBuilder logMessage = new StringBuilder();
         logMessage.append("\n");
         logMessage.append("┌──────────────────────────────────────────────────────────────────────────────\n");
@@ -176,30 +215,39 @@ public class ApiResponseLogger {
             className.contains("Servlet") || className.contains("Principal")) {
             return "[" + className + "]";
         }
-        try {
-            String json = objectMapper.writeValueAsString(arg);
-            return truncate(json);
-        } catch (JsonProcessingException e) {
-            return arg.toString();
-        }
+        return serialize(arg);
     }
 
     private String formatResponseBody(Object body) {
         if (body == null) {
             return "null";
         }
+        return serialize(body);
+    }
+
+    /**
+     * Serialize a value as JSON, stopping once the configured length is reached.
+     */
+    String serialize(Object value) {
+        if (value instanceof Publisher<?>) {
+            // Subscribing here would run the pipeline a second time
+            return "[" + value.getClass().getSimpleName() + "]";
+        }
+        BoundedWriter writer = new BoundedWriter(maxBodyLength);
         try {
-            String json = objectMapper.writeValueAsString(body);
-            return truncate(json);
-        } catch (JsonProcessingException e) {
-            return truncate(body.toString());
+            objectMapper.writeValue(writer, value);
+        } catch (IOException e) {
+            if (!writer.isTruncated()) {
+                return truncate(value.toString());
+            }
         }
+        return writer.isTruncated() ? writer + TRUNCATED : writer.toString();
     }
 
     private String truncate(String text) {
         if (text == null) return "null";
-        if (text.length() <= MAX_BODY_LENGTH) return text;
-        return text.substring(0, MAX_BODY_LENGTH) + "... [truncated]";
+        if (text.length() <= maxBodyLength) return text;
+        return text.substring(0, maxBodyLength) + TRUNCATED;
     }
 
     private String generateTraceId() {
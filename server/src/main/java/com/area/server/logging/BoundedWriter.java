@@ -0,0 +1,82 @@
+package com.area.server.logging;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer that keeps at most {@code limit} characters and then aborts the write,
+ * so a serializer stops instead of rendering the rest of a large value.
+ */
+final class BoundedWriter extends Writer {
+
+    private final StringBuilder buffer;
+    private final int limit;
+    private boolean truncated;
+
+    BoundedWriter(int limit) {
+        this.limit = limit;
+        this.buffer = new StringBuilder(Math.min(limit, 1024));
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        int room = checkRoom();
+        buffer.append(chars, offset, Math.min(length, room));
+        if (length > room) {
+            abort();
+        }
+    }
+
+    @Override
+    public void write(String text, int offset, int length) throws IOException {
+        int room = checkRoom();
+        buffer.append(text, offset, offset + Math.min(length, room));
+        if (length > room) {
+            abort();
+        }
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+
+    private int checkRoom() throws IOException {
+        if (truncated) {
+            throw new LimitReachedException();
+        }
+        return limit - buffer.length();
+    }
+
+    private void abort() throws IOException {
+        truncated = true;
+        throw new LimitReachedException();
+    }
+
+    /**
+     * Stackless: it is control flow, not an error.
+     */
+    private static final class LimitReachedException extends IOException {
+
+        LimitReachedException() {
+            super("Log size limit reached");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -2,25 +2,67 @@ package com.area.server.logging;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 /**
  * Centralized logger for external API calls (Gmail, Discord, GitHub, etc.).
  * Provides structured logging for requests and responses to external services.
  *
  * Logs are written to both the main log and a dedicated external-api.log file.
+ * Request and response events are single-line, parameterized messages: nothing
+ * is formatted unless DEBUG is enabled and the call is sampled (see
+ * {@link #isTraced(String)}). Error responses and failures are always logged.
  */
 @Component
 public class ExternalApiLogger {
 
     private static final Logger logger = LoggerFactory.getLogger(ExternalApiLogger.class);
     private static final int MAX_BODY_LENGTH = 2000;
+    private static final Pattern DISCORD_WEBHOOK = Pattern.compile("(webhooks/)[^/]+/[^/]+");
+
+    private final AtomicLong requestSequence = new AtomicLong();
+    private final String requestIdPrefix;
+    private final LogSampler sampler;
+
+    public ExternalApiLogger(@Value("${logging.external-api.sampling:}") String sampling) {
+        this.sampler = new LogSampler(sampling);
+        // Distinguishes ids across restarts and instances without a UUID per call
+        this.requestIdPrefix = Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36), 36);
+    }
+
+    /**
+     * Allocate an id to correlate a request with its response.
+     */
+    public String nextRequestId() {
+        return requestIdPrefix + "-" + Long.toString(requestSequence.incrementAndGet(), 36);
+    }
+
+    /**
+     * Decide whether the next call to a service gets its request and successful
+     * response logged. False when DEBUG is off; otherwise true for one call in
+     * every N, as configured per service by {@code logging.external-api.sampling}.
+     *
+     * @param service The service name (e.g., "Gmail", "Discord", "GitHub")
+     */
+    public boolean isTraced(String service) {
+        if (!logger.isDebugEnabled()) {
+            return false;
+        }
+        return sampler.sample(service);
+    }
 
     /**
      * Log an outgoing request to an external API.
+     * Callers on hot paths should check {@link #isTraced(String)} first.
      *
      * @param service   The service name (e.g., "Gmail", "Discord", "GitHub")
      * @param method    HTTP method (GET, POST, PUT, DELETE)
@@ -31,31 +73,38 @@ public class ExternalApiLogger {
      */
     public String logRequest(String service, String method, String url,
                              Map<String, String> headers, Object body) {
-        String requestId = generateRequestId();
-
-        StringBuilder logMessage = new StringBuilder();
-        logMessage.append("\n");
-        logMessage.append("╔══════════════════════════════════════════════════════════════════════════════\n");
-        logMessage.append(String.format("║ [%s] EXTERNAL API REQUEST - %s\n", service.toUpperCase(), requestId));
-        logMessage.append("╠══════════════════════════════════════════════════════════════════════════════\n");
-        logMessage.append(String.format("║ Method: %s\n", method));
-        logMessage.append(String.format("║ URL: %s\n", maskSensitiveUrl(url)));
-
-        if (headers != null && !headers.isEmpty()) {
-            logMessage.append("║ Headers:\n");
-            headers.forEach((key, value) ->
-                logMessage.append(String.format("║   %s: %s\n", key, maskSensitiveHeader(key, value))));
+        String requestId = nextRequestId();
+        if (logger.isDebugEnabled()) {
+            logger.debug("[{}] EXTERNAL API REQUEST id={} method={} url={} headers={} body={}",
+                service, requestId, method, maskSensitiveUrl(url),
+                headers != null ? maskHeaders(headers) : Map.of(),
+                body != null ? truncateBody(body.toString()) : "-");
         }
+        return requestId;
+    }
 
-        if (body != null) {
-            String bodyStr = truncateBody(body.toString());
-            logMessage.append(String.format("║ Body: %s\n", bodyStr));
+    /**
+     * Log an outgoing request from its raw headers; only headers are copied and
+     * masked, and only when DEBUG is enabled.
+     *
+     * @param service   The service name
+     * @param requestId Id from {@link #nextRequestId()}
+     * @param method    HTTP method
+     * @param url       The target URL
+     * @param headers   Request headers (tokens will be masked)
+     */
+    public void logRequest(String service, String requestId, String method, String url, HttpHeaders headers) {
+        if (!logger.isDebugEnabled()) {
+            return;
         }
-
-        logMessage.append("╚══════════════════════════════════════════════════════════════════════════════");
-
-        logger.debug(logMessage.toString());
-        return requestId;
+        Map<String, String> masked = new HashMap<>();
+        headers.forEach((key, values) -> {
+            if (!values.isEmpty()) {
+                masked.put(key, maskSensitiveHeader(key, values.get(0)));
+            }
+        });
+        logger.debug("[{}] EXTERNAL API REQUEST id={} method={} url={} headers={}",
+            service, requestId, method, maskSensitiveUrl(url), masked);
     }
 
     /**
@@ -69,25 +118,32 @@ public class ExternalApiLogger {
      */
     public void logResponse(String service, String requestId, int statusCode,
                            long duration, Object body) {
-        StringBuilder logMessage = new StringBuilder();
-        logMessage.append("\n");
-        logMessage.append("╔══════════════════════════════════════════════════════════════════════════════\n");
-        logMessage.append(String.format("║ [%s] EXTERNAL API RESPONSE - %s\n", service.toUpperCase(), requestId));
-        logMessage.append("╠══════════════════════════════════════════════════════════════════════════════\n");
-        logMessage.append(String.format("║ Status: %d %s\n", statusCode, getStatusDescription(statusCode)));
-        logMessage.append(String.format("║ Duration: %d ms\n", duration));
-
-        if (body != null) {
-            String bodyStr = truncateBody(body.toString());
-            logMessage.append(String.format("║ Response Body: %s\n", bodyStr));
-        }
-
-        logMessage.append("╚══════════════════════════════════════════════════════════════════════════════");
+        logResponse(service, requestId, statusCode, duration, body, true);
+    }
 
+    /**
+     * Log a response from an external API. Error statuses are logged at WARN
+     * regardless of sampling; successful ones only when the call was traced.
+     *
+     * @param service    The service name
+     * @param requestId  The request ID for correlation
+     * @param statusCode HTTP status code
+     * @param duration   Request duration in milliseconds
+     * @param body       Response body (may be null)
+     * @param traced     Whether the call was selected by {@link #isTraced(String)}
+     */
+    public void logResponse(String service, String requestId, int statusCode,
+                           long duration, Object body, boolean traced) {
         if (statusCode >= 400) {
-            logger.warn(logMessage.toString());
-        } else {
-            logger.debug(logMessage.toString());
+            if (logger.isWarnEnabled()) {
+                logger.warn("[{}] EXTERNAL API RESPONSE id={} status={} {} duration={}ms body={}",
+                    service, requestId, statusCode, getStatusDescription(statusCode), duration,
+                    body != null ? truncateBody(body.toString()) : "-");
+            }
+        } else if (traced && logger.isDebugEnabled()) {
+            logger.debug("[{}] EXTERNAL API RESPONSE id={} status={} {} duration={}ms body={}",
+                service, requestId, statusCode, getStatusDescription(statusCode), duration,
+                body != null ? truncateBody(body.toString()) : "-");
         }
     }
 
@@ -100,17 +156,8 @@ public class ExternalApiLogger {
      * @param duration  Duration until failure in milliseconds
      */
     public void logError(String service, String requestId, Throwable error, long duration) {
-        StringBuilder logMessage = new StringBuilder();
-        logMessage.append("\n");
-        logMessage.append("╔══════════════════════════════════════════════════════════════════════════════\n");
-        logMessage.append(String.format("║ [%s] EXTERNAL API ERROR - %s\n", service.toUpperCase(), requestId));
-        logMessage.append("╠══════════════════════════════════════════════════════════════════════════════\n");
-        logMessage.append(String.format("║ Duration: %d ms\n", duration));
-        logMessage.append(String.format("║ Error Type: %s\n", error.getClass().getSimpleName()));
-        logMessage.append(String.format("║ Error Message: %s\n", error.getMessage()));
-        logMessage.append("╚══════════════════════════════════════════════════════════════════════════════");
-
-        logger.error(logMessage.toString(), error);
+        logger.error("[{}] EXTERNAL API ERROR id={} duration={}ms type={} message={}",
+            service, requestId, duration, error.getClass().getSimpleName(), error.getMessage(), error);
     }
 
     /**
@@ -121,25 +168,35 @@ public class ExternalApiLogger {
      * @param details   Additional details about the operation
      */
     public void logOperation(String service, String operation, String details) {
-        logger.info("[{}] {} - {}", service.toUpperCase(), operation, details);
-    }
-
-    private String generateRequestId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+        if (logger.isInfoEnabled()) {
+            logger.info("[{}] {} - {}", service.toUpperCase(Locale.ROOT), operation, details);
+        }
     }
 
-    private String maskSensitiveUrl(String url) {
+    /**
+     * Mask the secret parts of a URL (Discord webhook id and token).
+     */
+    public static String maskSensitiveUrl(String url) {
         if (url == null) return "null";
         // Mask webhook URLs (keep only the domain)
         if (url.contains("discord.com/api/webhooks/")) {
-            return url.replaceAll("(webhooks/)[^/]+/[^/]+", "$1****/****");
+            return DISCORD_WEBHOOK.matcher(url).replaceAll("$1****/****");
         }
         return url;
     }
 
-    private String maskSensitiveHeader(String key, String value) {
+    private Map<String, String> maskHeaders(Map<String, String> headers) {
+        Map<String, String> masked = new HashMap<>();
+        headers.forEach((key, value) -> masked.put(key, maskSensitiveHeader(key, value)));
+        return masked;
+    }
+
+    /**
+     * Mask the value of a credential header, keeping a short prefix and suffix.
+     */
+    public static String maskSensitiveHeader(String key, String value) {
         if (value == null) return "null";
-        String keyLower = key.toLowerCase();
+        String keyLower = key.toLowerCase(Locale.ROOT);
         if (keyLower.contains("authorization") || keyLower.contains("token") ||
             keyLower.contains("secret") || keyLower.contains("api-key")) {
             if (value.length() > 10) {
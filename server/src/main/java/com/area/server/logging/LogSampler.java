@@ -0,0 +1,55 @@
+package com.area.server.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-key "1 in N" sampling configured as {@code Key=N,Other=M}. Keys without a
+ * rate are always sampled.
+ */
+final class LogSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogSampler.class);
+
+    private final Map<String, Integer> sampleEvery;
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    LogSampler(String spec) {
+        this.sampleEvery = parse(spec);
+    }
+
+    /**
+     * Whether the next event for {@code key} should be logged.
+     */
+    boolean sample(String key) {
+        Integer every = sampleEvery.get(key);
+        if (every == null || every <= 1) {
+            return true;
+        }
+        return counters.computeIfAbsent(key, k -> new AtomicLong()).getAndIncrement() % every == 0;
+    }
+
+    private static Map<String, Integer> parse(String spec) {
+        Map<String, Integer> rates = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return rates;
+        }
+        for (String entry : spec.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                rates.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid log sampling entry: {}", entry);
+            }
+        }
+        return rates;
+    }
+}
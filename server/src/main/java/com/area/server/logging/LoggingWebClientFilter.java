@@ -1,21 +1,25 @@
 package com.area.server.logging;
 
+import com.area.server.jfr.ExternalApiCallEvent;
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.tracing.Span;
+import com.area.server.tracing.Tracer;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
-import org.springframework.web.reactive.function.client.ExchangeFunction;
 import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * WebClient exchange filter that logs all outgoing HTTP requests and their responses.
  * This filter intercepts WebClient calls and logs request details, response status,
- * and timing information.
+ * and timing information. Latency, status codes and advertised rate-limit budgets
+ * are also recorded in {@link EngineMetrics}, and each call is a client span
+ * under the span found in the subscriber's Reactor context. A sampled span's trace
+ * id is put in the MDC only around this filter's own log calls, since MDC does not
+ * follow Reactor thread hops. Calls are also emitted as {@link ExternalApiCallEvent}
+ * Flight Recorder events.
  *
  * Usage: Add this filter to your WebClient configuration:
  * <pre>
@@ -27,10 +31,17 @@ import java.util.UUID;
 @Component
 public class LoggingWebClientFilter {
 
+    private static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    private static final String TRACE_ID = "traceId";
+
     private final ExternalApiLogger apiLogger;
+    private final EngineMetrics metrics;
+    private final Tracer tracer;
 
-    public LoggingWebClientFilter(ExternalApiLogger apiLogger) {
+    public LoggingWebClientFilter(ExternalApiLogger apiLogger, EngineMetrics metrics, Tracer tracer) {
         this.apiLogger = apiLogger;
+        this.metrics = metrics;
+        this.tracer = tracer;
     }
 
     /**
@@ -40,95 +51,162 @@ public class LoggingWebClientFilter {
      * @return An ExchangeFilterFunction that can be added to WebClient
      */
     public ExchangeFilterFunction logExchange(String serviceName) {
-        return (request, next) -> {
+        return (request, next) -> tracer.trace("HTTP " + request.method().name(), Span.Kind.CLIENT, span -> {
             long startTime = System.currentTimeMillis();
-
-            // Extract headers for logging (mask sensitive values)
-            Map<String, String> headers = new HashMap<>();
-            request.headers().forEach((key, values) -> {
-                if (!values.isEmpty()) {
-                    headers.put(key, values.get(0));
+            long startNanos = System.nanoTime();
+            String requestId = apiLogger.nextRequestId();
+            boolean traced = apiLogger.isTraced(serviceName);
+            describe(span, serviceName, request);
+            ExternalApiCallEvent callEvent = startCallEvent(serviceName, request);
+
+            // Headers are only copied and masked for traced calls
+            if (traced) {
+                try (Tracer.Scope ignored = traceIdInMdc(span)) {
+                    apiLogger.logRequest(serviceName, requestId, request.method().name(),
+                        request.url().toString(), request.headers());
                 }
-            });
-
-            // Log the request
-            String requestId = apiLogger.logRequest(
-                serviceName,
-                request.method().name(),
-                request.url().toString(),
-                headers,
-                null // Body is not easily accessible in filter
-            );
-
-            // Set trace ID in MDC for correlation
-            String traceId = MDC.get("traceId");
-            if (traceId == null) {
-                traceId = UUID.randomUUID().toString().substring(0, 8);
-                MDC.put("traceId", traceId);
             }
 
             return next.exchange(request)
                 .doOnSuccess(response -> {
                     long duration = System.currentTimeMillis() - startTime;
-                    apiLogger.logResponse(
-                        serviceName,
-                        requestId,
-                        response.statusCode().value(),
-                        duration,
-                        null // Response body logged separately if needed
-                    );
+                    recordResponse(serviceName, request.method().name(), response, startNanos, span, callEvent);
+                    try (Tracer.Scope ignored = traceIdInMdc(span)) {
+                        apiLogger.logResponse(
+                            serviceName,
+                            requestId,
+                            response.statusCode().value(),
+                            duration,
+                            null, // Response body logged separately if needed
+                            traced
+                        );
+                    }
                 })
                 .doOnError(error -> {
                     long duration = System.currentTimeMillis() - startTime;
-                    apiLogger.logError(serviceName, requestId, error, duration);
+                    metrics.recordOutboundFailure(serviceName, request.method().name(), error,
+                        System.nanoTime() - startNanos);
+                    commitCallEvent(callEvent, 0, -1);
+                    try (Tracer.Scope ignored = traceIdInMdc(span)) {
+                        apiLogger.logError(serviceName, requestId, error, duration);
+                    }
                 });
+        });
+    }
+
+    private static void describe(Span span, String serviceName, ClientRequest request) {
+        span.setAttribute("peer.service", serviceName)
+            .setAttribute("http.request.method", request.method().name())
+            .setAttribute("server.address", request.url().getHost())
+            .setAttribute("url.path", request.url().getPath());
+    }
+
+    /**
+     * Put a sampled span's trace id in the MDC and restore the previous value on close. An
+     * unsampled span leaves the MDC alone, so the trace id that ApiResponseLogger set for the
+     * incoming request stays in place.
+     */
+    private static Tracer.Scope traceIdInMdc(Span span) {
+        if (!span.isSampled()) {
+            return () -> { };
+        }
+        String previous = MDC.get(TRACE_ID);
+        MDC.put(TRACE_ID, span.getTraceId());
+        return () -> {
+            if (previous == null) {
+                MDC.remove(TRACE_ID);
+            } else {
+                MDC.put(TRACE_ID, previous);
+            }
         };
     }
 
+    private static ExternalApiCallEvent startCallEvent(String serviceName, ClientRequest request) {
+        ExternalApiCallEvent event = new ExternalApiCallEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            event.provider = serviceName;
+            event.method = request.method().name();
+            event.endpoint = ExternalApiCallEvent.endpointTemplate(request.url());
+        }
+        return event;
+    }
+
+    private static void commitCallEvent(ExternalApiCallEvent event, int status, long bytes) {
+        if (event.isEnabled()) {
+            event.status = status;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    private void recordResponse(String serviceName, String method, ClientResponse response, long startNanos,
+                                Span span, ExternalApiCallEvent callEvent) {
+        if (response == null) {
+            return;
+        }
+        int status = response.statusCode().value();
+        commitCallEvent(callEvent, status, response.headers().contentLength().orElse(-1));
+        metrics.recordOutbound(serviceName, method, status, System.nanoTime() - startNanos);
+        span.setAttribute("http.response.status_code", status);
+        if (status >= 400) {
+            span.setStatus(Span.Status.ERROR, Integer.toString(status));
+        }
+
+        String remaining = response.headers().asHttpHeaders().getFirst(RATE_LIMIT_REMAINING);
+        if (remaining != null) {
+            try {
+                metrics.recordRateLimitRemaining(serviceName, Long.parseLong(remaining));
+            } catch (NumberFormatException ignored) {
+                // Malformed header, nothing to record
+            }
+        }
+    }
+
     /**
      * Creates an exchange filter that logs with body content.
      * Use this when you need to log request/response bodies.
-     * Note: This may have performance implications for large payloads.
+     * The body is only buffered for traced calls and error responses; other
+     * responses pass through untouched.
      *
      * @param serviceName The name of the service
      * @return An ExchangeFilterFunction with body logging
      */
     public ExchangeFilterFunction logExchangeWithBody(String serviceName) {
-        return (request, next) -> {
+        return (request, next) -> tracer.trace("HTTP " + request.method().name(), Span.Kind.CLIENT, span -> {
             long startTime = System.currentTimeMillis();
-
-            Map<String, String> headers = new HashMap<>();
-            request.headers().forEach((key, values) -> {
-                if (!values.isEmpty()) {
-                    headers.put(key, values.get(0));
+            long startNanos = System.nanoTime();
+            String requestId = apiLogger.nextRequestId();
+            boolean traced = apiLogger.isTraced(serviceName);
+            describe(span, serviceName, request);
+            ExternalApiCallEvent callEvent = startCallEvent(serviceName, request);
+
+            if (traced) {
+                try (Tracer.Scope ignored = traceIdInMdc(span)) {
+                    apiLogger.logRequest(serviceName, requestId, request.method().name(),
+                        request.url().toString(), request.headers());
                 }
-            });
-
-            String requestId = apiLogger.logRequest(
-                serviceName,
-                request.method().name(),
-                request.url().toString(),
-                headers,
-                null
-            );
+            }
 
             return next.exchange(request)
                 .flatMap(response -> {
                     long duration = System.currentTimeMillis() - startTime;
+                    int status = response.statusCode().value();
+                    recordResponse(serviceName, request.method().name(), response, startNanos, span, callEvent);
+
+                    if (!traced && status < 400) {
+                        apiLogger.logResponse(serviceName, requestId, status, duration, null, false);
+                        return Mono.just(response);
+                    }
 
-                    // For successful responses, we want to peek at the body without consuming it
+                    // Peek at the body and rebuild the response with what we consumed
                     return response.bodyToMono(String.class)
                         .defaultIfEmpty("")
                         .flatMap(body -> {
-                            apiLogger.logResponse(
-                                serviceName,
-                                requestId,
-                                response.statusCode().value(),
-                                duration,
-                                body
-                            );
+                            try (Tracer.Scope ignored = traceIdInMdc(span)) {
+                                apiLogger.logResponse(serviceName, requestId, status, duration, body, traced);
+                            }
 
-                            // Rebuild the response with the body we consumed
                             return Mono.just(
                                 ClientResponse.create(response.statusCode())
                                     .headers(h -> h.addAll(response.headers().asHttpHeaders()))
@@ -139,8 +217,13 @@ public class LoggingWebClientFilter {
                 })
                 .doOnError(error -> {
                     long duration = System.currentTimeMillis() - startTime;
-                    apiLogger.logError(serviceName, requestId, error, duration);
+                    metrics.recordOutboundFailure(serviceName, request.method().name(), error,
+                        System.nanoTime() - startNanos);
+                    commitCallEvent(callEvent, 0, -1);
+                    try (Tracer.Scope ignored = traceIdInMdc(span)) {
+                        apiLogger.logError(serviceName, requestId, error, duration);
+                    }
                 });
-        };
+        });
     }
 }
@@ -0,0 +1,58 @@
+package com.area.server.metrics;
+
+import com.area.server.security.PasswordHashingExecutor;
+import com.area.server.service.DiscordDeliveryScheduler;
+import com.area.server.service.TokenRefreshService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the queue and in-flight counters that components already track as gauges.
+ * Kept apart from {@link EngineMetrics} because these components sit on top of the
+ * instrumented WebClients, which need EngineMetrics themselves.
+ */
+@Component
+public class EngineGaugeBinder implements MeterBinder {
+
+    private final DiscordDeliveryScheduler discordDeliveryScheduler;
+    private final TokenRefreshService tokenRefreshService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public EngineGaugeBinder(DiscordDeliveryScheduler discordDeliveryScheduler,
+                             TokenRefreshService tokenRefreshService,
+                             PasswordHashingExecutor passwordHashingExecutor) {
+        this.discordDeliveryScheduler = discordDeliveryScheduler;
+        this.tokenRefreshService = tokenRefreshService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("area.discord.delivery.queued", discordDeliveryScheduler,
+                DiscordDeliveryScheduler::getTotalQueuedCount)
+            .description("Discord messages waiting for their channel's rate limit")
+            .register(registry);
+
+        Gauge.builder("area.oauth.refresh.inflight", tokenRefreshService, TokenRefreshService::getInFlightCount)
+            .description("OAuth token refreshes in progress")
+            .register(registry);
+
+        Gauge.builder("area.auth.hashing.queued", passwordHashingExecutor, PasswordHashingExecutor::getQueueDepth)
+            .description("Password hashing tasks waiting for a thread")
+            .register(registry);
+        Gauge.builder("area.auth.hashing.active", passwordHashingExecutor, PasswordHashingExecutor::getActiveCount)
+            .description("Password hashing tasks running")
+            .register(registry);
+        FunctionCounter.builder("area.auth.hashing.rejected", passwordHashingExecutor,
+                PasswordHashingExecutor::getRejectedCount)
+            .description("Password hashing tasks rejected because the queue was full")
+            .register(registry);
+        FunctionCounter.builder("area.auth.hashing.timeouts", passwordHashingExecutor,
+                PasswordHashingExecutor::getTimedOutCount)
+            .description("Password hashing tasks abandoned after the wait timeout")
+            .register(registry);
+    }
+}
@@ -0,0 +1,260 @@
+package com.area.server.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer instrumentation for the execution engine and outbound API clients.
+ * Exposed at {@code /actuator/prometheus}. Meters:
+ * <ul>
+ *   <li>{@code area.external.requests} - outbound latency per provider, method and status</li>
+ *   <li>{@code area.external.ratelimit.remaining} - last X-RateLimit-Remaining seen per provider</li>
+ *   <li>{@code area.workflow.executions} - execution time per workflow and outcome</li>
+ *   <li>{@code area.scheduler.poll.duration} / {@code area.scheduler.poll.lag} - poll cycle
+ *       duration and how late a cycle started compared to its configured interval</li>
+ *   <li>{@code area.scheduler.inflight} / {@code area.scheduler.queued} - items being processed
+ *       and items still waiting in the current cycle</li>
+ *   <li>{@code area.circuit_breaker.open} - items skipped because their circuit breaker is open</li>
+ *   <li>{@code area.github.pr.steps} - latency of each GitHub pull request step (get_ref, create_tree, ...)</li>
+ * </ul>
+ * Per-workflow tags are capped so a large number of workflows cannot blow up cardinality;
+ * workflows past the cap are reported as {@code other}.
+ *
+ * The same events also feed an {@link EngineStats} per engine, which keeps per-item
+ * detail that does not belong in tags (see {@code /api/admin/scheduler/engines}).
+ */
+@Component
+public class EngineMetrics {
+
+    private static final String OTHER = "other";
+    private static final String WORKFLOW_ENGINE = "workflow";
+
+    private final MeterRegistry registry;
+    private final Clock clock;
+    private final int maxTaggedWorkflows;
+    private final Set<String> taggedWorkflows = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> rateLimitRemaining = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> queued = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastCycleEnd = new ConcurrentHashMap<>();
+    private final Map<String, EngineStats> engines = new ConcurrentHashMap<>();
+    private final long statsWindowMs;
+    private final int lagSampleSize;
+
+    public EngineMetrics(MeterRegistry registry,
+                         Clock clock,
+                         @Value("${metrics.workflow.max-tagged:500}") int maxTaggedWorkflows,
+                         @Value("${metrics.engine.window-ms:900000}") long statsWindowMs,
+                         @Value("${metrics.engine.lag-samples:512}") int lagSampleSize) {
+        this.registry = registry;
+        this.clock = clock;
+        this.maxTaggedWorkflows = maxTaggedWorkflows;
+        this.statsWindowMs = statsWindowMs;
+        this.lagSampleSize = lagSampleSize;
+    }
+
+    /**
+     * Record an outbound API call that produced a response.
+     */
+    public void recordOutbound(String provider, String method, int status, long durationNanos) {
+        outboundTimer(provider, method, Integer.toString(status), status >= 400 ? "error" : "success")
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record an outbound API call that failed without a response.
+     */
+    public void recordOutboundFailure(String provider, String method, Throwable error, long durationNanos) {
+        outboundTimer(provider, method, "IO_ERROR", error.getClass().getSimpleName())
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Remember the remaining request budget a provider advertised.
+     */
+    public void recordRateLimitRemaining(String provider, long remaining) {
+        rateLimitRemaining.computeIfAbsent(provider, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("area.external.ratelimit.remaining", value, AtomicLong::get)
+                .description("Last rate-limit remaining value returned by the provider")
+                .tag("provider", key)
+                .register(registry);
+            return value;
+        }).set(remaining);
+    }
+
+    /**
+     * Record one workflow execution.
+     *
+     * @param workflowId the workflow
+     * @param status SUCCESS, FAILURE or SKIPPED
+     * @param durationMs execution time
+     */
+    public void recordWorkflowExecution(Long workflowId, String status, long durationMs) {
+        Timer.builder("area.workflow.executions")
+            .description("Workflow execution time")
+            .tag("workflow", workflowTag(workflowId))
+            .tag("status", status)
+            .register(registry)
+            .record(Duration.ofMillis(durationMs));
+        recordItemExecution(WORKFLOW_ENGINE, workflowId, status, durationMs);
+    }
+
+    /**
+     * Record one item execution in an engine's in-memory stats only.
+     *
+     * @param engine scheduler name, e.g. "area"
+     * @param itemId the area or workflow
+     * @param status SUCCESS, FAILURE or SKIPPED
+     * @param durationMs execution time
+     */
+    public void recordItemExecution(String engine, Long itemId, String status, long durationMs) {
+        stats(engine).itemExecuted(itemId, status, durationMs, clock.millis());
+    }
+
+    /**
+     * Mark the start of a poll cycle and record its schedule lag.
+     *
+     * @param scheduler scheduler name, e.g. "workflow"
+     * @param intervalMs configured fixed delay between cycles
+     * @return start timestamp to pass to {@link #pollCycleFinished}
+     */
+    public long pollCycleStarted(String scheduler, long intervalMs) {
+        long now = clock.millis();
+        Long previousEnd = lastCycleEnd.get(scheduler);
+        Long lagMs = null;
+        if (previousEnd != null) {
+            lagMs = Math.max(0, now - (previousEnd + intervalMs));
+            Timer.builder("area.scheduler.poll.lag")
+                .description("Delay between the planned and actual start of a poll cycle")
+                .tag("scheduler", scheduler)
+                .register(registry)
+                .record(Duration.ofMillis(lagMs));
+        }
+        stats(scheduler).cycleStarted(now, intervalMs, lagMs);
+        return now;
+    }
+
+    /**
+     * Record the duration of a poll cycle.
+     */
+    public void pollCycleFinished(String scheduler, long startedAt) {
+        long now = clock.millis();
+        lastCycleEnd.put(scheduler, now);
+        Timer.builder("area.scheduler.poll.duration")
+            .description("Poll cycle duration")
+            .tag("scheduler", scheduler)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(Duration.ofMillis(now - startedAt));
+        stats(scheduler).cycleFinished(now, now - startedAt);
+    }
+
+    /**
+     * Items waiting to be processed in the current cycle of a scheduler.
+     */
+    public AtomicInteger queued(String scheduler) {
+        return queued.computeIfAbsent(scheduler, key -> registerGauge("area.scheduler.queued",
+            "Items waiting to be processed in the current poll cycle", key));
+    }
+
+    /**
+     * Items currently being processed by a scheduler.
+     */
+    public AtomicInteger inFlight(String scheduler) {
+        return inFlight.computeIfAbsent(scheduler, key -> registerGauge("area.scheduler.inflight",
+            "Items currently being processed", key));
+    }
+
+    /**
+     * Count an item skipped because its circuit breaker is open.
+     *
+     * @param engine "workflow" or "area"
+     */
+    public void circuitBreakerOpen(String engine) {
+        Counter.builder("area.circuit_breaker.open")
+            .description("Executions skipped because the circuit breaker is open")
+            .tag("engine", engine)
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * Record one step of a GitHub pull request reaction.
+     *
+     * @param step e.g. "get_ref", "create_tree", "create_commit", "create_branch"
+     * @param durationMs step latency
+     */
+    public void recordPullRequestStep(String step, long durationMs) {
+        Timer.builder("area.github.pr.steps")
+            .description("GitHub pull request step latency")
+            .tag("step", step)
+            .register(registry)
+            .record(Duration.ofMillis(durationMs));
+    }
+
+    /**
+     * In-memory stats of every engine that has run at least one cycle.
+     */
+    public Collection<EngineStats> getEngineStats() {
+        return engines.values();
+    }
+
+    public Optional<EngineStats> getEngineStats(String engine) {
+        return Optional.ofNullable(engines.get(engine));
+    }
+
+    private EngineStats stats(String engine) {
+        return engines.computeIfAbsent(engine, key ->
+            new EngineStats(key, statsWindowMs, lagSampleSize, queued(key), inFlight(key)));
+    }
+
+    private Timer outboundTimer(String provider, String method, String status, String outcome) {
+        return Timer.builder("area.external.requests")
+            .description("Outbound API call latency")
+            .tag("provider", provider)
+            .tag("method", method)
+            .tag("status", status)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    private AtomicInteger registerGauge(String name, String description, String scheduler) {
+        AtomicInteger value = new AtomicInteger();
+        Gauge.builder(name, value, AtomicInteger::get)
+            .description(description)
+            .tag("scheduler", scheduler)
+            .register(registry);
+        return value;
+    }
+
+    private String workflowTag(Long workflowId) {
+        if (workflowId == null) {
+            return OTHER;
+        }
+        String id = workflowId.toString();
+        if (taggedWorkflows.contains(id)) {
+            return id;
+        }
+        if (taggedWorkflows.size() < maxTaggedWorkflows && taggedWorkflows.add(id)) {
+            return id;
+        }
+        return taggedWorkflows.contains(id) ? id : OTHER;
+    }
+}
@@ -0,0 +1,137 @@
+package com.area.server.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory view of one polling engine: cycle timing, schedule lag samples and
+ * the last execution of every item it processed. Everything here is bounded:
+ * lag samples are a ring buffer, and items not seen for a few windows are dropped.
+ */
+public class EngineStats {
+
+    private final String engine;
+    private final long windowMs;
+    private final long[] lagSamples;
+    private final AtomicInteger queued;
+    private final AtomicInteger inFlight;
+    private final Map<Long, ItemStats> items = new ConcurrentHashMap<>();
+
+    private int lagCount;
+    private int lagNext;
+    private volatile long intervalMs;
+    private volatile long cycles;
+    private volatile long lastCycleStartedAt;
+    private volatile long lastCycleDurationMs;
+
+    EngineStats(String engine, long windowMs, int lagSampleSize, AtomicInteger queued, AtomicInteger inFlight) {
+        this.engine = engine;
+        this.windowMs = windowMs;
+        this.lagSamples = new long[lagSampleSize];
+        this.queued = queued;
+        this.inFlight = inFlight;
+    }
+
+    void cycleStarted(long startedAt, long intervalMs, Long lagMs) {
+        this.intervalMs = intervalMs;
+        this.lastCycleStartedAt = startedAt;
+        if (lagMs != null) {
+            synchronized (lagSamples) {
+                lagSamples[lagNext] = lagMs;
+                lagNext = (lagNext + 1) % lagSamples.length;
+                lagCount = Math.min(lagCount + 1, lagSamples.length);
+            }
+        }
+    }
+
+    void cycleFinished(long finishedAt, long durationMs) {
+        this.lastCycleDurationMs = durationMs;
+        this.cycles++;
+        // Items deleted or deactivated stop being reported after a few windows
+        long horizon = finishedAt - Math.max(windowMs, intervalMs) * 4;
+        items.values().removeIf(item -> item.lastRunAt() < horizon);
+    }
+
+    void itemExecuted(Long itemId, String status, long durationMs, long finishedAt) {
+        if (itemId != null) {
+            items.put(itemId, new ItemStats(itemId, finishedAt, durationMs, status, finishedAt + intervalMs));
+        }
+    }
+
+    /**
+     * Summary of the engine, with the {@code top} slowest items of the current window.
+     *
+     * @param includeItems also list every known item
+     */
+    public Snapshot snapshot(long now, int top, boolean includeItems) {
+        long[] lags;
+        synchronized (lagSamples) {
+            lags = Arrays.copyOf(lagSamples, lagCount);
+        }
+        Arrays.sort(lags);
+
+        List<ItemStats> all = new ArrayList<>(items.values());
+        List<ItemStats> slowest = all.stream()
+            .filter(item -> item.lastRunAt() >= now - windowMs)
+            .sorted(Comparator.comparingLong(ItemStats::lastDurationMs).reversed())
+            .limit(top)
+            .toList();
+        List<ItemStats> listed = includeItems
+            ? all.stream().sorted(Comparator.comparingLong(ItemStats::nextDueAt)).toList()
+            : null;
+
+        long lastStart = lastCycleStartedAt;
+        return new Snapshot(
+            engine,
+            intervalMs,
+            cycles,
+            lastStart == 0 ? null : lastStart,
+            lastCycleDurationMs,
+            lastStart == 0 ? null : lastStart + lastCycleDurationMs + intervalMs,
+            queued.get(),
+            inFlight.get(),
+            new LagPercentiles(lags.length, percentile(lags, 0.50), percentile(lags, 0.95),
+                percentile(lags, 0.99), lags.length == 0 ? 0 : lags[lags.length - 1]),
+            windowMs,
+            slowest,
+            listed);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Last execution of one workflow or area.
+     */
+    public record ItemStats(Long id, long lastRunAt, long lastDurationMs, String lastStatus, long nextDueAt) {}
+
+    /**
+     * Schedule lag over the most recent cycles.
+     */
+    public record LagPercentiles(int samples, long p50Ms, long p95Ms, long p99Ms, long maxMs) {}
+
+    public record Snapshot(
+        String engine,
+        long intervalMs,
+        long cycles,
+        Long lastCycleStartedAt,
+        long lastCycleDurationMs,
+        Long nextCycleAt,
+        int queued,
+        int inFlight,
+        LagPercentiles scheduleLag,
+        long windowMs,
+        List<ItemStats> slowest,
+        List<ItemStats> items
+    ) {}
+}
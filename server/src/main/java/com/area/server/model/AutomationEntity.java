@@ -19,4 +19,12 @@ public interface AutomationEntity {
     GmailActionConfig getGmailConfig();
 
     DiscordReactionConfig getDiscordConfig();
+
+    /**
+     * Whether new items go into an aggregation window, whose state (items and cursor) is saved
+     * by the scheduler rather than by the action executor.
+     */
+    default boolean isWindowed() {
+        return false;
+    }
 }
@@ -2,6 +2,10 @@ package com.area.server.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Configuration for GitHub reaction actions.
@@ -63,6 +67,11 @@ public class GitHubReactionConfig {
     @Column(name = "github_pr_file_content", length = 4096)
     private String fileContent;
 
+    // Extra files (path -> content) committed alongside filePath in one tree.
+    // Only provided by workflow JSON, not persisted.
+    @Transient
+    private Map<String, String> additionalFiles = new LinkedHashMap<>();
+
     public String getReactionType() {
         return reactionType;
     }
@@ -214,6 +223,14 @@ public class GitHubReactionConfig {
         this.fileContent = fileContent;
     }
 
+    public Map<String, String> getAdditionalFiles() {
+        return additionalFiles;
+    }
+
+    public void setAdditionalFiles(Map<String, String> additionalFiles) {
+        this.additionalFiles = additionalFiles != null ? additionalFiles : new LinkedHashMap<>();
+    }
+
     /**
      * Get the full repository identifier in "owner/repo" format
      * Supports both new and legacy field formats
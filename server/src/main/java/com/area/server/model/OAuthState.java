@@ -0,0 +1,55 @@
+package com.area.server.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * OAuth {@code state} parameter persisted so that any node can validate the callback.
+ * Rows are deleted when consumed and swept in bulk once expired.
+ */
+@Entity
+@Table(name = "oauth_states", indexes = {
+    @Index(name = "idx_oauth_state_expires_at", columnList = "expires_at")
+})
+public class OAuthState {
+
+    @Id
+    @Column(length = 64)
+    private String state;
+
+    @Column(nullable = false, length = 32)
+    private String provider;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public OAuthState() {
+    }
+
+    public OAuthState(String state, String provider, Long userId, Instant expiresAt) {
+        this.state = state;
+        this.provider = provider;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
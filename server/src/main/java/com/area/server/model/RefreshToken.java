@@ -1,5 +1,6 @@
 package com.area.server.model;
 
+import com.area.server.security.TokenHashes;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -10,10 +11,13 @@ import java.time.Instant;
  * Entity representing JWT refresh tokens for persistent sessions.
  * Refresh tokens allow users to obtain new access tokens without re-authenticating.
  * Each token can be revoked individually for security purposes.
+ * Lookups go through {@code token_hash}, the SHA-256 of the token, which stays
+ * 64 characters however long the JWT is. Rows created before the hash column
+ * existed have a null hash until they are backfilled.
  */
 @Entity
 @Table(name = "refresh_tokens", indexes = {
-    @Index(name = "idx_refresh_token", columnList = "token"),
+    @Index(name = "idx_refresh_token_hash", columnList = "token_hash", unique = true),
     @Index(name = "idx_refresh_user_id", columnList = "user_id"),
     @Index(name = "idx_refresh_expires_at", columnList = "expires_at")
 })
@@ -31,6 +35,10 @@ public class RefreshToken {
     @Column(nullable = false, unique = true, length = 512)
     private String token;
 
+    @JsonIgnore
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
     @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
 
@@ -53,6 +61,7 @@ public class RefreshToken {
     public RefreshToken(User user, String token, Instant expiresAt, String deviceInfo) {
         this.user = user;
         this.token = token;
+        this.tokenHash = TokenHashes.sha256Hex(token);
         this.expiresAt = expiresAt;
         this.deviceInfo = deviceInfo;
     }
@@ -90,6 +99,14 @@ public class RefreshToken {
         this.token = token;
     }
 
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
     public Instant getExpiresAt() {
         return expiresAt;
     }
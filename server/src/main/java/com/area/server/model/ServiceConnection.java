@@ -115,10 +115,13 @@ public class ServiceConnection {
         this.lastRefreshAttempt = lastRefreshAttempt;
     }
 
-    public boolean needsRefresh() {
+    /**
+     * Whether the access token expires within the next five minutes of the given clock.
+     */
+    public boolean needsRefresh(java.time.Clock clock) {
         if (tokenExpiresAt == null) {
             return false;
         }
-        return java.time.Instant.now().plusSeconds(300).isAfter(tokenExpiresAt);
+        return clock.instant().plusSeconds(300).isAfter(tokenExpiresAt);
     }
 }
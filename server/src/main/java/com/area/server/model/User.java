@@ -47,6 +47,10 @@ public class User {
     @Column(name = "last_login_at")
     private Instant lastLoginAt;
 
+    // Bumped to revoke all outstanding access tokens (null for users never revoked)
+    @Column(name = "token_epoch")
+    private Long tokenEpoch;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -158,6 +162,14 @@ public class User {
         this.lastLoginAt = lastLoginAt;
     }
 
+    public long getTokenEpoch() {
+        return tokenEpoch != null ? tokenEpoch : 0L;
+    }
+
+    public void setTokenEpoch(long tokenEpoch) {
+        this.tokenEpoch = tokenEpoch;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -46,6 +46,16 @@ public class WorkflowTriggerState {
     @Column(name = "last_error_message", length = 1024)
     private String lastErrorMessage;
 
+    /**
+     * Aggregation window (see WorkflowData.WindowConfig): when it last fired,
+     * and its items as a JSON array.
+     */
+    @Column(name = "window_fired_at")
+    private Instant windowFiredAt;
+
+    @Column(name = "window_items", columnDefinition = "TEXT")
+    private String windowItems;
+
     public Long getId() {
         return id;
     }
@@ -105,4 +115,20 @@ public class WorkflowTriggerState {
     public void setLastErrorMessage(String lastErrorMessage) {
         this.lastErrorMessage = lastErrorMessage;
     }
+
+    public Instant getWindowFiredAt() {
+        return windowFiredAt;
+    }
+
+    public void setWindowFiredAt(Instant windowFiredAt) {
+        this.windowFiredAt = windowFiredAt;
+    }
+
+    public String getWindowItems() {
+        return windowItems;
+    }
+
+    public void setWindowItems(String windowItems) {
+        this.windowItems = windowItems;
+    }
 }
@@ -0,0 +1,37 @@
+package com.area.server.repository;
+
+import com.area.server.model.OAuthState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Repository for OAuthState entity.
+ * Backs the cluster-shared OAuth state store.
+ */
+@Repository
+public interface OAuthStateRepository extends JpaRepository<OAuthState, String> {
+
+    /**
+     * Delete a state, used to claim it for one-time use.
+     *
+     * @param state the state value
+     * @return 1 if this call removed the state, 0 if it was already gone
+     */
+    @Modifying
+    @Query("DELETE FROM OAuthState s WHERE s.state = ?1")
+    int deleteByState(String state);
+
+    /**
+     * Delete all expired states in one statement.
+     *
+     * @param now current timestamp
+     * @return number of deleted states
+     */
+    @Modifying
+    @Query("DELETE FROM OAuthState s WHERE s.expiresAt < ?1")
+    int deleteExpired(Instant now);
+}
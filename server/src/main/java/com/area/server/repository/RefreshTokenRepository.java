@@ -2,6 +2,7 @@ package com.area.server.repository;
 
 import com.area.server.model.RefreshToken;
 import com.area.server.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -26,6 +27,43 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
      */
     Optional<RefreshToken> findByToken(String token);
 
+    /**
+     * Find a refresh token by the SHA-256 hash of its token string.
+     *
+     * @param tokenHash hex SHA-256 of the refresh token
+     * @return Optional containing the refresh token if found
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Find refresh tokens created before the hash column existed.
+     *
+     * @param pageable chunk size
+     * @return tokens without a hash
+     */
+    List<RefreshToken> findByTokenHashIsNull(Pageable pageable);
+
+    /**
+     * Find IDs of expired refresh tokens, one chunk at a time.
+     *
+     * @param now current timestamp
+     * @param pageable chunk size
+     * @return IDs of expired tokens
+     */
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.expiresAt < ?1")
+    List<Long> findExpiredTokenIds(Instant now, Pageable pageable);
+
+    /**
+     * Revoke a single refresh token without loading it.
+     *
+     * @param id the refresh token ID
+     * @param now current timestamp
+     * @return number of updated tokens
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = ?2 WHERE rt.id = ?1 AND rt.revoked = false")
+    int revokeById(Long id, Instant now);
+
     /**
      * Find all refresh tokens for a specific user.
      *
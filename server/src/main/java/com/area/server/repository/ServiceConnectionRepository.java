@@ -4,6 +4,7 @@ import com.area.server.model.ServiceConnection;
 import com.area.server.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,5 +28,15 @@ public interface ServiceConnectionRepository extends JpaRepository<ServiceConnec
      * @return Optional containing the first service connection if found
      */
     Optional<ServiceConnection> findFirstByUserAndType(User user, ServiceConnection.ServiceType type);
-}
 
+    /**
+     * Find connections of a type whose access token expires before the given instant
+     * and that can be refreshed (have a refresh token)
+     *
+     * @param type The service type
+     * @param cutoff Expiry cutoff
+     * @return Connections due for a proactive refresh
+     */
+    List<ServiceConnection> findByTypeAndTokenExpiresAtBeforeAndRefreshTokenIsNotNull(
+            ServiceConnection.ServiceType type, Instant cutoff);
+}
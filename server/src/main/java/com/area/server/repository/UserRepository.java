@@ -2,8 +2,10 @@ package com.area.server.repository;
 
 import com.area.server.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,13 +16,13 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
-     * Find user by email address.
+     * Find user by email address, ignoring case.
      * Used for login and email uniqueness validation.
      *
      * @param email the user's email address
      * @return Optional containing the user if found
      */
-    Optional<User> findByEmail(String email);
+    Optional<User> findByEmailIgnoreCase(String email);
 
     /**
      * Find user by username.
@@ -32,13 +34,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     /**
-     * Check if email already exists in the database.
+     * Check if email already exists in the database, ignoring case.
      * Used for registration validation.
      *
      * @param email the email to check
      * @return true if email exists, false otherwise
      */
-    boolean existsByEmail(String email);
+    boolean existsByEmailIgnoreCase(String email);
 
     /**
      * Check if username already exists in the database.
@@ -48,4 +50,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if username exists, false otherwise
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Find the token epoch of every user whose access tokens were revoked at least once.
+     * Used to warm the in-memory revocation table at startup.
+     *
+     * @return rows of [userId, tokenEpoch]
+     */
+    @Query("SELECT u.id, u.tokenEpoch FROM User u WHERE u.tokenEpoch > 0")
+    List<Object[]> findRevokedTokenEpochs();
 }
@@ -3,6 +3,8 @@ package com.area.server.scheduler;
 import com.area.server.dto.WorkflowData;
 import com.area.server.model.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -156,6 +158,17 @@ public class ActionWrapper extends Area {
         if (config.containsKey("fileContent")) {
             githubConfig.setFileContent((String) config.get("fileContent"));
         }
+        // Optional extra files: [{"path": "...", "content": "..."}]
+        if (config.get("files") instanceof List<?> files) {
+            Map<String, String> additionalFiles = new LinkedHashMap<>();
+            for (Object file : files) {
+                if (file instanceof Map<?, ?> entry && entry.get("path") != null) {
+                    Object content = entry.get("content");
+                    additionalFiles.put(entry.get("path").toString(), content != null ? content.toString() : "");
+                }
+            }
+            githubConfig.setAdditionalFiles(additionalFiles);
+        }
 
         return githubConfig;
     }
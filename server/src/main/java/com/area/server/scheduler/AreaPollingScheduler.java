@@ -1,6 +1,8 @@
 package com.area.server.scheduler;
 
 import com.area.server.dto.GmailMessage;
+import com.area.server.jfr.PollCycleEvent;
+import com.area.server.metrics.EngineMetrics;
 import com.area.server.model.Area;
 import com.area.server.model.AreaExecutionLog;
 import com.area.server.repository.AreaExecutionLogRepository;
@@ -8,11 +10,15 @@ import com.area.server.repository.AreaRepository;
 import com.area.server.service.TriggerStateService;
 import com.area.server.service.integration.executor.ActionExecutor;
 import com.area.server.service.integration.executor.ActionExecutorRegistry;
+import com.area.server.service.integration.executor.ContextKeys;
 import com.area.server.service.integration.executor.ReactionExecutor;
 import com.area.server.service.integration.executor.ReactionExecutorRegistry;
 import com.area.server.service.integration.executor.TriggerContext;
+import com.area.server.tracing.Span;
+import com.area.server.tracing.Tracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -20,8 +26,8 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -31,75 +37,136 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class AreaPollingScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(AreaPollingScheduler.class);
+    private static final String METRICS_NAME = "area";
 
     private final AreaRepository areaRepository;
     private final TriggerStateService stateService;
     private final AreaExecutionLogRepository logRepository;
     private final ActionExecutorRegistry actionExecutorRegistry;
     private final ReactionExecutorRegistry reactionExecutorRegistry;
+    private final EngineMetrics metrics;
+    private final Clock clock;
+    private final Tracer tracer;
+    private final long pollingInterval;
+    private final Duration cycleTimeout;
+    private final boolean perItem;
+    private final int maxItems;
+    private final int itemConcurrency;
 
     public AreaPollingScheduler(AreaRepository areaRepository,
             TriggerStateService stateService,
             AreaExecutionLogRepository logRepository,
             ActionExecutorRegistry actionExecutorRegistry,
-            ReactionExecutorRegistry reactionExecutorRegistry) {
+            ReactionExecutorRegistry reactionExecutorRegistry,
+            EngineMetrics metrics,
+            Clock clock,
+            Tracer tracer,
+            @Value("${area.polling.interval:60000}") long pollingInterval,
+            @Value("${area.polling.cycle-timeout-ms:120000}") long cycleTimeoutMs,
+            @Value("${trigger.per-item.enabled:false}") boolean perItem,
+            @Value("${trigger.per-item.max-items:20}") int maxItems,
+            @Value("${trigger.per-item.concurrency:1}") int itemConcurrency) {
         this.areaRepository = areaRepository;
         this.stateService = stateService;
         this.logRepository = logRepository;
         this.actionExecutorRegistry = actionExecutorRegistry;
         this.reactionExecutorRegistry = reactionExecutorRegistry;
+        this.metrics = metrics;
+        this.clock = clock;
+        this.tracer = tracer;
+        this.pollingInterval = pollingInterval;
+        this.cycleTimeout = Duration.ofMillis(cycleTimeoutMs);
+        this.perItem = perItem;
+        this.maxItems = maxItems;
+        this.itemConcurrency = itemConcurrency;
     }
 
     @Scheduled(fixedDelayString = "${area.polling.interval:60000}", initialDelayString = "${area.polling.initial-delay:30000}")
     public void pollActiveAreas() {
         logger.info("=== Starting AREA polling cycle ===");
-        long startTime = System.currentTimeMillis();
-
-        // ONLY poll non-timer areas (timers are handled by TimerPollingScheduler)
-        List<Area> activeAreas = areaRepository.findActiveNonTimerAreas();
-        logger.info("Found {} active area(s) to process", activeAreas.size());
+        long startTime = metrics.pollCycleStarted(METRICS_NAME, pollingInterval);
+        PollCycleEvent cycleEvent = new PollCycleEvent();
+        cycleEvent.begin();
+        cycleEvent.scheduler = METRICS_NAME;
+        Span pollSpan = tracer.startSpan("poll areas", Span.Kind.INTERNAL, null);
+
+        try (Tracer.Scope ignored = tracer.withSpan(pollSpan)) {
+            // ONLY poll non-timer areas (timers are handled by TimerPollingScheduler)
+            List<Area> activeAreas = areaRepository.findActiveNonTimerAreas();
+            logger.info("Found {} active area(s) to process", activeAreas.size());
+            pollSpan.setAttribute("area.count", activeAreas.size());
+
+            if (activeAreas.isEmpty()) {
+                logger.info("No active areas to process");
+                return;
+            }
 
-        if (activeAreas.isEmpty()) {
-            logger.info("No active areas to process");
-            return;
+            AtomicInteger successCount = new AtomicInteger(0);
+            AtomicInteger failureCount = new AtomicInteger(0);
+            AtomicInteger skippedCount = new AtomicInteger(0);
+            AtomicInteger queued = metrics.queued(METRICS_NAME);
+            AtomicInteger inFlight = metrics.inFlight(METRICS_NAME);
+            queued.set(activeAreas.size());
+            cycleEvent.items = activeAreas.size();
+
+            Flux.fromIterable(activeAreas)
+                    .flatMap(area -> {
+                        queued.decrementAndGet();
+                        inFlight.incrementAndGet();
+                        long areaStart = clock.millis();
+                        return tracer.trace("area " + area.getId(), span -> {
+                                    span.setAttribute("area.id", area.getId());
+                                    return processArea(area)
+                                            .doOnSuccess(result -> span.setAttribute("area.status",
+                                                    result.status.name()));
+                                })
+                                .doOnSuccess(result -> {
+                                    switch (result.status) {
+                                        case SUCCESS -> successCount.incrementAndGet();
+                                        case FAILURE -> failureCount.incrementAndGet();
+                                        case SKIPPED -> skippedCount.incrementAndGet();
+                                    }
+                                    metrics.recordItemExecution(METRICS_NAME, area.getId(), result.status.name(),
+                                            clock.millis() - areaStart);
+                                })
+                                .onErrorResume(error -> {
+                                    logger.error("Unexpected error processing area {}", area.getId(), error);
+                                    failureCount.incrementAndGet();
+                                    metrics.recordItemExecution(METRICS_NAME, area.getId(), "FAILURE",
+                                            clock.millis() - areaStart);
+                                    return Mono.empty();
+                                })
+                                .doFinally(signal -> inFlight.decrementAndGet());
+                    },
+                            5)
+                    .collectList()
+                    .contextWrite(Tracer.context(pollSpan))
+                    .block(cycleTimeout);
+            cycleEvent.succeeded = successCount.get();
+            cycleEvent.failed = failureCount.get();
+            cycleEvent.skipped = skippedCount.get();
+
+            long duration = clock.millis() - startTime;
+            logger.info("=== Polling cycle completed in {}ms - Success: {}, Failed: {}, Skipped: {} ===",
+                    duration, successCount.get(), failureCount.get(), skippedCount.get());
+        } finally {
+            cycleEvent.commit();
+            metrics.queued(METRICS_NAME).set(0);
+            metrics.pollCycleFinished(METRICS_NAME, startTime);
+            pollSpan.end();
         }
-
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failureCount = new AtomicInteger(0);
-        AtomicInteger skippedCount = new AtomicInteger(0);
-
-        Flux.fromIterable(activeAreas)
-                .flatMap(area -> processArea(area)
-                        .doOnSuccess(result -> {
-                            switch (result.status) {
-                                case SUCCESS -> successCount.incrementAndGet();
-                                case FAILURE -> failureCount.incrementAndGet();
-                                case SKIPPED -> skippedCount.incrementAndGet();
-                            }
-                        })
-                        .onErrorResume(error -> {
-                            logger.error("Unexpected error processing area {}", area.getId(), error);
-                            failureCount.incrementAndGet();
-                            return Mono.empty();
-                        }),
-                        5)
-                .collectList()
-                .block(Duration.ofMinutes(2));
-
-        long duration = System.currentTimeMillis() - startTime;
-        logger.info("=== Polling cycle completed in {}ms - Success: {}, Failed: {}, Skipped: {} ===",
-                duration, successCount.get(), failureCount.get(), skippedCount.get());
     }
 
     private Mono<ProcessingResult> processArea(Area area) {
-        long startTime = System.currentTimeMillis();
+        long startTime = clock.millis();
         logger.debug("Processing area {}", area.getId());
 
         if (stateService.shouldSkipDueToFailures(area)) {
             logger.warn("Skipping area {} due to circuit breaker (too many consecutive failures)", area.getId());
+            metrics.circuitBreakerOpen(METRICS_NAME);
             logExecution(area, AreaExecutionLog.ExecutionStatus.SKIPPED, null,
                     "Circuit breaker open - too many consecutive failures",
-                    System.currentTimeMillis() - startTime);
+                    clock.millis() - startTime);
             return Mono.just(new ProcessingResult(AreaExecutionLog.ExecutionStatus.SKIPPED));
         }
 
@@ -117,21 +184,24 @@ public class AreaPollingScheduler {
             logger.error("Failed to get executors for area {}: {}", area.getId(), e.getMessage());
             stateService.recordFailure(area, e.getMessage());
             logExecution(area, AreaExecutionLog.ExecutionStatus.FAILURE, null, e.getMessage(),
-                    System.currentTimeMillis() - startTime);
+                    clock.millis() - startTime);
             return Mono.just(new ProcessingResult(AreaExecutionLog.ExecutionStatus.FAILURE));
         }
 
         // Use the executor framework
-        return actionExecutor.getTriggerContext(area)
+        return tracer.trace("trigger " + actionType, span -> actionExecutor.getTriggerContext(area))
                 .flatMap(context -> {
+                    if (perItem) {
+                        return processItems(area, actionType, actionExecutor, reactionExecutor, context, startTime);
+                    }
+
                     // For Gmail-specific logic
                     if (actionType.startsWith("gmail.")) {
                         return processGmailAction(area, context, reactionExecutor, startTime);
                     }
 
                     // Generic action processing - check if explicitly not triggered
-                    Boolean triggered = context.getBoolean("triggered");
-                    if (triggered != null && !triggered) {
+                    if (!context.getBoolean(ContextKeys.TRIGGERED, true)) {
                         stateService.updateCheckedTime(area);
                         logger.debug("Action not triggered for area {}", area.getId());
                         return Mono.just(new ProcessingResult(AreaExecutionLog.ExecutionStatus.SKIPPED));
@@ -140,11 +210,11 @@ public class AreaPollingScheduler {
                     logger.info("Area {} triggered with action type: {}", area.getId(), actionType);
 
                     // Execute the reaction
-                    return reactionExecutor.execute(area, context)
+                    return tracer.trace("reaction " + reactionType, span -> reactionExecutor.execute(area, context))
                             .then(Mono.fromRunnable(() -> {
                                 stateService.updateCheckedTime(area);
 
-                                long execTime = System.currentTimeMillis() - startTime;
+                                long execTime = clock.millis() - startTime;
                                 String logMessage = String.format("Executed action: %s", actionType);
                                 logExecution(area, AreaExecutionLog.ExecutionStatus.SUCCESS,
                                         null, logMessage, execTime);
@@ -159,7 +229,7 @@ public class AreaPollingScheduler {
 
                     stateService.recordFailure(area, errorMsg);
 
-                    long execTime = System.currentTimeMillis() - startTime;
+                    long execTime = clock.millis() - startTime;
                     logExecution(area, AreaExecutionLog.ExecutionStatus.FAILURE, null, errorMsg, execTime);
 
                     return Mono.just(new ProcessingResult(AreaExecutionLog.ExecutionStatus.FAILURE));
@@ -209,15 +279,13 @@ public class AreaPollingScheduler {
     private Mono<ProcessingResult> processGmailAction(Area area, TriggerContext context,
             ReactionExecutor reactionExecutor, long startTime) {
         // Check if there are new messages
-        if (!context.has("newMessages") || context.getInteger("messageCount") == null
-                || context.getInteger("messageCount") == 0) {
+        if (!context.has(ContextKeys.NEW_MESSAGES) || context.getInt(ContextKeys.MESSAGE_COUNT, 0) == 0) {
             stateService.updateCheckedTime(area);
             logger.debug("No new messages for area {}", area.getId());
             return Mono.just(new ProcessingResult(AreaExecutionLog.ExecutionStatus.SKIPPED));
         }
 
-        @SuppressWarnings("unchecked")
-        List<GmailMessage> newMessages = (List<GmailMessage>) context.get("newMessages");
+        List<GmailMessage> newMessages = context.get(ContextKeys.NEW_MESSAGES);
 
         if (!stateService.shouldTrigger(area, newMessages)) {
             stateService.updateCheckedTime(area);
@@ -226,16 +294,16 @@ public class AreaPollingScheduler {
         }
 
         GmailMessage latestMessage = newMessages.get(0);
-        Integer messageCount = context.getInteger("messageCount");
+        int messageCount = context.getInt(ContextKeys.MESSAGE_COUNT, 0);
         logger.info("Area {} triggered with {} new message(s). Latest: '{}'",
                 area.getId(), messageCount, latestMessage.getSubject());
 
         // Execute the reaction
-        return reactionExecutor.execute(area, context)
+        return tracer.trace("reaction", span -> reactionExecutor.execute(area, context))
                 .then(Mono.fromRunnable(() -> {
                     stateService.updateStateAfterSuccess(area, latestMessage, messageCount);
 
-                    long execTime = System.currentTimeMillis() - startTime;
+                    long execTime = clock.millis() - startTime;
                     String logMessage = String.format("Sent notification for: %s (from: %s)",
                             latestMessage.getSubject(), latestMessage.getFrom());
                     logExecution(area, AreaExecutionLog.ExecutionStatus.SUCCESS,
@@ -246,12 +314,55 @@ public class AreaPollingScheduler {
                 .thenReturn(new ProcessingResult(AreaExecutionLog.ExecutionStatus.SUCCESS));
     }
 
+    /**
+     * Per-item delivery: one reaction per new item, oldest first. Up to itemConcurrency
+     * reactions run at once, and the cursor advances in arrival order as each one completes,
+     * so a failed item and the items after it are delivered again on the next poll.
+     */
+    private Mono<ProcessingResult> processItems(Area area, String actionType, ActionExecutor actionExecutor,
+            ReactionExecutor reactionExecutor, TriggerContext context, long startTime) {
+        List<TriggerContext> items = context.getBoolean(ContextKeys.TRIGGERED, true)
+                ? actionExecutor.splitItems(context)
+                : List.of();
+        if (items.isEmpty()) {
+            stateService.updateCheckedTime(area);
+            logger.debug("Action not triggered for area {}", area.getId());
+            return Mono.just(new ProcessingResult(AreaExecutionLog.ExecutionStatus.SKIPPED));
+        }
+        if (items.size() > maxItems) {
+            logger.info("Area {} has {} new item(s), delivering the oldest {} this cycle",
+                    area.getId(), items.size(), maxItems);
+            items = items.subList(0, maxItems);
+        }
+
+        logger.info("Area {} triggered by {} with {} item(s)", area.getId(), actionType, items.size());
+
+        return Flux.fromIterable(items)
+                .flatMapSequential(item -> tracer.trace("reaction", span -> reactionExecutor.execute(area, item))
+                        .thenReturn(item), itemConcurrency)
+                .doOnNext(item -> {
+                    String cursor = actionExecutor.itemCursor(item);
+                    if (cursor != null) {
+                        stateService.updateStateAfterSuccess(area, cursor, 1);
+                    } else {
+                        stateService.updateCheckedTime(area);
+                    }
+                    logExecution(area, AreaExecutionLog.ExecutionStatus.SUCCESS, 1,
+                            String.format("Executed action: %s (item: %s)", actionType, cursor),
+                            clock.millis() - startTime);
+                })
+                .then(Mono.fromSupplier(() -> {
+                    logger.info("Successfully processed area {} in {}ms", area.getId(), clock.millis() - startTime);
+                    return new ProcessingResult(AreaExecutionLog.ExecutionStatus.SUCCESS);
+                }));
+    }
+
     private void logExecution(Area area, AreaExecutionLog.ExecutionStatus status,
             Integer count, String message, long executionTimeMs) {
         try {
             AreaExecutionLog log = new AreaExecutionLog();
             log.setArea(area);
-            log.setExecutedAt(Instant.now());
+            log.setExecutedAt(clock.instant());
             log.setStatus(status);
             log.setUnreadCount(count);
 
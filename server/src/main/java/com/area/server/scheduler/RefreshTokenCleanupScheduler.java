@@ -0,0 +1,49 @@
+package com.area.server.scheduler;
+
+import com.area.server.service.RefreshTokenStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the refresh token table small. Each run backfills the hash of
+ * legacy rows, then deletes expired tokens in bounded chunks so no single
+ * statement locks a large part of the table.
+ */
+@Service
+@EnableScheduling
+@ConditionalOnProperty(name = "app.security.refresh-token-cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenCleanupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenCleanupScheduler.class);
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    public RefreshTokenCleanupScheduler(RefreshTokenStore refreshTokenStore,
+            @Value("${app.security.refresh-token-cleanup.chunk-size:500}") int chunkSize,
+            @Value("${app.security.refresh-token-cleanup.max-chunks:20}") int maxChunks) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxChunks = Math.max(1, maxChunks);
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.refresh-token-cleanup.interval:3600000}",
+            initialDelayString = "${app.security.refresh-token-cleanup.initial-delay:60000}")
+    public void cleanUp() {
+        try {
+            refreshTokenStore.backfillHashes(chunkSize, maxChunks);
+            int deleted = refreshTokenStore.deleteExpired(chunkSize, maxChunks);
+            if (deleted > 0) {
+                logger.info("Deleted {} expired refresh token(s)", deleted);
+            }
+        } catch (Exception e) {
+            logger.error("Refresh token cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.area.server.scheduler;
 
+import com.area.server.jfr.PollCycleEvent;
+import com.area.server.metrics.EngineMetrics;
 import com.area.server.model.Area;
 import com.area.server.model.AreaExecutionLog;
 import com.area.server.repository.AreaExecutionLogRepository;
@@ -7,10 +9,12 @@ import com.area.server.repository.AreaRepository;
 import com.area.server.service.TriggerStateService;
 import com.area.server.service.integration.executor.ActionExecutor;
 import com.area.server.service.integration.executor.ActionExecutorRegistry;
+import com.area.server.service.integration.executor.ContextKeys;
 import com.area.server.service.integration.executor.ReactionExecutor;
 import com.area.server.service.integration.executor.ReactionExecutorRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,8 +22,8 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -33,72 +37,112 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class TimerPollingScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(TimerPollingScheduler.class);
+    private static final String METRICS_NAME = "timer";
 
     private final AreaRepository areaRepository;
     private final TriggerStateService stateService;
     private final AreaExecutionLogRepository logRepository;
     private final ActionExecutorRegistry actionExecutorRegistry;
     private final ReactionExecutorRegistry reactionExecutorRegistry;
+    private final EngineMetrics metrics;
+    private final Clock clock;
+    private final long pollingInterval;
+    private final Duration cycleTimeout;
 
     public TimerPollingScheduler(AreaRepository areaRepository,
             TriggerStateService stateService,
             AreaExecutionLogRepository logRepository,
             ActionExecutorRegistry actionExecutorRegistry,
-            ReactionExecutorRegistry reactionExecutorRegistry) {
+            ReactionExecutorRegistry reactionExecutorRegistry,
+            EngineMetrics metrics,
+            Clock clock,
+            @Value("${timer.polling.interval:60000}") long pollingInterval,
+            @Value("${timer.polling.cycle-timeout-ms:60000}") long cycleTimeoutMs) {
         this.areaRepository = areaRepository;
         this.stateService = stateService;
         this.logRepository = logRepository;
         this.actionExecutorRegistry = actionExecutorRegistry;
         this.reactionExecutorRegistry = reactionExecutorRegistry;
+        this.metrics = metrics;
+        this.clock = clock;
+        this.pollingInterval = pollingInterval;
+        this.cycleTimeout = Duration.ofMillis(cycleTimeoutMs);
     }
 
     @Scheduled(fixedDelayString = "${timer.polling.interval:60000}", initialDelayString = "${timer.polling.initial-delay:10000}")
     public void pollActiveTimers() {
         // Only log at debug level to avoid spamming logs for frequent timer checks
         logger.debug("=== Starting TIMER polling cycle ===");
-        long startTime = System.currentTimeMillis();
+        long startTime = metrics.pollCycleStarted(METRICS_NAME, pollingInterval);
+        PollCycleEvent cycleEvent = new PollCycleEvent();
+        cycleEvent.begin();
+        cycleEvent.scheduler = METRICS_NAME;
 
-        List<Area> timerAreas = areaRepository.findActiveTimerAreas();
-        logger.debug("Found {} active timer area(s) to process", timerAreas.size());
+        try {
+            List<Area> timerAreas = areaRepository.findActiveTimerAreas();
+            logger.debug("Found {} active timer area(s) to process", timerAreas.size());
 
-        if (timerAreas.isEmpty()) {
-            return;
-        }
+            if (timerAreas.isEmpty()) {
+                return;
+            }
 
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failureCount = new AtomicInteger(0);
-        AtomicInteger skippedCount = new AtomicInteger(0);
-
-        Flux.fromIterable(timerAreas)
-                .flatMap(area -> processTimerArea(area)
-                        .doOnSuccess(result -> {
-                            switch (result.status) {
-                                case SUCCESS -> successCount.incrementAndGet();
-                                case FAILURE -> failureCount.incrementAndGet();
-                                case SKIPPED -> skippedCount.incrementAndGet();
-                            }
-                        })
-                        .onErrorResume(error -> {
-                            logger.error("Unexpected error processing timer area {}", area.getId(), error);
-                            failureCount.incrementAndGet();
-                            return Mono.empty();
-                        }),
-                        10 // Allow higher concurrency for timers as they are usually lightweight
-                )
-                .collectList()
-                .block(Duration.ofMinutes(1)); // Timers should be fast
-
-        long duration = System.currentTimeMillis() - startTime;
-        if (successCount.get() > 0 || failureCount.get() > 0) {
-            logger.info("=== Timer cycle finished in {}ms - Success: {}, Failed: {}, Skipped: {} ===",
-                    duration, successCount.get(), failureCount.get(), skippedCount.get());
+            AtomicInteger successCount = new AtomicInteger(0);
+            AtomicInteger failureCount = new AtomicInteger(0);
+            AtomicInteger skippedCount = new AtomicInteger(0);
+            AtomicInteger queued = metrics.queued(METRICS_NAME);
+            AtomicInteger inFlight = metrics.inFlight(METRICS_NAME);
+            queued.set(timerAreas.size());
+            cycleEvent.items = timerAreas.size();
+
+            Flux.fromIterable(timerAreas)
+                    .flatMap(area -> {
+                        queued.decrementAndGet();
+                        inFlight.incrementAndGet();
+                        long areaStart = clock.millis();
+                        return processTimerArea(area)
+                                .doOnSuccess(result -> {
+                                    switch (result.status) {
+                                        case SUCCESS -> successCount.incrementAndGet();
+                                        case FAILURE -> failureCount.incrementAndGet();
+                                        case SKIPPED -> skippedCount.incrementAndGet();
+                                    }
+                                    metrics.recordItemExecution(METRICS_NAME, area.getId(), result.status.name(),
+                                            clock.millis() - areaStart);
+                                })
+                                .onErrorResume(error -> {
+                                    logger.error("Unexpected error processing timer area {}", area.getId(), error);
+                                    failureCount.incrementAndGet();
+                                    metrics.recordItemExecution(METRICS_NAME, area.getId(), "FAILURE",
+                                            clock.millis() - areaStart);
+                                    return Mono.empty();
+                                })
+                                .doFinally(signal -> inFlight.decrementAndGet());
+                    },
+                            10 // Allow higher concurrency for timers as they are usually lightweight
+                    )
+                    .collectList()
+                    .block(cycleTimeout); // Timers should be fast
+            cycleEvent.succeeded = successCount.get();
+            cycleEvent.failed = failureCount.get();
+            cycleEvent.skipped = skippedCount.get();
+
+            long duration = clock.millis() - startTime;
+            if (successCount.get() > 0 || failureCount.get() > 0) {
+                logger.info("=== Timer cycle finished in {}ms - Success: {}, Failed: {}, Skipped: {} ===",
+                        duration, successCount.get(), failureCount.get(), skippedCount.get());
+            }
+        } finally {
+            cycleEvent.commit();
+            metrics.queued(METRICS_NAME).set(0);
+            metrics.pollCycleFinished(METRICS_NAME, startTime);
         }
     }
 
     private Mono<ProcessingResult> processTimerArea(Area area) {
-        long startTime = System.currentTimeMillis();
+        long startTime = clock.millis();
 
         if (stateService.shouldSkipDueToFailures(area)) {
+            metrics.circuitBreakerOpen(METRICS_NAME);
             return Mono.just(new ProcessingResult(AreaExecutionLog.ExecutionStatus.SKIPPED));
         }
 
@@ -112,14 +156,13 @@ public class TimerPollingScheduler {
             return actionExecutor.getTriggerContext(area)
                     .flatMap(context -> {
                         // Check if timer triggered
-                        Boolean triggered = context.getBoolean("triggered");
-                        if (triggered != null && !triggered) {
+                        if (!context.getBoolean(ContextKeys.TRIGGERED, true)) {
                             stateService.updateCheckedTime(area);
                             return Mono.just(new ProcessingResult(AreaExecutionLog.ExecutionStatus.SKIPPED));
                         }
 
-                        String timerType = context.getString("timerType");
-                        String time = context.getString("time");
+                        String timerType = context.get(ContextKeys.TIMER_TYPE);
+                        String time = context.get(ContextKeys.TIME);
                         logger.info("Timer triggered for area {} (Type: {}) at {}", area.getId(), timerType, time);
 
                         // Execute reaction
@@ -127,7 +170,7 @@ public class TimerPollingScheduler {
                                 .then(Mono.fromRunnable(() -> {
                                     stateService.updateStateAfterTimerSuccess(area);
 
-                                    long execTime = System.currentTimeMillis() - startTime;
+                                    long execTime = clock.millis() - startTime;
                                     String logMessage = String.format("Timer triggered: %s at %s", timerType, time);
                                     logExecution(area, AreaExecutionLog.ExecutionStatus.SUCCESS, logMessage, execTime);
                                 }))
@@ -136,7 +179,7 @@ public class TimerPollingScheduler {
                     .onErrorResume(error -> {
                         logger.error("Failed to process timer area {}: {}", area.getId(), error.getMessage());
                         stateService.recordFailure(area, error.getMessage());
-                        long execTime = System.currentTimeMillis() - startTime;
+                        long execTime = clock.millis() - startTime;
                         logExecution(area, AreaExecutionLog.ExecutionStatus.FAILURE, error.getMessage(), execTime);
                         return Mono.just(new ProcessingResult(AreaExecutionLog.ExecutionStatus.FAILURE));
                     });
@@ -173,7 +216,7 @@ public class TimerPollingScheduler {
         try {
             AreaExecutionLog log = new AreaExecutionLog();
             log.setArea(area);
-            log.setExecutedAt(Instant.now());
+            log.setExecutedAt(clock.instant());
             log.setStatus(status);
             if (status == AreaExecutionLog.ExecutionStatus.SUCCESS) {
                 log.setMessageSent(message);
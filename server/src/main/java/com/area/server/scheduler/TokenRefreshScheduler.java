@@ -0,0 +1,135 @@
+package com.area.server.scheduler;
+
+import com.area.server.model.ServiceConnection;
+import com.area.server.repository.ServiceConnectionRepository;
+import com.area.server.service.TokenRefreshService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renews Google OAuth access tokens ahead of their expiry so the polling
+ * schedulers never wait on a refresh. Connections expiring within the lead time
+ * are refreshed in small batches, each batch delayed by a random jitter to avoid
+ * bursts against the token endpoint. Connections whose last attempt failed
+ * recently are skipped until the retry interval has passed.
+ * <p>
+ * A run is subscribed to rather than awaited, so the jitter delays never hold a
+ * thread of the shared scheduling pool. A new run starts only once the previous
+ * one has finished.
+ */
+@Service
+@EnableScheduling
+@ConditionalOnProperty(name = "oauth.refresh.proactive.enabled", havingValue = "true", matchIfMissing = true)
+public class TokenRefreshScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRefreshScheduler.class);
+
+    private final ServiceConnectionRepository connectionRepository;
+    private final TokenRefreshService tokenRefreshService;
+    private final Clock clock;
+    private final Duration leadTime;
+    private final Duration retryInterval;
+    private final int batchSize;
+    private final long maxJitterMs;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TokenRefreshScheduler(ServiceConnectionRepository connectionRepository,
+            TokenRefreshService tokenRefreshService,
+            Clock clock,
+            @Value("${oauth.refresh.proactive.lead-time-ms:900000}") long leadTimeMs,
+            @Value("${oauth.refresh.proactive.retry-interval-ms:300000}") long retryIntervalMs,
+            @Value("${oauth.refresh.proactive.batch-size:10}") int batchSize,
+            @Value("${oauth.refresh.proactive.max-jitter-ms:5000}") long maxJitterMs) {
+        this.connectionRepository = connectionRepository;
+        this.tokenRefreshService = tokenRefreshService;
+        this.clock = clock;
+        this.leadTime = Duration.ofMillis(leadTimeMs);
+        this.retryInterval = Duration.ofMillis(retryIntervalMs);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxJitterMs = maxJitterMs;
+    }
+
+    @Scheduled(fixedDelayString = "${oauth.refresh.proactive.interval:60000}",
+            initialDelayString = "${oauth.refresh.proactive.initial-delay:15000}")
+    public void refreshExpiringTokens() {
+        if (!running.compareAndSet(false, true)) {
+            logger.debug("Previous proactive token refresh still running, skipping this run");
+            return;
+        }
+        try {
+            refreshDueTokens();
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Whether a refresh run is still in progress.
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void refreshDueTokens() {
+        Instant now = clock.instant();
+        Instant retryCutoff = now.minus(retryInterval);
+
+        List<ServiceConnection> due = connectionRepository
+                .findByTypeAndTokenExpiresAtBeforeAndRefreshTokenIsNotNull(
+                        ServiceConnection.ServiceType.GMAIL, now.plus(leadTime))
+                .stream()
+                .filter(connection -> connection.getLastRefreshAttempt() == null
+                        || connection.getLastRefreshAttempt().isBefore(retryCutoff))
+                .toList();
+
+        if (due.isEmpty()) {
+            running.set(false);
+            return;
+        }
+
+        logger.info("Proactively refreshing {} OAuth token(s) expiring before {}", due.size(), now.plus(leadTime));
+
+        AtomicInteger refreshed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        Flux.fromIterable(due)
+                .buffer(batchSize)
+                .concatMap(batch -> Mono.delay(Duration.ofMillis(jitter()))
+                        .thenMany(Flux.fromIterable(batch)
+                                .flatMap(connection -> tokenRefreshService.refreshToken(connection)
+                                        .doOnSuccess(c -> refreshed.incrementAndGet())
+                                        .onErrorResume(error -> {
+                                            failed.incrementAndGet();
+                                            return Mono.empty();
+                                        }), batchSize)))
+                .then()
+                .timeout(Duration.ofMinutes(5))
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        ignored -> { },
+                        error -> logger.warn("Proactive token refresh aborted after {} refreshed, {} failed: {}",
+                                refreshed.get(), failed.get(), error.getMessage()),
+                        () -> logger.info("Proactive token refresh finished - Refreshed: {}, Failed: {}",
+                                refreshed.get(), failed.get()));
+    }
+
+    private long jitter() {
+        return maxJitterMs > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMs) : 0;
+    }
+}
@@ -1,7 +1,11 @@
 package com.area.server.scheduler;
 
 import com.area.server.dto.WorkflowData;
+import com.area.server.jfr.PollCycleEvent;
+import com.area.server.jfr.WorkflowExecutionEvent;
 import com.area.server.logging.ExternalApiLogger;
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.model.GitHubActionConfig;
 import com.area.server.model.ServiceConnection;
 import com.area.server.model.Workflow;
 import com.area.server.model.WorkflowExecutionLog;
@@ -11,6 +15,10 @@ import com.area.server.repository.WorkflowExecutionLogRepository;
 import com.area.server.repository.WorkflowRepository;
 import com.area.server.service.WorkflowTriggerStateService;
 import com.area.server.service.integration.executor.*;
+import com.area.server.service.integration.window.TriggerWindowService;
+import com.area.server.service.integration.window.WindowItem;
+import com.area.server.tracing.Span;
+import com.area.server.tracing.Tracer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -22,6 +30,7 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
@@ -39,6 +48,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - Comprehensive logging using ExternalApiLogger
  * - Circuit breaker pattern to prevent infinite failure loops
  * - Tracks execution state to prevent duplicate processing
+ * - Traces each cycle: poll, workflow, trigger fetch and reaction spans, with
+ *   outbound HTTP calls nested under them
+ * - Emits PollCycle and WorkflowExecution Flight Recorder events
  */
 @Service
 @EnableScheduling
@@ -46,6 +58,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class WorkflowPollingScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(WorkflowPollingScheduler.class);
+    private static final String METRICS_NAME = "workflow";
 
     private final WorkflowRepository workflowRepository;
     private final WorkflowTriggerStateService stateService;
@@ -55,6 +68,10 @@ public class WorkflowPollingScheduler {
     private final ReactionExecutorRegistry reactionExecutorRegistry;
     private final ExternalApiLogger apiLogger;
     private final ObjectMapper objectMapper;
+    private final EngineMetrics metrics;
+    private final Clock clock;
+    private final Tracer tracer;
+    private final TriggerWindowService windowService;
 
     private long lastExecutionTime = 0;
 
@@ -64,6 +81,18 @@ public class WorkflowPollingScheduler {
     @org.springframework.beans.factory.annotation.Value("${workflow.polling.interval:60000}")
     private long pollingInterval;
 
+    @org.springframework.beans.factory.annotation.Value("${workflow.polling.cycle-timeout-ms:120000}")
+    private long cycleTimeoutMs;
+
+    @org.springframework.beans.factory.annotation.Value("${trigger.per-item.enabled:false}")
+    private boolean perItem;
+
+    @org.springframework.beans.factory.annotation.Value("${trigger.per-item.max-items:20}")
+    private int maxItems;
+
+    @org.springframework.beans.factory.annotation.Value("${trigger.per-item.concurrency:1}")
+    private int itemConcurrency;
+
     public WorkflowPollingScheduler(WorkflowRepository workflowRepository,
             WorkflowTriggerStateService stateService,
             WorkflowExecutionLogRepository logRepository,
@@ -71,7 +100,11 @@ public class WorkflowPollingScheduler {
             ActionExecutorRegistry actionExecutorRegistry,
             ReactionExecutorRegistry reactionExecutorRegistry,
             ExternalApiLogger apiLogger,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            EngineMetrics metrics,
+            Clock clock,
+            Tracer tracer,
+            TriggerWindowService windowService) {
         this.workflowRepository = workflowRepository;
         this.stateService = stateService;
         this.logRepository = logRepository;
@@ -80,6 +113,10 @@ public class WorkflowPollingScheduler {
         this.reactionExecutorRegistry = reactionExecutorRegistry;
         this.apiLogger = apiLogger;
         this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.clock = clock;
+        this.tracer = tracer;
+        this.windowService = windowService;
     }
 
     public long getLastExecutionTime() {
@@ -92,58 +129,106 @@ public class WorkflowPollingScheduler {
 
     @Scheduled(fixedDelayString = "${workflow.polling.interval:60000}", initialDelayString = "${workflow.polling.initial-delay:30000}")
     public void pollActiveWorkflows() {
-        this.lastExecutionTime = System.currentTimeMillis();
+        this.lastExecutionTime = clock.millis();
         logger.info("=== Starting WORKFLOW polling cycle (Timestamp: {}) ===", this.lastExecutionTime);
-        long startTime = System.currentTimeMillis();
-
-        List<Workflow> activeWorkflows = workflowRepository.findByActive(true);
-        logger.info("Found {} active workflow(s) to process", activeWorkflows.size());
+        long startTime = metrics.pollCycleStarted(METRICS_NAME, pollingInterval);
+        Span pollSpan = tracer.startSpan("poll workflows", Span.Kind.INTERNAL, null);
+        PollCycleEvent cycleEvent = new PollCycleEvent();
+        cycleEvent.begin();
+        cycleEvent.scheduler = METRICS_NAME;
+
+        try (Tracer.Scope ignored = tracer.withSpan(pollSpan)) {
+            List<Workflow> activeWorkflows = workflowRepository.findByActive(true);
+            logger.info("Found {} active workflow(s) to process", activeWorkflows.size());
+            pollSpan.setAttribute("workflow.count", activeWorkflows.size());
+            cycleEvent.items = activeWorkflows.size();
+
+            if (activeWorkflows.isEmpty()) {
+                logger.info("No active workflows to process");
+                return;
+            }
 
-        if (activeWorkflows.isEmpty()) {
-            logger.info("No active workflows to process");
-            return;
+            AtomicInteger successCount = new AtomicInteger(0);
+            AtomicInteger failureCount = new AtomicInteger(0);
+            AtomicInteger skippedCount = new AtomicInteger(0);
+            AtomicInteger queued = metrics.queued(METRICS_NAME);
+            AtomicInteger inFlight = metrics.inFlight(METRICS_NAME);
+            queued.set(activeWorkflows.size());
+
+            Flux.fromIterable(activeWorkflows)
+                    .flatMap(workflow -> {
+                        queued.decrementAndGet();
+                        inFlight.incrementAndGet();
+                        long workflowStart = clock.millis();
+                        WorkflowExecutionEvent executionEvent = new WorkflowExecutionEvent();
+                        executionEvent.begin();
+                        executionEvent.workflowId = workflow.getId();
+                        return tracer.trace("workflow " + workflow.getId(), span -> {
+                                    span.setAttribute("workflow.id", workflow.getId());
+                                    return processWorkflow(workflow, executionEvent)
+                                            .doOnSuccess(result -> {
+                                                span.setAttribute("workflow.status", result.status.name());
+                                                if (result.status == WorkflowExecutionLog.ExecutionStatus.FAILURE) {
+                                                    span.setStatus(Span.Status.ERROR, null);
+                                                }
+                                            });
+                                })
+                                .doOnSuccess(result -> {
+                                    switch (result.status) {
+                                        case SUCCESS -> successCount.incrementAndGet();
+                                        case FAILURE -> failureCount.incrementAndGet();
+                                        case SKIPPED -> skippedCount.incrementAndGet();
+                                    }
+                                    metrics.recordWorkflowExecution(workflow.getId(), result.status.name(),
+                                            clock.millis() - workflowStart);
+                                    executionEvent.status = result.status.name();
+                                })
+                                .onErrorResume(error -> {
+                                    logger.error("Unexpected error processing workflow {}: {}",
+                                            workflow.getId(), error.getMessage(), error);
+                                    failureCount.incrementAndGet();
+                                    metrics.recordWorkflowExecution(workflow.getId(), "FAILURE",
+                                            clock.millis() - workflowStart);
+                                    executionEvent.status = "FAILURE";
+                                    return Mono.empty();
+                                })
+                                .doFinally(signal -> {
+                                    inFlight.decrementAndGet();
+                                    executionEvent.commit();
+                                });
+                    },
+                            5 // Process up to 5 workflows concurrently
+                    )
+                    .collectList()
+                    .contextWrite(Tracer.context(pollSpan))
+                    .block(Duration.ofMillis(cycleTimeoutMs));
+
+            long duration = clock.millis() - startTime;
+            logger.info("=== Polling cycle completed in {}ms - Success: {}, Failed: {}, Skipped: {} ===",
+                    duration, successCount.get(), failureCount.get(), skippedCount.get());
+            cycleEvent.succeeded = successCount.get();
+            cycleEvent.failed = failureCount.get();
+            cycleEvent.skipped = skippedCount.get();
+        } finally {
+            cycleEvent.commit();
+            metrics.queued(METRICS_NAME).set(0);
+            metrics.pollCycleFinished(METRICS_NAME, startTime);
+            pollSpan.end();
         }
-
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failureCount = new AtomicInteger(0);
-        AtomicInteger skippedCount = new AtomicInteger(0);
-
-        Flux.fromIterable(activeWorkflows)
-                .flatMap(workflow -> processWorkflow(workflow)
-                        .doOnSuccess(result -> {
-                            switch (result.status) {
-                                case SUCCESS -> successCount.incrementAndGet();
-                                case FAILURE -> failureCount.incrementAndGet();
-                                case SKIPPED -> skippedCount.incrementAndGet();
-                            }
-                        })
-                        .onErrorResume(error -> {
-                            logger.error("Unexpected error processing workflow {}: {}",
-                                    workflow.getId(), error.getMessage(), error);
-                            failureCount.incrementAndGet();
-                            return Mono.empty();
-                        }),
-                        5 // Process up to 5 workflows concurrently
-                )
-                .collectList()
-                .block(Duration.ofMinutes(2));
-
-        long duration = System.currentTimeMillis() - startTime;
-        logger.info("=== Polling cycle completed in {}ms - Success: {}, Failed: {}, Skipped: {} ===",
-                duration, successCount.get(), failureCount.get(), skippedCount.get());
     }
 
-    private Mono<ProcessingResult> processWorkflow(Workflow workflow) {
-        long startTime = System.currentTimeMillis();
+    private Mono<ProcessingResult> processWorkflow(Workflow workflow, WorkflowExecutionEvent executionEvent) {
+        long startTime = clock.millis();
         logger.debug("Processing workflow {} ({})", workflow.getId(), workflow.getName());
 
         // Check circuit breaker
         if (stateService.shouldSkipDueToFailures(workflow)) {
             logger.warn("Skipping workflow {} due to circuit breaker (too many consecutive failures)",
                     workflow.getId());
+            metrics.circuitBreakerOpen(METRICS_NAME);
             logExecution(workflow, WorkflowExecutionLog.ExecutionStatus.SKIPPED, null, null,
                     null, "Circuit breaker open - too many consecutive failures",
-                    System.currentTimeMillis() - startTime);
+                    clock.millis() - startTime);
             return Mono.just(new ProcessingResult(WorkflowExecutionLog.ExecutionStatus.SKIPPED));
         }
 
@@ -156,7 +241,7 @@ public class WorkflowPollingScheduler {
                 logger.error("Workflow {} has invalid data: {}", workflow.getId(), error);
                 stateService.recordFailure(workflow, error);
                 logExecution(workflow, WorkflowExecutionLog.ExecutionStatus.FAILURE, null, null,
-                        null, error, System.currentTimeMillis() - startTime);
+                        null, error, clock.millis() - startTime);
                 return Mono.just(new ProcessingResult(WorkflowExecutionLog.ExecutionStatus.FAILURE));
             }
         } catch (Exception e) {
@@ -164,12 +249,13 @@ public class WorkflowPollingScheduler {
             logger.error("Workflow {} parse error: {}", workflow.getId(), error, e);
             stateService.recordFailure(workflow, error);
             logExecution(workflow, WorkflowExecutionLog.ExecutionStatus.FAILURE, null, null,
-                    null, error, System.currentTimeMillis() - startTime);
+                    null, error, clock.millis() - startTime);
             return Mono.just(new ProcessingResult(WorkflowExecutionLog.ExecutionStatus.FAILURE));
         }
 
         WorkflowData.TriggerConfig trigger = workflowData.getTrigger();
         String triggerType = trigger.getFullType();
+        executionEvent.triggerType = triggerType;
 
         apiLogger.logOperation("WORKFLOW", "CHECK_TRIGGER",
                 String.format("Workflow %d - Checking trigger %s", workflow.getId(), triggerType));
@@ -184,15 +270,28 @@ public class WorkflowPollingScheduler {
             stateService.recordFailure(workflow, error);
             logExecution(workflow, WorkflowExecutionLog.ExecutionStatus.FAILURE,
                     trigger.getService(), trigger.getType(), null, error,
-                    System.currentTimeMillis() - startTime);
+                    clock.millis() - startTime);
             return Mono.just(new ProcessingResult(WorkflowExecutionLog.ExecutionStatus.FAILURE));
         }
 
+        // Windows are validated on save; one stored earlier is skipped rather than failing every poll
+        String windowProblem = windowService.findProblem(trigger);
+        if (windowProblem != null) {
+            logger.warn("Skipping workflow {}: {}", workflow.getId(), windowProblem);
+            stateService.updateCheckedTime(workflow);
+            return Mono.just(new ProcessingResult(WorkflowExecutionLog.ExecutionStatus.SKIPPED));
+        }
+
         // Create a wrapper that makes Workflow compatible with executor interfaces
         WorkflowWrapper wrapper = new WorkflowWrapper(workflow, workflowData, stateService, connectionRepository);
 
-        return actionExecutor.getTriggerContext(wrapper)
+        return tracer.trace("trigger " + triggerType, span -> actionExecutor.getTriggerContext(wrapper))
                 .flatMap(context -> {
+                    if (trigger.getWindow() != null) {
+                        return processWindow(workflow, workflowData, actionExecutor, wrapper, context,
+                                executionEvent, startTime);
+                    }
+
                     // Check if trigger fired
                     if (!hasTriggerFired(context, trigger)) {
                         stateService.updateCheckedTime(workflow);
@@ -200,11 +299,13 @@ public class WorkflowPollingScheduler {
                         return Mono.just(new ProcessingResult(WorkflowExecutionLog.ExecutionStatus.SKIPPED));
                     }
 
-                    Integer triggerCount = context.getInteger("messageCount") != null
-                            ? context.getInteger("messageCount")
-                            : (context.getInteger("issueCount") != null
-                                    ? context.getInteger("issueCount")
-                                    : (context.getInteger("prCount") != null ? context.getInteger("prCount") : 1));
+                    if (perItem) {
+                        return processItems(workflow, workflowData, actionExecutor, wrapper, context,
+                                executionEvent, startTime);
+                    }
+
+                    int triggerCount = context.getInt(ContextKeys.MESSAGE_COUNT,
+                            context.getInt(ContextKeys.ISSUE_COUNT, context.getInt(ContextKeys.PR_COUNT, 1)));
 
                     logger.info("Workflow {} triggered by {} with {} item(s)",
                             workflow.getId(), triggerType, triggerCount);
@@ -220,12 +321,13 @@ public class WorkflowPollingScheduler {
                                 String lastItemId = extractLastItemId(context, trigger);
                                 stateService.updateStateAfterSuccess(workflow, lastItemId, triggerCount);
 
-                                long execTime = System.currentTimeMillis() - startTime;
+                                long execTime = clock.millis() - startTime;
                                 String details = buildExecutionDetails(workflowData, context);
 
                                 logExecution(workflow, WorkflowExecutionLog.ExecutionStatus.SUCCESS,
                                         trigger.getService(), trigger.getType(),
                                         workflowData.getActions().size(), details, execTime);
+                                executionEvent.reactions = workflowData.getActions().size();
 
                                 logger.info("Successfully processed workflow {} in {}ms", workflow.getId(), execTime);
 
@@ -240,7 +342,7 @@ public class WorkflowPollingScheduler {
 
                     stateService.recordFailure(workflow, errorMsg);
 
-                    long execTime = System.currentTimeMillis() - startTime;
+                    long execTime = clock.millis() - startTime;
                     logExecution(workflow, WorkflowExecutionLog.ExecutionStatus.FAILURE,
                             trigger.getService(), trigger.getType(), null, errorMsg, execTime);
 
@@ -250,6 +352,99 @@ public class WorkflowPollingScheduler {
                 });
     }
 
+    /**
+     * Per-item delivery: run the workflow's actions once per new item, oldest first.
+     * Up to itemConcurrency items run at once; the actions of one item always run in order,
+     * and the cursor advances in arrival order as each item completes, so a failed item and
+     * the items after it are delivered again on the next poll.
+     */
+    private Mono<ProcessingResult> processItems(Workflow workflow, WorkflowData workflowData,
+            ActionExecutor actionExecutor, WorkflowWrapper wrapper, TriggerContext context,
+            WorkflowExecutionEvent executionEvent, long startTime) {
+        WorkflowData.TriggerConfig trigger = workflowData.getTrigger();
+        List<TriggerContext> items = actionExecutor.splitItems(context);
+        if (items.size() > maxItems) {
+            logger.info("Workflow {} has {} new item(s), delivering the oldest {} this cycle",
+                    workflow.getId(), items.size(), maxItems);
+            items = items.subList(0, maxItems);
+        }
+        int actionCount = workflowData.getActions() != null ? workflowData.getActions().size() : 0;
+
+        logger.info("Workflow {} triggered by {} with {} item(s)",
+                workflow.getId(), trigger.getFullType(), items.size());
+
+        apiLogger.logOperation("WORKFLOW", "TRIGGER_FIRED",
+                String.format("Workflow %d - %s triggered with %d items (per item)",
+                        workflow.getId(), trigger.getFullType(), items.size()));
+
+        return Flux.fromIterable(items)
+                .flatMapSequential(item -> executeActions(workflow, workflowData, item, wrapper)
+                        .thenReturn(item), itemConcurrency)
+                .doOnNext(item -> {
+                    stateService.updateStateAfterSuccess(workflow, actionExecutor.itemCursor(item), 1);
+                    logExecution(workflow, WorkflowExecutionLog.ExecutionStatus.SUCCESS,
+                            trigger.getService(), trigger.getType(), actionCount,
+                            buildExecutionDetails(workflowData, item), clock.millis() - startTime);
+                    executionEvent.reactions += actionCount;
+                })
+                .then(Mono.fromSupplier(() -> {
+                    long execTime = clock.millis() - startTime;
+                    logger.info("Successfully processed workflow {} in {}ms", workflow.getId(), execTime);
+                    apiLogger.logOperation("WORKFLOW", "SUCCESS",
+                            String.format("Workflow %d completed in %dms", workflow.getId(), execTime));
+                    return new ProcessingResult(WorkflowExecutionLog.ExecutionStatus.SUCCESS);
+                }));
+    }
+
+    /**
+     * Windowed delivery: add the new items to the workflow's aggregation window and, once the
+     * window is due, run the actions once for all of its items.
+     */
+    private Mono<ProcessingResult> processWindow(Workflow workflow, WorkflowData workflowData,
+            ActionExecutor actionExecutor, WorkflowWrapper wrapper, TriggerContext context,
+            WorkflowExecutionEvent executionEvent, long startTime) {
+        WorkflowData.TriggerConfig trigger = workflowData.getTrigger();
+        Instant now = clock.instant();
+        List<TriggerContext> newItems = hasTriggerFired(context, trigger)
+                ? actionExecutor.splitItems(context)
+                : List.of();
+        List<WindowItem> items = newItems.stream()
+                .map(item -> WindowItem.from(item, actionExecutor.itemCursor(item), now.toEpochMilli()))
+                .toList();
+        String cursor = items.isEmpty() ? null : items.get(items.size() - 1).id();
+
+        List<WindowItem> window = windowService.accumulate(workflow, trigger.getWindow(), items, cursor, now);
+        if (window.isEmpty()) {
+            logger.debug("Window of workflow {} not due ({} new item(s))", workflow.getId(), items.size());
+            return Mono.just(new ProcessingResult(WorkflowExecutionLog.ExecutionStatus.SKIPPED));
+        }
+
+        GitHubActionConfig githubConfig = wrapper.getGithubActionConfig();
+        TriggerContext aggregated = TriggerWindowService.aggregate(trigger.getFullType(),
+                githubConfig != null ? githubConfig.getFullRepositoryName() : null, window, now);
+        int actionCount = workflowData.getActions() != null ? workflowData.getActions().size() : 0;
+
+        apiLogger.logOperation("WORKFLOW", "TRIGGER_FIRED",
+                String.format("Workflow %d - %s", workflow.getId(), aggregated.get(ContextKeys.WINDOW_SUMMARY)));
+
+        return executeActions(workflow, workflowData, aggregated, wrapper)
+                .then(Mono.fromRunnable(() -> {
+                    windowService.fired(workflow, trigger.getWindow(), now);
+                    stateService.updateStateAfterSuccess(workflow, window.get(window.size() - 1).id(), window.size());
+
+                    long execTime = clock.millis() - startTime;
+                    logExecution(workflow, WorkflowExecutionLog.ExecutionStatus.SUCCESS,
+                            trigger.getService(), trigger.getType(), actionCount,
+                            aggregated.get(ContextKeys.WINDOW_SUMMARY) + " | Actions executed: " + actionCount,
+                            execTime);
+                    executionEvent.reactions = actionCount;
+
+                    logger.info("Successfully processed window of {} item(s) for workflow {} in {}ms",
+                            window.size(), workflow.getId(), execTime);
+                }))
+                .thenReturn(new ProcessingResult(WorkflowExecutionLog.ExecutionStatus.SUCCESS));
+    }
+
     /**
      * Parse workflow JSON data into WorkflowData DTO.
      */
@@ -265,14 +460,14 @@ public class WorkflowPollingScheduler {
      */
     private boolean hasTriggerFired(TriggerContext context, WorkflowData.TriggerConfig trigger) {
         // Check for various trigger indicators
-        if (context.has("newMessages") && context.getInteger("messageCount") != null) {
-            return context.getInteger("messageCount") > 0;
+        if (context.has(ContextKeys.NEW_MESSAGES) && context.has(ContextKeys.MESSAGE_COUNT)) {
+            return context.getInt(ContextKeys.MESSAGE_COUNT, 0) > 0;
         }
-        if (context.has("newIssues") && context.getInteger("issueCount") != null) {
-            return context.getInteger("issueCount") > 0;
+        if (context.has(ContextKeys.NEW_ISSUES) && context.has(ContextKeys.ISSUE_COUNT)) {
+            return context.getInt(ContextKeys.ISSUE_COUNT, 0) > 0;
         }
-        if (context.has("newPRs") && context.getInteger("prCount") != null) {
-            return context.getInteger("prCount") > 0;
+        if (context.has(ContextKeys.NEW_PRS) && context.has(ContextKeys.PR_COUNT)) {
+            return context.getInt(ContextKeys.PR_COUNT, 0) > 0;
         }
         return false;
     }
@@ -300,7 +495,8 @@ public class WorkflowPollingScheduler {
                         // Create a wrapper for this specific action
                         ActionWrapper actionWrapper = new ActionWrapper(wrapper, action);
 
-                        return reactionExecutor.execute(actionWrapper, context)
+                        return tracer.trace("reaction " + reactionType,
+                                        span -> reactionExecutor.execute(actionWrapper, context))
                                 .doOnSuccess(v -> {
                                     logger.info("Workflow {} - Action {} executed successfully",
                                             workflow.getId(), reactionType);
@@ -321,14 +517,14 @@ public class WorkflowPollingScheduler {
      * Extract the last item ID from context for state tracking.
      */
     private String extractLastItemId(TriggerContext context, WorkflowData.TriggerConfig trigger) {
-        if (context.has("messageId")) {
-            return context.getString("messageId");
+        if (context.has(ContextKeys.MESSAGE_ID)) {
+            return context.get(ContextKeys.MESSAGE_ID);
         }
-        if (context.has("issueNumber")) {
-            return "issue:" + context.get("issueNumber");
+        if (context.has(ContextKeys.ISSUE_NUMBER)) {
+            return "issue:" + context.get(ContextKeys.ISSUE_NUMBER);
         }
-        if (context.has("prNumber")) {
-            return "pr:" + context.get("prNumber");
+        if (context.has(ContextKeys.PR_NUMBER)) {
+            return "pr:" + context.get(ContextKeys.PR_NUMBER);
         }
         return null;
     }
@@ -342,14 +538,14 @@ public class WorkflowPollingScheduler {
         WorkflowData.TriggerConfig trigger = workflowData.getTrigger();
         details.append("Trigger: ").append(trigger.getFullType()).append(" | ");
 
-        if (context.has("subject")) {
-            details.append("Subject: ").append(context.getString("subject")).append(" | ");
+        if (context.has(ContextKeys.SUBJECT)) {
+            details.append("Subject: ").append(context.get(ContextKeys.SUBJECT)).append(" | ");
         }
-        if (context.has("issueTitle")) {
-            details.append("Issue: ").append(context.getString("issueTitle")).append(" | ");
+        if (context.has(ContextKeys.ISSUE_TITLE)) {
+            details.append("Issue: ").append(context.get(ContextKeys.ISSUE_TITLE)).append(" | ");
         }
-        if (context.has("prTitle")) {
-            details.append("PR: ").append(context.getString("prTitle")).append(" | ");
+        if (context.has(ContextKeys.PR_TITLE)) {
+            details.append("PR: ").append(context.get(ContextKeys.PR_TITLE)).append(" | ");
         }
 
         details.append("Actions executed: ").append(workflowData.getActions().size());
@@ -366,7 +562,7 @@ public class WorkflowPollingScheduler {
         try {
             WorkflowExecutionLog log = new WorkflowExecutionLog();
             log.setWorkflow(workflow);
-            log.setExecutedAt(Instant.now());
+            log.setExecutedAt(clock.instant());
             log.setStatus(status);
             log.setTriggerService(triggerService);
             log.setTriggerAction(triggerAction);
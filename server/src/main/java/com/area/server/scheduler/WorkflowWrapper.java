@@ -157,6 +157,11 @@ public class WorkflowWrapper implements AutomationEntity {
         return null;
     }
 
+    @Override
+    public boolean isWindowed() {
+        return workflowData.getTrigger() != null && workflowData.getTrigger().getWindow() != null;
+    }
+
     /**
      * Get the underlying workflow entity.
      */
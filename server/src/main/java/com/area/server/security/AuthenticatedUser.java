@@ -0,0 +1,60 @@
+package com.area.server.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Authentication principal built from verified access token claims.
+ * Carries the user id into controllers so they don't need to reload the
+ * {@link com.area.server.model.User} entity just to identify the caller.
+ * {@link #getName()} returns the email, so {@code authentication.getName()}
+ * keeps working as before.
+ */
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+
+    private final Long userId;
+    private final String email;
+    private final String username;
+
+    public AuthenticatedUser(Long userId, String email, String username) {
+        this.userId = userId;
+        this.email = email;
+        this.username = username;
+    }
+
+    /**
+     * Get the principal of the current request.
+     *
+     * @return the authenticated user, or null if the request is anonymous
+     */
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        return null;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{userId=" + userId + ", email='" + email + "'}";
+    }
+}
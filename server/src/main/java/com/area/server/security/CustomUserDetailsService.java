@@ -33,9 +33,13 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findByEmailIgnoreCase(email)
             .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
+        return toUserDetails(user);
+    }
+
+    private UserDetails toUserDetails(User user) {
         return org.springframework.security.core.userdetails.User.builder()
             .username(user.getEmail())
             .password(user.getPasswordHash() != null ? user.getPasswordHash() : "")
@@ -54,7 +58,7 @@ public class CustomUserDetailsService implements UserDetailsService {
      * @throws UsernameNotFoundException if user not found
      */
     public User loadUserEntityByEmail(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return userRepository.findByEmailIgnoreCase(email)
             .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 
@@ -70,4 +74,16 @@ public class CustomUserDetailsService implements UserDetailsService {
         return userRepository.findById(userId)
             .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
     }
+
+    /**
+     * Get a lazy reference to a user without loading it.
+     * Enough for queries and associations that only need the user's ID,
+     * e.g. with the ID carried by {@link AuthenticatedUser}.
+     *
+     * @param userId the user's ID
+     * @return User reference (proxy)
+     */
+    public User getUserReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
 }
@@ -6,20 +6,28 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 /**
  * JWT Authentication Filter that validates JWT tokens on every request.
  * Extracts the token from the Authorization header, validates it, and sets
- * the Spring Security authentication context.
+ * the Spring Security authentication context with an {@link AuthenticatedUser}
+ * principal built from the token claims. Revoked tokens are rejected by
+ * comparing their epoch claim with {@link TokenEpochService}. Users whose id is
+ * listed in {@code app.security.admin-user-ids} also get ROLE_ADMIN; ids are
+ * assigned by the server, unlike the email a user registers with.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -27,13 +35,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final List<GrantedAuthority> USER_AUTHORITIES =
+        List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+        List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
 
     private final JwtService jwtService;
-    private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenEpochService tokenEpochService;
+    private final Set<Long> adminUserIds;
 
-    public JwtAuthenticationFilter(JwtService jwtService, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   VerifiedTokenCache tokenCache,
+                                   TokenEpochService tokenEpochService,
+                                   @Value("${app.security.admin-user-ids:}") Set<Long> adminUserIds) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.tokenCache = tokenCache;
+        this.tokenEpochService = tokenEpochService;
+        this.adminUserIds = Set.copyOf(adminUserIds);
     }
 
     @Override
@@ -51,24 +70,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             String token = authHeader.substring(BEARER_PREFIX.length());
-            String email = jwtService.extractEmail(token);
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtService.validateToken(token, "access")) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                // Signature and expiry are verified once per token, then served from the cache
+                VerifiedTokenCache.VerifiedToken verified = tokenCache.get(token);
+                if (verified == null) {
+                    verified = tokenCache.put(token, jwtService.parseClaims(token));
+                }
+                String email = verified.email();
+
+                if (email == null || verified.userId() == null || !"access".equals(verified.type())) {
+                    logger.warn("Invalid JWT token for email: {}", email);
+                } else if (!tokenEpochService.isCurrent(verified.userId(), verified.epoch())) {
+                    logger.debug("Revoked JWT token for user ID: {}", verified.userId());
+                } else {
+                    // Principal built from the claims alone, no database lookup
+                    AuthenticatedUser principal = new AuthenticatedUser(
+                        verified.userId(), email, verified.username());
 
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal,
                         null,
-                        userDetails.getAuthorities()
+                        adminUserIds.contains(verified.userId()) ? ADMIN_AUTHORITIES : USER_AUTHORITIES
                     );
 
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
 
                     logger.debug("Successfully authenticated user: {}", email);
-                } else {
-                    logger.warn("Invalid JWT token for email: {}", email);
                 }
             }
         } catch (Exception e) {
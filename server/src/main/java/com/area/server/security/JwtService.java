@@ -2,8 +2,10 @@ package com.area.server.security;
 
 import com.area.server.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -37,6 +39,18 @@ public class JwtService {
     @Value("${app.jwt.issuer:area-platform}")
     private String issuer;
 
+    // Derived once from the secret; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+            .verifyWith(signingKey)
+            .build();
+    }
+
     /**
      * Generate an access token for a user.
      * Access tokens are short-lived (1 hour) and used for API authentication.
@@ -50,6 +64,7 @@ public class JwtService {
         claims.put("email", user.getEmail());
         claims.put("username", user.getUsername());
         claims.put("type", "access");
+        claims.put("epoch", user.getTokenEpoch());
 
         return generateToken(claims, user.getEmail(), accessTokenExpiration);
     }
@@ -148,6 +163,19 @@ public class JwtService {
         }
     }
 
+    /**
+     * Verify the signature and expiration of a JWT token and return its claims.
+     * Callers that need several claims should use this once instead of the
+     * individual extract methods, each of which verifies the token again.
+     *
+     * @param token JWT token string
+     * @return verified Claims
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public Claims parseClaims(String token) {
+        return extractClaims(token);
+    }
+
     /**
      * Extract all claims from a JWT token.
      *
@@ -155,9 +183,7 @@ public class JwtService {
      * @return Claims object
      */
     private Claims extractClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
+        return parser
             .parseSignedClaims(token)
             .getPayload();
     }
@@ -174,13 +200,12 @@ public class JwtService {
 
     /**
      * Get the signing key for JWT tokens.
-     * Uses the secret from application properties.
+     * Derived from the secret in application properties at startup.
      *
      * @return SecretKey for signing
      */
     private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.area.server.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -13,14 +14,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class PasswordEncoderConfig {
 
     /**
-     * Creates a BCrypt password encoder bean with strength 12.
+     * Creates a BCrypt password encoder bean with the configured strength (12 by default).
      * Higher strength means more secure but slower hashing.
-     * Strength 12 is a good balance for production use.
+     * Existing hashes with a different strength are rehashed on the next successful login.
      *
+     * @param strength BCrypt log rounds
      * @return PasswordEncoder instance
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:12}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,201 @@
+package com.area.server.security;
+
+import com.area.server.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs password hashing on a dedicated bounded pool instead of request threads.
+ * BCrypt is deliberately CPU-expensive; under a login storm the pool queue fills
+ * up and further hashing requests are rejected immediately with a
+ * {@link TooManyRequestsException} (HTTP 429) rather than tying up every
+ * Tomcat thread. Callers still block for the result, but only up to the
+ * configured timeout.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int strength;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public PasswordHashingExecutor(
+        PasswordEncoder passwordEncoder,
+        @Value("${app.security.bcrypt.strength:12}") int strength,
+        @Value("${app.security.hashing.threads:0}") int threads,
+        @Value("${app.security.hashing.queue-capacity:64}") int queueCapacity,
+        @Value("${app.security.hashing.timeout-ms:10000}") long timeoutMs,
+        @Value("${app.security.hashing.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        logger.info("Password hashing pool started with {} thread(s), queue capacity {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Hash a raw password on the hashing pool.
+     *
+     * @throws TooManyRequestsException if the pool is saturated
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Verify a raw password against a stored hash on the hashing pool.
+     *
+     * @throws TooManyRequestsException if the pool is saturated
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Check whether a stored BCrypt hash was produced with a cost other than the
+     * configured strength and should be replaced after a successful login.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    long finishedAt = System.nanoTime();
+                    totalQueueNanos.add(startedAt - submittedAt);
+                    totalHashNanos.add(finishedAt - startedAt);
+                    maxLatencyNanos.accumulateAndGet(finishedAt - submittedAt, Math::max);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException(
+                "Too many authentication requests, please retry shortly", retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new TooManyRequestsException(
+                "Authentication is taking too long, please retry shortly", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    /**
+     * Snapshot of pool utilization and latency.
+     */
+    public HashingStats getStats() {
+        long count = completed.sum();
+        return new HashingStats(
+            executor.getPoolSize(),
+            getActiveCount(),
+            getQueueDepth(),
+            count,
+            rejected.sum(),
+            timedOut.sum(),
+            count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalQueueNanos.sum() / count),
+            count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalHashNanos.sum() / count),
+            TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get())
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Pool statistics; latencies are averages in milliseconds since startup.
+     */
+    public record HashingStats(int poolSize, int active, int queueDepth, long completed, long rejected,
+                               long timedOut, long avgQueueWaitMs, long avgHashMs, long maxLatencyMs) {
+    }
+}
@@ -55,6 +55,8 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/api/admin/**", "/actuator/prometheus", "/actuator/metrics/**", "/actuator/info")
+                    .hasRole("ADMIN")
                 .requestMatchers(
                     "/auth/**",
                     "/about.json",
@@ -65,6 +67,7 @@ public class SecurityConfig {
                     "/api/workflows/**",
                     "/api/logs/**",
                     "/oauth/**",
+                    "/actuator/health",
                     "/error"
                 ).permitAll()
                 .anyRequest().authenticated()
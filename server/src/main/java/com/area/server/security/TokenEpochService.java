@@ -0,0 +1,77 @@
+package com.area.server.security;
+
+import com.area.server.model.User;
+import com.area.server.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user access token epoch used for revocation.
+ * Every access token carries the epoch of its user at issue time; bumping the
+ * epoch (logout, account lock) invalidates all outstanding access tokens of that
+ * user. Epochs live in memory for the request path and are persisted on the
+ * user row so they survive restarts. Users that were never revoked are not
+ * tracked and have epoch 0.
+ */
+@Service
+public class TokenEpochService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenEpochService.class);
+
+    private final UserRepository userRepository;
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+
+    public TokenEpochService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    void loadEpochs() {
+        for (Object[] row : userRepository.findRevokedTokenEpochs()) {
+            epochs.put((Long) row[0], (Long) row[1]);
+        }
+        logger.info("Loaded token epochs for {} user(s)", epochs.size());
+    }
+
+    /**
+     * Current epoch of a user.
+     *
+     * @param userId the user's ID
+     * @return the epoch, 0 if the user's tokens were never revoked
+     */
+    public long currentEpoch(Long userId) {
+        return userId == null ? 0L : epochs.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Check whether a token issued at the given epoch is still accepted.
+     *
+     * @param userId the user's ID from the token
+     * @param tokenEpoch the epoch claim from the token (null for tokens issued before epochs existed)
+     * @return true if the token has not been revoked
+     */
+    public boolean isCurrent(Long userId, Long tokenEpoch) {
+        return (tokenEpoch != null ? tokenEpoch : 0L) >= currentEpoch(userId);
+    }
+
+    /**
+     * Invalidate every access token issued to the user so far.
+     * Must be called within the transaction that saves the user.
+     *
+     * @param user the user whose tokens are revoked
+     * @return the new epoch
+     */
+    public long revokeAccessTokens(User user) {
+        long next = Math.max(user.getTokenEpoch(), currentEpoch(user.getId())) + 1;
+        user.setTokenEpoch(next);
+        userRepository.save(user);
+        epochs.put(user.getId(), next);
+        logger.info("Revoked outstanding access tokens for user ID: {} (epoch {})", user.getId(), next);
+        return next;
+    }
+}
@@ -0,0 +1,90 @@
+package com.area.server.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of already verified JWTs.
+ * Entries are keyed by the SHA-256 of the raw token (the token itself is never
+ * stored) and expire at the token's own {@code exp}, so a hit is exactly as
+ * trustworthy as re-verifying the signature. There is no UserDetails cache next
+ * to it: the principal is built from these claims, and revocation is checked
+ * against {@link TokenEpochService}, so no user is loaded per request.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final int maxEntries;
+
+    public VerifiedTokenCache(Clock clock,
+                              @Value("${app.security.token-cache.max-entries:10000}") int maxEntries) {
+        this.clock = clock;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Return the cached verification result, or null if the token is unknown or expired.
+     */
+    public VerifiedToken get(String token) {
+        String key = TokenHashes.sha256Hex(token);
+        VerifiedToken verified = cache.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.isExpired(clock.instant())) {
+            cache.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    /**
+     * Remember the claims of a token that was just verified.
+     *
+     * @return the cached view of the claims
+     */
+    public VerifiedToken put(String token, Claims claims) {
+        VerifiedToken verified = new VerifiedToken(
+            claims.getSubject(),
+            claims.get("userId", Long.class),
+            claims.get("username", String.class),
+            claims.get("type", String.class),
+            claims.get("epoch", Long.class),
+            claims.getExpiration().toInstant()
+        );
+
+        if (cache.size() >= maxEntries) {
+            Instant now = clock.instant();
+            cache.values().removeIf(entry -> entry.isExpired(now));
+            if (cache.size() >= maxEntries) {
+                // Still full of live tokens: skip caching rather than evicting at random
+                return verified;
+            }
+        }
+        cache.put(TokenHashes.sha256Hex(token), verified);
+        return verified;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Claims of a verified token needed on the request path.
+     */
+    public record VerifiedToken(String email, Long userId, String username, String type, Long epoch,
+                                Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
@@ -3,19 +3,20 @@ package com.area.server.service;
 import com.area.server.dto.auth.*;
 import com.area.server.exception.AuthenticationException;
 import com.area.server.exception.InvalidTokenException;
+import com.area.server.exception.TooManyRequestsException;
 import com.area.server.exception.UserAlreadyExistsException;
-import com.area.server.model.RefreshToken;
 import com.area.server.model.User;
-import com.area.server.repository.RefreshTokenRepository;
 import com.area.server.repository.UserRepository;
 import com.area.server.security.JwtService;
+import com.area.server.security.PasswordHashingExecutor;
+import com.area.server.security.TokenEpochService;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Locale;
 import java.util.regex.Pattern;
 
 /**
@@ -32,20 +33,23 @@ public class AuthService {
     );
 
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordHashingExecutor passwordHasher;
     private final JwtService jwtService;
+    private final TokenEpochService tokenEpochService;
 
     public AuthService(
         UserRepository userRepository,
-        RefreshTokenRepository refreshTokenRepository,
-        PasswordEncoder passwordEncoder,
-        JwtService jwtService
+        RefreshTokenStore refreshTokenStore,
+        PasswordHashingExecutor passwordHasher,
+        JwtService jwtService,
+        TokenEpochService tokenEpochService
     ) {
         this.userRepository = userRepository;
-        this.refreshTokenRepository = refreshTokenRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.refreshTokenStore = refreshTokenStore;
+        this.passwordHasher = passwordHasher;
         this.jwtService = jwtService;
+        this.tokenEpochService = tokenEpochService;
     }
 
     /**
@@ -55,13 +59,15 @@ public class AuthService {
      * @return authentication response with tokens and user info
      * @throws UserAlreadyExistsException if email or username already exists
      * @throws IllegalArgumentException if password doesn't meet requirements
+     * @throws TooManyRequestsException if the password hashing pool is saturated
      */
     @Transactional
     public AuthResponse register(RegisterRequest request) {
-        logger.info("Attempting to register new user with email: {}", request.getEmail());
+        String email = normalizeEmail(request.getEmail());
+        logger.info("Attempting to register new user with email: {}", email);
 
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new UserAlreadyExistsException("Email already exists: " + request.getEmail());
+        if (userRepository.existsByEmailIgnoreCase(email)) {
+            throw new UserAlreadyExistsException("Email already exists: " + email);
         }
 
         if (userRepository.existsByUsername(request.getUsername())) {
@@ -70,10 +76,10 @@ public class AuthService {
 
         validatePassword(request.getPassword());
 
-        String hashedPassword = passwordEncoder.encode(request.getPassword());
+        String hashedPassword = passwordHasher.encode(request.getPassword());
 
         User user = new User(
-            request.getEmail(),
+            email,
             request.getUsername(),
             hashedPassword,
             request.getFullName()
@@ -91,12 +97,13 @@ public class AuthService {
      * @param request login request with credentials
      * @return authentication response with tokens and user info
      * @throws AuthenticationException if credentials are invalid or account is locked
+     * @throws TooManyRequestsException if the password hashing pool is saturated
      */
     @Transactional
     public AuthResponse login(LoginRequest request) {
         logger.info("Login attempt for email: {}", request.getEmail());
 
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = userRepository.findByEmailIgnoreCase(normalizeEmail(request.getEmail()))
             .orElseThrow(() -> new AuthenticationException("Invalid email or password"));
 
         if (user.isAccountLocked()) {
@@ -107,11 +114,13 @@ public class AuthService {
             throw new AuthenticationException("This account uses OAuth login. Please login with your OAuth provider.");
         }
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
             handleFailedLogin(user);
             throw new AuthenticationException("Invalid email or password");
         }
 
+        rehashIfNeeded(user, request.getPassword());
+
         handleSuccessfulLogin(user);
 
         logger.info("Successful login for user ID: {}", user.getId());
@@ -133,14 +142,15 @@ public class AuthService {
             throw new InvalidTokenException("Invalid or expired refresh token");
         }
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(request.getRefreshToken())
+        RefreshTokenStore.RefreshTokenState refreshToken = refreshTokenStore.find(request.getRefreshToken())
             .orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
 
         if (!refreshToken.isValid()) {
             throw new InvalidTokenException("Refresh token is revoked or expired");
         }
 
-        User user = refreshToken.getUser();
+        User user = userRepository.findById(refreshToken.userId())
+            .orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
         String newAccessToken = jwtService.generateAccessToken(user);
 
         logger.info("Successfully refreshed access token for user ID: {}", user.getId());
@@ -155,7 +165,7 @@ public class AuthService {
     }
 
     /**
-     * Logout a user by revoking their refresh token.
+     * Logout a user by revoking their refresh token and outstanding access tokens.
      *
      * @param refreshTokenString the refresh token to revoke
      * @throws InvalidTokenException if refresh token not found
@@ -164,13 +174,14 @@ public class AuthService {
     public void logout(String refreshTokenString) {
         logger.info("Attempting to logout user");
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenString)
+        RefreshTokenStore.RefreshTokenState refreshToken = refreshTokenStore.find(refreshTokenString)
             .orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
 
-        refreshToken.revoke();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.revoke(refreshTokenString, refreshToken);
+        // Access tokens issued before logout stop working immediately
+        userRepository.findById(refreshToken.userId()).ifPresent(tokenEpochService::revokeAccessTokens);
 
-        logger.info("Successfully logged out user ID: {}", refreshToken.getUser().getId());
+        logger.info("Successfully logged out user ID: {}", refreshToken.userId());
     }
 
     /**
@@ -187,13 +198,7 @@ public class AuthService {
         Instant refreshTokenExpiry = Instant.now()
             .plusMillis(jwtService.getRefreshTokenExpiration());
 
-        RefreshToken refreshToken = new RefreshToken(
-            user,
-            refreshTokenString,
-            refreshTokenExpiry,
-            deviceInfo
-        );
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(user, refreshTokenString, refreshTokenExpiry, deviceInfo);
 
         return new AuthResponse(
             accessToken,
@@ -214,6 +219,25 @@ public class AuthService {
         userRepository.save(user);
     }
 
+    /**
+     * Replace a hash produced with an outdated BCrypt cost while the raw password is at hand.
+     * Best effort: the login succeeds even if the hashing pool is too busy to rehash.
+     *
+     * @param user the user who successfully logged in
+     * @param rawPassword the verified raw password
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPasswordHash())) {
+            return;
+        }
+        try {
+            user.setPasswordHash(passwordHasher.encode(rawPassword));
+            logger.info("Rehashed password for user ID: {}", user.getId());
+        } catch (TooManyRequestsException e) {
+            logger.debug("Skipped password rehash for user ID: {}, hashing pool busy", user.getId());
+        }
+    }
+
     /**
      * Handle failed login by incrementing failed attempts counter.
      * Locks account after 5 failed attempts.
@@ -223,6 +247,9 @@ public class AuthService {
     private void handleFailedLogin(User user) {
         user.incrementFailedLoginAttempts();
         userRepository.save(user);
+        if (user.isAccountLocked()) {
+            tokenEpochService.revokeAccessTokens(user);
+        }
 
         logger.warn("Failed login attempt for user ID: {}. Total attempts: {}",
             user.getId(), user.getFailedLoginAttempts());
@@ -248,4 +275,12 @@ public class AuthService {
             );
         }
     }
+
+    /**
+     * Normalize an email for storage and lookup: trimmed and lower-cased, so two spellings of
+     * one address cannot register twice.
+     */
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,516 @@
+package com.area.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Serializes Discord Bot API deliveries per channel.
+ * Each channel has its own FIFO queue drained by a single in-flight request, so
+ * delivery order is preserved. Rate-limit bucket headers returned by Discord are
+ * tracked per bucket and channel (Discord limits create-message per channel within a
+ * bucket) and the global limit is shared by all channels, which lets bursts wait for
+ * the bucket to reset instead of burning retries on 429s. A channel queue and its
+ * bucket state are dropped once the queue has drained and no backoff or bucket reset
+ * is pending; the next message recreates them.
+ * Optionally, queued messages for the same channel are coalesced into a single
+ * request (up to 2000 characters of content or 10 embeds).
+ */
+@Component
+public class DiscordDeliveryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscordDeliveryScheduler.class);
+
+    static final int MAX_CONTENT_LENGTH = 2000;
+    static final int MAX_EMBEDS = 10;
+    private static final int MAX_RATE_LIMIT_RETRIES = 10;
+
+    private final WebClient discordBotClient;
+    private final ObjectMapper objectMapper;
+    private final Map<String, ChannelQueue> channels = new ConcurrentHashMap<>();
+    // "bucketId:channelId" -> remaining requests and reset time
+    private final Map<String, RateLimitBucket> buckets = new ConcurrentHashMap<>();
+
+    private final boolean coalesceEnabled;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final int globalRequestsPerSecond;
+
+    // Shared across channels: global 429 reset and a one-second request window
+    private final Object globalLock = new Object();
+    private long globalResetAt;
+    private long globalWindowStart;
+    private int globalWindowCount;
+
+    public DiscordDeliveryScheduler(@Qualifier("discordBotWebClient") WebClient discordBotClient,
+            ObjectMapper objectMapper,
+            @Value("${discord.delivery.coalesce.enabled:false}") boolean coalesceEnabled,
+            @Value("${discord.delivery.max-retries:3}") int maxRetries,
+            @Value("${discord.delivery.retry-backoff-ms:2000}") long retryBackoffMs,
+            @Value("${discord.delivery.global-rate-per-second:50}") int globalRequestsPerSecond) {
+        this.discordBotClient = discordBotClient;
+        this.objectMapper = objectMapper;
+        this.coalesceEnabled = coalesceEnabled;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.globalRequestsPerSecond = globalRequestsPerSecond;
+    }
+
+    /**
+     * Queue a plain text message for the channel.
+     *
+     * @return Mono completing once the message (or the batch containing it) is delivered
+     */
+    public Mono<Void> enqueueMessage(String botToken, String channelId, String content) {
+        return Mono.defer(() -> enqueue(channelId, new PendingMessage(botToken, content, null)));
+    }
+
+    /**
+     * Queue a single embed for the channel.
+     *
+     * @return Mono completing once the embed (or the batch containing it) is delivered
+     */
+    public Mono<Void> enqueueEmbed(String botToken, String channelId, Map<String, Object> embed) {
+        return Mono.defer(() -> enqueue(channelId, new PendingMessage(botToken, null, embed)));
+    }
+
+    /**
+     * Number of messages waiting (not yet sent) for the given channel.
+     */
+    public int getQueuedCount(String channelId) {
+        ChannelQueue queue = channels.get(channelId);
+        if (queue == null) {
+            return 0;
+        }
+        synchronized (queue) {
+            return queue.pending.size();
+        }
+    }
+
+    /**
+     * Number of messages waiting (not yet sent) across all channels.
+     */
+    public int getTotalQueuedCount() {
+        int total = 0;
+        for (ChannelQueue queue : channels.values()) {
+            synchronized (queue) {
+                total += queue.pending.size();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Number of channel queues currently held, drained ones are evicted.
+     */
+    int getChannelCount() {
+        return channels.size();
+    }
+
+    private Mono<Void> enqueue(String channelId, PendingMessage message) {
+        ChannelQueue queue;
+        boolean startDrain;
+        while (true) {
+            queue = channels.computeIfAbsent(channelId, id -> new ChannelQueue(id));
+            synchronized (queue) {
+                if (queue.evicted) {
+                    // Lost the race with eviction, the next lookup creates a fresh queue
+                    continue;
+                }
+                queue.pending.addLast(message);
+                startDrain = !queue.draining;
+                queue.draining = true;
+            }
+            break;
+        }
+        if (startDrain) {
+            drainNext(queue);
+        }
+        return message.result.asMono();
+    }
+
+    private void drainNext(ChannelQueue queue) {
+        List<PendingMessage> batch;
+        long delayMs;
+        long now = System.currentTimeMillis();
+        synchronized (queue) {
+            String bucketKey = queue.bucketKey();
+            RateLimitBucket bucket = bucketKey != null ? buckets.get(bucketKey) : null;
+            long bucketDelay = bucket != null ? bucket.delayBeforeNextRequest(now) : 0;
+            if (queue.pending.isEmpty()) {
+                long idleDelay = Math.max(queue.backoffUntil - now, bucketDelay);
+                if (idleDelay > 0) {
+                    // Keep the limits until they lapse, then check again; messages queued meanwhile wait anyway
+                    Mono.delay(Duration.ofMillis(idleDelay)).subscribe(tick -> drainNext(queue));
+                    return;
+                }
+                queue.draining = false;
+                queue.evicted = true;
+                channels.remove(queue.channelId, queue);
+                if (bucketKey != null) {
+                    buckets.remove(bucketKey);
+                }
+                return;
+            }
+            batch = takeBatch(queue);
+            delayMs = Math.max(Math.max(0, queue.backoffUntil - now), bucketDelay);
+        }
+        delayMs = Math.max(delayMs, reserveGlobalSlot(delayMs));
+
+        if (delayMs > 0) {
+            logger.debug("[Discord-Bot] Channel {} waiting {} ms before next request", queue.channelId, delayMs);
+        }
+        // Always hop through the timer so a synchronously completing exchange cannot recurse
+        Mono.delay(Duration.ofMillis(Math.max(delayMs, 0)))
+                .then(send(queue, batch))
+                .subscribe(
+                outcome -> handleOutcome(queue, batch, outcome),
+                error -> handleOutcome(queue, batch, Outcome.retry(error)));
+    }
+
+    /**
+     * Remove the next request's worth of messages from the head of the queue.
+     * Must be called while holding the queue monitor.
+     */
+    private List<PendingMessage> takeBatch(ChannelQueue queue) {
+        List<PendingMessage> batch = new ArrayList<>();
+        PendingMessage first = queue.pending.pollFirst();
+        batch.add(first);
+        if (!coalesceEnabled) {
+            return batch;
+        }
+
+        int contentLength = first.content != null ? first.content.length() : 0;
+        int embeds = first.embed != null ? 1 : 0;
+        while (!queue.pending.isEmpty()) {
+            PendingMessage next = queue.pending.peekFirst();
+            if (!next.botToken.equals(first.botToken) || next.isEmbed() != first.isEmbed()) {
+                break;
+            }
+            if (next.isEmbed()) {
+                if (embeds + 1 > MAX_EMBEDS) {
+                    break;
+                }
+                embeds++;
+            } else {
+                // Joined with a newline separator
+                int newLength = contentLength + 1 + next.content.length();
+                if (newLength > MAX_CONTENT_LENGTH) {
+                    break;
+                }
+                contentLength = newLength;
+            }
+            batch.add(queue.pending.pollFirst());
+        }
+        return batch;
+    }
+
+    private Mono<Outcome> send(ChannelQueue queue, List<PendingMessage> batch) {
+        PendingMessage first = batch.get(0);
+        Map<String, Object> payload = new HashMap<>();
+        if (first.isEmbed()) {
+            List<Map<String, Object>> embeds = new ArrayList<>(batch.size());
+            for (PendingMessage message : batch) {
+                embeds.add(message.embed);
+            }
+            payload.put("embeds", embeds);
+        } else {
+            StringBuilder content = new StringBuilder(first.content);
+            for (int i = 1; i < batch.size(); i++) {
+                content.append('\n').append(batch.get(i).content);
+            }
+            payload.put("content", content.toString());
+        }
+
+        if (batch.size() > 1) {
+            logger.debug("[Discord-Bot] Coalesced {} messages for channel {}", batch.size(), queue.channelId);
+        }
+
+        return discordBotClient.post()
+                .uri("/channels/{channelId}/messages", queue.channelId)
+                .header(HttpHeaders.AUTHORIZATION, "Bot " + first.botToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(payload)
+                .exchangeToMono(response -> {
+                    updateBucket(queue, response.headers().asHttpHeaders());
+                    int status = response.statusCode().value();
+                    if (status == 429) {
+                        return response.bodyToMono(String.class)
+                                .defaultIfEmpty("")
+                                .map(body -> rateLimited(response, body));
+                    }
+                    if (response.statusCode().is2xxSuccessful()) {
+                        return response.releaseBody().thenReturn(Outcome.DELIVERED);
+                    }
+                    if (response.statusCode().is4xxClientError()) {
+                        logger.error("[Discord-Bot] API returned {} for channel {}", status, queue.channelId);
+                        return response.releaseBody().thenReturn(Outcome.failed(new IllegalArgumentException(
+                                "Invalid Discord bot token, channel ID, or insufficient permissions")));
+                    }
+                    logger.error("[Discord-Bot] API server error {}", status);
+                    return response.releaseBody().thenReturn(Outcome.retry(
+                            new RuntimeException("Discord API is temporarily unavailable")));
+                })
+                .onErrorResume(error -> Mono.just(Outcome.retry(error)));
+    }
+
+    private void handleOutcome(ChannelQueue queue, List<PendingMessage> batch, Outcome outcome) {
+        switch (outcome.kind) {
+            case DELIVERED -> batch.forEach(message -> message.result.tryEmitEmpty());
+            case FAILED -> batch.forEach(message -> message.result.tryEmitError(outcome.error));
+            case RATE_LIMITED -> {
+                long now = System.currentTimeMillis();
+                if (outcome.global) {
+                    synchronized (globalLock) {
+                        globalResetAt = Math.max(globalResetAt, now + outcome.retryAfterMs);
+                    }
+                }
+                List<PendingMessage> exhausted = new ArrayList<>();
+                String bucketKey;
+                synchronized (queue) {
+                    bucketKey = queue.bucketKey();
+                    if (bucketKey == null) {
+                        // No bucket reported yet, hold back this channel only
+                        queue.backoffUntil = Math.max(queue.backoffUntil, now + outcome.retryAfterMs);
+                    }
+                    requeue(queue, batch, exhausted, message -> ++message.rateLimitHits > MAX_RATE_LIMIT_RETRIES);
+                }
+                if (bucketKey != null) {
+                    bucket(bucketKey).exhausted(now + outcome.retryAfterMs);
+                }
+                logger.warn("[Discord-Bot] Rate limited on channel {} ({}), retrying in {} ms",
+                        queue.channelId, outcome.global ? "global" : "bucket " + bucketKey, outcome.retryAfterMs);
+                exhausted.forEach(message -> message.result.tryEmitError(
+                        new RuntimeException("Discord rate limit retries exhausted")));
+            }
+            case RETRY -> {
+                List<PendingMessage> exhausted = new ArrayList<>();
+                int attempt;
+                synchronized (queue) {
+                    requeue(queue, batch, exhausted, message -> ++message.attempts > maxRetries);
+                    attempt = batch.get(0).attempts;
+                    if (exhausted.size() < batch.size()) {
+                        // Exponential backoff: base, 2x base, 4x base...
+                        long backoff = retryBackoff.toMillis() * (1L << Math.min(Math.max(attempt - 1, 0), 5));
+                        queue.backoffUntil = System.currentTimeMillis() + backoff;
+                    }
+                }
+                if (!exhausted.isEmpty()) {
+                    logger.error("[Discord-Bot] Failed to deliver to channel {}: {}",
+                            queue.channelId, outcome.error.getMessage());
+                } else {
+                    logger.warn("[Discord-Bot] Retrying API call for channel {} (attempt {})",
+                            queue.channelId, attempt);
+                }
+                exhausted.forEach(message -> message.result.tryEmitError(outcome.error));
+            }
+        }
+        drainNext(queue);
+    }
+
+    /**
+     * Put the batch back at the head of the queue in its original order, except
+     * for messages that have run out of attempts.
+     */
+    private void requeue(ChannelQueue queue, List<PendingMessage> batch, List<PendingMessage> exhausted,
+            Predicate<PendingMessage> giveUp) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            PendingMessage message = batch.get(i);
+            if (giveUp.test(message)) {
+                exhausted.add(0, message);
+            } else {
+                queue.pending.addFirst(message);
+            }
+        }
+    }
+
+    private void updateBucket(ChannelQueue queue, HttpHeaders headers) {
+        String bucketId = headers.getFirst("X-RateLimit-Bucket");
+        if (bucketId == null) {
+            return;
+        }
+        String bucketKey;
+        synchronized (queue) {
+            queue.bucketId = bucketId;
+            bucketKey = queue.bucketKey();
+        }
+
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        long resetAfterMs = parseSecondsToMillis(headers.getFirst("X-RateLimit-Reset-After"));
+        RateLimitBucket bucket = bucket(bucketKey);
+        synchronized (bucket) {
+            if (remaining != null) {
+                try {
+                    bucket.remaining = Integer.parseInt(remaining);
+                } catch (NumberFormatException ignored) {
+                    // Leave the previous value
+                }
+            }
+            if (resetAfterMs >= 0) {
+                bucket.resetAt = System.currentTimeMillis() + resetAfterMs;
+            }
+        }
+    }
+
+    private RateLimitBucket bucket(String bucketKey) {
+        return buckets.computeIfAbsent(bucketKey, key -> new RateLimitBucket());
+    }
+
+    private Outcome rateLimited(ClientResponse response, String body) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        boolean global = "true".equalsIgnoreCase(headers.getFirst("X-RateLimit-Global"));
+        long retryAfterMs = parseSecondsToMillis(headers.getFirst("Retry-After"));
+
+        if (!body.isBlank()) {
+            try {
+                JsonNode json = objectMapper.readTree(body);
+                if (json.has("retry_after")) {
+                    retryAfterMs = Math.max(retryAfterMs, (long) Math.ceil(json.get("retry_after").asDouble() * 1000));
+                }
+                global = global || json.path("global").asBoolean(false);
+            } catch (Exception e) {
+                logger.debug("[Discord-Bot] Could not parse 429 body: {}", e.getMessage());
+            }
+        }
+        if (retryAfterMs < 0) {
+            retryAfterMs = 1000;
+        }
+        return Outcome.rateLimited(retryAfterMs, global);
+    }
+
+    /**
+     * Reserve a slot in the global one-second request window, returning how long
+     * the caller must wait (in addition to {@code alreadyWaitingMs}) before sending.
+     */
+    private long reserveGlobalSlot(long alreadyWaitingMs) {
+        synchronized (globalLock) {
+            long sendAt = System.currentTimeMillis() + alreadyWaitingMs;
+            sendAt = Math.max(sendAt, globalResetAt);
+            if (sendAt - globalWindowStart >= 1000) {
+                globalWindowStart = sendAt;
+                globalWindowCount = 0;
+            }
+            if (globalWindowCount >= globalRequestsPerSecond) {
+                globalWindowStart += 1000;
+                globalWindowCount = 0;
+                sendAt = Math.max(sendAt, globalWindowStart);
+            }
+            globalWindowCount++;
+            return sendAt - System.currentTimeMillis();
+        }
+    }
+
+    private static long parseSecondsToMillis(String seconds) {
+        if (seconds == null || seconds.isBlank()) {
+            return -1;
+        }
+        try {
+            return (long) Math.ceil(Double.parseDouble(seconds) * 1000);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class ChannelQueue {
+        final String channelId;
+        final Deque<PendingMessage> pending = new ArrayDeque<>();
+        boolean draining;
+        boolean evicted;
+        String bucketId;
+        long backoffUntil;
+
+        ChannelQueue(String channelId) {
+            this.channelId = channelId;
+        }
+
+        /**
+         * Key of this channel's rate-limit state, null until Discord reported a bucket.
+         */
+        String bucketKey() {
+            return bucketId != null ? bucketId + ":" + channelId : null;
+        }
+    }
+
+    private static final class RateLimitBucket {
+        int remaining = 1;
+        long resetAt;
+
+        synchronized long delayBeforeNextRequest(long now) {
+            return remaining <= 0 && resetAt > now ? resetAt - now : 0;
+        }
+
+        synchronized void exhausted(long until) {
+            remaining = 0;
+            resetAt = Math.max(resetAt, until);
+        }
+    }
+
+    private static final class PendingMessage {
+        final String botToken;
+        final String content;
+        final Map<String, Object> embed;
+        final Sinks.One<Void> result = Sinks.one();
+        int attempts;
+        int rateLimitHits;
+
+        PendingMessage(String botToken, String content, Map<String, Object> embed) {
+            this.botToken = botToken;
+            this.content = content;
+            this.embed = embed;
+        }
+
+        boolean isEmbed() {
+            return embed != null;
+        }
+    }
+
+    private enum OutcomeKind { DELIVERED, FAILED, RATE_LIMITED, RETRY }
+
+    private static final class Outcome {
+        static final Outcome DELIVERED = new Outcome(OutcomeKind.DELIVERED, null, 0, false);
+
+        final OutcomeKind kind;
+        final Throwable error;
+        final long retryAfterMs;
+        final boolean global;
+
+        private Outcome(OutcomeKind kind, Throwable error, long retryAfterMs, boolean global) {
+            this.kind = kind;
+            this.error = error;
+            this.retryAfterMs = retryAfterMs;
+            this.global = global;
+        }
+
+        static Outcome failed(Throwable error) {
+            return new Outcome(OutcomeKind.FAILED, error, 0, false);
+        }
+
+        static Outcome retry(Throwable error) {
+            return new Outcome(OutcomeKind.RETRY, error, 0, false);
+        }
+
+        static Outcome rateLimited(long retryAfterMs, boolean global) {
+            return new Outcome(OutcomeKind.RATE_LIMITED, null, retryAfterMs, global);
+        }
+    }
+}
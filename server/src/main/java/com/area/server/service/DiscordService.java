@@ -3,12 +3,13 @@ package com.area.server.service;
 import com.area.server.dto.GmailMessage;
 import com.area.server.logging.ExternalApiLogger;
 import com.area.server.model.DiscordReactionConfig;
+import com.area.server.service.template.CompiledTemplate;
+import com.area.server.service.template.TemplateEngine;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -22,8 +23,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Service
 public class DiscordService {
@@ -32,19 +31,18 @@ public class DiscordService {
     private static final String SERVICE_NAME = "Discord";
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
             .withZone(ZoneId.systemDefault());
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{\\{([^}]+)\\}\\}|\\{([^}]+)\\}");
 
     private final WebClient discordClient;
-    private final WebClient discordBotClient;
+    private final DiscordDeliveryScheduler deliveryScheduler;
     private final ObjectMapper objectMapper;
     private final ExternalApiLogger apiLogger;
 
     public DiscordService(@Qualifier("discordWebClient") WebClient discordClient,
-            @Qualifier("discordBotWebClient") WebClient discordBotClient,
+            DiscordDeliveryScheduler deliveryScheduler,
             ObjectMapper objectMapper,
             ExternalApiLogger apiLogger) {
         this.discordClient = discordClient;
-        this.discordBotClient = discordBotClient;
+        this.deliveryScheduler = deliveryScheduler;
         this.objectMapper = objectMapper;
         this.apiLogger = apiLogger;
     }
@@ -243,37 +241,13 @@ public class DiscordService {
             return Mono.error(new IllegalArgumentException("Message content is required"));
         }
 
-        Map<String, Object> payload = Map.of("content", truncate(messageContent, 2000));
-
         apiLogger.logOperation(SERVICE_NAME, "BOT_SEND_MESSAGE",
-                String.format("Sending to channel %s, content length: %d chars", channelId, messageContent.length()));
+                String.format("Queueing for channel %s, content length: %d chars", channelId, messageContent.length()));
         logger.debug("[Discord-Bot] Message content: {}",
                 messageContent.length() > 100 ? messageContent.substring(0, 100) + "..." : messageContent);
 
-        return discordBotClient.post()
-                .uri("/channels/{channelId}/messages", channelId)
-                .header(HttpHeaders.AUTHORIZATION, "Bot " + botToken)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(payload)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError(),
-                        response -> {
-                            logger.error("[Discord-Bot] API returned 4xx error for channel {}", channelId);
-                            return Mono.error(new IllegalArgumentException(
-                                    "Invalid Discord bot token, channel ID, or insufficient permissions"));
-                        })
-                .onStatus(
-                        status -> status.is5xxServerError(),
-                        response -> {
-                            logger.error("[Discord-Bot] API server error");
-                            return Mono.error(new RuntimeException("Discord API is temporarily unavailable"));
-                        })
-                .bodyToMono(Void.class)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
-                        .filter(throwable -> !(throwable instanceof IllegalArgumentException))
-                        .doBeforeRetry(signal -> logger.warn("[Discord-Bot] Retrying API call (attempt {})",
-                                signal.totalRetries() + 1)))
+        // Delivery, rate limiting and retries are handled per channel by the scheduler
+        return deliveryScheduler.enqueueMessage(botToken, channelId, truncate(messageContent, 2000))
                 .doOnSuccess(v -> apiLogger.logOperation(SERVICE_NAME, "BOT_SEND_SUCCESS",
                         String.format("Message sent to channel %s", channelId)))
                 .onErrorResume(error -> {
@@ -299,28 +273,10 @@ public class DiscordService {
         }
 
         Map<String, Object> embed = createEmbed(email);
-        Map<String, Object> payload = Map.of("embeds", List.of(embed));
 
         logger.debug("Sending Discord embed via Bot API for email: {}", email.getSubject());
 
-        return discordBotClient.post()
-                .uri("/channels/{channelId}/messages", channelId)
-                .header(HttpHeaders.AUTHORIZATION, "Bot " + botToken)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(payload)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError(),
-                        response -> {
-                            logger.error("Discord Bot API returned 4xx error");
-                            return Mono.error(new IllegalArgumentException(
-                                    "Invalid Discord bot token, channel ID, or insufficient permissions"));
-                        })
-                .bodyToMono(Void.class)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
-                        .filter(throwable -> !(throwable instanceof IllegalArgumentException))
-                        .doBeforeRetry(signal -> logger.warn("Retrying Discord embed call (attempt {})",
-                                signal.totalRetries() + 1)))
+        return deliveryScheduler.enqueueEmbed(botToken, channelId, embed)
                 .doOnSuccess(v -> logger.info("Successfully sent Discord embed via Bot API for email: {}",
                         email.getSubject()))
                 .onErrorResume(error -> {
@@ -332,6 +288,7 @@ public class DiscordService {
     /**
      * Replace placeholders in a message template with actual values.
      * Supports placeholders like {subject}, {from}, {snippet}, etc.
+     * Reactions render through {@link TemplateEngine}, which caches the compiled template.
      *
      * @param template     The message template with placeholders
      * @param placeholders Map of placeholder names to their values
@@ -341,26 +298,7 @@ public class DiscordService {
         if (template == null || template.isBlank()) {
             return "";
         }
-
-        String result = template;
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
-
-        // We need to handle replacements carefully to avoid issues with concurrent
-        // modification or overlapping matches
-        // Re-running matcher on modified string is inefficient but safe for simple
-        // cases
-        // A better approach is StringBuilder with appendReplacement
-        StringBuilder sb = new StringBuilder();
-        while (matcher.find()) {
-            String key = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
-            String value = placeholders.getOrDefault(key, "");
-
-            // value might contain $ which causes issues with appendReplacement
-            matcher.appendReplacement(sb, Matcher.quoteReplacement(value));
-        }
-        matcher.appendTail(sb);
-
-        return sb.toString();
+        return CompiledTemplate.compile(template).render(placeholders::get, CompiledTemplate.Missing.EMPTY);
     }
 
     /**
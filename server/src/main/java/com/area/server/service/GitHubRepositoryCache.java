@@ -0,0 +1,127 @@
+package com.area.server.service;
+
+import com.area.server.dto.GitHubRepositoryDTO;
+import com.area.server.dto.GitHubRepositoryPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-connection cache of the repository picker list, refreshed on read.
+ * Fresh entries are served directly. A read of a stale entry still returns it
+ * immediately and starts an asynchronous request that revalidates it against
+ * GitHub with its ETag, so an unchanged list costs a 304 and never blocks the
+ * caller. Nothing refreshes entries that are not read: the cache holds no
+ * access tokens, and an entry older than max-age is fetched again on the next
+ * read. Concurrent misses for the same page share a single GitHub request.
+ */
+@Component
+public class GitHubRepositoryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubRepositoryCache.class);
+
+    private final GitHubService githubService;
+    private final Clock clock;
+    private final Duration freshFor;
+    private final Duration maxAge;
+    private final int maxEntries;
+
+    private final Map<String, CachedPage> cache = new ConcurrentHashMap<>();
+    private final Map<String, Mono<List<GitHubRepositoryDTO>>> inFlight = new ConcurrentHashMap<>();
+
+    public GitHubRepositoryCache(GitHubService githubService,
+                                 Clock clock,
+                                 @Value("${github.repositories.cache.fresh-ms:60000}") long freshForMs,
+                                 @Value("${github.repositories.cache.max-age-ms:3600000}") long maxAgeMs,
+                                 @Value("${github.repositories.cache.max-entries:5000}") int maxEntries) {
+        this.githubService = githubService;
+        this.clock = clock;
+        this.freshFor = Duration.ofMillis(freshForMs);
+        this.maxAge = Duration.ofMillis(maxAgeMs);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Repositories for the connection, from cache when possible.
+     *
+     * @param connectionId Service connection the token belongs to (cache key)
+     * @param accessToken  GitHub OAuth access token
+     */
+    public Mono<List<GitHubRepositoryDTO>> getRepositories(Long connectionId, String accessToken,
+                                                           int page, int perPage) {
+        String key = connectionId + ":" + page + ":" + perPage;
+        CachedPage cached = cache.get(key);
+        Instant now = clock.instant();
+
+        if (cached != null && cached.fetchedAt.plus(maxAge).isAfter(now)) {
+            if (cached.fetchedAt.plus(freshFor).isBefore(now)) {
+                // Stale: serve what we have, revalidate without making this read wait
+                revalidate(key, accessToken, page, perPage, cached)
+                    .subscribe(null, error -> logger.warn("Repository revalidation failed for {}: {}",
+                        key, error.getMessage()));
+            }
+            return Mono.just(cached.repositories);
+        }
+
+        return revalidate(key, accessToken, page, perPage, cached);
+    }
+
+    /**
+     * Drop all cached pages for a connection (e.g. after it is deleted or reconnected).
+     */
+    public void evict(Long connectionId) {
+        String prefix = connectionId + ":";
+        cache.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private Mono<List<GitHubRepositoryDTO>> revalidate(String key, String accessToken, int page, int perPage,
+                                                       CachedPage cached) {
+        return inFlight.computeIfAbsent(key, k -> githubService
+            .fetchUserRepositories(accessToken, page, perPage, cached != null ? cached.etag : null)
+            .map(result -> {
+                CachedPage updated = result.isNotModified()
+                    ? new CachedPage(cached.etag, cached.repositories, clock.instant())
+                    : new CachedPage(result.getEtag(), result.getRepositories(), clock.instant());
+                put(key, updated);
+                return updated.repositories;
+            })
+            // Leave the map before callers see the result, so the next miss fetches again
+            .doOnTerminate(() -> inFlight.remove(key))
+            .cache());
+    }
+
+    private void put(String key, CachedPage page) {
+        if (cache.size() >= maxEntries && !cache.containsKey(key)) {
+            Instant cutoff = clock.instant().minus(maxAge);
+            cache.values().removeIf(entry -> entry.fetchedAt.isBefore(cutoff));
+            if (cache.size() >= maxEntries) {
+                cache.entrySet().stream()
+                    .min(Comparator.comparing(entry -> entry.getValue().fetchedAt))
+                    .ifPresent(oldest -> cache.remove(oldest.getKey()));
+            }
+        }
+        cache.put(key, page);
+    }
+
+    private static final class CachedPage {
+        final String etag;
+        final List<GitHubRepositoryDTO> repositories;
+        final Instant fetchedAt;
+
+        CachedPage(String etag, List<GitHubRepositoryDTO> repositories, Instant fetchedAt) {
+            this.etag = etag;
+            this.repositories = repositories;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
@@ -4,16 +4,22 @@ import com.area.server.dto.GitHubApiResponse;
 import com.area.server.dto.GitHubIssue;
 import com.area.server.dto.GitHubPullRequest;
 import com.area.server.dto.GitHubRepositoryDTO;
+import com.area.server.dto.GitHubRepositoryPage;
 import com.area.server.logging.ExternalApiLogger;
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.model.AutomationEntity;
 import com.area.server.model.GitHubActionConfig;
 import com.area.server.model.GitHubReactionConfig;
 import com.area.server.model.ServiceConnection;
 import com.area.server.service.integration.executor.TriggerContext;
+import com.area.server.service.template.CompiledTemplate;
+import com.area.server.service.template.TemplateEngine;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -21,11 +27,15 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.function.Tuple2;
 import reactor.util.retry.Retry;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for interacting with GitHub API.
@@ -39,16 +49,36 @@ public class GitHubService {
     private static final int MAX_RESULTS = 30;
     private static final int MAX_RETRIES = 3;
 
+    private static final int MAX_CACHED_REFS = 1000;
+
     private final WebClient githubClient;
     private final ObjectMapper objectMapper;
     private final ExternalApiLogger apiLogger;
+    private final TemplateEngine templateEngine;
+    private final EngineMetrics metrics;
+    private final Clock clock;
+    private final Duration baseRefTtl;
+    private final int maxFetchItems;
+
+    // owner/repo#branch -> head commit and tree, reused across PR reactions
+    private final Map<String, BaseRef> baseRefCache = new ConcurrentHashMap<>();
 
     public GitHubService(@Qualifier("githubWebClient") WebClient githubClient,
                          ObjectMapper objectMapper,
-                         ExternalApiLogger apiLogger) {
+                         ExternalApiLogger apiLogger,
+                         TemplateEngine templateEngine,
+                         EngineMetrics metrics,
+                         Clock clock,
+                         @Value("${github.ref-cache.ttl-ms:30000}") long baseRefTtlMs,
+                         @Value("${trigger.fetch.max-items:500}") int maxFetchItems) {
         this.githubClient = githubClient;
         this.objectMapper = objectMapper;
         this.apiLogger = apiLogger;
+        this.templateEngine = templateEngine;
+        this.metrics = metrics;
+        this.clock = clock;
+        this.baseRefTtl = Duration.ofMillis(baseRefTtlMs);
+        this.maxFetchItems = maxFetchItems;
     }
 
     /**
@@ -63,24 +93,14 @@ public class GitHubService {
         apiLogger.logOperation(SERVICE_NAME, "FETCH_ISSUES",
             String.format("Repository: %s/%s, After issue #%s", owner, repo, afterIssueNumber));
 
-        return githubClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/repos/{owner}/{repo}/issues")
-                .queryParam("state", "open")
-                .queryParam("sort", "created")
-                .queryParam("direction", "desc")
-                .queryParam("per_page", MAX_RESULTS)
-                .build(owner, repo))
-            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
-            .accept(MediaType.APPLICATION_JSON)
-            .retrieve()
-            .bodyToFlux(JsonNode.class)
+        return fetchNewerThan(connection, "/repos/{owner}/{repo}/issues", owner, repo, afterIssueNumber)
             .doOnNext(node -> logger.debug("[GitHub] Received issue node: #{} - {}",
                 node.has("number") ? node.get("number").asText() : "?",
                 node.has("title") ? node.get("title").asText() : "?"))
             .filter(node -> !node.has("pull_request")) // Exclude PRs (they appear as issues too)
             .map(this::parseIssue)
             .filter(issue -> afterIssueNumber == null || issue.getNumber() > afterIssueNumber)
+            .take(maxFetchItems)
             .collectList()
             .doOnSuccess(issues -> {
                 apiLogger.logOperation(SERVICE_NAME, "FETCH_ISSUES_COMPLETE",
@@ -109,23 +129,13 @@ public class GitHubService {
         apiLogger.logOperation(SERVICE_NAME, "FETCH_PRS",
             String.format("Repository: %s/%s, After PR #%s", owner, repo, afterPrNumber));
 
-        return githubClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/repos/{owner}/{repo}/pulls")
-                .queryParam("state", "open")
-                .queryParam("sort", "created")
-                .queryParam("direction", "desc")
-                .queryParam("per_page", MAX_RESULTS)
-                .build(owner, repo))
-            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
-            .accept(MediaType.APPLICATION_JSON)
-            .retrieve()
-            .bodyToFlux(JsonNode.class)
+        return fetchNewerThan(connection, "/repos/{owner}/{repo}/pulls", owner, repo, afterPrNumber)
             .doOnNext(node -> logger.debug("[GitHub] Received PR node: #{} - {}",
                 node.has("number") ? node.get("number").asText() : "?",
                 node.has("title") ? node.get("title").asText() : "?"))
             .map(this::parsePullRequest)
             .filter(pr -> afterPrNumber == null || pr.getNumber() > afterPrNumber)
+            .take(maxFetchItems)
             .collectList()
             .doOnSuccess(prs -> {
                 apiLogger.logOperation(SERVICE_NAME, "FETCH_PRS_COMPLETE",
@@ -142,17 +152,55 @@ public class GitHubService {
             });
     }
 
+    /**
+     * List open issues or PRs, newest first, paging until a page reaches afterNumber. Without a
+     * cursor only the first page is read; at most trigger.fetch.max-items entries are listed.
+     */
+    private Flux<JsonNode> fetchNewerThan(ServiceConnection connection, String path,
+                                          String owner, String repo, Long afterNumber) {
+        return fetchPage(connection, path, owner, repo, 1)
+            .expand(page -> {
+                boolean reachedCursor = afterNumber == null || page.nodes().stream()
+                    .anyMatch(node -> node.path("number").asLong() <= afterNumber);
+                if (reachedCursor || page.nodes().size() < MAX_RESULTS
+                        || page.number() * MAX_RESULTS >= maxFetchItems) {
+                    return Mono.empty();
+                }
+                return fetchPage(connection, path, owner, repo, page.number() + 1);
+            })
+            .concatMapIterable(Page::nodes);
+    }
+
+    private Mono<Page> fetchPage(ServiceConnection connection, String path, String owner, String repo, int page) {
+        return githubClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path(path)
+                .queryParam("state", "open")
+                .queryParam("sort", "created")
+                .queryParam("direction", "desc")
+                .queryParam("per_page", MAX_RESULTS)
+                .queryParam("page", page)
+                .build(owner, repo))
+            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
+            .accept(MediaType.APPLICATION_JSON)
+            .retrieve()
+            .bodyToFlux(JsonNode.class)
+            .collectList()
+            .map(nodes -> new Page(page, nodes));
+    }
+
     /**
      * Create a new issue in the specified repository
      */
-    public Mono<GitHubApiResponse.CreateIssueResponse> createIssue(ServiceConnection connection,
+    public Mono<GitHubApiResponse.CreateIssueResponse> createIssue(AutomationEntity entity,
+                                                                     ServiceConnection connection,
                                                                      GitHubReactionConfig config,
                                                                      TriggerContext context) {
         String owner = config.getRepositoryOwner();
         String repo = config.getRepositoryName();
 
-        String title = substituteVariables(config.getIssueTitle(), context);
-        String body = substituteVariables(config.getIssueBody(), context);
+        String title = substituteVariables(entity, config.getIssueTitle(), context);
+        String body = substituteVariables(entity, config.getIssueBody(), context);
 
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("title", title);
@@ -197,48 +245,50 @@ public class GitHubService {
 
     /**
      * Create a new pull request in the specified repository
-     * This creates a branch, commits a file, and opens a PR
+     * This creates a branch, commits the configured file(s), and opens a PR.
+     * The target branch head is served from a short-lived cache so repeated
+     * reactions skip the ref lookup. A single file goes through the contents API;
+     * several files are written as one tree/commit through the Git Data API.
      */
     public Mono<GitHubApiResponse.CreatePullRequestResponse> createPullRequest(
+            AutomationEntity entity,
             ServiceConnection connection,
             GitHubReactionConfig config,
             TriggerContext context) {
 
         String owner = config.getRepositoryOwner();
         String repo = config.getRepositoryName();
-        String sourceBranch = substituteVariables(config.getSourceBranch(), context);
+        String sourceBranch = substituteVariables(entity, config.getSourceBranch(), context);
         String targetBranch = config.getTargetBranch() != null ? config.getTargetBranch() : "main";
 
+        // Resolve every template up front, none of them depend on API responses
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put(substituteVariables(entity, config.getFilePath(), context),
+            Objects.requireNonNullElse(substituteVariables(entity, config.getFileContent(), context), ""));
+        config.getAdditionalFiles().forEach((path, content) -> files.put(
+            substituteVariables(entity, path, context),
+            Objects.requireNonNullElse(substituteVariables(entity, content, context), "")));
+        // Default commit message to PR title if not provided
+        String commitMessage = (config.getCommitMessage() != null && !config.getCommitMessage().isBlank())
+            ? substituteVariables(entity, config.getCommitMessage(), context)
+            : substituteVariables(entity, config.getPrTitle(), context);
+        String prTitle = substituteVariables(entity, config.getPrTitle(), context);
+        String prBody = substituteVariables(entity, config.getPrBody(), context);
+
         apiLogger.logOperation(SERVICE_NAME, "CREATE_PR",
-            String.format("Creating PR in %s/%s: %s -> %s", owner, repo, sourceBranch, targetBranch));
-
-        // Step 1: Get the SHA of the target branch
-        return getRef(connection, owner, repo, targetBranch)
-            .doOnNext(sha -> logger.debug("[GitHub] Step 1: Got target branch SHA: {}", sha))
-            .flatMap(targetSha -> {
-                // Step 2: Create a new branch from target
-                logger.debug("[GitHub] Step 2: Creating branch '{}'", sourceBranch);
-                return createBranch(connection, owner, repo, sourceBranch, targetSha);
-            })
-            .flatMap(branchSha -> {
-                // Step 3: Create or update file in the new branch
-                String filePath = substituteVariables(config.getFilePath(), context);
-                String fileContent = substituteVariables(config.getFileContent(), context);
-                // Default commit message to PR title if not provided
-                String commitMessage = (config.getCommitMessage() != null && !config.getCommitMessage().isBlank())
-                    ? substituteVariables(config.getCommitMessage(), context)
-                    : substituteVariables(config.getPrTitle(), context);
-
-                logger.debug("[GitHub] Step 3: Committing file '{}' with message: {}", filePath, commitMessage);
-                return commitFile(connection, owner, repo, sourceBranch, filePath, fileContent, commitMessage);
-            })
-            .flatMap(commitSha -> {
-                // Step 4: Create the pull request
-                String prTitle = substituteVariables(config.getPrTitle(), context);
-                String prBody = substituteVariables(config.getPrBody(), context);
+            String.format("Creating PR in %s/%s: %s -> %s (%d file(s))",
+                owner, repo, sourceBranch, targetBranch, files.size()));
+
+        Mono<String> branchCommit = files.size() == 1
+            ? commitSingleFile(connection, owner, repo, targetBranch, sourceBranch,
+                files.entrySet().iterator().next(), commitMessage)
+            : commitTree(connection, owner, repo, targetBranch, sourceBranch, files, commitMessage);
 
-                logger.debug("[GitHub] Step 4: Creating PR with title: {}", prTitle);
-                return createPr(connection, owner, repo, prTitle, prBody, sourceBranch, targetBranch);
+        return branchCommit
+            .doOnNext(commitSha -> logger.debug("[GitHub] Branch '{}' at commit {}", sourceBranch, commitSha))
+            .flatMap(commitSha -> {
+                logger.debug("[GitHub] Creating PR with title: {}", prTitle);
+                return timed("create_pr", createPr(connection, owner, repo, prTitle, prBody, sourceBranch, targetBranch));
             })
             .doOnSuccess(response -> {
                 apiLogger.logOperation(SERVICE_NAME, "CREATE_PR_SUCCESS",
@@ -246,11 +296,156 @@ public class GitHubService {
                         response.getNumber(), owner, repo, response.getHtmlUrl()));
             })
             .onErrorResume(error -> {
+                // The cached base may be stale (force push, deleted branch), drop it
+                baseRefCache.remove(baseRefKey(owner, repo, targetBranch));
                 logger.error("[GitHub] Failed to create PR in {}/{}: {}", owner, repo, error.getMessage());
                 return Mono.error(error);
             });
     }
 
+    /**
+     * Branch from the target head and commit a single file with the contents API.
+     */
+    private Mono<String> commitSingleFile(ServiceConnection connection, String owner, String repo,
+                                          String targetBranch, String sourceBranch,
+                                          Map.Entry<String, String> file, String commitMessage) {
+        return resolveBaseRef(connection, owner, repo, targetBranch)
+            .flatMap(base -> {
+                logger.debug("[GitHub] Creating branch '{}' from {}", sourceBranch, base.commitSha());
+                return timed("create_branch", createBranch(connection, owner, repo, sourceBranch, base.commitSha()));
+            })
+            .flatMap(branchSha -> {
+                logger.debug("[GitHub] Committing file '{}' with message: {}", file.getKey(), commitMessage);
+                return timed("commit_file", commitFile(connection, owner, repo, sourceBranch,
+                    file.getKey(), file.getValue(), commitMessage));
+            });
+    }
+
+    /**
+     * Commit several files at once: one tree with inline contents, one commit, then the
+     * branch ref pointing at it. A new branch starts from the target head; when the source
+     * branch already exists (or is created meanwhile) the ref is fast-forwarded instead, so
+     * the tree and commit are never thrown away.
+     */
+    private Mono<String> commitTree(ServiceConnection connection, String owner, String repo,
+                                    String targetBranch, String sourceBranch,
+                                    Map<String, String> files, String commitMessage) {
+        Mono<Optional<BaseRef>> source = timed("get_branch", fetchBranchHead(connection, owner, repo, sourceBranch))
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty());
+        // Looked up alongside the source branch; a missing target only matters when the source is new
+        Mono<Signal<BaseRef>> target = resolveBaseRef(connection, owner, repo, targetBranch).materialize();
+
+        return Mono.zip(source, target)
+            .flatMap(heads -> {
+                Optional<BaseRef> existing = heads.getT1();
+                if (existing.isPresent()) {
+                    logger.debug("[GitHub] Branch {} exists in {}/{}, committing on top of {}",
+                        sourceBranch, owner, repo, existing.get().commitSha());
+                }
+                Mono<BaseRef> parent = existing.map(Mono::just)
+                    .orElseGet(() -> Mono.just(heads.getT2()).dematerialize());
+                return parent
+                    .flatMap(base -> timed("create_tree", createTree(connection, owner, repo, base.treeSha(), files))
+                        .flatMap(treeSha -> timed("create_commit",
+                            createCommit(connection, owner, repo, commitMessage, treeSha, base.commitSha()))))
+                    .flatMap(commitSha -> existing.isPresent()
+                        ? timed("update_branch", updateRef(connection, owner, repo, sourceBranch, commitSha))
+                        : timed("create_branch", createRef(connection, owner, repo, sourceBranch, commitSha))
+                            .onErrorResume(WebClientResponseException.UnprocessableEntity.class, error -> {
+                                // Created meanwhile: move it to the new commit if that is a fast-forward
+                                logger.warn("Branch {} appeared in {}/{} while committing, updating it",
+                                    sourceBranch, owner, repo);
+                                return timed("update_branch",
+                                    updateRef(connection, owner, repo, sourceBranch, commitSha));
+                            }));
+            });
+    }
+
+    /**
+     * Head commit and tree of a branch, served from a short-lived cache.
+     * A single branches call returns both, so a miss costs one round trip.
+     */
+    private Mono<BaseRef> resolveBaseRef(ServiceConnection connection, String owner, String repo, String branch) {
+        String key = baseRefKey(owner, repo, branch);
+        BaseRef cached = baseRefCache.get(key);
+        if (cached != null && cached.fetchedAt().plus(baseRefTtl).isAfter(clock.instant())) {
+            logger.debug("[GitHub] Using cached head {} for {}", cached.commitSha(), key);
+            return Mono.just(cached);
+        }
+
+        return timed("get_ref", fetchBranchHead(connection, owner, repo, branch))
+            .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                "Branch " + branch + " not found in " + owner + "/" + repo)))
+            .doOnNext(ref -> {
+                if (baseRefCache.size() >= MAX_CACHED_REFS) {
+                    Instant cutoff = clock.instant().minus(baseRefTtl);
+                    baseRefCache.values().removeIf(entry -> entry.fetchedAt().isBefore(cutoff));
+                }
+                baseRefCache.put(key, ref);
+                logger.debug("Got head for {}: {}", key, ref.commitSha());
+            });
+    }
+
+    /**
+     * Head commit and tree of a branch, or empty when the branch does not exist.
+     * When the branches response carries no tree SHA it is read from the commit itself,
+     * so a tree is never built without its base.
+     */
+    private Mono<BaseRef> fetchBranchHead(ServiceConnection connection, String owner, String repo, String branch) {
+        return githubClient.get()
+            .uri("/repos/{owner}/{repo}/branches/{branch}", owner, repo, branch)
+            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
+            .retrieve()
+            .bodyToMono(JsonNode.class)
+            .onErrorResume(WebClientResponseException.NotFound.class, error -> Mono.empty())
+            .flatMap(node -> {
+                String commitSha = node.path("commit").path("sha").asText(null);
+                if (commitSha == null) {
+                    return Mono.error(new IllegalStateException(
+                        "No head commit for branch " + branch + " in " + owner + "/" + repo));
+                }
+                String treeSha = node.path("commit").path("commit").path("tree").path("sha").asText(null);
+                Mono<String> tree = treeSha != null
+                    ? Mono.just(treeSha)
+                    : fetchCommitTree(connection, owner, repo, commitSha);
+                return tree.map(sha -> new BaseRef(commitSha, sha, clock.instant()));
+            });
+    }
+
+    /**
+     * Tree SHA of a commit
+     */
+    private Mono<String> fetchCommitTree(ServiceConnection connection, String owner, String repo, String commitSha) {
+        return githubClient.get()
+            .uri("/repos/{owner}/{repo}/git/commits/{sha}", owner, repo, commitSha)
+            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
+            .retrieve()
+            .bodyToMono(JsonNode.class)
+            .flatMap(node -> {
+                String treeSha = node.path("tree").path("sha").asText(null);
+                return treeSha != null
+                    ? Mono.just(treeSha)
+                    : Mono.error(new IllegalStateException("No tree for commit " + commitSha + " in " + owner + "/" + repo));
+            });
+    }
+
+    private static String baseRefKey(String owner, String repo, String branch) {
+        return (owner + "/" + repo).toLowerCase(Locale.ROOT) + "#" + branch;
+    }
+
+    /**
+     * Run a call and record its latency under the given pull request step.
+     */
+    private <T> Mono<T> timed(String step, Mono<T> call) {
+        return call.elapsed()
+            .doOnNext(timed -> {
+                metrics.recordPullRequestStep(step, timed.getT1());
+                logger.debug("[GitHub] Step {} took {} ms", step, timed.getT1());
+            })
+            .map(Tuple2::getT2);
+    }
+
     /**
      * Get the SHA of a branch
      */
@@ -265,10 +460,27 @@ public class GitHubService {
     }
 
     /**
-     * Create a new branch
+     * Create a new branch, reusing it if it already exists
      */
     private Mono<String> createBranch(ServiceConnection connection, String owner, String repo,
                                        String branchName, String sha) {
+        return createRef(connection, owner, repo, branchName, sha)
+            .onErrorResume(error -> {
+                if (error instanceof WebClientResponseException.UnprocessableEntity) {
+                    // Branch might already exist, get its SHA
+                    logger.warn("Branch {} already exists in {}/{}, using existing branch",
+                              branchName, owner, repo);
+                    return getRef(connection, owner, repo, branchName);
+                }
+                return Mono.error(error);
+            });
+    }
+
+    /**
+     * Create a branch ref pointing at the given commit
+     */
+    private Mono<String> createRef(ServiceConnection connection, String owner, String repo,
+                                   String branchName, String sha) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("ref", "refs/heads/" + branchName);
         requestBody.put("sha", sha);
@@ -281,16 +493,80 @@ public class GitHubService {
             .retrieve()
             .bodyToMono(GitHubApiResponse.GitRefResponse.class)
             .map(response -> response.getObject().getSha())
-            .doOnSuccess(branchSha -> logger.debug("Created branch {} in {}/{}", branchName, owner, repo))
-            .onErrorResume(error -> {
-                if (error instanceof WebClientResponseException.UnprocessableEntity) {
-                    // Branch might already exist, get its SHA
-                    logger.warn("Branch {} already exists in {}/{}, using existing branch",
-                              branchName, owner, repo);
-                    return getRef(connection, owner, repo, branchName);
-                }
-                return Mono.error(error);
-            });
+            .doOnSuccess(branchSha -> logger.debug("Created branch {} in {}/{}", branchName, owner, repo));
+    }
+
+    /**
+     * Move an existing branch to a commit (fast-forward only)
+     */
+    private Mono<String> updateRef(ServiceConnection connection, String owner, String repo,
+                                   String branchName, String sha) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("sha", sha);
+        requestBody.put("force", false);
+
+        return githubClient.patch()
+            .uri("/repos/{owner}/{repo}/git/refs/heads/{branch}", owner, repo, branchName)
+            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToMono(GitHubApiResponse.GitRefResponse.class)
+            .map(response -> response.getObject().getSha())
+            .doOnSuccess(branchSha -> logger.debug("Updated branch {} in {}/{}", branchName, owner, repo));
+    }
+
+    /**
+     * Create a tree with inline file contents on top of a base tree.
+     * Without base_tree GitHub would build a tree holding only these files, so the
+     * commit would delete everything else; a missing base is an error.
+     */
+    private Mono<String> createTree(ServiceConnection connection, String owner, String repo,
+                                    String baseTreeSha, Map<String, String> files) {
+        if (baseTreeSha == null || baseTreeSha.isBlank()) {
+            return Mono.error(new IllegalStateException("Missing base tree for " + owner + "/" + repo));
+        }
+        List<Map<String, Object>> entries = new ArrayList<>(files.size());
+        files.forEach((path, content) -> entries.add(Map.of(
+            "path", path,
+            "mode", "100644",
+            "type", "blob",
+            "content", content)));
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("tree", entries);
+        requestBody.put("base_tree", baseTreeSha);
+
+        return githubClient.post()
+            .uri("/repos/{owner}/{repo}/git/trees", owner, repo)
+            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToMono(GitHubApiResponse.GitTreeResponse.class)
+            .map(GitHubApiResponse.GitTreeResponse::getSha)
+            .doOnSuccess(sha -> logger.debug("Created tree {} with {} files in {}/{}", sha, files.size(), owner, repo));
+    }
+
+    /**
+     * Create a commit object for a tree
+     */
+    private Mono<String> createCommit(ServiceConnection connection, String owner, String repo,
+                                      String message, String treeSha, String parentSha) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("message", message);
+        requestBody.put("tree", treeSha);
+        requestBody.put("parents", List.of(parentSha));
+
+        return githubClient.post()
+            .uri("/repos/{owner}/{repo}/git/commits", owner, repo)
+            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToMono(GitHubApiResponse.GitCommitResponse.class)
+            .map(GitHubApiResponse.GitCommitResponse::getSha)
+            .doOnSuccess(sha -> logger.debug("Created commit {} in {}/{}", sha, owner, repo));
     }
 
     /**
@@ -360,6 +636,22 @@ public class GitHubService {
      * @return List of repositories the user can access
      */
     public Mono<List<GitHubRepositoryDTO>> getUserRepositories(String accessToken, int page, int perPage) {
+        return fetchUserRepositories(accessToken, page, perPage, null)
+            .map(GitHubRepositoryPage::getRepositories);
+    }
+
+    /**
+     * Fetch a page of the user's repositories, revalidating with If-None-Match when
+     * an ETag from a previous response is given. A 304 from GitHub yields a
+     * not-modified page (and does not count against the rate limit).
+     *
+     * @param accessToken GitHub OAuth access token
+     * @param page Page number (1-indexed)
+     * @param perPage Number of results per page (max 100)
+     * @param etag ETag of the cached page, or null for an unconditional request
+     * @return The page with its ETag, or a not-modified marker
+     */
+    public Mono<GitHubRepositoryPage> fetchUserRepositories(String accessToken, int page, int perPage, String etag) {
         int actualPerPage = Math.min(perPage, 100);
 
         return githubClient.get()
@@ -371,14 +663,34 @@ public class GitHubService {
                 .queryParam("page", page)
                 .queryParam("affiliation", "owner,collaborator,organization_member")
                 .build())
-            .headers(headers -> headers.setBearerAuth(accessToken))
-            .retrieve()
-            .bodyToFlux(GitHubApiResponse.RepositoryResponse.class)
-            .filter(repo -> repo.getPermissions() != null &&
-                           (repo.getPermissions().isPush() || repo.getPermissions().isAdmin()))
-            .map(this::mapToRepositoryDTO)
-            .collectList()
-            .doOnSuccess(repos -> logger.debug("Fetched {} repositories for user", repos.size()))
+            .headers(headers -> {
+                headers.setBearerAuth(accessToken);
+                if (etag != null) {
+                    headers.setIfNoneMatch(etag);
+                }
+            })
+            .exchangeToMono(response -> {
+                if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                    return response.releaseBody().thenReturn(GitHubRepositoryPage.notModified(etag));
+                }
+                if (!response.statusCode().is2xxSuccessful()) {
+                    return response.createException().flatMap(Mono::error);
+                }
+                String responseEtag = response.headers().asHttpHeaders().getETag();
+                return response.bodyToFlux(GitHubApiResponse.RepositoryResponse.class)
+                    .filter(repo -> repo.getPermissions() != null &&
+                                   (repo.getPermissions().isPush() || repo.getPermissions().isAdmin()))
+                    .map(this::mapToRepositoryDTO)
+                    .collectList()
+                    .map(repos -> GitHubRepositoryPage.of(responseEtag, repos));
+            })
+            .doOnSuccess(result -> {
+                if (result.isNotModified()) {
+                    logger.debug("Repositories for user not modified (page {})", page);
+                } else {
+                    logger.debug("Fetched {} repositories for user", result.getRepositories().size());
+                }
+            })
             .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofSeconds(2))
                 .filter(this::isRetriableError));
     }
@@ -396,91 +708,11 @@ public class GitHubService {
     }
 
     /**
-     * Substitute variables in templates with values from trigger context
+     * Substitute variables in templates with values from trigger context.
+     * Unknown placeholders are left as written, since file contents may contain braces.
      */
-    private String substituteVariables(String template, TriggerContext context) {
-        if (template == null || template.isBlank()) {
-            return template;
-        }
-
-        String result = template;
-
-        // Gmail trigger variables
-        if (context.has("subject")) {
-            String subject = context.getString("subject");
-            if (subject != null) {
-                result = result.replace("{email.subject}", subject);
-                result = result.replace("{subject}", subject); // Backward compatibility
-            }
-        }
-        if (context.has("from")) {
-            String from = context.getString("from");
-            if (from != null) {
-                result = result.replace("{email.from}", from);
-                result = result.replace("{from}", from); // Backward compatibility
-            }
-        }
-        if (context.has("snippet")) {
-            String snippet = context.getString("snippet");
-            if (snippet != null) {
-                result = result.replace("{email.snippet}", snippet);
-                result = result.replace("{snippet}", snippet); // Backward compatibility
-            }
-        }
-
-        // GitHub issue trigger variables
-        if (context.has("issueNumber")) {
-            Object issueNumber = context.get("issueNumber");
-            if (issueNumber != null) {
-                result = result.replace("{issue.number}", String.valueOf(issueNumber));
-            }
-        }
-        if (context.has("issueTitle")) {
-            String issueTitle = context.getString("issueTitle");
-            if (issueTitle != null) {
-                result = result.replace("{issue.title}", issueTitle);
-            }
-        }
-        if (context.has("issueAuthor")) {
-            String issueAuthor = context.getString("issueAuthor");
-            if (issueAuthor != null) {
-                result = result.replace("{issue.author}", issueAuthor);
-            }
-        }
-        if (context.has("issueUrl")) {
-            String issueUrl = context.getString("issueUrl");
-            if (issueUrl != null) {
-                result = result.replace("{issue.url}", issueUrl);
-            }
-        }
-
-        // GitHub PR trigger variables
-        if (context.has("prNumber")) {
-            Object prNumber = context.get("prNumber");
-            if (prNumber != null) {
-                result = result.replace("{pr.number}", String.valueOf(prNumber));
-            }
-        }
-        if (context.has("prTitle")) {
-            String prTitle = context.getString("prTitle");
-            if (prTitle != null) {
-                result = result.replace("{pr.title}", prTitle);
-            }
-        }
-        if (context.has("prAuthor")) {
-            String prAuthor = context.getString("prAuthor");
-            if (prAuthor != null) {
-                result = result.replace("{pr.author}", prAuthor);
-            }
-        }
-        if (context.has("prUrl")) {
-            String prUrl = context.getString("prUrl");
-            if (prUrl != null) {
-                result = result.replace("{pr.url}", prUrl);
-            }
-        }
-
-        return result;
+    String substituteVariables(AutomationEntity entity, String template, TriggerContext context) {
+        return templateEngine.render(entity, template, context, CompiledTemplate.Missing.KEEP);
     }
 
     /**
@@ -575,4 +807,10 @@ public class GitHubService {
         // Retry on network errors
         return true;
     }
+
+    private record Page(int number, List<JsonNode> nodes) {
+    }
+
+    private record BaseRef(String commitSha, String treeSha, Instant fetchedAt) {
+    }
 }
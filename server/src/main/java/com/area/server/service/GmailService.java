@@ -8,6 +8,7 @@ import com.area.server.model.ServiceConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -16,6 +17,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class GmailService {
@@ -23,15 +25,26 @@ public class GmailService {
     private static final Logger logger = LoggerFactory.getLogger(GmailService.class);
     private static final String SERVICE_NAME = "Gmail";
 
+    private static final int PAGE_SIZE = 10;
+    private static final int DETAIL_CONCURRENCY = 10;
+
     private final WebClient gmailClient;
     private final ExternalApiLogger apiLogger;
+    private final int maxFetchItems;
 
     public GmailService(@Qualifier("gmailWebClient") WebClient gmailClient,
-                        ExternalApiLogger apiLogger) {
+                        ExternalApiLogger apiLogger,
+                        @Value("${trigger.fetch.max-items:500}") int maxFetchItems) {
         this.gmailClient = gmailClient;
         this.apiLogger = apiLogger;
+        this.maxFetchItems = maxFetchItems;
     }
 
+    /**
+     * Fetch the messages newer than afterMessageId. The list is paged (newest first) until a page
+     * reaches afterMessageId, so a burst larger than one page is returned whole; without a cursor
+     * only the first page is read. At most trigger.fetch.max-items messages are returned.
+     */
     public Mono<List<GmailMessage>> fetchNewMessages(ServiceConnection connection,
                                                       GmailActionConfig config,
                                                       String afterMessageId) {
@@ -41,22 +54,19 @@ public class GmailService {
             String.format("Query: '%s', After: %s, Connection: %d",
                 query, afterMessageId, connection.getId()));
 
-        return gmailClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/gmail/v1/users/me/messages")
-                .queryParam("labelIds", "UNREAD")
-                .queryParam("q", query)
-                .queryParam("maxResults", 10)
-                .build())
-            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
-            .accept(MediaType.APPLICATION_JSON)
-            .retrieve()
-            .bodyToMono(GmailApiResponse.MessageListResponse.class)
-            .doOnNext(response -> {
-                int count = response.getMessages() != null ? response.getMessages().size() : 0;
-                logger.debug("[Gmail] Message list response: {} messages found", count);
+        AtomicInteger listed = new AtomicInteger();
+        return fetchMessagePage(connection, query, null)
+            .expand(page -> {
+                List<GmailApiResponse.MessageRef> messages = page.getMessages();
+                boolean reachedCursor = afterMessageId == null || messages == null
+                    || messages.stream().anyMatch(msg -> !isAfter(msg.getId(), afterMessageId));
+                if (reachedCursor || page.getNextPageToken() == null
+                        || listed.addAndGet(messages.size()) >= maxFetchItems) {
+                    return Mono.empty();
+                }
+                return fetchMessagePage(connection, query, page.getNextPageToken());
             })
-            .flatMapMany(response -> {
+            .concatMap(response -> {
                 List<GmailApiResponse.MessageRef> messages = response.getMessages();
                 if (messages == null || messages.isEmpty()) {
                     logger.debug("[Gmail] No messages in response");
@@ -64,12 +74,17 @@ public class GmailService {
                 }
                 return Flux.fromIterable(messages);
             })
-            .filter(msg -> afterMessageId == null || msg.getId().compareTo(afterMessageId) > 0)
-            .flatMap(msg -> fetchMessageDetails(connection, msg.getId()))
+            .filter(msg -> afterMessageId == null || isAfter(msg.getId(), afterMessageId))
+            .take(maxFetchItems)
+            .flatMap(msg -> fetchMessageDetails(connection, msg.getId()), DETAIL_CONCURRENCY)
             .collectList()
             .doOnSuccess(messages -> {
                 apiLogger.logOperation(SERVICE_NAME, "FETCH_COMPLETE",
                     String.format("Retrieved %d new messages", messages.size()));
+                if (messages.size() >= maxFetchItems) {
+                    logger.warn("[Gmail] More than {} new messages for connection {}, older ones are skipped",
+                        maxFetchItems, connection.getId());
+                }
                 if (!messages.isEmpty()) {
                     messages.forEach(m -> logger.debug("[Gmail] Message: id={}, from={}, subject={}",
                         m.getId(), m.getFrom(), m.getSubject()));
@@ -81,6 +96,36 @@ public class GmailService {
             });
     }
 
+    private Mono<GmailApiResponse.MessageListResponse> fetchMessagePage(ServiceConnection connection,
+                                                                        String query,
+                                                                        String pageToken) {
+        return gmailClient.get()
+            .uri(uriBuilder -> {
+                uriBuilder
+                    .path("/gmail/v1/users/me/messages")
+                    .queryParam("labelIds", "UNREAD")
+                    .queryParam("q", query)
+                    .queryParam("maxResults", PAGE_SIZE);
+                if (pageToken != null) {
+                    uriBuilder.queryParam("pageToken", pageToken);
+                }
+                return uriBuilder.build();
+            })
+            .headers(headers -> headers.setBearerAuth(connection.getAccessToken()))
+            .accept(MediaType.APPLICATION_JSON)
+            .retrieve()
+            .bodyToMono(GmailApiResponse.MessageListResponse.class)
+            .doOnNext(response -> {
+                int count = response.getMessages() != null ? response.getMessages().size() : 0;
+                logger.debug("[Gmail] Message list response: {} messages found", count);
+            });
+    }
+
+    // Same order as GmailActionExecutor.splitItems
+    private static boolean isAfter(String messageId, String afterMessageId) {
+        return messageId.compareTo(afterMessageId) > 0;
+    }
+
     public Mono<GmailMessage> fetchMessageDetails(ServiceConnection connection, String messageId) {
         logger.debug("[Gmail] Fetching message details for id={}", messageId);
 
@@ -100,7 +145,7 @@ public class GmailService {
             });
     }
 
-    private GmailMessage parseMessage(GmailApiResponse.MessageDetail detail) {
+    GmailMessage parseMessage(GmailApiResponse.MessageDetail detail) {
         GmailMessage message = new GmailMessage();
         message.setId(detail.getId());
         message.setThreadId(detail.getThreadId());
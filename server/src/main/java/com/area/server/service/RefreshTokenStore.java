@@ -0,0 +1,203 @@
+package com.area.server.service;
+
+import com.area.server.model.RefreshToken;
+import com.area.server.model.User;
+import com.area.server.repository.RefreshTokenRepository;
+import com.area.server.security.TokenHashes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh token persistence keyed by token hash, fronted by a small in-memory cache.
+ * A cached state answers {@code /auth/refresh} without touching the refresh token
+ * table. Revocations are cached until the token expires since they are final;
+ * valid states are only trusted for a short TTL so a revocation made by another
+ * instance is picked up quickly.
+ */
+@Service
+public class RefreshTokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenStore.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Map<String, CachedState> cache = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Duration validTtl;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             @Value("${app.security.refresh-token-cache.max-entries:10000}") int maxEntries,
+                             @Value("${app.security.refresh-token-cache.ttl-ms:60000}") long validTtlMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.maxEntries = maxEntries;
+        this.validTtl = Duration.ofMillis(validTtlMs);
+    }
+
+    /**
+     * Persist a newly issued refresh token.
+     */
+    public RefreshToken save(User user, String token, Instant expiresAt, String deviceInfo) {
+        RefreshToken refreshToken = refreshTokenRepository.save(new RefreshToken(user, token, expiresAt, deviceInfo));
+        cache(refreshToken.getTokenHash(), RefreshTokenState.of(refreshToken, user.getId()));
+        return refreshToken;
+    }
+
+    /**
+     * Look up a refresh token by its raw string.
+     * Falls back to the raw token column for rows that predate the hash column
+     * and backfills their hash on the way.
+     *
+     * @param token the raw refresh token
+     * @return the token state, empty if the token is unknown
+     */
+    public Optional<RefreshTokenState> find(String token) {
+        String hash = TokenHashes.sha256Hex(token);
+        Instant now = Instant.now();
+
+        CachedState cached = cache.get(hash);
+        if (cached != null) {
+            if (cached.isFresh(now)) {
+                return Optional.of(cached.state());
+            }
+            cache.remove(hash, cached);
+        }
+
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHash(hash);
+        if (found.isEmpty()) {
+            found = refreshTokenRepository.findByToken(token);
+            found.ifPresent(legacy -> {
+                legacy.setTokenHash(hash);
+                refreshTokenRepository.save(legacy);
+            });
+        }
+
+        return found.map(refreshToken -> {
+            // getId() on the lazy user proxy does not initialize it
+            RefreshTokenState state = RefreshTokenState.of(refreshToken, refreshToken.getUser().getId());
+            cache(hash, state);
+            return state;
+        });
+    }
+
+    /**
+     * Revoke a refresh token. Must be called within a transaction.
+     *
+     * @param token the raw refresh token
+     * @param state its current state as returned by {@link #find(String)}
+     */
+    public void revoke(String token, RefreshTokenState state) {
+        refreshTokenRepository.revokeById(state.id(), Instant.now());
+        cache(TokenHashes.sha256Hex(token), state.asRevoked());
+    }
+
+    /**
+     * Delete expired refresh tokens in chunks, each chunk in its own short transaction.
+     *
+     * @param chunkSize rows deleted per statement
+     * @param maxChunks upper bound on chunks per call, so one run cannot hog the database
+     * @return number of deleted tokens
+     */
+    public int deleteExpired(int chunkSize, int maxChunks) {
+        Instant now = Instant.now();
+        int deleted = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> ids = refreshTokenRepository.findExpiredTokenIds(now, Pageable.ofSize(chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            refreshTokenRepository.deleteAllByIdInBatch(ids);
+            deleted += ids.size();
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        cache.values().removeIf(entry -> !entry.state().expiresAt().isAfter(now));
+        return deleted;
+    }
+
+    /**
+     * Fill in the hash of refresh tokens created before the hash column existed.
+     *
+     * @param chunkSize rows updated per statement
+     * @param maxChunks upper bound on chunks per call
+     * @return number of backfilled tokens
+     */
+    public int backfillHashes(int chunkSize, int maxChunks) {
+        int backfilled = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<RefreshToken> legacy = refreshTokenRepository.findByTokenHashIsNull(Pageable.ofSize(chunkSize));
+            if (legacy.isEmpty()) {
+                break;
+            }
+            legacy.forEach(refreshToken -> refreshToken.setTokenHash(TokenHashes.sha256Hex(refreshToken.getToken())));
+            refreshTokenRepository.saveAll(legacy);
+            backfilled += legacy.size();
+            if (legacy.size() < chunkSize) {
+                break;
+            }
+        }
+        if (backfilled > 0) {
+            logger.info("Backfilled token hash for {} refresh token(s)", backfilled);
+        }
+        return backfilled;
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    private void cache(String hash, RefreshTokenState state) {
+        Instant now = Instant.now();
+        Instant cachedUntil = state.revoked() ? state.expiresAt() : min(state.expiresAt(), now.plus(validTtl));
+        if (!cachedUntil.isAfter(now)) {
+            cache.remove(hash);
+            return;
+        }
+        if (cache.size() >= maxEntries && !cache.containsKey(hash)) {
+            cache.values().removeIf(entry -> !entry.isFresh(now));
+            if (cache.size() >= maxEntries) {
+                return;
+            }
+        }
+        cache.put(hash, new CachedState(state, cachedUntil));
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private record CachedState(RefreshTokenState state, Instant cachedUntil) {
+
+        boolean isFresh(Instant now) {
+            return cachedUntil.isAfter(now);
+        }
+    }
+
+    /**
+     * What the refresh and logout paths need to know about a refresh token.
+     */
+    public record RefreshTokenState(Long id, Long userId, boolean revoked, Instant expiresAt) {
+
+        static RefreshTokenState of(RefreshToken refreshToken, Long userId) {
+            return new RefreshTokenState(refreshToken.getId(), userId,
+                refreshToken.isRevoked(), refreshToken.getExpiresAt());
+        }
+
+        public boolean isValid() {
+            return !revoked && Instant.now().isBefore(expiresAt);
+        }
+
+        RefreshTokenState asRevoked() {
+            return new RefreshTokenState(id, userId, true, expiresAt);
+        }
+    }
+}
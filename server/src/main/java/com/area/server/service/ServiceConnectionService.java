@@ -13,9 +13,12 @@ import java.util.Optional;
 public class ServiceConnectionService {
 
     private final ServiceConnectionRepository repository;
+    private final GitHubRepositoryCache repositoryCache;
 
-    public ServiceConnectionService(ServiceConnectionRepository repository) {
+    public ServiceConnectionService(ServiceConnectionRepository repository,
+                                    GitHubRepositoryCache repositoryCache) {
         this.repository = repository;
+        this.repositoryCache = repositoryCache;
     }
 
     public ServiceConnection create(ServiceConnection connection) {
@@ -33,6 +36,7 @@ public class ServiceConnectionService {
 
     public void delete(Long id) {
         repository.deleteById(id);
+        repositoryCache.evict(id);
     }
 
     /**
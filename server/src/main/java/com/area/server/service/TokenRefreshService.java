@@ -10,8 +10,13 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @Service
 public class TokenRefreshService {
@@ -20,6 +25,11 @@ public class TokenRefreshService {
 
     private final WebClient googleOAuthClient;
     private final ServiceConnectionRepository repository;
+    private final Clock clock;
+
+    // connection id -> shared refresh, so concurrent workflows trigger a single token request,
+    // whichever provider performs it (see refresh)
+    private final Map<Long, Mono<ServiceConnection>> inFlight = new ConcurrentHashMap<>();
 
     @Value("${google.oauth.client-id:}")
     private String clientId;
@@ -29,16 +39,72 @@ public class TokenRefreshService {
 
     public TokenRefreshService(WebClient.Builder builder,
                                ServiceConnectionRepository repository,
+                               Clock clock,
                                @Value("${google.oauth.token-url:https://oauth2.googleapis.com}") String tokenUrl) {
         this.googleOAuthClient = builder.baseUrl(tokenUrl).build();
         this.repository = repository;
+        this.clock = clock;
     }
 
+    /**
+     * Refresh the access token if it expires within the refresh window.
+     * Normally {@link com.area.server.scheduler.TokenRefreshScheduler} has already
+     * renewed it, so this is only a fallback on the execution path.
+     */
     public Mono<ServiceConnection> refreshTokenIfNeeded(ServiceConnection connection) {
-        if (!connection.needsRefresh()) {
+        if (!connection.needsRefresh(clock)) {
             return Mono.just(connection);
         }
+        return refreshToken(connection);
+    }
+
+    /**
+     * Refresh the access token now. Concurrent calls for the same connection id
+     * share one token request and one save; every caller's entity instance is
+     * updated with the new token.
+     */
+    public Mono<ServiceConnection> refreshToken(ServiceConnection connection) {
+        return refresh(connection, this::doRefresh);
+    }
+
+    /**
+     * Single entry point for access token refreshes, also used by the OAuth integrations.
+     * Concurrent calls for the same connection id share the first caller's token request
+     * and save; every caller's entity instance is updated with the new token, including
+     * a rotated refresh token.
+     *
+     * @param tokenRequest Requests a new token for the connection and saves it
+     */
+    public Mono<ServiceConnection> refresh(ServiceConnection connection,
+                                           Function<ServiceConnection, Mono<ServiceConnection>> tokenRequest) {
+        Long id = connection.getId();
+        if (id == null) {
+            return tokenRequest.apply(connection);
+        }
+
+        return inFlight.computeIfAbsent(id, key -> tokenRequest.apply(connection)
+                // Leave the map before callers see the result, so the next call starts a new refresh
+                .doOnTerminate(() -> inFlight.remove(key))
+                .cache())
+            .map(refreshed -> {
+                if (refreshed != connection) {
+                    connection.setAccessToken(refreshed.getAccessToken());
+                    connection.setRefreshToken(refreshed.getRefreshToken());
+                    connection.setTokenExpiresAt(refreshed.getTokenExpiresAt());
+                    connection.setLastRefreshAttempt(refreshed.getLastRefreshAttempt());
+                }
+                return connection;
+            });
+    }
+
+    /**
+     * Number of refreshes currently in flight (one per connection at most).
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
 
+    private Mono<ServiceConnection> doRefresh(ServiceConnection connection) {
         if (connection.getRefreshToken() == null || connection.getRefreshToken().isBlank()) {
             logger.warn("No refresh token available for connection {}", connection.getId());
             return Mono.error(new IllegalStateException(
@@ -63,22 +129,27 @@ public class TokenRefreshService {
             )
             .retrieve()
             .bodyToMono(GmailApiResponse.TokenResponse.class)
+            // Saving is blocking JDBC, keep it off the HTTP event loop
+            .publishOn(Schedulers.boundedElastic())
             .map(response -> {
                 connection.setAccessToken(response.getAccessToken());
-                connection.setTokenExpiresAt(
-                    Instant.now().plusSeconds(response.getExpiresIn())
-                );
-                connection.setLastRefreshAttempt(Instant.now());
+                if (response.getRefreshToken() != null && !response.getRefreshToken().isBlank()) {
+                    connection.setRefreshToken(response.getRefreshToken());
+                }
+                Instant now = clock.instant();
+                connection.setTokenExpiresAt(now.plusSeconds(response.getExpiresIn()));
+                connection.setLastRefreshAttempt(now);
                 logger.info("Successfully refreshed token for connection {}", connection.getId());
                 return repository.save(connection);
             })
             .onErrorResume(error -> {
                 logger.error("Failed to refresh token for connection {}: {}",
                            connection.getId(), error.getMessage());
-                connection.setLastRefreshAttempt(Instant.now());
-                repository.save(connection);
-                return Mono.error(new IllegalStateException(
-                    "Token refresh failed: " + error.getMessage(), error));
+                connection.setLastRefreshAttempt(clock.instant());
+                return Mono.fromRunnable(() -> repository.save(connection))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(Mono.error(new IllegalStateException(
+                        "Token refresh failed: " + error.getMessage(), error)));
             });
     }
 }
@@ -1,6 +1,7 @@
 package com.area.server.service;
 
 import com.area.server.dto.GmailMessage;
+import com.area.server.jfr.TriggerStateFlushEvent;
 import com.area.server.model.Area;
 import com.area.server.model.AreaTriggerState;
 import com.area.server.repository.AreaTriggerStateRepository;
@@ -9,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 
@@ -19,9 +21,11 @@ public class TriggerStateService {
     private static final int MAX_CONSECUTIVE_FAILURES = 5;
 
     private final AreaTriggerStateRepository stateRepository;
+    private final Clock clock;
 
-    public TriggerStateService(AreaTriggerStateRepository stateRepository) {
+    public TriggerStateService(AreaTriggerStateRepository stateRepository, Clock clock) {
         this.stateRepository = stateRepository;
+        this.clock = clock;
     }
 
     @Transactional
@@ -76,27 +80,34 @@ public class TriggerStateService {
 
     @Transactional
     public void updateStateAfterSuccess(Area area, GmailMessage latestMessage, int unreadCount) {
+        updateStateAfterSuccess(area, latestMessage.getId(), unreadCount);
+    }
+
+    @Transactional
+    public void updateStateAfterSuccess(Area area, String lastProcessedId, int unreadCount) {
         AreaTriggerState state = getOrCreateState(area);
-        state.setLastProcessedMessageId(latestMessage.getId());
+        state.setLastProcessedMessageId(lastProcessedId);
         state.setLastUnreadCount(unreadCount);
-        state.setLastCheckedAt(Instant.now());
-        state.setLastTriggeredAt(Instant.now());
+        Instant now = clock.instant();
+        state.setLastCheckedAt(now);
+        state.setLastTriggeredAt(now);
         state.setConsecutiveFailures(0);
         state.setLastErrorMessage(null);
-        stateRepository.save(state);
+        save(state, area.getId(), "updateStateAfterSuccess");
 
         logger.info("Updated trigger state for area {} - last message: {}, count: {}",
-                   area.getId(), latestMessage.getId(), unreadCount);
+                   area.getId(), lastProcessedId, unreadCount);
     }
 
     @Transactional
     public void updateStateAfterTimerSuccess(Area area) {
         AreaTriggerState state = getOrCreateState(area);
-        state.setLastCheckedAt(Instant.now());
-        state.setLastTriggeredAt(Instant.now());
+        Instant now = clock.instant();
+        state.setLastCheckedAt(now);
+        state.setLastTriggeredAt(now);
         state.setConsecutiveFailures(0);
         state.setLastErrorMessage(null);
-        stateRepository.save(state);
+        save(state, area.getId(), "updateStateAfterTimerSuccess");
 
         logger.info("Updated trigger state for timer area {}", area.getId());
     }
@@ -104,21 +115,21 @@ public class TriggerStateService {
     @Transactional
     public void updateCheckedTime(Area area) {
         AreaTriggerState state = getOrCreateState(area);
-        state.setLastCheckedAt(Instant.now());
-        stateRepository.save(state);
+        state.setLastCheckedAt(clock.instant());
+        save(state, area.getId(), "updateCheckedTime");
     }
 
     @Transactional
     public void recordFailure(Area area, String errorMessage) {
         AreaTriggerState state = getOrCreateState(area);
         state.setConsecutiveFailures(state.getConsecutiveFailures() + 1);
-        state.setLastCheckedAt(Instant.now());
+        state.setLastCheckedAt(clock.instant());
         state.setLastErrorMessage(
             errorMessage != null && errorMessage.length() > 1000
                 ? errorMessage.substring(0, 1000)
                 : errorMessage
         );
-        stateRepository.save(state);
+        save(state, area.getId(), "recordFailure");
 
         logger.warn("Recorded failure for area {} (consecutive: {}): {}",
                    area.getId(), state.getConsecutiveFailures(), errorMessage);
@@ -141,7 +152,7 @@ public class TriggerStateService {
         AreaTriggerState state = getOrCreateState(area);
         state.setConsecutiveFailures(0);
         state.setLastErrorMessage(null);
-        stateRepository.save(state);
+        save(state, area.getId(), "resetFailureCount");
         logger.info("Reset failure count for area {}", area.getId());
     }
 
@@ -160,6 +171,10 @@ public class TriggerStateService {
             logger.debug("Skipping state persistence for test area (no database ID)");
             return state;
         }
-        return stateRepository.save(state);
+        return save(state, state.getArea() != null ? state.getArea().getId() : null, "update");
+    }
+
+    private AreaTriggerState save(AreaTriggerState state, Long areaId, String operation) {
+        return TriggerStateFlushEvent.record("area", areaId, operation, () -> stateRepository.save(state));
     }
 }
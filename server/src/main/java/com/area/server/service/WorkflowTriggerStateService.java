@@ -1,5 +1,6 @@
 package com.area.server.service;
 
+import com.area.server.jfr.TriggerStateFlushEvent;
 import com.area.server.model.Workflow;
 import com.area.server.model.WorkflowTriggerState;
 import com.area.server.repository.WorkflowTriggerStateRepository;
@@ -8,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.Instant;
 
 /**
@@ -21,9 +23,11 @@ public class WorkflowTriggerStateService {
     private static final int MAX_CONSECUTIVE_FAILURES = 5;
 
     private final WorkflowTriggerStateRepository stateRepository;
+    private final Clock clock;
 
-    public WorkflowTriggerStateService(WorkflowTriggerStateRepository stateRepository) {
+    public WorkflowTriggerStateService(WorkflowTriggerStateRepository stateRepository, Clock clock) {
         this.stateRepository = stateRepository;
+        this.clock = clock;
     }
 
     /**
@@ -65,11 +69,12 @@ public class WorkflowTriggerStateService {
         WorkflowTriggerState state = getOrCreateState(workflow);
         state.setLastProcessedItemId(lastProcessedItemId);
         state.setLastUnreadCount(itemCount);
-        state.setLastCheckedAt(Instant.now());
-        state.setLastTriggeredAt(Instant.now());
+        Instant now = clock.instant();
+        state.setLastCheckedAt(now);
+        state.setLastTriggeredAt(now);
         state.setConsecutiveFailures(0);
         state.setLastErrorMessage(null);
-        stateRepository.save(state);
+        save(state, workflow.getId(), "updateStateAfterSuccess");
 
         logger.info("Updated trigger state for workflow {} - last item: {}, count: {}",
                    workflow.getId(), lastProcessedItemId, itemCount);
@@ -81,8 +86,8 @@ public class WorkflowTriggerStateService {
     @Transactional
     public void updateCheckedTime(Workflow workflow) {
         WorkflowTriggerState state = getOrCreateState(workflow);
-        state.setLastCheckedAt(Instant.now());
-        stateRepository.save(state);
+        state.setLastCheckedAt(clock.instant());
+        save(state, workflow.getId(), "updateCheckedTime");
     }
 
     /**
@@ -92,13 +97,13 @@ public class WorkflowTriggerStateService {
     public void recordFailure(Workflow workflow, String errorMessage) {
         WorkflowTriggerState state = getOrCreateState(workflow);
         state.setConsecutiveFailures(state.getConsecutiveFailures() + 1);
-        state.setLastCheckedAt(Instant.now());
+        state.setLastCheckedAt(clock.instant());
         state.setLastErrorMessage(
             errorMessage != null && errorMessage.length() > 1000
                 ? errorMessage.substring(0, 1000)
                 : errorMessage
         );
-        stateRepository.save(state);
+        save(state, workflow.getId(), "recordFailure");
 
         logger.warn("Recorded failure for workflow {} (consecutive: {}): {}",
                    workflow.getId(), state.getConsecutiveFailures(), errorMessage);
@@ -112,7 +117,7 @@ public class WorkflowTriggerStateService {
         WorkflowTriggerState state = getOrCreateState(workflow);
         state.setConsecutiveFailures(0);
         state.setLastErrorMessage(null);
-        stateRepository.save(state);
+        save(state, workflow.getId(), "resetFailureCount");
         logger.info("Reset failure count for workflow {}", workflow.getId());
     }
 
@@ -122,7 +127,7 @@ public class WorkflowTriggerStateService {
      */
     @Transactional
     public WorkflowTriggerState update(WorkflowTriggerState state) {
-        return stateRepository.save(state);
+        return save(state, state.getWorkflow() != null ? state.getWorkflow().getId() : null, "update");
     }
 
     /**
@@ -132,4 +137,8 @@ public class WorkflowTriggerStateService {
         WorkflowTriggerState state = getOrCreateState(workflow);
         return state.getLastProcessedItemId();
     }
+
+    private WorkflowTriggerState save(WorkflowTriggerState state, Long workflowId, String operation) {
+        return TriggerStateFlushEvent.record("workflow", workflowId, operation, () -> stateRepository.save(state));
+    }
 }
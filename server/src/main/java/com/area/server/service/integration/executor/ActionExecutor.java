@@ -3,6 +3,8 @@ package com.area.server.service.integration.executor;
 import com.area.server.model.AutomationEntity;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Interface for executing action triggers.
  * Action executors check if a specific action's conditions are met
@@ -35,4 +37,34 @@ public interface ActionExecutor {
      * @return Mono of trigger context data
      */
     Mono<TriggerContext> getTriggerContext(AutomationEntity entity);
+
+    /**
+     * Split a context into one context per new item, oldest first, for per-item delivery
+     * ({@code trigger.per-item.enabled}). Each item context holds the entries a single-item
+     * poll would have produced. Triggers that do not report items return the context as is.
+     *
+     * @param context Context returned by {@link #getTriggerContext}
+     * @return Item contexts in arrival order, empty when nothing new arrived
+     */
+    default List<TriggerContext> splitItems(TriggerContext context) {
+        return List.of(context);
+    }
+
+    /**
+     * Whether {@link #splitItems} reports one context per new item. Only such triggers
+     * can be used with per-item delivery or an aggregation window.
+     */
+    default boolean reportsItems() {
+        return false;
+    }
+
+    /**
+     * Cursor value to store once the reactions for an item context have completed,
+     * in the format read back by {@link #getTriggerContext}.
+     *
+     * @return The cursor, or null when the trigger keeps no cursor
+     */
+    default String itemCursor(TriggerContext itemContext) {
+        return null;
+    }
 }
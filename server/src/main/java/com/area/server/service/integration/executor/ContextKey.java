@@ -0,0 +1,55 @@
+package com.area.server.service.integration.executor;
+
+/**
+ * A well-known {@link TriggerContext} entry with a fixed slot.
+ * Instances are only created in {@link ContextKeys}, so keys can be compared by identity.
+ *
+ * @param <T> value type; numbers and booleans are stored unboxed
+ */
+public final class ContextKey<T> {
+
+    enum Kind {
+        REFERENCE, INT, LONG, BOOLEAN
+    }
+
+    private final String name;
+    private final Class<?> type;
+    private final Kind kind;
+    private final int slot;
+
+    ContextKey(String name, Class<?> type, Kind kind, int slot) {
+        this.name = name;
+        this.type = type;
+        this.kind = kind;
+        this.slot = slot;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    int slot() {
+        return slot;
+    }
+
+    /**
+     * Whether a value given by name (e.g. mock data from the test endpoints) fits this slot.
+     */
+    boolean accepts(Object value) {
+        return switch (kind) {
+            case REFERENCE -> type.isInstance(value);
+            case INT -> value instanceof Integer;
+            case LONG -> value instanceof Long || value instanceof Integer;
+            case BOOLEAN -> value instanceof Boolean;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
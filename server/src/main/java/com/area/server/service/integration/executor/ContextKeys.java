@@ -0,0 +1,108 @@
+package com.area.server.service.integration.executor;
+
+import com.area.server.dto.GitHubIssue;
+import com.area.server.dto.GitHubPullRequest;
+import com.area.server.dto.GmailMessage;
+import com.area.server.service.integration.window.WindowItem;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keys the built-in actions put in a {@link TriggerContext}, each with its own slot.
+ * Names are the ones templates and the test endpoints have always used.
+ */
+public final class ContextKeys {
+
+    private static final Map<String, ContextKey<?>> BY_NAME = new HashMap<>();
+    private static int slots;
+
+    // Gmail
+    public static final ContextKey<List<GmailMessage>> NEW_MESSAGES = reference("newMessages", List.class);
+    public static final ContextKey<Integer> MESSAGE_COUNT = primitive("messageCount", ContextKey.Kind.INT);
+    public static final ContextKey<GmailMessage> LATEST_MESSAGE = reference("latestMessage", GmailMessage.class);
+    public static final ContextKey<String> SUBJECT = reference("subject", String.class);
+    public static final ContextKey<String> FROM = reference("from", String.class);
+    public static final ContextKey<String> SNIPPET = reference("snippet", String.class);
+    public static final ContextKey<String> MESSAGE_ID = reference("messageId", String.class);
+
+    // GitHub issues
+    public static final ContextKey<List<GitHubIssue>> NEW_ISSUES = reference("newIssues", List.class);
+    public static final ContextKey<Integer> ISSUE_COUNT = primitive("issueCount", ContextKey.Kind.INT);
+    public static final ContextKey<GitHubIssue> LATEST_ISSUE = reference("latestIssue", GitHubIssue.class);
+    public static final ContextKey<Long> ISSUE_NUMBER = primitive("issueNumber", ContextKey.Kind.LONG);
+    public static final ContextKey<String> ISSUE_TITLE = reference("issueTitle", String.class);
+    public static final ContextKey<String> ISSUE_BODY = reference("issueBody", String.class);
+    public static final ContextKey<String> ISSUE_URL = reference("issueUrl", String.class);
+    public static final ContextKey<String> ISSUE_AUTHOR = reference("issueAuthor", String.class);
+
+    // GitHub pull requests
+    public static final ContextKey<List<GitHubPullRequest>> NEW_PRS = reference("newPRs", List.class);
+    public static final ContextKey<Integer> PR_COUNT = primitive("prCount", ContextKey.Kind.INT);
+    public static final ContextKey<GitHubPullRequest> LATEST_PULL_REQUEST =
+        reference("latestPullRequest", GitHubPullRequest.class);
+    public static final ContextKey<Long> PR_NUMBER = primitive("prNumber", ContextKey.Kind.LONG);
+    public static final ContextKey<String> PR_TITLE = reference("prTitle", String.class);
+    public static final ContextKey<String> PR_BODY = reference("prBody", String.class);
+    public static final ContextKey<String> PR_URL = reference("prUrl", String.class);
+    public static final ContextKey<String> PR_AUTHOR = reference("prAuthor", String.class);
+    public static final ContextKey<String> PR_SOURCE_BRANCH = reference("prSourceBranch", String.class);
+    public static final ContextKey<String> PR_TARGET_BRANCH = reference("prTargetBranch", String.class);
+
+    // Timer
+    public static final ContextKey<Boolean> TRIGGERED = primitive("triggered", ContextKey.Kind.BOOLEAN);
+    public static final ContextKey<String> DATE = reference("date", String.class);
+    public static final ContextKey<String> TIME = reference("time", String.class);
+    public static final ContextKey<Long> TIMESTAMP = primitive("timestamp", ContextKey.Kind.LONG);
+    public static final ContextKey<String> DAY_OF_WEEK = reference("dayOfWeek", String.class);
+    public static final ContextKey<String> TIMER_TYPE = reference("timerType", String.class);
+    public static final ContextKey<String> DAYS_UNTIL_MESSAGE = reference("daysUntilMessage", String.class);
+    public static final ContextKey<Integer> DAYS_COUNT = primitive("daysCount", ContextKey.Kind.INT);
+    public static final ContextKey<String> FUTURE_DAY = reference("futureDay", String.class);
+    public static final ContextKey<String> FUTURE_DATE = reference("futureDate", String.class);
+    public static final ContextKey<Integer> INTERVAL_MINUTES = primitive("intervalMinutes", ContextKey.Kind.INT);
+
+    // Aggregation windows
+    public static final ContextKey<Integer> WINDOW_COUNT = primitive("windowCount", ContextKey.Kind.INT);
+    public static final ContextKey<String> WINDOW_SUMMARY = reference("windowSummary", String.class);
+    public static final ContextKey<List<WindowItem>> WINDOW_ITEMS = reference("windowItems", List.class);
+    public static final ContextKey<String> WINDOW_START = reference("windowStart", String.class);
+    public static final ContextKey<String> WINDOW_END = reference("windowEnd", String.class);
+
+    private ContextKeys() {
+    }
+
+    /**
+     * The well-known key with this name, or null for a custom entry.
+     */
+    public static ContextKey<?> forName(String name) {
+        return BY_NAME.get(name);
+    }
+
+    static Collection<ContextKey<?>> all() {
+        return BY_NAME.values();
+    }
+
+    static int count() {
+        return slots;
+    }
+
+    private static <T> ContextKey<T> reference(String name, Class<?> type) {
+        return register(new ContextKey<>(name, type, ContextKey.Kind.REFERENCE, slots));
+    }
+
+    private static <T> ContextKey<T> primitive(String name, ContextKey.Kind kind) {
+        return register(new ContextKey<>(name, null, kind, slots));
+    }
+
+    private static <T> ContextKey<T> register(ContextKey<T> key) {
+        if (slots == Long.SIZE) {
+            throw new IllegalStateException("TriggerContext tracks at most 64 well-known keys");
+        }
+        BY_NAME.put(key.getName(), key);
+        slots++;
+        return key;
+    }
+}
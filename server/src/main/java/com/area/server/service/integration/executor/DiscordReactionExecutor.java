@@ -5,14 +5,13 @@ import com.area.server.logging.ExternalApiLogger;
 import com.area.server.model.AutomationEntity;
 import com.area.server.model.ServiceConnection;
 import com.area.server.service.DiscordService;
+import com.area.server.service.template.CompiledTemplate;
+import com.area.server.service.template.TemplateEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Executor for Discord "send_message" reaction.
  * Sends messages to Discord channels via Discord Bot API using bot token.
@@ -25,10 +24,13 @@ public class DiscordReactionExecutor implements ReactionExecutor {
 
     private final DiscordService discordService;
     private final ExternalApiLogger apiLogger;
+    private final TemplateEngine templateEngine;
 
-    public DiscordReactionExecutor(DiscordService discordService, ExternalApiLogger apiLogger) {
+    public DiscordReactionExecutor(DiscordService discordService, ExternalApiLogger apiLogger,
+                                   TemplateEngine templateEngine) {
         this.discordService = discordService;
         this.apiLogger = apiLogger;
+        this.templateEngine = templateEngine;
     }
 
     @Override
@@ -39,7 +41,7 @@ public class DiscordReactionExecutor implements ReactionExecutor {
     @Override
     public Mono<Void> execute(AutomationEntity entity, TriggerContext context) {
         apiLogger.logOperation("Discord-Executor", "EXECUTE_START",
-                String.format("Entity ID: %d, Context keys: %s", entity.getId(), context.getData().keySet()));
+                String.format("Entity ID: %d, Context keys: %s", entity.getId(), context.keys()));
 
         // Get the Discord ServiceConnection (contains bot token and channel ID)
         ServiceConnection reactionConnection = entity.getReactionConnection();
@@ -81,8 +83,8 @@ public class DiscordReactionExecutor implements ReactionExecutor {
                 : null;
 
         // If context contains a Gmail message and no custom template, send rich embed
-        if (context.has("latestMessage") && (messageTemplate == null || messageTemplate.isBlank())) {
-            GmailMessage message = (GmailMessage) context.get("latestMessage");
+        if (context.has(ContextKeys.LATEST_MESSAGE) && (messageTemplate == null || messageTemplate.isBlank())) {
+            GmailMessage message = context.get(ContextKeys.LATEST_MESSAGE);
             apiLogger.logOperation("Discord-Executor", "SEND_RICH_EMBED",
                     String.format("Entity: %d, Channel: %s, Email subject: '%s'",
                             entity.getId(), channelId, message.getSubject()));
@@ -111,31 +113,16 @@ public class DiscordReactionExecutor implements ReactionExecutor {
 
         if (template == null || template.isBlank()) {
             // Default message format
-            Integer count = context.getInteger("messageCount");
-            if (count != null && count > 0) {
+            if (context.has(ContextKeys.WINDOW_SUMMARY)) {
+                return context.get(ContextKeys.WINDOW_SUMMARY);
+            }
+            int count = context.getInt(ContextKeys.MESSAGE_COUNT, 0);
+            if (count > 0) {
                 return String.format("You have %d new email(s) matching your AREA filters.", count);
             }
             return "AREA triggered successfully!";
         }
 
-        // Create placeholders map from context
-        Map<String, String> placeholders = new HashMap<>();
-
-        // If we have a Gmail message, extract placeholders from it
-        if (context.has("latestMessage")) {
-            GmailMessage message = (GmailMessage) context.get("latestMessage");
-            placeholders = discordService.createPlaceholdersFromEmail(message);
-        }
-
-        // Add other context data as placeholders
-        for (String key : context.getData().keySet()) {
-            Object value = context.get(key);
-            if (value != null && !placeholders.containsKey(key)) {
-                placeholders.put(key, value.toString());
-            }
-        }
-
-        // Replace placeholders in template
-        return discordService.replacePlaceholders(template, placeholders);
+        return templateEngine.render(entity, template, context, CompiledTemplate.Missing.EMPTY);
     }
 }
@@ -12,9 +12,11 @@ import com.area.server.service.TriggerStateService;
 import com.area.server.service.WorkflowTriggerStateService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -29,13 +31,16 @@ public class GitHubIssueActionExecutor implements ActionExecutor {
     private final GitHubService githubService;
     private final TriggerStateService areaStateService;
     private final WorkflowTriggerStateService workflowStateService;
+    private final boolean perItem;
 
     public GitHubIssueActionExecutor(GitHubService githubService,
             TriggerStateService areaStateService,
-            WorkflowTriggerStateService workflowStateService) {
+            WorkflowTriggerStateService workflowStateService,
+            @Value("${trigger.per-item.enabled:false}") boolean perItem) {
         this.githubService = githubService;
         this.areaStateService = areaStateService;
         this.workflowStateService = workflowStateService;
+        this.perItem = perItem;
     }
 
     @Override
@@ -46,9 +51,8 @@ public class GitHubIssueActionExecutor implements ActionExecutor {
     @Override
     public Mono<Boolean> isTriggered(AutomationEntity entity) {
         return getTriggerContext(entity)
-                .map(context -> context.has("newIssues") &&
-                        context.getInteger("issueCount") != null &&
-                        context.getInteger("issueCount") > 0);
+                .map(context -> context.has(ContextKeys.NEW_ISSUES) &&
+                        context.getInt(ContextKeys.ISSUE_COUNT, 0) > 0);
     }
 
     @Override
@@ -56,12 +60,12 @@ public class GitHubIssueActionExecutor implements ActionExecutor {
         GitHubActionConfig config = entity.getGithubActionConfig();
 
         if (config == null || !"issue_created".equals(config.getActionType())) {
-            return Mono.just(new TriggerContext());
+            return Mono.just(TriggerContext.empty());
         }
 
         if (entity.getActionConnection() == null) {
             logger.error("No GitHub connection found for entity {}", entity.getId());
-            return Mono.just(new TriggerContext());
+            return Mono.just(TriggerContext.empty());
         }
 
         String lastProcessedId = getLastProcessedId(entity);
@@ -72,43 +76,78 @@ public class GitHubIssueActionExecutor implements ActionExecutor {
                 config,
                 afterIssueNumber)
                 .map(newIssues -> {
-                    TriggerContext context = new TriggerContext();
-                    context.put("newIssues", newIssues);
-                    context.put("issueCount", newIssues.size());
+                    TriggerContext.Builder context = TriggerContext.builder();
+                    context.put(ContextKeys.NEW_ISSUES, newIssues);
+                    context.putInt(ContextKeys.ISSUE_COUNT, newIssues.size());
 
                     if (!newIssues.isEmpty()) {
                         GitHubIssue latestIssue = newIssues.get(0);
-                        context.put("latestIssue", latestIssue);
-                        context.put("issueNumber", latestIssue.getNumber());
-                        context.put("issueTitle", latestIssue.getTitle());
-                        context.put("issueBody", latestIssue.getBody());
-                        context.put("issueUrl", latestIssue.getHtmlUrl());
-
-                        if (latestIssue.getUser() != null) {
-                            context.put("issueAuthor", latestIssue.getUser().getLogin());
-                        }
+                        putIssue(context, latestIssue);
 
                         // Update state with latest issue number to prevent reprocessing
-                        updateState(entity, "issue:" + latestIssue.getNumber());
-                        logger.debug("Updated state for entity {} to issue number {}", entity.getId(),
-                                latestIssue.getNumber());
+                        // (per-item delivery advances it once the reactions are done,
+                        // a window saves it together with the collected items)
+                        if (!perItem && !entity.isWindowed()) {
+                            updateState(entity, "issue:" + latestIssue.getNumber());
+                            logger.debug("Updated state for entity {} to issue number {}", entity.getId(),
+                                    latestIssue.getNumber());
+                        }
                     }
 
-                    return context;
+                    return context.build();
                 })
                 .doOnSuccess(context -> {
-                    if (context.getInteger("issueCount") != null && context.getInteger("issueCount") > 0) {
+                    if (context.getInt(ContextKeys.ISSUE_COUNT, 0) > 0) {
                         logger.info("GitHub issue action triggered for entity {} with {} new issue(s)",
-                                entity.getId(), context.getInteger("issueCount"));
+                                entity.getId(), context.getInt(ContextKeys.ISSUE_COUNT, 0));
                     }
                 })
                 .onErrorResume(error -> {
                     logger.error("Error executing GitHub issue action for entity {}: {}",
                             entity.getId(), error.getMessage());
-                    return Mono.just(new TriggerContext());
+                    return Mono.just(TriggerContext.empty());
                 });
     }
 
+    @Override
+    public boolean reportsItems() {
+        return true;
+    }
+
+    @Override
+    public List<TriggerContext> splitItems(TriggerContext context) {
+        List<GitHubIssue> newIssues = context.get(ContextKeys.NEW_ISSUES);
+        if (newIssues == null || newIssues.isEmpty()) {
+            return List.of();
+        }
+        return newIssues.stream()
+                .sorted(Comparator.comparing(GitHubIssue::getNumber))
+                .map(issue -> putIssue(TriggerContext.builder(), issue)
+                        .put(ContextKeys.NEW_ISSUES, List.of(issue))
+                        .putInt(ContextKeys.ISSUE_COUNT, 1)
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public String itemCursor(TriggerContext itemContext) {
+        Long number = itemContext.get(ContextKeys.ISSUE_NUMBER);
+        return number != null ? "issue:" + number : null;
+    }
+
+    private static TriggerContext.Builder putIssue(TriggerContext.Builder context, GitHubIssue issue) {
+        context.put(ContextKeys.LATEST_ISSUE, issue)
+                .put(ContextKeys.ISSUE_NUMBER, issue.getNumber())
+                .put(ContextKeys.ISSUE_TITLE, issue.getTitle())
+                .put(ContextKeys.ISSUE_BODY, issue.getBody())
+                .put(ContextKeys.ISSUE_URL, issue.getHtmlUrl());
+
+        if (issue.getUser() != null) {
+            context.put(ContextKeys.ISSUE_AUTHOR, issue.getUser().getLogin());
+        }
+        return context;
+    }
+
     private String getLastProcessedId(AutomationEntity entity) {
         if (entity instanceof Area area) {
             AreaTriggerState state = areaStateService.getOrCreateState(area);
@@ -37,7 +37,7 @@ public class GitHubIssueReactionExecutor implements ReactionExecutor {
     public Mono<Void> execute(AutomationEntity entity, TriggerContext context) {
         apiLogger.logOperation("GitHub-Executor", "EXECUTE_START",
                 String.format("Entity ID: %d, Reaction type: create_issue, Context keys: %s",
-                        entity.getId(), context.getData().keySet()));
+                        entity.getId(), context.keys()));
 
         GitHubReactionConfig config = entity.getGithubReactionConfig();
 
@@ -80,7 +80,7 @@ public class GitHubIssueReactionExecutor implements ReactionExecutor {
                         config.getRepositoryName(),
                         config.getIssueTitle()));
 
-        return githubService.createIssue(connection, config, context)
+        return githubService.createIssue(entity, connection, config, context)
                 .doOnSuccess(response -> {
                     apiLogger.logOperation("GitHub-Executor", "CREATE_ISSUE_SUCCESS",
                             String.format("Created issue #%d in %s/%s for entity %d: %s",
@@ -12,9 +12,11 @@ import com.area.server.service.TriggerStateService;
 import com.area.server.service.WorkflowTriggerStateService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -29,13 +31,16 @@ public class GitHubPullRequestActionExecutor implements ActionExecutor {
     private final GitHubService githubService;
     private final TriggerStateService areaStateService;
     private final WorkflowTriggerStateService workflowStateService;
+    private final boolean perItem;
 
     public GitHubPullRequestActionExecutor(GitHubService githubService,
             TriggerStateService areaStateService,
-            WorkflowTriggerStateService workflowStateService) {
+            WorkflowTriggerStateService workflowStateService,
+            @Value("${trigger.per-item.enabled:false}") boolean perItem) {
         this.githubService = githubService;
         this.areaStateService = areaStateService;
         this.workflowStateService = workflowStateService;
+        this.perItem = perItem;
     }
 
     @Override
@@ -46,9 +51,8 @@ public class GitHubPullRequestActionExecutor implements ActionExecutor {
     @Override
     public Mono<Boolean> isTriggered(AutomationEntity entity) {
         return getTriggerContext(entity)
-                .map(context -> context.has("newPRs") &&
-                        context.getInteger("prCount") != null &&
-                        context.getInteger("prCount") > 0);
+                .map(context -> context.has(ContextKeys.NEW_PRS) &&
+                        context.getInt(ContextKeys.PR_COUNT, 0) > 0);
     }
 
     @Override
@@ -56,7 +60,7 @@ public class GitHubPullRequestActionExecutor implements ActionExecutor {
         GitHubActionConfig config = entity.getGithubActionConfig();
 
         if (config == null || !"pr_created".equals(config.getActionType())) {
-            return Mono.just(new TriggerContext());
+            return Mono.just(TriggerContext.empty());
         }
 
         String lastProcessedId = getLastProcessedId(entity);
@@ -67,51 +71,86 @@ public class GitHubPullRequestActionExecutor implements ActionExecutor {
                 config,
                 afterPrNumber)
                 .map(newPullRequests -> {
-                    TriggerContext context = new TriggerContext();
-                    context.put("newPRs", newPullRequests);
-                    context.put("prCount", newPullRequests.size());
+                    TriggerContext.Builder context = TriggerContext.builder();
+                    context.put(ContextKeys.NEW_PRS, newPullRequests);
+                    context.putInt(ContextKeys.PR_COUNT, newPullRequests.size());
 
                     if (!newPullRequests.isEmpty()) {
                         GitHubPullRequest latestPr = newPullRequests.get(0);
-                        context.put("latestPullRequest", latestPr);
-                        context.put("prNumber", latestPr.getNumber());
-                        context.put("prTitle", latestPr.getTitle());
-                        context.put("prBody", latestPr.getBody());
-                        context.put("prUrl", latestPr.getHtmlUrl());
-
-                        if (latestPr.getUser() != null) {
-                            context.put("prAuthor", latestPr.getUser().getLogin());
-                        }
-
-                        if (latestPr.getHead() != null) {
-                            context.put("prSourceBranch", latestPr.getHead().getRef());
-                        }
-
-                        if (latestPr.getBase() != null) {
-                            context.put("prTargetBranch", latestPr.getBase().getRef());
-                        }
+                        putPullRequest(context, latestPr);
 
                         // Update state with latest PR number to prevent reprocessing
-                        updateState(entity, "pr:" + latestPr.getNumber());
-                        logger.debug("Updated state for entity {} to PR number {}", entity.getId(),
-                                latestPr.getNumber());
+                        // (per-item delivery advances it once the reactions are done,
+                        // a window saves it together with the collected items)
+                        if (!perItem && !entity.isWindowed()) {
+                            updateState(entity, "pr:" + latestPr.getNumber());
+                            logger.debug("Updated state for entity {} to PR number {}", entity.getId(),
+                                    latestPr.getNumber());
+                        }
                     }
 
-                    return context;
+                    return context.build();
                 })
                 .doOnSuccess(context -> {
-                    if (context.getInteger("prCount") != null && context.getInteger("prCount") > 0) {
+                    if (context.getInt(ContextKeys.PR_COUNT, 0) > 0) {
                         logger.info("GitHub PR action triggered for entity {} with {} new PR(s)",
-                                entity.getId(), context.getInteger("prCount"));
+                                entity.getId(), context.getInt(ContextKeys.PR_COUNT, 0));
                     }
                 })
                 .onErrorResume(error -> {
                     logger.error("Error executing GitHub PR action for entity {}: {}",
                             entity.getId(), error.getMessage());
-                    return Mono.just(new TriggerContext());
+                    return Mono.just(TriggerContext.empty());
                 });
     }
 
+    @Override
+    public boolean reportsItems() {
+        return true;
+    }
+
+    @Override
+    public List<TriggerContext> splitItems(TriggerContext context) {
+        List<GitHubPullRequest> newPullRequests = context.get(ContextKeys.NEW_PRS);
+        if (newPullRequests == null || newPullRequests.isEmpty()) {
+            return List.of();
+        }
+        return newPullRequests.stream()
+                .sorted(Comparator.comparing(GitHubPullRequest::getNumber))
+                .map(pr -> putPullRequest(TriggerContext.builder(), pr)
+                        .put(ContextKeys.NEW_PRS, List.of(pr))
+                        .putInt(ContextKeys.PR_COUNT, 1)
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public String itemCursor(TriggerContext itemContext) {
+        Long number = itemContext.get(ContextKeys.PR_NUMBER);
+        return number != null ? "pr:" + number : null;
+    }
+
+    private static TriggerContext.Builder putPullRequest(TriggerContext.Builder context, GitHubPullRequest pr) {
+        context.put(ContextKeys.LATEST_PULL_REQUEST, pr)
+                .put(ContextKeys.PR_NUMBER, pr.getNumber())
+                .put(ContextKeys.PR_TITLE, pr.getTitle())
+                .put(ContextKeys.PR_BODY, pr.getBody())
+                .put(ContextKeys.PR_URL, pr.getHtmlUrl());
+
+        if (pr.getUser() != null) {
+            context.put(ContextKeys.PR_AUTHOR, pr.getUser().getLogin());
+        }
+
+        if (pr.getHead() != null) {
+            context.put(ContextKeys.PR_SOURCE_BRANCH, pr.getHead().getRef());
+        }
+
+        if (pr.getBase() != null) {
+            context.put(ContextKeys.PR_TARGET_BRANCH, pr.getBase().getRef());
+        }
+        return context;
+    }
+
     private String getLastProcessedId(AutomationEntity entity) {
         if (entity instanceof Area area) {
             AreaTriggerState state = areaStateService.getOrCreateState(area);
@@ -60,6 +60,7 @@ public class GitHubPullRequestReactionExecutor implements ReactionExecutor {
         logger.info("Executing GitHub create_pr reaction for entity {}", entity.getId());
 
         return githubService.createPullRequest(
+                entity,
                 entity.getReactionConnection(),
                 config,
                 context)
@@ -12,9 +12,11 @@ import com.area.server.service.TriggerStateService;
 import com.area.server.service.WorkflowTriggerStateService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -30,15 +32,18 @@ public class GmailActionExecutor implements ActionExecutor {
     private final TriggerStateService areaStateService;
     private final TokenRefreshService tokenRefreshService;
     private final WorkflowTriggerStateService workflowStateService;
+    private final boolean perItem;
 
     public GmailActionExecutor(GmailService gmailService,
             TriggerStateService areaStateService,
             TokenRefreshService tokenRefreshService,
-            WorkflowTriggerStateService workflowStateService) {
+            WorkflowTriggerStateService workflowStateService,
+            @Value("${trigger.per-item.enabled:false}") boolean perItem) {
         this.gmailService = gmailService;
         this.areaStateService = areaStateService;
         this.tokenRefreshService = tokenRefreshService;
         this.workflowStateService = workflowStateService;
+        this.perItem = perItem;
     }
 
     @Override
@@ -49,9 +54,8 @@ public class GmailActionExecutor implements ActionExecutor {
     @Override
     public Mono<Boolean> isTriggered(AutomationEntity entity) {
         return getTriggerContext(entity)
-                .map(context -> context.has("newMessages") &&
-                        context.getInteger("messageCount") != null &&
-                        context.getInteger("messageCount") > 0);
+                .map(context -> context.has(ContextKeys.NEW_MESSAGES) &&
+                        context.getInt(ContextKeys.MESSAGE_COUNT, 0) > 0);
     }
 
     @Override
@@ -64,37 +68,70 @@ public class GmailActionExecutor implements ActionExecutor {
                         entity.getGmailConfig(),
                         lastProcessedId))
                 .map(newMessages -> {
-                    TriggerContext context = new TriggerContext();
-                    context.put("newMessages", newMessages);
-                    context.put("messageCount", newMessages.size());
+                    TriggerContext.Builder context = TriggerContext.builder();
+                    context.put(ContextKeys.NEW_MESSAGES, newMessages);
+                    context.putInt(ContextKeys.MESSAGE_COUNT, newMessages.size());
 
                     if (!newMessages.isEmpty()) {
                         GmailMessage latest = newMessages.get(0);
-                        context.put("latestMessage", latest);
-                        context.put("subject", latest.getSubject());
-                        context.put("from", latest.getFrom());
-                        context.put("snippet", latest.getSnippet());
-                        context.put("messageId", latest.getId());
-
-                        // Update state
-                        updateState(entity, latest.getId());
+                        putMessage(context, latest);
+
+                        // Update state (per-item delivery advances it once the reactions are done,
+                        // a window saves it together with the collected items)
+                        if (!perItem && !entity.isWindowed()) {
+                            updateState(entity, latest.getId());
+                        }
                     }
 
-                    return context;
+                    return context.build();
                 })
                 .doOnSuccess(context -> {
-                    if (context.getInteger("messageCount") != null && context.getInteger("messageCount") > 0) {
+                    if (context.getInt(ContextKeys.MESSAGE_COUNT, 0) > 0) {
                         logger.info("Gmail action triggered for entity {} with {} new message(s)",
-                                entity.getId(), context.getInteger("messageCount"));
+                                entity.getId(), context.getInt(ContextKeys.MESSAGE_COUNT, 0));
                     }
                 })
                 .onErrorResume(error -> {
                     logger.error("Error executing Gmail action for entity {}: {}",
                             entity.getId(), error.getMessage());
-                    return Mono.just(new TriggerContext());
+                    return Mono.just(TriggerContext.empty());
                 });
     }
 
+    @Override
+    public boolean reportsItems() {
+        return true;
+    }
+
+    @Override
+    public List<TriggerContext> splitItems(TriggerContext context) {
+        List<GmailMessage> newMessages = context.get(ContextKeys.NEW_MESSAGES);
+        if (newMessages == null || newMessages.isEmpty()) {
+            return List.of();
+        }
+        // Same order as the cursor comparison in GmailService.fetchNewMessages
+        return newMessages.stream()
+                .sorted(Comparator.comparing(GmailMessage::getId))
+                .map(message -> putMessage(TriggerContext.builder(), message)
+                        .put(ContextKeys.NEW_MESSAGES, List.of(message))
+                        .putInt(ContextKeys.MESSAGE_COUNT, 1)
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public String itemCursor(TriggerContext itemContext) {
+        return itemContext.get(ContextKeys.MESSAGE_ID);
+    }
+
+    private static TriggerContext.Builder putMessage(TriggerContext.Builder context, GmailMessage message) {
+        return context.put(ContextKeys.LATEST_MESSAGE, message)
+                .put(ContextKeys.SUBJECT, message.getSubject())
+                .put(ContextKeys.FROM, message.getFrom())
+                .put(ContextKeys.SNIPPET, message.getSnippet())
+                .put(ContextKeys.MESSAGE_ID, message.getId());
+    }
+
     private String getLastProcessedId(AutomationEntity entity) {
         if (entity instanceof Area area) {
             AreaTriggerState state = areaStateService.getOrCreateState(area);
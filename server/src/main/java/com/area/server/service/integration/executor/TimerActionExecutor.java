@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -31,9 +32,11 @@ public class TimerActionExecutor implements ActionExecutor {
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
     private final TriggerStateService stateService;
+    private final Clock clock;
 
-    public TimerActionExecutor(TriggerStateService stateService) {
+    public TimerActionExecutor(TriggerStateService stateService, Clock clock) {
         this.stateService = stateService;
+        this.clock = clock;
     }
 
     @Override
@@ -53,66 +56,47 @@ public class TimerActionExecutor implements ActionExecutor {
             return Mono.just(false);
         }
 
-        AreaTriggerState state = stateService.getOrCreateState(area);
-        Instant lastChecked = state.getLastCheckedAt();
-        Instant now = Instant.now();
-
-        // Default interval is 60 minutes if not specified
-        int intervalMinutes = config.getIntervalMinutes() != null ? config.getIntervalMinutes() : 60;
-
-        // For days_until type, default to 24 hours (1440 minutes) if not specified
-        String timerType = config.getTimerType();
-        if ("days_until".equals(timerType) && config.getIntervalMinutes() == null) {
-            intervalMinutes = 1440; // 24 hours
-        }
-
-        // Check if enough time has passed since last check
-        if (lastChecked != null) {
-            long minutesSinceLastCheck = ChronoUnit.MINUTES.between(lastChecked, now);
-            if (minutesSinceLastCheck < intervalMinutes) {
-                logger.debug("Timer for area {} not triggered - only {} minutes since last check (interval: {})",
-                        area.getId(), minutesSinceLastCheck, intervalMinutes);
-                return Mono.just(false);
-            }
+        if (!isDue(area, config, Instant.now(clock))) {
+            return Mono.just(false);
         }
 
         logger.info("Timer triggered for area {} (type: {}, interval: {} minutes)",
-                area.getId(), timerType, intervalMinutes);
+                area.getId(), config.getTimerType(), intervalMinutes(config));
         return Mono.just(true);
     }
 
     @Override
     public Mono<TriggerContext> getTriggerContext(AutomationEntity entity) {
         if (!(entity instanceof Area)) {
-            return Mono.just(new TriggerContext());
+            return Mono.just(TriggerContext.empty());
         }
         Area area = (Area) entity;
         TimerActionConfig config = area.getTimerConfig();
         if (config == null) {
-            return Mono.just(new TriggerContext());
+            return Mono.just(TriggerContext.empty());
         }
 
-        TriggerContext context = new TriggerContext();
-        LocalDate today = LocalDate.now();
-        LocalTime currentTime = LocalTime.now();
-        Instant now = Instant.now();
+        TriggerContext.Builder context = TriggerContext.builder();
+        Instant now = Instant.now(clock);
+        LocalDate today = LocalDate.ofInstant(now, clock.getZone());
+        LocalTime currentTime = LocalTime.ofInstant(now, clock.getZone());
 
         // Add current date and time to context
         String currentDate = today.format(DATE_FORMATTER);
         String currentTimeStr = currentTime.format(TIME_FORMATTER);
 
-        context.put("date", currentDate);
-        context.put("time", currentTimeStr);
-        context.put("timestamp", now.toEpochMilli());
-        context.put("triggered", true);
+        context.put(ContextKeys.DATE, currentDate);
+        context.put(ContextKeys.TIME, currentTimeStr);
+        context.putLong(ContextKeys.TIMESTAMP, now.toEpochMilli());
+        context.putBoolean(ContextKeys.TRIGGERED, isDue(area, config, now));
 
         // Add day of week
         String dayOfWeek = today.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
-        context.put("dayOfWeek", dayOfWeek);
+        context.put(ContextKeys.DAY_OF_WEEK, dayOfWeek);
 
         // Add type-specific information
         String timerType = config.getTimerType();
-        context.put("timerType", timerType != null ? timerType : "recurring");
+        context.put(ContextKeys.TIMER_TYPE, timerType != null ? timerType : "recurring");
 
         // For days_until type, calculate future date
         if ("days_until".equals(timerType) && config.getDaysCount() != null) {
@@ -127,21 +111,51 @@ public class TimerActionExecutor implements ActionExecutor {
                     futureDayName,
                     futureFormattedDate);
 
-            context.put("daysUntilMessage", message);
-            context.put("daysCount", daysCount);
-            context.put("futureDay", futureDayName);
-            context.put("futureDate", futureFormattedDate);
+            context.put(ContextKeys.DAYS_UNTIL_MESSAGE, message);
+            context.putInt(ContextKeys.DAYS_COUNT, daysCount);
+            context.put(ContextKeys.FUTURE_DAY, futureDayName);
+            context.put(ContextKeys.FUTURE_DATE, futureFormattedDate);
         }
 
         // Add interval information
         if (config.getIntervalMinutes() != null) {
-            context.put("intervalMinutes", config.getIntervalMinutes());
+            context.put(ContextKeys.INTERVAL_MINUTES, config.getIntervalMinutes());
         }
 
         logger.debug("Timer context for area {}: date={}, time={}, type={}",
                 area.getId(), currentDate, currentTimeStr, timerType);
 
-        return Mono.just(context);
+        return Mono.just(context.build());
+    }
+
+    /**
+     * A timer is due when it has never fired or when its interval has elapsed
+     * since it last fired. The last check time is not used: the scheduler updates
+     * it on every skipped cycle, which would keep postponing the timer.
+     */
+    private boolean isDue(Area area, TimerActionConfig config, Instant now) {
+        AreaTriggerState state = stateService.getOrCreateState(area);
+        Instant lastTriggered = state.getLastTriggeredAt();
+        if (lastTriggered == null) {
+            return true;
+        }
+
+        int intervalMinutes = intervalMinutes(config);
+        long minutesSinceLastTrigger = ChronoUnit.MINUTES.between(lastTriggered, now);
+        if (minutesSinceLastTrigger < intervalMinutes) {
+            logger.debug("Timer for area {} not triggered - only {} minutes since last trigger (interval: {})",
+                    area.getId(), minutesSinceLastTrigger, intervalMinutes);
+            return false;
+        }
+        return true;
+    }
+
+    private int intervalMinutes(TimerActionConfig config) {
+        if (config.getIntervalMinutes() != null) {
+            return config.getIntervalMinutes();
+        }
+        // days_until defaults to once a day, everything else to once an hour
+        return "days_until".equals(config.getTimerType()) ? 1440 : 60;
     }
 
     /**
@@ -1,39 +1,101 @@
 package com.area.server.service.integration.executor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Context data from an action trigger.
  * Contains information about what triggered the action (e.g., email details, message content)
  * that can be used by reactions.
+ *
+ * A context is immutable once built, so reactions and schedulers read it without copies.
+ * The well-known entries in {@link ContextKeys} live in array slots, with numbers and
+ * booleans unboxed; any other name goes to a small overflow map. Lookups by name
+ * still work for every entry.
  */
-public class TriggerContext {
-    private final Map<String, Object> data;
+public final class TriggerContext {
 
-    public TriggerContext() {
-        this.data = new HashMap<>();
+    private static final TriggerContext EMPTY = new TriggerContext(0L, null, null, Map.of());
+    private static final ContextKey<?>[] KEYS_BY_SLOT = keysBySlot();
+
+    private final long present;
+    private final Object[] references;
+    private final long[] primitives;
+    private final Map<String, Object> custom;
+
+    private TriggerContext(long present, Object[] references, long[] primitives, Map<String, Object> custom) {
+        this.present = present;
+        this.references = references;
+        this.primitives = primitives;
+        this.custom = custom;
+    }
+
+    public static TriggerContext empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Context from loosely typed data, e.g. mock data sent to the test endpoints.
+     */
+    public static TriggerContext of(Map<String, ?> data) {
+        Builder builder = builder();
+        data.forEach(builder::put);
+        return builder.build();
+    }
+
+    public boolean has(ContextKey<?> key) {
+        return (present & bit(key)) != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ContextKey<T> key) {
+        if (!has(key)) {
+            return null;
+        }
+        return (T) switch (key.kind()) {
+            case REFERENCE -> references[key.slot()];
+            case INT -> (int) primitives[key.slot()];
+            case LONG -> primitives[key.slot()];
+            case BOOLEAN -> primitives[key.slot()] != 0;
+        };
+    }
+
+    public int getInt(ContextKey<Integer> key, int defaultValue) {
+        return has(key) ? (int) primitives[key.slot()] : defaultValue;
     }
 
-    public TriggerContext(Map<String, Object> data) {
-        this.data = new HashMap<>(data);
+    public long getLong(ContextKey<Long> key, long defaultValue) {
+        return has(key) ? primitives[key.slot()] : defaultValue;
     }
 
-    public void put(String key, Object value) {
-        data.put(key, value);
+    public boolean getBoolean(ContextKey<Boolean> key, boolean defaultValue) {
+        return has(key) ? primitives[key.slot()] != 0 : defaultValue;
     }
 
     public Object get(String key) {
-        return data.get(key);
+        ContextKey<?> known = ContextKeys.forName(key);
+        if (known != null && has(known)) {
+            return get(known);
+        }
+        return custom.get(key);
     }
 
     public String getString(String key) {
-        Object value = data.get(key);
+        Object value = get(key);
         return value != null ? value.toString() : null;
     }
 
     public Integer getInteger(String key) {
-        Object value = data.get(key);
+        Object value = get(key);
         if (value instanceof Integer) {
             return (Integer) value;
         }
@@ -41,18 +103,135 @@ public class TriggerContext {
     }
 
     public Boolean getBoolean(String key) {
-        Object value = data.get(key);
+        Object value = get(key);
         if (value instanceof Boolean) {
             return (Boolean) value;
         }
         return null;
     }
 
-    public Map<String, Object> getData() {
-        return new HashMap<>(data);
+    public boolean has(String key) {
+        ContextKey<?> known = ContextKeys.forName(key);
+        return known != null && has(known) || custom.containsKey(key);
     }
 
-    public boolean has(String key) {
-        return data.containsKey(key);
+    /**
+     * Names of the entries present, well-known keys first.
+     */
+    public List<String> keys() {
+        List<String> keys = new ArrayList<>(Long.bitCount(present) + custom.size());
+        forEach((key, value) -> keys.add(key));
+        return keys;
+    }
+
+    public void forEach(BiConsumer<String, Object> action) {
+        for (long bits = present; bits != 0; bits &= bits - 1) {
+            ContextKey<?> key = KEYS_BY_SLOT[Long.numberOfTrailingZeros(bits)];
+            action.accept(key.getName(), get(key));
+        }
+        custom.forEach(action);
+    }
+
+    /**
+     * Snapshot of all entries as a map, for serialization.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "TriggerContext" + keys();
+    }
+
+    private static long bit(ContextKey<?> key) {
+        return 1L << key.slot();
+    }
+
+    private static ContextKey<?>[] keysBySlot() {
+        ContextKey<?>[] keys = new ContextKey<?>[ContextKeys.count()];
+        for (ContextKey<?> key : ContextKeys.all()) {
+            keys[key.slot()] = key;
+        }
+        return keys;
+    }
+
+    /**
+     * Collects entries for one context. A builder is used once: {@link #build()} hands
+     * its arrays to the context without copying them.
+     */
+    public static final class Builder {
+
+        private long present;
+        private Object[] references = new Object[ContextKeys.count()];
+        private long[] primitives = new long[ContextKeys.count()];
+        private Map<String, Object> custom;
+
+        private Builder() {
+        }
+
+        /**
+         * Set a well-known entry; a null value leaves it absent.
+         */
+        public <T> Builder put(ContextKey<T> key, T value) {
+            if (value == null) {
+                return this;
+            }
+            switch (key.kind()) {
+                case REFERENCE -> references[key.slot()] = value;
+                case INT, LONG -> primitives[key.slot()] = ((Number) value).longValue();
+                case BOOLEAN -> primitives[key.slot()] = (Boolean) value ? 1 : 0;
+            }
+            present |= bit(key);
+            return this;
+        }
+
+        public Builder putInt(ContextKey<Integer> key, int value) {
+            primitives[key.slot()] = value;
+            present |= bit(key);
+            return this;
+        }
+
+        public Builder putLong(ContextKey<Long> key, long value) {
+            primitives[key.slot()] = value;
+            present |= bit(key);
+            return this;
+        }
+
+        public Builder putBoolean(ContextKey<Boolean> key, boolean value) {
+            primitives[key.slot()] = value ? 1 : 0;
+            present |= bit(key);
+            return this;
+        }
+
+        /**
+         * Set an entry by name. Well-known names go to their slot when the value has the
+         * expected type; anything else is kept as a custom entry.
+         */
+        @SuppressWarnings("unchecked")
+        public Builder put(String key, Object value) {
+            ContextKey<?> known = ContextKeys.forName(key);
+            if (known != null && value != null && known.accepts(value)) {
+                return put((ContextKey<Object>) known, value);
+            }
+            if (custom == null) {
+                custom = new HashMap<>();
+            }
+            custom.put(key, value);
+            return this;
+        }
+
+        public TriggerContext build() {
+            if (references == null) {
+                throw new IllegalStateException("TriggerContext.Builder is single-use");
+            }
+            TriggerContext context = new TriggerContext(present, references, primitives,
+                custom != null ? Collections.unmodifiableMap(custom) : Map.of());
+            references = null;
+            primitives = null;
+            return context;
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.area.server.service.integration.oauth;
 import com.area.server.exception.ServiceIntegrationException;
 import com.area.server.model.ServiceConnection;
 import com.area.server.repository.ServiceConnectionRepository;
+import com.area.server.service.TokenRefreshService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -13,9 +14,11 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.stream.Collectors;
 
@@ -32,13 +35,19 @@ public abstract class BaseOAuthService implements OAuthServiceIntegration {
     protected final WebClient webClient;
     protected final ServiceConnectionRepository connectionRepository;
     protected final ObjectMapper objectMapper;
+    protected final Clock clock;
+    private final TokenRefreshService tokenRefreshService;
 
     protected BaseOAuthService(WebClient.Builder webClientBuilder,
                                ServiceConnectionRepository connectionRepository,
-                               ObjectMapper objectMapper) {
+                               ObjectMapper objectMapper,
+                               TokenRefreshService tokenRefreshService,
+                               Clock clock) {
         this.webClient = webClientBuilder.build();
         this.connectionRepository = connectionRepository;
         this.objectMapper = objectMapper;
+        this.tokenRefreshService = tokenRefreshService;
+        this.clock = clock;
     }
 
     @Override
@@ -102,7 +111,7 @@ public abstract class BaseOAuthService implements OAuthServiceIntegration {
                     connection.setAccessToken(accessToken);
                     connection.setRefreshToken(refreshToken);
                     connection.setExpiresInSeconds((long) expiresIn);
-                    connection.setTokenExpiresAt(Instant.now().plusSeconds(expiresIn));
+                    connection.setTokenExpiresAt(clock.instant().plusSeconds(expiresIn));
 
                     // Allow subclasses to add service-specific metadata
                     return enrichConnection(connection, accessToken)
@@ -134,8 +143,16 @@ public abstract class BaseOAuthService implements OAuthServiceIntegration {
             });
     }
 
+    /**
+     * Refresh the access token through {@link TokenRefreshService#refresh}, so concurrent
+     * calls for the same connection id share one token request and one save.
+     */
     @Override
     public Mono<ServiceConnection> refreshAccessToken(ServiceConnection connection) {
+        return tokenRefreshService.refresh(connection, this::doRefreshAccessToken);
+    }
+
+    private Mono<ServiceConnection> doRefreshAccessToken(ServiceConnection connection) {
         if (connection.getRefreshToken() == null || connection.getRefreshToken().isBlank()) {
             logger.warn("No refresh token available for {} connection {}", getName(), connection.getId());
             return Mono.error(new IllegalStateException(
@@ -165,6 +182,8 @@ public abstract class BaseOAuthService implements OAuthServiceIntegration {
             .body(BodyInserters.fromFormData(formData))
             .retrieve()
             .bodyToMono(String.class)
+            // Saving is blocking JDBC, keep it off the HTTP event loop
+            .publishOn(Schedulers.boundedElastic())
             .map(responseBody -> {
                 try {
                     JsonNode jsonResponse = objectMapper.readTree(responseBody);
@@ -172,8 +191,14 @@ public abstract class BaseOAuthService implements OAuthServiceIntegration {
                     int expiresIn = jsonResponse.get("expires_in").asInt();
 
                     connection.setAccessToken(newAccessToken);
-                    connection.setTokenExpiresAt(Instant.now().plusSeconds(expiresIn));
-                    connection.setLastRefreshAttempt(Instant.now());
+                    // Providers that rotate refresh tokens invalidate the old one
+                    JsonNode rotatedRefreshToken = jsonResponse.get("refresh_token");
+                    if (rotatedRefreshToken != null && !rotatedRefreshToken.asText().isBlank()) {
+                        connection.setRefreshToken(rotatedRefreshToken.asText());
+                    }
+                    Instant now = clock.instant();
+                    connection.setTokenExpiresAt(now.plusSeconds(expiresIn));
+                    connection.setLastRefreshAttempt(now);
 
                     logger.info("Successfully refreshed token for {} connection {}", getName(), connection.getId());
                     return connectionRepository.save(connection);
@@ -190,13 +215,14 @@ public abstract class BaseOAuthService implements OAuthServiceIntegration {
             .onErrorResume(error -> {
                 logger.error("Failed to refresh token for {} connection {}: {}",
                            getName(), connection.getId(), error.getMessage());
-                connection.setLastRefreshAttempt(Instant.now());
-                connectionRepository.save(connection);
-                return Mono.error(new ServiceIntegrationException(
-                    getName(),
-                    "Token refresh failed: " + error.getMessage(),
-                    error
-                ));
+                connection.setLastRefreshAttempt(clock.instant());
+                return Mono.fromRunnable(() -> connectionRepository.save(connection))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(Mono.error(new ServiceIntegrationException(
+                        getName(),
+                        "Token refresh failed: " + error.getMessage(),
+                        error
+                    )));
             });
     }
 
@@ -217,7 +243,7 @@ public abstract class BaseOAuthService implements OAuthServiceIntegration {
      * Helper method to check if a connection needs token refresh
      */
     protected boolean needsRefresh(ServiceConnection connection) {
-        return connection.needsRefresh();
+        return connection.needsRefresh(clock);
     }
 
     /**
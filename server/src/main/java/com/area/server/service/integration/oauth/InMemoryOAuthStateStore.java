@@ -0,0 +1,93 @@
+package com.area.server.service.integration.oauth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-node {@link OAuthStateStore} with time-bucketed expiry.
+ * States are grouped into buckets by issue time and the bucket index is part of
+ * the state value, so issuing and consuming touch exactly one bucket. Expired
+ * states are never scanned individually: once a bucket is older than the TTL
+ * it is dropped as a whole.
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.state.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOAuthStateStore implements OAuthStateStore {
+
+    private final Map<Long, Map<String, IssuedState>> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweptBucket = new AtomicLong(Long.MIN_VALUE);
+    private final Clock clock;
+    private final long ttlMs;
+    private final long bucketMs;
+
+    public InMemoryOAuthStateStore(Clock clock,
+                                   @Value("${oauth.state.ttl-ms:600000}") long ttlMs,
+                                   @Value("${oauth.state.bucket-ms:60000}") long bucketMs) {
+        this.clock = clock;
+        this.ttlMs = ttlMs;
+        this.bucketMs = Math.max(1, bucketMs);
+    }
+
+    @Override
+    public String issue(String provider, Long userId) {
+        Instant now = clock.instant();
+        long bucket = bucketOf(now);
+        dropExpiredBuckets(bucket);
+
+        String token = Long.toString(bucket, 36) + "." + UUID.randomUUID();
+        buckets.computeIfAbsent(bucket, k -> new ConcurrentHashMap<>())
+            .put(token, new IssuedState(provider, userId, now.plusMillis(ttlMs)));
+        return token;
+    }
+
+    @Override
+    public Optional<IssuedState> consume(String provider, String state) {
+        int separator = state.indexOf('.');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+
+        long bucket;
+        try {
+            bucket = Long.parseLong(state.substring(0, separator), 36);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+
+        Map<String, IssuedState> states = buckets.get(bucket);
+        IssuedState issued = states != null ? states.remove(state) : null; // One-time use
+        if (issued == null || issued.isExpired(clock.instant()) || !issued.provider().equals(provider)) {
+            return Optional.empty();
+        }
+        return Optional.of(issued);
+    }
+
+    /**
+     * @return number of states currently held, including expired ones not yet dropped
+     */
+    public int size() {
+        return buckets.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private long bucketOf(Instant instant) {
+        return instant.toEpochMilli() / bucketMs;
+    }
+
+    private void dropExpiredBuckets(long currentBucket) {
+        long swept = lastSweptBucket.get();
+        // At most one sweep per bucket period; the key set holds only ttl/bucket entries
+        if (swept != currentBucket && lastSweptBucket.compareAndSet(swept, currentBucket)) {
+            long oldestLive = currentBucket - (ttlMs + bucketMs - 1) / bucketMs;
+            buckets.keySet().removeIf(bucket -> bucket < oldestLive);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.area.server.service.integration.oauth;
+
+import com.area.server.model.OAuthState;
+import com.area.server.repository.OAuthStateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link OAuthStateStore} backed by the database, so a callback can land on a
+ * different node than the one that built the authorization URL. A state is
+ * claimed by deleting its row; only the caller whose delete affected the row
+ * may use it. Expired rows are removed by a periodic bulk delete.
+ */
+@Component
+@EnableScheduling
+@ConditionalOnProperty(name = "oauth.state.store", havingValue = "jpa")
+public class JpaOAuthStateStore implements OAuthStateStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaOAuthStateStore.class);
+
+    private final OAuthStateRepository repository;
+    private final Clock clock;
+    private final long ttlMs;
+
+    public JpaOAuthStateStore(OAuthStateRepository repository,
+                              Clock clock,
+                              @Value("${oauth.state.ttl-ms:600000}") long ttlMs) {
+        this.repository = repository;
+        this.clock = clock;
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public String issue(String provider, Long userId) {
+        String token = UUID.randomUUID().toString();
+        repository.save(new OAuthState(token, provider, userId, clock.instant().plusMillis(ttlMs)));
+        return token;
+    }
+
+    @Override
+    @Transactional
+    public Optional<IssuedState> consume(String provider, String state) {
+        Optional<OAuthState> found = repository.findById(state);
+        if (found.isEmpty() || repository.deleteByState(state) == 0) {
+            return Optional.empty();
+        }
+
+        OAuthState entry = found.get();
+        IssuedState issued = new IssuedState(entry.getProvider(), entry.getUserId(), entry.getExpiresAt());
+        if (issued.isExpired(clock.instant()) || !issued.provider().equals(provider)) {
+            return Optional.empty();
+        }
+        return Optional.of(issued);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${oauth.state.cleanup-interval:300000}")
+    public void deleteExpired() {
+        int deleted = repository.deleteExpired(clock.instant());
+        if (deleted > 0) {
+            logger.debug("Deleted {} expired OAuth state(s)", deleted);
+        }
+    }
+}
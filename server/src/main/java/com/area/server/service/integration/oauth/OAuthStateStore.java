@@ -0,0 +1,42 @@
+package com.area.server.service.integration.oauth;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Server-side store for the {@code state} parameter of OAuth authorization flows.
+ * A state is issued when the authorization URL is built and consumed exactly
+ * once by the provider callback, which protects the flow against CSRF and
+ * carries the initiating user across the redirect.
+ */
+public interface OAuthStateStore {
+
+    /**
+     * Issue a new one-time state.
+     *
+     * @param provider provider the flow is for (e.g. "github")
+     * @param userId user who started the flow, null if anonymous
+     * @return opaque state value to put in the authorization URL
+     */
+    String issue(String provider, Long userId);
+
+    /**
+     * Consume a state. A state can be consumed only once and only for the
+     * provider it was issued for.
+     *
+     * @param provider provider handling the callback
+     * @param state the state value received in the callback
+     * @return the issued state, empty if unknown, already used or expired
+     */
+    Optional<IssuedState> consume(String provider, String state);
+
+    /**
+     * A state as it was issued.
+     */
+    record IssuedState(String provider, Long userId, Instant expiresAt) {
+
+        public boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.area.server.service.integration.window;
+
+import com.area.server.dto.WorkflowData;
+import com.area.server.model.Workflow;
+import com.area.server.model.WorkflowTriggerState;
+import com.area.server.service.WorkflowTriggerStateService;
+import com.area.server.service.integration.executor.ActionExecutorRegistry;
+import com.area.server.service.integration.executor.ContextKeys;
+import com.area.server.service.integration.executor.TriggerContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Aggregation windows for workflow triggers (see {@link WorkflowData.WindowConfig}).
+ * New items are added to the window kept in the workflow's trigger state, together with the
+ * cursor, so an open window survives restarts. When the window is due, the scheduler runs the
+ * actions once with {@link #aggregate} and then calls {@link #fired}; until then a failed run
+ * leaves the window as it was and it fires again on the next poll.
+ * A window holds at most {@code trigger.window.max-items} items: a full tumbling window fires,
+ * a full sliding window drops its oldest items. Windows are checked with {@link #validate} when
+ * the workflow is saved; only triggers that report items ({@code reportsItems}) accept one.
+ */
+@Service
+public class TriggerWindowService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TriggerWindowService.class);
+    private static final TypeReference<List<WindowItem>> ITEM_LIST = new TypeReference<>() {
+    };
+
+    private final WorkflowTriggerStateService stateService;
+    private final ActionExecutorRegistry executorRegistry;
+    private final ObjectMapper objectMapper;
+    private final int maxItems;
+
+    public TriggerWindowService(WorkflowTriggerStateService stateService,
+                                ActionExecutorRegistry executorRegistry,
+                                ObjectMapper objectMapper,
+                                @Value("${trigger.window.max-items:1000}") int maxItems) {
+        this.stateService = stateService;
+        this.executorRegistry = executorRegistry;
+        this.objectMapper = objectMapper;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Check the window of a trigger when its workflow is saved.
+     *
+     * @throws IllegalArgumentException when the window is incomplete or the trigger does not report items
+     */
+    public void validate(WorkflowData.TriggerConfig trigger) {
+        String problem = findProblem(trigger);
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+    }
+
+    /**
+     * Why the trigger's window cannot be used, or null when it has none or it is valid.
+     */
+    public String findProblem(WorkflowData.TriggerConfig trigger) {
+        WorkflowData.WindowConfig window = trigger.getWindow();
+        if (window == null) {
+            return null;
+        }
+        String triggerType = trigger.getFullType();
+        if (!executorRegistry.hasExecutor(triggerType) || !executorRegistry.getExecutor(triggerType).reportsItems()) {
+            return "Trigger " + triggerType + " does not support windows";
+        }
+        boolean hasSize = window.getSizeSeconds() != null && window.getSizeSeconds() > 0;
+        boolean hasCount = window.getCount() != null && window.getCount() > 0;
+        if (window.isSliding()) {
+            return hasSize ? null : "Sliding window needs sizeSeconds";
+        }
+        return hasSize || hasCount ? null : "Tumbling window needs sizeSeconds or count";
+    }
+
+    /**
+     * Add new items to the workflow's window and store it along with the cursor.
+     *
+     * @param cursor Cursor of the newest item, or null to leave the cursor as is
+     * @return The window's items, oldest first, when it is due to fire; otherwise an empty list
+     */
+    @Transactional
+    public List<WindowItem> accumulate(Workflow workflow, WorkflowData.WindowConfig window,
+                                       List<WindowItem> newItems, String cursor, Instant now) {
+        WorkflowTriggerState state = stateService.getOrCreateState(workflow);
+        List<WindowItem> items = read(state);
+        items.addAll(newItems);
+
+        if (window.isSliding()) {
+            long horizon = now.toEpochMilli() - window.getSizeSeconds() * 1000;
+            items.removeIf(item -> item.arrivedAt() <= horizon);
+        }
+        if (items.size() > maxItems) {
+            if (!window.isSliding()) {
+                logger.warn("Window of workflow {} is full ({} items), closing it early", workflow.getId(), maxItems);
+            }
+            items = new ArrayList<>(items.subList(items.size() - maxItems, items.size()));
+        }
+
+        if (cursor != null) {
+            state.setLastProcessedItemId(cursor);
+        }
+        state.setWindowItems(write(items));
+        state.setLastCheckedAt(now);
+        stateService.update(state);
+
+        boolean due = window.isSliding() ? slidingDue(window, state, items, now) : tumblingDue(window, items, now);
+        if (due) {
+            logger.info("Window of workflow {} fires with {} item(s)", workflow.getId(), items.size());
+        }
+        return due ? items : List.of();
+    }
+
+    /**
+     * Record that the window's actions ran: a tumbling window starts over empty,
+     * a sliding window keeps its items until they age out.
+     */
+    @Transactional
+    public void fired(Workflow workflow, WorkflowData.WindowConfig window, Instant now) {
+        WorkflowTriggerState state = stateService.getOrCreateState(workflow);
+        state.setWindowFiredAt(now);
+        if (!window.isSliding()) {
+            state.setWindowItems(null);
+        }
+        stateService.update(state);
+    }
+
+    /**
+     * Context for one window, e.g. "12 new issues in owner/repo", spanning from the arrival
+     * of its first item to {@code end}. The count entry of the trigger
+     * (messageCount, issueCount or prCount) holds the window size, and the subject/title entries
+     * describe the newest item.
+     *
+     * @param source Where the items come from, e.g. a repository name, or null
+     */
+    public static TriggerContext aggregate(String triggerType, String source, List<WindowItem> items,
+                                           Instant end) {
+        String type = triggerType.toLowerCase(Locale.ROOT);
+        int count = items.size();
+        WindowItem latest = items.get(count - 1);
+        TriggerContext.Builder context = TriggerContext.builder()
+            .putInt(ContextKeys.WINDOW_COUNT, count)
+            .put(ContextKeys.WINDOW_ITEMS, List.copyOf(items))
+            .put(ContextKeys.WINDOW_START, Instant.ofEpochMilli(items.get(0).arrivedAt()).toString())
+            .put(ContextKeys.WINDOW_END, end.toString());
+
+        String noun;
+        if (type.startsWith("gmail.")) {
+            noun = count == 1 ? "email" : "emails";
+            context.putInt(ContextKeys.MESSAGE_COUNT, count)
+                .put(ContextKeys.MESSAGE_ID, latest.id())
+                .put(ContextKeys.SUBJECT, latest.title())
+                .put(ContextKeys.FROM, latest.author());
+        } else if (type.startsWith("github.issue")) {
+            noun = count == 1 ? "issue" : "issues";
+            context.putInt(ContextKeys.ISSUE_COUNT, count)
+                .put(ContextKeys.ISSUE_TITLE, latest.title())
+                .put(ContextKeys.ISSUE_AUTHOR, latest.author())
+                .put(ContextKeys.ISSUE_URL, latest.url());
+        } else if (type.startsWith("github.pr")) {
+            noun = count == 1 ? "pull request" : "pull requests";
+            context.putInt(ContextKeys.PR_COUNT, count)
+                .put(ContextKeys.PR_TITLE, latest.title())
+                .put(ContextKeys.PR_AUTHOR, latest.author())
+                .put(ContextKeys.PR_URL, latest.url());
+        } else {
+            noun = count == 1 ? "item" : "items";
+        }
+
+        String summary = source != null && !source.isBlank()
+            ? String.format("%d new %s in %s", count, noun, source)
+            : String.format("%d new %s", count, noun);
+        return context.put(ContextKeys.WINDOW_SUMMARY, summary).build();
+    }
+
+    private boolean tumblingDue(WorkflowData.WindowConfig window, List<WindowItem> items, Instant now) {
+        if (items.isEmpty()) {
+            return false;
+        }
+        if (items.size() >= maxItems || window.getCount() != null && items.size() >= window.getCount()) {
+            return true;
+        }
+        // The window opened with its first item
+        return window.getSizeSeconds() != null
+            && now.toEpochMilli() >= items.get(0).arrivedAt() + window.getSizeSeconds() * 1000;
+    }
+
+    private static boolean slidingDue(WorkflowData.WindowConfig window, WorkflowTriggerState state,
+                                      List<WindowItem> items, Instant now) {
+        int threshold = window.getCount() != null ? Math.max(1, window.getCount()) : 1;
+        if (items.size() < threshold) {
+            return false;
+        }
+        Instant firedAt = state.getWindowFiredAt();
+        if (firedAt == null) {
+            return true;
+        }
+        long slide = window.getSlideSeconds() != null ? window.getSlideSeconds() : window.getSizeSeconds();
+        return !now.isBefore(firedAt.plusSeconds(slide))
+            && items.stream().anyMatch(item -> item.arrivedAt() > firedAt.toEpochMilli());
+    }
+
+    private List<WindowItem> read(WorkflowTriggerState state) {
+        String json = state.getWindowItems();
+        if (json == null || json.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return new ArrayList<>(objectMapper.readValue(json, ITEM_LIST));
+        } catch (JsonProcessingException e) {
+            logger.error("Discarding unreadable window of workflow {}: {}",
+                state.getWorkflow() != null ? state.getWorkflow().getId() : null, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private String write(List<WindowItem> items) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to store trigger window", e);
+        }
+    }
+}
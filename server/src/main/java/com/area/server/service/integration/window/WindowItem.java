@@ -0,0 +1,31 @@
+package com.area.server.service.integration.window;
+
+import com.area.server.service.integration.executor.ContextKeys;
+import com.area.server.service.integration.executor.TriggerContext;
+
+/**
+ * One item held in an aggregation window, kept small enough to persist with the trigger state.
+ *
+ * @param id        Cursor value of the item, e.g. a Gmail message ID or "issue:123"
+ * @param title     Email subject, issue or PR title
+ * @param author    Sender or GitHub login
+ * @param url       Link to the item, when the provider has one
+ * @param arrivedAt Epoch millis of the poll that found the item
+ */
+public record WindowItem(String id, String title, String author, String url, long arrivedAt) {
+
+    /**
+     * Item from a single-item context, as produced by {@code ActionExecutor.splitItems}.
+     */
+    public static WindowItem from(TriggerContext item, String id, long arrivedAt) {
+        return new WindowItem(id,
+            first(item.get(ContextKeys.SUBJECT), item.get(ContextKeys.ISSUE_TITLE), item.get(ContextKeys.PR_TITLE)),
+            first(item.get(ContextKeys.FROM), item.get(ContextKeys.ISSUE_AUTHOR), item.get(ContextKeys.PR_AUTHOR)),
+            first(item.get(ContextKeys.ISSUE_URL), item.get(ContextKeys.PR_URL), null),
+            arrivedAt);
+    }
+
+    private static String first(String a, String b, String c) {
+        return a != null ? a : b != null ? b : c;
+    }
+}
@@ -0,0 +1,148 @@
+package com.area.server.service.template;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A message template parsed once into literal and variable segments.
+ * Placeholders are written {@code {{name}}} or {@code {name}}; a name may be a
+ * dotted path such as {@code issue.user.login}, see {@link TemplatePaths}.
+ * Rendering walks the segments into a per-thread buffer, without regex or
+ * intermediate strings.
+ */
+public final class CompiledTemplate {
+
+    /**
+     * What a placeholder renders to when its value is missing or null.
+     */
+    public enum Missing {
+        /** Nothing, as Discord messages do */
+        EMPTY,
+        /** The placeholder text itself, as GitHub templates do (file contents may contain braces) */
+        KEEP
+    }
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+        .withZone(ZoneId.systemDefault());
+    // Buffers that grew past this are not kept for the next render
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private sealed interface Segment permits Literal, Variable {
+    }
+
+    private record Literal(String text) implements Segment {
+    }
+
+    /**
+     * @param source placeholder as written, braces included
+     * @param name   trimmed placeholder name, looked up as is first
+     * @param path   property path tried when the name itself has no value
+     */
+    private record Variable(String source, String name, String[] path) implements Segment {
+    }
+
+    private final String source;
+    private final Segment[] segments;
+
+    private CompiledTemplate(String source, Segment[] segments) {
+        this.source = source;
+        this.segments = segments;
+    }
+
+    /**
+     * Parse a template. Matches the placeholders the reactions always accepted:
+     * {@code {{...}}} or {@code {...}} around any text without braces.
+     */
+    public static CompiledTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int i = 0;
+        while (i < source.length()) {
+            int end = source.indexOf('{', i);
+            if (end < 0) {
+                break;
+            }
+            int nameStart;
+            int nameEnd;
+            int next;
+            int close = source.indexOf('}', end + 2);
+            if (source.startsWith("{{", end) && close > end + 2 && source.startsWith("}}", close)) {
+                nameStart = end + 2;
+                nameEnd = close;
+                next = close + 2;
+            } else {
+                close = source.indexOf('}', end + 1);
+                // An inner brace starts the placeholder, e.g. "{ return {{value}}; }"
+                if (close <= end + 1 || source.lastIndexOf('{', close) > end) {
+                    i = end + 1;
+                    continue;
+                }
+                nameStart = end + 1;
+                nameEnd = close;
+                next = close + 1;
+            }
+            if (end > literalStart) {
+                segments.add(new Literal(source.substring(literalStart, end)));
+            }
+            String name = source.substring(nameStart, nameEnd).trim();
+            segments.add(new Variable(source.substring(end, next), name, TemplatePaths.resolve(name)));
+            literalStart = next;
+            i = next;
+        }
+        if (literalStart < source.length()) {
+            segments.add(new Literal(source.substring(literalStart)));
+        }
+        return new CompiledTemplate(source, segments.toArray(new Segment[0]));
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Render with values looked up by {@code roots}: the full placeholder name
+     * first, then the first element of its path, navigated from there.
+     */
+    public String render(Function<String, Object> roots, Missing missing) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        renderTo(buffer, roots, missing);
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    public void renderTo(StringBuilder out, Function<String, Object> roots, Missing missing) {
+        for (Segment segment : segments) {
+            if (segment instanceof Literal literal) {
+                out.append(literal.text());
+            } else {
+                Variable variable = (Variable) segment;
+                Object value = roots.apply(variable.name());
+                if (value == null && variable.path() != null) {
+                    value = PropertyReader.read(roots.apply(variable.path()[0]), variable.path(), 1);
+                }
+                if (value != null) {
+                    appendValue(out, value);
+                } else if (missing == Missing.KEEP) {
+                    out.append(variable.source());
+                }
+            }
+        }
+    }
+
+    private static void appendValue(StringBuilder out, Object value) {
+        if (value instanceof Instant instant) {
+            TIME_FORMATTER.formatTo(instant, out);
+        } else {
+            out.append(value);
+        }
+    }
+}
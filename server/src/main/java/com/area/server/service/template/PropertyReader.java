@@ -0,0 +1,80 @@
+package com.area.server.service.template;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads nested template values from maps, JSON nodes and getters.
+ * Only public getters are followed. The getters of a class are collected once
+ * on first use, so template paths naming unknown properties never add entries.
+ */
+final class PropertyReader {
+
+    // Keyed by the capitalized property name, e.g. "Subject" for getSubject()
+    private static final Map<Class<?>, Map<String, Method>> GETTERS = new ConcurrentHashMap<>();
+
+    private PropertyReader() {
+    }
+
+    /**
+     * Follow {@code path} from index {@code from} starting at {@code value}.
+     *
+     * @return the value found, or null if any step is missing
+     */
+    static Object read(Object value, String[] path, int from) {
+        Object current = value;
+        for (int i = from; i < path.length && current != null; i++) {
+            current = property(current, path[i]);
+        }
+        if (current instanceof JsonNode node) {
+            return node.isNull() || node.isMissingNode() ? null : node.isValueNode() ? node.asText() : node.toString();
+        }
+        return current;
+    }
+
+    private static Object property(Object target, String name) {
+        if (target instanceof Map<?, ?> map) {
+            return map.get(name);
+        }
+        if (target instanceof JsonNode node) {
+            return node.get(name);
+        }
+        if (name.isEmpty()) {
+            return null;
+        }
+        Method getter = GETTERS.computeIfAbsent(target.getClass(), PropertyReader::findGetters)
+            .get(Character.toUpperCase(name.charAt(0)) + name.substring(1));
+        if (getter == null) {
+            return null;
+        }
+        try {
+            return getter.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Method> findGetters(Class<?> type) {
+        Map<String, Method> getters = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            String name = method.getName();
+            int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+            if (prefix == 0 || name.length() == prefix || !Character.isUpperCase(name.charAt(prefix))
+                    || "getClass".equals(name) || method.isBridge() || method.getParameterCount() != 0 || method.getReturnType() == void.class
+                    || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            String property = name.substring(prefix);
+            // getX wins over isX, as in the bean conventions
+            if ((prefix == 3 || !getters.containsKey(property)) && method.trySetAccessible()) {
+                getters.put(property, method);
+            }
+        }
+        return Map.copyOf(getters);
+    }
+}
@@ -0,0 +1,64 @@
+package com.area.server.service.template;
+
+import com.area.server.model.AutomationEntity;
+import com.area.server.service.integration.executor.TriggerContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders reaction templates (Discord messages, GitHub titles, bodies, branches and files)
+ * against a trigger context. Templates are compiled once and cached per entity and template
+ * hash; a hit is checked against the template text, so an edited template is recompiled.
+ * The cache is dropped when it reaches {@code template.cache.max-entries}, which bounds
+ * the entries left behind by edited or deleted entities.
+ */
+@Component
+public class TemplateEngine {
+
+    private record Key(Class<?> entityType, Long entityId, int templateHash) {
+    }
+
+    private final Map<Key, CompiledTemplate> cache = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public TemplateEngine(@Value("${template.cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Render a template owned by an entity.
+     *
+     * @return the rendered text, or the template itself when null or blank
+     */
+    public String render(AutomationEntity entity, String template, TriggerContext context,
+                         CompiledTemplate.Missing missing) {
+        if (template == null || template.isBlank()) {
+            return template;
+        }
+        return compile(entity, template).render(context::get, missing);
+    }
+
+    CompiledTemplate compile(AutomationEntity entity, String template) {
+        if (entity == null || entity.getId() == null) {
+            return CompiledTemplate.compile(template);
+        }
+        Key key = new Key(entity.getClass(), entity.getId(), template.hashCode());
+        CompiledTemplate compiled = cache.get(key);
+        if (compiled != null && compiled.getSource().equals(template)) {
+            return compiled;
+        }
+        compiled = CompiledTemplate.compile(template);
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        cache.put(key, compiled);
+        return compiled;
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+}
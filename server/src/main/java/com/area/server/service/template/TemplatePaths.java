@@ -0,0 +1,52 @@
+package com.area.server.service.template;
+
+import java.util.Map;
+
+/**
+ * Maps placeholder names to paths into the trigger context.
+ * The short names used in existing templates ({@code issue.number}, {@code email.subject},
+ * Discord's {@code receivedAt}) map to the flat keys the actions put in the context;
+ * other dotted names start from an object in the context, with {@code email},
+ * {@code issue} and {@code pr} standing for the latest message, issue and pull request.
+ */
+final class TemplatePaths {
+
+    private static final Map<String, String[]> ALIASES = Map.ofEntries(
+        Map.entry("email.subject", new String[] {"subject"}),
+        Map.entry("email.from", new String[] {"from"}),
+        Map.entry("email.snippet", new String[] {"snippet"}),
+        Map.entry("receivedAt", new String[] {"latestMessage", "receivedAt"}),
+        Map.entry("issue.number", new String[] {"issueNumber"}),
+        Map.entry("issue.title", new String[] {"issueTitle"}),
+        Map.entry("issue.author", new String[] {"issueAuthor"}),
+        Map.entry("issue.url", new String[] {"issueUrl"}),
+        Map.entry("pr.number", new String[] {"prNumber"}),
+        Map.entry("pr.title", new String[] {"prTitle"}),
+        Map.entry("pr.author", new String[] {"prAuthor"}),
+        Map.entry("pr.url", new String[] {"prUrl"}));
+
+    private static final Map<String, String> ROOTS = Map.of(
+        "email", "latestMessage",
+        "issue", "latestIssue",
+        "pr", "latestPullRequest");
+
+    private TemplatePaths() {
+    }
+
+    /**
+     * @return the path to read when the name itself is not a context key, or null
+     */
+    static String[] resolve(String name) {
+        String[] alias = ALIASES.get(name);
+        if (alias != null) {
+            return alias;
+        }
+        int dot = name.indexOf('.');
+        if (dot <= 0 || dot == name.length() - 1) {
+            return null;
+        }
+        String[] path = name.split("\\.");
+        path[0] = ROOTS.getOrDefault(path[0], path[0]);
+        return path;
+    }
+}
@@ -0,0 +1,197 @@
+package com.area.server.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers ended spans and periodically appends them to a file as OTLP/JSON, one
+ * {@code ExportTraceServiceRequest} per line. This is the format read by the
+ * OpenTelemetry Collector's {@code otlpjsonfile} receiver, so the file can be
+ * replayed into Jaeger or any other OTLP backend.
+ *
+ * Spans are dropped, not blocked on, when the buffer is full. Once the file exceeds
+ * {@code tracing.export.max-bytes} it is rolled over to {@code <file>.1} (older files
+ * shift to {@code .2}, {@code .3}, ...) and at most {@code tracing.export.max-files}
+ * rolled files are kept.
+ */
+@Component
+@EnableScheduling
+public class OtlpJsonFileSpanExporter implements SpanExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(OtlpJsonFileSpanExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final String serviceName;
+    private final int batchSize;
+    private final long maxBytes;
+    private final int maxFiles;
+    private final BlockingQueue<Span> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public OtlpJsonFileSpanExporter(ObjectMapper objectMapper,
+                                    @Value("${tracing.export.file:logs/traces.otlp.jsonl}") String file,
+                                    @Value("${spring.application.name:server}") String serviceName,
+                                    @Value("${tracing.export.queue-capacity:4096}") int queueCapacity,
+                                    @Value("${tracing.export.batch-size:512}") int batchSize,
+                                    @Value("${tracing.export.max-bytes:16777216}") long maxBytes,
+                                    @Value("${tracing.export.max-files:5}") int maxFiles) {
+        this.objectMapper = objectMapper;
+        this.file = Path.of(file);
+        this.serviceName = serviceName;
+        this.batchSize = batchSize;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+        this.buffer = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public void export(Span span) {
+        if (!buffer.offer(span)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Write buffered spans to the export file.
+     */
+    @Scheduled(fixedDelayString = "${tracing.export.interval-ms:5000}")
+    public void flush() {
+        List<Span> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            logger.warn("Dropped {} span(s): export buffer full", lost);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Number of spans waiting to be written.
+     */
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    private void write(List<Span> spans) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            if (Files.exists(file) && Files.size(file) >= maxBytes) {
+                roll();
+            }
+            Files.writeString(file, toOtlpJson(spans) + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Failed to export {} span(s) to {}: {}", spans.size(), file, e.getMessage());
+        }
+    }
+
+    /**
+     * Shift {@code file.N} to {@code file.N+1}, dropping the oldest, and move the
+     * current file to {@code file.1}.
+     */
+    private void roll() throws IOException {
+        if (maxFiles <= 0) {
+            Files.delete(file);
+            return;
+        }
+        Files.deleteIfExists(rolled(maxFiles));
+        for (int index = maxFiles - 1; index >= 1; index--) {
+            Path source = rolled(index);
+            if (Files.exists(source)) {
+                Files.move(source, rolled(index + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    /**
+     * Encode spans as an OTLP/JSON {@code ExportTraceServiceRequest}.
+     */
+    String toOtlpJson(List<Span> spans) throws JsonProcessingException {
+        List<Map<String, Object>> encoded = new ArrayList<>(spans.size());
+        for (Span span : spans) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("traceId", span.getTraceId());
+            json.put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                json.put("parentSpanId", span.getParentSpanId());
+            }
+            json.put("name", span.getName());
+            json.put("kind", span.getKind().ordinal() + 1);
+            // 64-bit integers are strings in OTLP/JSON
+            json.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+            json.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+            json.put("attributes", attributes(span.getAttributes()));
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("code", span.getStatus().ordinal());
+            if (span.getStatusMessage() != null) {
+                status.put("message", span.getStatusMessage());
+            }
+            json.put("status", status);
+            encoded.add(json);
+        }
+
+        Map<String, Object> resource = Map.of("attributes", attributes(Map.of("service.name", serviceName)));
+        Map<String, Object> scopeSpans = Map.of(
+            "scope", Map.of("name", "com.area.server"),
+            "spans", encoded);
+        Map<String, Object> resourceSpans = Map.of(
+            "resource", resource,
+            "scopeSpans", List.of(scopeSpans));
+        return objectMapper.writeValueAsString(Map.of("resourceSpans", List.of(resourceSpans)));
+    }
+
+    private static List<Map<String, Object>> attributes(Map<String, Object> values) {
+        List<Map<String, Object>> attributes = new ArrayList<>(values.size());
+        values.forEach((key, value) -> {
+            Map<String, Object> typed;
+            if (value instanceof Boolean b) {
+                typed = Map.of("boolValue", b);
+            } else if (value instanceof Integer || value instanceof Long) {
+                typed = Map.of("intValue", value.toString());
+            } else if (value instanceof Number n) {
+                typed = Map.of("doubleValue", n.doubleValue());
+            } else {
+                typed = Map.of("stringValue", value.toString());
+            }
+            attributes.add(Map.of("key", key, "value", typed));
+        });
+        return attributes;
+    }
+}
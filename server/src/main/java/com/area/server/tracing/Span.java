@@ -0,0 +1,150 @@
+package com.area.server.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A timed operation within a trace. Spans are created by {@link Tracer}, carried
+ * in the Reactor {@code Context} under {@link #CONTEXT_KEY} and exported once
+ * {@link #end()} is called. Attribute and status setters are no-ops on unsampled
+ * spans, so callers never need to check {@link #isSampled()}.
+ */
+public final class Span {
+
+    /**
+     * Reactor context key holding the current span.
+     */
+    public static final String CONTEXT_KEY = Span.class.getName();
+
+    public enum Kind { INTERNAL, SERVER, CLIENT }
+
+    public enum Status { UNSET, OK, ERROR }
+
+    static final Span NOOP = new Span(null, "", "0".repeat(32), "0".repeat(16), null, Kind.INTERNAL, false);
+
+    private final Tracer tracer;
+    private final String name;
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final Kind kind;
+    private final boolean sampled;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    private volatile long endEpochNanos;
+    private volatile Status status = Status.UNSET;
+    private volatile String statusMessage;
+
+    Span(Tracer tracer, String name, String traceId, String spanId, String parentSpanId, Kind kind, boolean sampled) {
+        this.tracer = tracer;
+        this.name = name;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.kind = kind;
+        this.sampled = sampled;
+        this.startEpochNanos = System.currentTimeMillis() * 1_000_000L;
+        this.startNanoTime = System.nanoTime();
+    }
+
+    public Span setAttribute(String key, Object value) {
+        if (sampled && value != null) {
+            synchronized (attributes) {
+                attributes.put(key, value);
+            }
+        }
+        return this;
+    }
+
+    public Span setStatus(Status status, String message) {
+        if (sampled) {
+            this.status = status;
+            this.statusMessage = message;
+        }
+        return this;
+    }
+
+    public Span recordError(Throwable error) {
+        setAttribute("exception.type", error.getClass().getName());
+        return setStatus(Status.ERROR, error.getMessage());
+    }
+
+    /**
+     * End the span and hand it to the exporter. Only the first call has an effect.
+     */
+    public void end() {
+        if (!sampled || endEpochNanos != 0) {
+            return;
+        }
+        synchronized (this) {
+            if (endEpochNanos != 0) {
+                return;
+            }
+            endEpochNanos = startEpochNanos + (System.nanoTime() - startNanoTime);
+        }
+        tracer.export(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getStatusMessage() {
+        return statusMessage;
+    }
+
+    public Map<String, Object> getAttributes() {
+        synchronized (attributes) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        }
+    }
+
+    static String randomHex(int bytes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(bytes * 2);
+        for (int i = 0; i < bytes; i += 8) {
+            long value = random.nextLong();
+            if (value == 0) {
+                value = 1;
+            }
+            hex.append(String.format("%016x", value));
+        }
+        return hex.substring(0, bytes * 2);
+    }
+}
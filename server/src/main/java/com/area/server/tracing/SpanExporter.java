@@ -0,0 +1,13 @@
+package com.area.server.tracing;
+
+/**
+ * Receives spans as they end.
+ */
+@FunctionalInterface
+public interface SpanExporter {
+
+    /**
+     * Accept an ended span. Called on the thread that ended it, so implementations must not block.
+     */
+    void export(Span span);
+}
@@ -0,0 +1,142 @@
+package com.area.server.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Minimal tracer that propagates spans through the Reactor {@code Context} rather
+ * than thread-locals, so a span started in a poll cycle stays the parent of the
+ * workflow, trigger, reaction and HTTP spans whichever thread they run on.
+ *
+ * Blocking callers (schedulers, controllers) open a {@link Scope} with
+ * {@link #withSpan(Span)}; it is only used as a fallback parent when the
+ * subscriber context carries no span. Sampling is decided once per trace, at
+ * the root span.
+ */
+@Component
+public class Tracer {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private final SpanExporter exporter;
+    private final boolean enabled;
+    private final double sampleRatio;
+
+    public Tracer(SpanExporter exporter,
+                  @Value("${tracing.enabled:false}") boolean enabled,
+                  @Value("${tracing.sample-ratio:0.01}") double sampleRatio) {
+        this.exporter = exporter;
+        this.enabled = enabled;
+        this.sampleRatio = sampleRatio;
+    }
+
+    /**
+     * Start a span. A null parent starts a new trace.
+     */
+    public Span startSpan(String name, Span.Kind kind, Span parent) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        if (parent == null) {
+            if (sampleRatio < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRatio) {
+                return Span.NOOP;
+            }
+            return new Span(this, name, Span.randomHex(16), Span.randomHex(8), null, kind, true);
+        }
+        if (!parent.isSampled()) {
+            return Span.NOOP;
+        }
+        return new Span(this, name, parent.getTraceId(), Span.randomHex(8), parent.getSpanId(), kind, true);
+    }
+
+    /**
+     * Start a span whose parent is the current blocking scope, if any.
+     */
+    public Span startSpan(String name, Span.Kind kind) {
+        return startSpan(name, kind, CURRENT.get());
+    }
+
+    /**
+     * Make a span the fallback parent on this thread until the scope is closed.
+     */
+    public Scope withSpan(Span span) {
+        Span previous = CURRENT.get();
+        CURRENT.set(span);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Context to write on a reactive chain so it runs under {@code span}.
+     */
+    public static Context context(Span span) {
+        return Context.of(Span.CONTEXT_KEY, span);
+    }
+
+    /**
+     * The span carried by a subscriber context, falling back to the current scope.
+     */
+    public static Span current(ContextView context) {
+        return context.getOrDefault(Span.CONTEXT_KEY, CURRENT.get());
+    }
+
+    /**
+     * Run {@code body} in a child span of whatever span the subscriber carries.
+     * The span starts on subscription, ends on completion, error or cancellation,
+     * and is visible to anything {@code body} subscribes to downstream.
+     *
+     * @param name span name
+     * @param kind span kind
+     * @param body builds the traced publisher; may set attributes on the span
+     */
+    public <T> Mono<T> trace(String name, Span.Kind kind, Function<Span, Mono<T>> body) {
+        return Mono.deferContextual(context -> {
+            Span span = startSpan(name, kind, current(context));
+            Mono<T> traced;
+            try (Scope ignored = withSpan(span)) {
+                traced = body.apply(span);
+            } catch (RuntimeException e) {
+                span.recordError(e);
+                span.end();
+                return Mono.error(e);
+            }
+            return traced
+                .doOnError(span::recordError)
+                // End before the terminal signal reaches the subscriber, so the span covers only body
+                .doOnTerminate(span::end)
+                .doOnCancel(span::end)
+                .contextWrite(ctx -> ctx.put(Span.CONTEXT_KEY, span));
+        });
+    }
+
+    /**
+     * Shorthand for an {@link Span.Kind#INTERNAL} span.
+     */
+    public <T> Mono<T> trace(String name, Function<Span, Mono<T>> body) {
+        return trace(name, Span.Kind.INTERNAL, body);
+    }
+
+    void export(Span span) {
+        exporter.export(span);
+    }
+
+    /**
+     * Restores the previous fallback span when closed.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,61 @@
+package com.area.server.traffic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * One outbound call as stored in a traffic segment. URL and headers are masked
+ * like {@link com.area.server.logging.ExternalApiLogger} masks them, and token
+ * fields in text bodies are blanked. Bodies that are not text are stored
+ * base64-encoded.
+ *
+ * @param at              epoch millis when the request was sent
+ * @param latencyMs       time until the response body was fully received
+ * @param service         client name, e.g. "GitHub"
+ * @param method          HTTP method
+ * @param url             masked request URL
+ * @param requestHeaders    masked request headers (first value of each)
+ * @param requestBody       masked request body, null if the request had none
+ * @param requestBodyBase64 whether requestBody is base64-encoded
+ * @param status            response status code
+ * @param responseHeaders   response headers (first value of each), without framing headers
+ * @param body              masked response body
+ * @param bodyBase64        whether body is base64-encoded
+ */
+public record RecordedExchange(
+    long at,
+    long latencyMs,
+    String service,
+    String method,
+    String url,
+    Map<String, String> requestHeaders,
+    String requestBody,
+    boolean requestBodyBase64,
+    int status,
+    Map<String, String> responseHeaders,
+    String body,
+    boolean bodyBase64
+) {
+
+    /**
+     * Key under which replay looks up recorded responses for a request.
+     */
+    public static String key(String service, String method, String url) {
+        return service + " " + method + " " + url;
+    }
+
+    public String key() {
+        return key(service, method, url);
+    }
+
+    /**
+     * The response body as it was received.
+     */
+    public byte[] bodyBytes() {
+        if (body == null) {
+            return new byte[0];
+        }
+        return bodyBase64 ? Base64.getDecoder().decode(body) : body.getBytes(StandardCharsets.UTF_8);
+    }
+}
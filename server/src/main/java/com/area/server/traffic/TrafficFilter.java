@@ -0,0 +1,16 @@
+package com.area.server.traffic;
+
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+/**
+ * Exchange filter added to the external API clients when {@code traffic.mode} is
+ * {@code record} or {@code replay}. No bean exists in the default mode, so the
+ * clients carry no extra filter at all.
+ */
+public interface TrafficFilter {
+
+    /**
+     * @param serviceName client name, e.g. "Gmail", "Discord", "GitHub"
+     */
+    ExchangeFilterFunction filter(String serviceName);
+}
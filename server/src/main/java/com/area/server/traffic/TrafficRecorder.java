@@ -0,0 +1,252 @@
+package com.area.server.traffic;
+
+import com.area.server.logging.ExternalApiLogger;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Records every exchange of the external API clients into traffic segments
+ * ({@code traffic.mode=record}). Exchanges are buffered and written by a periodic
+ * flush, like the span exporter; a segment is closed once it exceeds
+ * {@code traffic.record.segment-max-bytes} and a new one is started.
+ *
+ * The request body is captured as it is written to the connection, and the
+ * response body is read in full and handed on to the caller unchanged. Text
+ * bodies (text, JSON, XML and form content types, or UTF-8 without a content
+ * type) are stored as strings, anything else base64-encoded so binary payloads
+ * survive the round trip. Secrets are masked before anything is buffered: URL
+ * and headers as in {@link ExternalApiLogger}, and OAuth token fields in JSON and
+ * form-encoded text bodies. Recordings are replayed by {@link TrafficReplayer}.
+ */
+@Component
+@EnableScheduling
+@ConditionalOnProperty(name = "traffic.mode", havingValue = "record")
+public class TrafficRecorder implements TrafficFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficRecorder.class);
+    private static final Pattern JSON_SECRET = Pattern.compile(
+        "(\"(?:access_token|refresh_token|id_token|client_secret|token)\"\\s*:\\s*)\"[^\"]*\"");
+    private static final Pattern FORM_SECRET = Pattern.compile(
+        "((?:^|&)(?:access_token|refresh_token|id_token|client_secret|token|code|code_verifier)=)[^&]*");
+    // Framing headers no longer match once the body is masked
+    private static final Set<String> DROPPED_HEADERS = Set.of(
+        HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+        HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT));
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Path dir;
+    private final long segmentMaxBytes;
+    private final BlockingQueue<RecordedExchange> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final String recordingId;
+    private int segmentSequence;
+
+    public TrafficRecorder(ObjectMapper objectMapper, Clock clock,
+                           @Value("${traffic.record.dir:logs/traffic}") String dir,
+                           @Value("${traffic.record.segment-max-bytes:16777216}") long segmentMaxBytes,
+                           @Value("${traffic.record.queue-capacity:10000}") int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.dir = Path.of(dir);
+        this.segmentMaxBytes = segmentMaxBytes;
+        this.buffer = new ArrayBlockingQueue<>(queueCapacity);
+        this.recordingId = Long.toString(clock.millis());
+        logger.info("Recording external API traffic to {}", this.dir.toAbsolutePath());
+    }
+
+    @Override
+    public ExchangeFilterFunction filter(String serviceName) {
+        return (request, next) -> {
+            long at = clock.millis();
+            long startNanos = System.nanoTime();
+            AtomicReference<byte[]> requestBody = new AtomicReference<>();
+            ClientRequest capturing = ClientRequest.from(request)
+                .body((outputMessage, context) -> request.body().insert(new ClientHttpRequestDecorator(outputMessage) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        return super.writeWith(DataBufferUtils.join(body).doOnNext(buffer -> {
+                            // Copy without consuming, the buffer is still written as is
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            int position = buffer.readPosition();
+                            buffer.read(bytes);
+                            buffer.readPosition(position);
+                            requestBody.set(bytes);
+                        }));
+                    }
+                }, context))
+                .build();
+            return next.exchange(capturing)
+                .flatMap(response -> response.bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .map(body -> {
+                        long latencyMs = (System.nanoTime() - startNanos) / 1_000_000;
+                        record(serviceName, request, requestBody.get(), response, body, at, latencyMs);
+                        return response.mutate()
+                            .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                            .build();
+                    }));
+        };
+    }
+
+    /**
+     * Write buffered exchanges to the current segment.
+     */
+    @Scheduled(fixedDelayString = "${traffic.record.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<RecordedExchange> batch = new ArrayList<>();
+        if (buffer.drainTo(batch) > 0) {
+            write(batch);
+        }
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            logger.warn("Dropped {} recorded exchange(s): traffic buffer full", lost);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void record(String serviceName, ClientRequest request, byte[] requestBody,
+                        ClientResponse response, byte[] body, long at, long latencyMs) {
+        Map<String, String> requestHeaders = new LinkedHashMap<>();
+        request.headers().forEach((key, values) -> {
+            if (!values.isEmpty()) {
+                requestHeaders.put(key, ExternalApiLogger.maskSensitiveHeader(key, values.get(0)));
+            }
+        });
+        Map<String, String> responseHeaders = new LinkedHashMap<>();
+        response.headers().asHttpHeaders().forEach((key, values) -> {
+            if (!values.isEmpty() && !DROPPED_HEADERS.contains(key.toLowerCase(Locale.ROOT))) {
+                responseHeaders.put(key, ExternalApiLogger.maskSensitiveHeader(key, values.get(0)));
+            }
+        });
+
+        RecordedBody recordedRequestBody = requestBody == null
+            ? null : encode(requestBody, request.headers().getContentType());
+        RecordedBody recordedBody = encode(body, response.headers().contentType().orElse(null));
+        RecordedExchange exchange = new RecordedExchange(at, latencyMs, serviceName, request.method().name(),
+            ExternalApiLogger.maskSensitiveUrl(request.url().toString()), requestHeaders,
+            recordedRequestBody == null ? null : recordedRequestBody.value(),
+            recordedRequestBody != null && recordedRequestBody.base64(),
+            response.statusCode().value(), responseHeaders, recordedBody.value(), recordedBody.base64());
+        if (!buffer.offer(exchange)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Text bodies are masked and kept readable, anything else is stored base64-encoded.
+     */
+    static RecordedBody encode(byte[] bytes, MediaType contentType) {
+        String text = isText(contentType) ? decodeUtf8(bytes) : null;
+        if (text == null) {
+            return new RecordedBody(Base64.getEncoder().encodeToString(bytes), true);
+        }
+        String masked = JSON_SECRET.matcher(text).replaceAll("$1\"****\"");
+        if (contentType != null && MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(contentType)) {
+            masked = FORM_SECRET.matcher(masked).replaceAll("$1****");
+        }
+        return new RecordedBody(masked, false);
+    }
+
+    private static boolean isText(MediaType contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        String subtype = contentType.getSubtype().toLowerCase(Locale.ROOT);
+        return "text".equalsIgnoreCase(contentType.getType())
+            || subtype.equals("json") || subtype.endsWith("+json")
+            || subtype.equals("xml") || subtype.endsWith("+xml")
+            || subtype.equals("x-www-form-urlencoded");
+    }
+
+    /**
+     * @return the body as a string, or null if it is not valid UTF-8
+     */
+    private static String decodeUtf8(byte[] bytes) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(ByteBuffer.wrap(bytes))
+                .toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    record RecordedBody(String value, boolean base64) {
+    }
+
+    private void write(List<RecordedExchange> batch) {
+        try {
+            List<String> lines = new ArrayList<>(batch.size());
+            for (RecordedExchange exchange : batch) {
+                lines.add(objectMapper.writeValueAsString(exchange));
+            }
+            Path segment = currentSegment();
+            TrafficSegments.append(segment, lines);
+        } catch (JsonProcessingException e) {
+            logger.warn("Failed to encode {} recorded exchange(s): {}", batch.size(), e.getMessage());
+        } catch (IOException e) {
+            logger.warn("Failed to write {} recorded exchange(s) to {}: {}", batch.size(), dir, e.getMessage());
+        }
+    }
+
+    private Path currentSegment() throws IOException {
+        Path segment = segmentPath();
+        if (Files.exists(segment) && Files.size(segment) >= segmentMaxBytes) {
+            segmentSequence++;
+            segment = segmentPath();
+        }
+        return segment;
+    }
+
+    private Path segmentPath() {
+        return dir.resolve(String.format("traffic-%s-%05d%s", recordingId, segmentSequence, TrafficSegments.SUFFIX));
+    }
+}
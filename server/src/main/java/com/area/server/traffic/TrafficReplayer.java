@@ -0,0 +1,106 @@
+package com.area.server.traffic;
+
+import com.area.server.logging.ExternalApiLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves external API calls from recorded traffic segments instead of the network
+ * ({@code traffic.mode=replay}). Requests are matched on client name, method and
+ * masked URL; each match returns the next recorded response for that key, after
+ * the recorded latency scaled by {@code traffic.replay.speed} (2.0 replays twice
+ * as fast, 0 without delay). Responses for a key are served in recording order
+ * and start over once exhausted, so a benchmark can run longer than the recording.
+ *
+ * Unmatched requests fail, or go to the network when {@code traffic.replay.fallthrough}
+ * is set.
+ */
+@Component
+@ConditionalOnProperty(name = "traffic.mode", havingValue = "replay")
+public class TrafficReplayer implements TrafficFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReplayer.class);
+
+    private final Map<String, Recording> recordings = new HashMap<>();
+    private final double speed;
+    private final boolean fallthrough;
+
+    public TrafficReplayer(ObjectMapper objectMapper,
+                           @Value("${traffic.replay.dir:logs/traffic}") String dir,
+                           @Value("${traffic.replay.speed:1.0}") double speed,
+                           @Value("${traffic.replay.fallthrough:false}") boolean fallthrough) {
+        this.speed = speed;
+        this.fallthrough = fallthrough;
+        List<RecordedExchange> exchanges = TrafficSegments.read(objectMapper, Path.of(dir));
+        for (RecordedExchange exchange : exchanges) {
+            recordings.computeIfAbsent(exchange.key(), key -> new Recording()).responses.add(exchange);
+        }
+        logger.info("Replaying {} recorded exchange(s) for {} endpoint(s) from {}",
+            exchanges.size(), recordings.size(), Path.of(dir).toAbsolutePath());
+    }
+
+    @Override
+    public ExchangeFilterFunction filter(String serviceName) {
+        return (request, next) -> {
+            String key = RecordedExchange.key(serviceName, request.method().name(),
+                ExternalApiLogger.maskSensitiveUrl(request.url().toString()));
+            Recording recording = recordings.get(key);
+            if (recording == null) {
+                if (fallthrough) {
+                    return next.exchange(request);
+                }
+                return Mono.error(new IllegalStateException("No recorded exchange for " + key));
+            }
+
+            RecordedExchange exchange = recording.next();
+            ClientResponse response = ClientResponse.create(HttpStatusCode.valueOf(exchange.status()))
+                .headers(headers -> exchange.responseHeaders().forEach(headers::set))
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(exchange.bodyBytes())))
+                .build();
+            Duration delay = delay(exchange.latencyMs());
+            return delay.isZero() ? Mono.just(response) : Mono.delay(delay).thenReturn(response);
+        };
+    }
+
+    /**
+     * Number of distinct endpoints (client, method, masked URL) in the recording.
+     */
+    public int getEndpointCount() {
+        return recordings.size();
+    }
+
+    private Duration delay(long latencyMs) {
+        if (speed <= 0 || latencyMs <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) (latencyMs * 1_000_000 / speed));
+    }
+
+    private static final class Recording {
+
+        private final List<RecordedExchange> responses = new ArrayList<>();
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        RecordedExchange next() {
+            return responses.get(Math.floorMod(cursor.getAndIncrement(), responses.size()));
+        }
+    }
+}
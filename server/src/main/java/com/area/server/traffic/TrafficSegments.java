@@ -0,0 +1,91 @@
+package com.area.server.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads and writes traffic segment files: gzip-compressed JSON lines, one
+ * {@link RecordedExchange} per line. Every flush appends a complete gzip member,
+ * so a segment stays readable up to its last flush even if the process dies.
+ */
+final class TrafficSegments {
+
+    static final String SUFFIX = ".jsonl.gz";
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficSegments.class);
+
+    private TrafficSegments() {
+    }
+
+    /**
+     * Append lines to a segment as one gzip member.
+     */
+    static void append(Path segment, List<String> lines) throws IOException {
+        Path parent = segment.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(segment,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            for (String line : lines) {
+                out.write(line.getBytes(StandardCharsets.UTF_8));
+                out.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Segment files in a directory, oldest first (names sort by recording start and sequence).
+     */
+    static List<Path> list(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Every exchange recorded in a directory, in recording order.
+     */
+    static List<RecordedExchange> read(ObjectMapper objectMapper, Path dir) {
+        List<RecordedExchange> exchanges = new ArrayList<>();
+        for (Path segment : list(dir)) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(segment)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        exchanges.add(objectMapper.readValue(line, RecordedExchange.class));
+                    }
+                }
+            } catch (EOFException e) {
+                // The last member was cut short by a crash; keep what was complete
+                logger.warn("Traffic segment {} is truncated, using the complete part", segment);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read traffic segment " + segment, e);
+            }
+        }
+        return exchanges;
+    }
+}
@@ -0,0 +1,76 @@
+package com.area.server.simulator;
+
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+/**
+ * Response latency of a stubbed provider endpoint. Parsed from a short spec:
+ * <ul>
+ *   <li>{@code fixed:50} - always 50 ms</li>
+ *   <li>{@code uniform:20-200} - uniformly between 20 and 200 ms</li>
+ *   <li>{@code lognormal:80:0.6} - log-normal with an 80 ms median and sigma 0.6,
+ *       which gives the long tail real APIs have</li>
+ * </ul>
+ */
+public abstract class LatencyModel {
+
+    public static final LatencyModel NONE = fixed(0);
+
+    /**
+     * Next latency in milliseconds, never negative.
+     */
+    public abstract long sampleMs(Random random);
+
+    public static LatencyModel parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        try {
+            switch (parts[0]) {
+                case "fixed":
+                    return fixed(Long.parseLong(parts[1]));
+                case "uniform": {
+                    String[] bounds = parts[1].split("-");
+                    return uniform(Long.parseLong(bounds[0]), Long.parseLong(bounds[1]));
+                }
+                case "lognormal":
+                    return logNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+                default:
+                    throw new IllegalArgumentException("Unknown latency model: " + spec);
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid latency spec '" + spec
+                + "', expected fixed:MS, uniform:MIN-MAX or lognormal:MEDIAN:SIGMA", e);
+        }
+    }
+
+    public static LatencyModel fixed(long ms) {
+        return describe("fixed " + ms + "ms", random -> ms);
+    }
+
+    public static LatencyModel uniform(long minMs, long maxMs) {
+        if (maxMs < minMs) {
+            throw new IllegalArgumentException("uniform latency needs min <= max");
+        }
+        return describe("uniform " + minMs + "-" + maxMs + "ms",
+            random -> minMs + (long) (random.nextDouble() * (maxMs - minMs + 1)));
+    }
+
+    public static LatencyModel logNormal(double medianMs, double sigma) {
+        double mu = Math.log(medianMs);
+        return describe("lognormal median=" + medianMs + "ms sigma=" + sigma,
+            random -> Math.round(Math.exp(mu + sigma * random.nextGaussian())));
+    }
+
+    private static LatencyModel describe(String description, ToLongFunction<Random> sampler) {
+        return new LatencyModel() {
+            @Override
+            public long sampleMs(Random random) {
+                return Math.max(0, sampler.applyAsLong(random));
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+}
@@ -0,0 +1,327 @@
+package com.area.server.simulator;
+
+import com.area.server.ServerApplication;
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.metrics.EngineStats;
+import com.area.server.repository.AreaRepository;
+import com.area.server.repository.ServiceConnectionRepository;
+import com.area.server.repository.UserRepository;
+import com.area.server.repository.WorkflowRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load simulation on one machine: starts {@link ProviderStubServer},
+ * boots the server against an in-memory H2 database with every provider base URL
+ * pointed at the stubs, seeds users, workflows, areas and timer areas, lets the
+ * schedulers run a number of measured workflow cycles and prints cycle time and
+ * schedule lag of the workflow, area and timer schedulers, throughput and API calls.
+ * All three schedulers poll every interval-ms, so each runs about as many cycles
+ * as the workflow scheduler during the measurement.
+ *
+ * Run with {@code mvn -Psimulator verify -Dsim.args="--users=200 --workflows-per-user=3"}.
+ * Options (all {@code --name=value}):
+ * <ul>
+ *   <li>{@code users} (50), {@code workflows-per-user} (2)</li>
+ *   <li>{@code areas-per-user} (1) Gmail/GitHub areas, {@code timers-per-user} (1) timer areas;
+ *       0 leaves that scheduler without work</li>
+ *   <li>{@code cycles} (3) measured workflow cycles, after one warm-up cycle</li>
+ *   <li>{@code interval-ms} (5000) polling interval of every scheduler</li>
+ *   <li>{@code latency} (lognormal:80:0.5), see {@link LatencyModel#parse}</li>
+ *   <li>{@code rate-limit-rate} (0.01), {@code server-error-rate} (0.01)</li>
+ *   <li>{@code new-item-rate} (0.3) chance a poll sees a new email/issue</li>
+ *   <li>{@code expiring-token-rate} (0.1) Gmail tokens due for proactive refresh</li>
+ *   <li>{@code timeout-s} (900), {@code csv} (none) file to append one result row to,
+ *       to build scaling curves across runs</li>
+ * </ul>
+ */
+public class LoadSimulator {
+
+    private static final String ENGINE = "workflow";
+    private static final List<String> ENGINES = List.of("workflow", "area", "timer");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        int users = Integer.parseInt(options.getOrDefault("users", "50"));
+        int workflowsPerUser = Integer.parseInt(options.getOrDefault("workflows-per-user", "2"));
+        int areasPerUser = Integer.parseInt(options.getOrDefault("areas-per-user", "1"));
+        int timersPerUser = Integer.parseInt(options.getOrDefault("timers-per-user", "1"));
+        int cycles = Integer.parseInt(options.getOrDefault("cycles", "3"));
+        long intervalMs = Long.parseLong(options.getOrDefault("interval-ms", "5000"));
+        long deadline = System.currentTimeMillis()
+            + TimeUnit.SECONDS.toMillis(Long.parseLong(options.getOrDefault("timeout-s", "900")));
+        ProviderStubServer.Options stubOptions = new ProviderStubServer.Options(
+            LatencyModel.parse(options.getOrDefault("latency", "lognormal:80:0.5")),
+            Double.parseDouble(options.getOrDefault("rate-limit-rate", "0.01")),
+            Double.parseDouble(options.getOrDefault("server-error-rate", "0.01")),
+            Double.parseDouble(options.getOrDefault("new-item-rate", "0.3")));
+
+        try (ProviderStubServer stubs = ProviderStubServer.start(stubOptions);
+             ConfigurableApplicationContext context = startServer(stubs, intervalMs)) {
+
+            long seedStart = System.currentTimeMillis();
+            WorkloadSeeder.Seeded workload = new WorkloadSeeder(context.getBean(UserRepository.class),
+                context.getBean(ServiceConnectionRepository.class),
+                context.getBean(WorkflowRepository.class),
+                context.getBean(AreaRepository.class))
+                .seed(users, workflowsPerUser, areasPerUser, timersPerUser,
+                    Double.parseDouble(options.getOrDefault("expiring-token-rate", "0.1")));
+            long seeded = System.currentTimeMillis();
+            System.out.printf("Seeded %d users, %d workflows, %d areas and %d timers in %d ms%n", users,
+                workload.workflows(), workload.areas(), workload.timers(), seeded - seedStart);
+
+            EngineMetrics engineMetrics = context.getBean(EngineMetrics.class);
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+            // The first cycle that starts after seeding fetches every trigger for the first time
+            long warmedUp = awaitCycles(engineMetrics, 1, seeded, deadline);
+            System.out.println("Warm-up cycle done, measuring " + cycles + " cycle(s)");
+
+            Map<String, ProviderStubServer.EndpointStats> stubsBefore = stubs.stats();
+            Map<String, double[]> cyclesBefore = pollDurations(registry);
+            Map<String, Long> executionsBefore = executions(registry);
+            Map<String, Long> outboundBefore = outboundCalls(registry);
+            long measureStart = System.currentTimeMillis();
+
+            awaitCycles(engineMetrics, cycles, warmedUp, deadline);
+            double elapsedS = (System.currentTimeMillis() - measureStart) / 1000.0;
+
+            long now = System.currentTimeMillis();
+            Map<String, EngineStats.Snapshot> engines = new TreeMap<>();
+            for (String engine : ENGINES) {
+                engineMetrics.getEngineStats(engine)
+                    .ifPresent(stats -> engines.put(engine, stats.snapshot(now, 5, false)));
+            }
+            Report report = new Report(users, workload, cycles, intervalMs, stubOptions, elapsedS,
+                delta(pollDurations(registry), cyclesBefore),
+                deltaCounts(executions(registry), executionsBefore),
+                deltaCounts(outboundCalls(registry), outboundBefore),
+                deltaStats(stubs.stats(), stubsBefore),
+                engines);
+            report.print();
+            if (options.containsKey("csv")) {
+                report.appendCsv(Path.of(options.get("csv")));
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startServer(ProviderStubServer stubs, long intervalMs) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:simulator;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.flyway.enabled", "false");
+        properties.put("server.port", "0");
+        properties.put("logging.config", "classpath:logback-simulator.xml");
+        for (String logger : new String[] {"com.area.server", "com.area.server.service", "com.area.server.logging",
+                "com.area.server.controller", "com.area.server.scheduler", "org.hibernate.SQL"}) {
+            properties.put("logging.level." + logger, "WARN");
+        }
+        properties.put("tracing.enabled", "false");
+
+        properties.put("google.api.base", stubs.googleApiBase());
+        properties.put("google.oauth.token-url", stubs.googleOAuthBase());
+        properties.put("google.oauth.client-id", "simulator");
+        properties.put("google.oauth.client-secret", "simulator");
+        properties.put("github.api.base", stubs.githubApiBase());
+        properties.put("github.oauth.token-url", stubs.githubOAuthTokenUrl());
+        properties.put("discord.api.base", stubs.discordApiBase());
+
+        // Every scheduler polls at the same interval, measured against the workflow cycles
+        for (String scheduler : ENGINES) {
+            properties.put(scheduler + ".polling.interval", Long.toString(intervalMs));
+            properties.put(scheduler + ".polling.initial-delay", Long.toString(intervalMs));
+        }
+        properties.put("oauth.refresh.proactive.interval", Long.toString(intervalMs));
+        properties.put("oauth.refresh.proactive.initial-delay", Long.toString(intervalMs));
+        properties.put("oauth.refresh.proactive.max-jitter-ms", "0");
+
+        // Passed as command-line arguments so they override application.properties
+        return new SpringApplicationBuilder(ServerApplication.class)
+            .run(properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new));
+    }
+
+    /**
+     * Wait until {@code count} more workflow cycles that started at or after
+     * {@code since} have finished.
+     *
+     * @return just after the start of the last of them
+     */
+    private static long awaitCycles(EngineMetrics metrics, int count, long since, long deadline)
+            throws InterruptedException {
+        EngineStats.Snapshot snapshot = workflowSnapshot(metrics);
+        long counted = snapshot != null ? snapshot.cycles() : 0;
+        long lastStart = since;
+        int seen = 0;
+        while (seen < count) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Timed out waiting for workflow cycles (" + seen + "/" + count + ")");
+            }
+            Thread.sleep(20);
+            snapshot = workflowSnapshot(metrics);
+            if (snapshot == null || snapshot.cycles() == counted) {
+                continue;
+            }
+            // A cycle just ended; the next one only starts interval-ms later, so this is still its start
+            counted = snapshot.cycles();
+            if (snapshot.lastCycleStartedAt() != null && snapshot.lastCycleStartedAt() >= since) {
+                lastStart = snapshot.lastCycleStartedAt();
+                seen++;
+            }
+        }
+        return lastStart + 1;
+    }
+
+    private static EngineStats.Snapshot workflowSnapshot(EngineMetrics metrics) {
+        return metrics.getEngineStats(ENGINE)
+            .map(stats -> stats.snapshot(System.currentTimeMillis(), 0, false))
+            .orElse(null);
+    }
+
+    /**
+     * Poll cycle count and total time (ms) per scheduler.
+     */
+    private static Map<String, double[]> pollDurations(MeterRegistry registry) {
+        Map<String, double[]> durations = new TreeMap<>();
+        for (Timer timer : registry.find("area.scheduler.poll.duration").timers()) {
+            durations.put(timer.getId().getTag("scheduler"),
+                new double[] {timer.count(), timer.totalTime(TimeUnit.MILLISECONDS)});
+        }
+        return durations;
+    }
+
+    private static Map<String, Long> executions(MeterRegistry registry) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Timer timer : registry.find("area.workflow.executions").timers()) {
+            counts.merge(timer.getId().getTag("status"), timer.count(), Long::sum);
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> outboundCalls(MeterRegistry registry) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Timer timer : registry.find("area.external.requests").timers()) {
+            counts.merge(timer.getId().getTag("provider"), timer.count(), Long::sum);
+        }
+        return counts;
+    }
+
+    private static Map<String, double[]> delta(Map<String, double[]> after, Map<String, double[]> before) {
+        Map<String, double[]> delta = new TreeMap<>();
+        after.forEach((key, value) -> {
+            double[] previous = before.getOrDefault(key, new double[2]);
+            delta.put(key, new double[] {value[0] - previous[0], value[1] - previous[1]});
+        });
+        return delta;
+    }
+
+    private static Map<String, Long> deltaCounts(Map<String, Long> after, Map<String, Long> before) {
+        Map<String, Long> delta = new TreeMap<>();
+        after.forEach((key, value) -> delta.put(key, value - before.getOrDefault(key, 0L)));
+        return delta;
+    }
+
+    private static Map<String, ProviderStubServer.EndpointStats> deltaStats(
+            Map<String, ProviderStubServer.EndpointStats> after, Map<String, ProviderStubServer.EndpointStats> before) {
+        Map<String, ProviderStubServer.EndpointStats> delta = new TreeMap<>();
+        after.forEach((key, value) -> delta.put(key, value.minus(before.get(key))));
+        return delta;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+
+    private record Report(int users, WorkloadSeeder.Seeded workload, int cycles, long intervalMs,
+                          ProviderStubServer.Options stubs, double elapsedS,
+                          Map<String, double[]> pollDurations, Map<String, Long> executions,
+                          Map<String, Long> outbound, Map<String, ProviderStubServer.EndpointStats> endpoints,
+                          Map<String, EngineStats.Snapshot> engines) {
+
+        long totalExecutions() {
+            return executions.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        long totalApiCalls() {
+            return endpoints.values().stream().mapToLong(ProviderStubServer.EndpointStats::calls).sum();
+        }
+
+        double meanCycleMs(String scheduler) {
+            double[] duration = pollDurations.get(scheduler);
+            return duration == null || duration[0] == 0 ? 0 : duration[1] / duration[0];
+        }
+
+        void print() {
+            System.out.println();
+            System.out.println("=== Load simulation ===");
+            System.out.printf(Locale.ROOT, "users=%d workflows=%d areas=%d timers=%d interval=%dms latency=%s "
+                    + "429=%.1f%% 5xx=%.1f%% new-items=%.0f%%%n",
+                users, workload.workflows(), workload.areas(), workload.timers(), intervalMs, stubs.latency(),
+                stubs.rateLimitRate() * 100,
+                stubs.serverErrorRate() * 100, stubs.newItemRate() * 100);
+            System.out.printf(Locale.ROOT, "measured %d cycle(s) over %.1fs%n%n", cycles, elapsedS);
+
+            // Executions are only counted per status for workflows, hence items/s for that engine only
+            System.out.printf("%-12s %8s %14s %12s %12s %12s%n", "scheduler", "cycles", "mean cycle ms",
+                "lag p95 ms", "slowest ms", "items/s");
+            pollDurations.forEach((scheduler, duration) -> {
+                EngineStats.Snapshot engine = engines.get(scheduler);
+                System.out.printf(Locale.ROOT, "%-12s %8.0f %14.1f %12s %12s %12s%n",
+                    scheduler, duration[0], meanCycleMs(scheduler),
+                    engine != null ? Long.toString(engine.scheduleLag().p95Ms()) : "-",
+                    engine != null && !engine.slowest().isEmpty()
+                        ? Long.toString(engine.slowest().get(0).lastDurationMs()) : "-",
+                    ENGINE.equals(scheduler) ? String.format(Locale.ROOT, "%.1f", totalExecutions() / elapsedS) : "-");
+            });
+            System.out.printf(Locale.ROOT, "workflow executions: %s%n%n", executions);
+
+            System.out.printf("%-26s %-18s %8s %8s %6s %6s%n", "endpoint", "caller", "calls", "2xx", "429", "5xx");
+            endpoints.forEach((name, stats) -> {
+                if (stats.calls() > 0) {
+                    System.out.printf("%-26s %-18s %8d %8d %6d %6d%n", name, stats.caller(), stats.calls(),
+                        stats.ok(), stats.rateLimited(), stats.serverErrors());
+                }
+            });
+            System.out.printf(Locale.ROOT, "total %d calls, %.1f calls/s; client-side by provider: %s%n",
+                totalApiCalls(), totalApiCalls() / elapsedS, outbound);
+        }
+
+        void appendCsv(Path file) throws IOException {
+            if (!Files.exists(file)) {
+                Files.writeString(file, "users,workflows,interval_ms,latency,cycles,elapsed_s,mean_cycle_ms,"
+                    + "executions_per_s,api_calls,api_calls_per_s,areas,timers,area_mean_cycle_ms,timer_mean_cycle_ms\n");
+            }
+            Files.writeString(file, String.format(Locale.ROOT, "%d,%d,%d,%s,%d,%.1f,%.1f,%.2f,%d,%.2f,%d,%d,%.1f,%.1f%n",
+                users, workload.workflows(), intervalMs, stubs.latency().toString().replace(',', ' '), cycles, elapsedS,
+                meanCycleMs(ENGINE), totalExecutions() / elapsedS, totalApiCalls(), totalApiCalls() / elapsedS,
+                workload.areas(), workload.timers(), meanCycleMs("area"), meanCycleMs("timer")),
+                StandardOpenOption.APPEND);
+        }
+    }
+}
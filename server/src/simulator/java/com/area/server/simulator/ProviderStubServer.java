@@ -0,0 +1,407 @@
+package com.area.server.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local HTTP stand-in for the Gmail, GitHub and Discord APIs and the Google and
+ * GitHub OAuth token endpoints, serving the endpoints the server actually calls
+ * with payloads shaped like the real ones.
+ *
+ * Each provider lives under its own prefix ({@link #googleApiBase()}, ...) so one
+ * server backs every WebClient. Every response is delayed according to the
+ * configured {@link LatencyModel}, and a fraction of requests fail with 429
+ * (with Retry-After) or 503. Mailboxes and repositories are keyed by the bearer
+ * token / repository name and get a new message or issue on a poll with
+ * probability {@code newItemRate}.
+ */
+public class ProviderStubServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProviderStubServer.class);
+
+    private static final Pattern BEARER = Pattern.compile("(?i)^(Bearer|Bot) (.+)$");
+
+    /**
+     * @param latency         delay applied to every response
+     * @param rateLimitRate   fraction of requests answered with 429
+     * @param serverErrorRate fraction of requests answered with 503
+     * @param newItemRate     chance that a poll sees one new message, issue or PR
+     */
+    public record Options(LatencyModel latency, double rateLimitRate, double serverErrorRate, double newItemRate) {}
+
+    /**
+     * Requests served by one endpoint, by outcome.
+     *
+     * @param caller the server component that issues these requests
+     */
+    public record EndpointStats(String caller, long calls, long ok, long rateLimited, long serverErrors) {
+
+        EndpointStats minus(EndpointStats other) {
+            return other == null ? this : new EndpointStats(caller, calls - other.calls, ok - other.ok,
+                rateLimited - other.rateLimited, serverErrors - other.serverErrors);
+        }
+    }
+
+    private final Options options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Route> routes = new ArrayList<>();
+    private final Map<String, AtomicLong> mailboxes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> issues = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> pulls = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private ProviderStubServer(Options options) throws IOException {
+        this.options = options;
+        registerRoutes();
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "provider-stub-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public static ProviderStubServer start(Options options) throws IOException {
+        ProviderStubServer stubs = new ProviderStubServer(options);
+        stubs.server.start();
+        logger.info("Provider stubs listening on {} (latency {}, 429 {}%, 5xx {}%)", stubs.baseUrl(),
+            options.latency(), options.rateLimitRate() * 100, options.serverErrorRate() * 100);
+        return stubs;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** Value for {@code google.api.base}. */
+    public String googleApiBase() {
+        return baseUrl() + "/google";
+    }
+
+    /** Value for {@code google.oauth.token-url} (the client appends /token). */
+    public String googleOAuthBase() {
+        return baseUrl() + "/google-oauth";
+    }
+
+    /** Value for {@code github.api.base}. */
+    public String githubApiBase() {
+        return baseUrl() + "/github";
+    }
+
+    /** Value for {@code github.oauth.token-url}. */
+    public String githubOAuthTokenUrl() {
+        return baseUrl() + "/github-oauth/login/oauth/access_token";
+    }
+
+    /** Value for {@code discord.api.base}. */
+    public String discordApiBase() {
+        return baseUrl() + "/discord/api/v10";
+    }
+
+    /**
+     * Per-endpoint counters, keyed by endpoint name, in a stable order.
+     */
+    public Map<String, EndpointStats> stats() {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        for (Route route : routes) {
+            stats.put(route.name, new EndpointStats(route.caller, route.calls.sum(), route.ok.sum(),
+                route.rateLimited.sum(), route.serverErrors.sum()));
+        }
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void registerRoutes() {
+        // Workflow triggers
+        route("gmail messages.list", "workflow trigger", "GET", "/google/gmail/v1/users/me/messages",
+            this::listMessages);
+        route("gmail messages.get", "workflow trigger", "GET", "/google/gmail/v1/users/me/messages/([^/]+)",
+            this::getMessage);
+        route("github issues.list", "workflow trigger", "GET", "/github/repos/([^/]+)/([^/]+)/issues",
+            (exchange, path) -> listItems(issues, path, "issues"));
+        route("github pulls.list", "workflow trigger", "GET", "/github/repos/([^/]+)/([^/]+)/pulls",
+            (exchange, path) -> listItems(pulls, path, "pull"));
+
+        // Reactions
+        route("github issues.create", "workflow reaction", "POST", "/github/repos/([^/]+)/([^/]+)/issues",
+            this::createIssue);
+        route("discord channel.message", "discord delivery", "POST", "/discord/api/v10/channels/([^/]+)/messages",
+            this::postChannelMessage);
+        route("discord webhook", "discord delivery", "POST", "/discord/api/webhooks/([^/]+)/([^/]+)",
+            (exchange, path) -> new Reply(204, null, Map.of()));
+
+        // OAuth
+        route("google oauth.token", "token refresh", "POST", "/google-oauth/token",
+            (exchange, path) -> json(200, Map.of(
+                "access_token", "sim-google-" + sequence.incrementAndGet(),
+                "expires_in", 3599,
+                "token_type", "Bearer",
+                "scope", "https://www.googleapis.com/auth/gmail.readonly")));
+        route("google userinfo", "oauth callback", "GET", "/google/oauth2/v2/userinfo",
+            (exchange, path) -> json(200, Map.of("id", "1", "email", "simulated@example.com", "verified_email", true)));
+        route("github oauth.token", "oauth callback", "POST", "/github-oauth/login/oauth/access_token",
+            (exchange, path) -> json(200, Map.of(
+                "access_token", "sim-gho-" + sequence.incrementAndGet(),
+                "token_type", "bearer",
+                "scope", "repo")));
+        route("github user", "oauth callback", "GET", "/github/user",
+            (exchange, path) -> json(200, Map.of("login", "sim-user", "id", 1, "name", "Simulated User",
+                "email", "simulated@example.com", "html_url", "https://github.com/sim-user")));
+    }
+
+    private void route(String name, String caller, String method, String pathRegex, Handler handler) {
+        routes.add(new Route(name, caller, method, Pattern.compile(pathRegex), handler));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            String path = exchange.getRequestURI().getPath();
+            Route route = null;
+            Matcher matcher = null;
+            for (Route candidate : routes) {
+                Matcher candidateMatcher = candidate.path.matcher(path);
+                if (candidate.method.equals(exchange.getRequestMethod()) && candidateMatcher.matches()) {
+                    route = candidate;
+                    matcher = candidateMatcher;
+                    break;
+                }
+            }
+            if (route == null) {
+                logger.warn("No stub for {} {}", exchange.getRequestMethod(), path);
+                send(exchange, json(404, Map.of("message", "Not Found")));
+                return;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            sleep(options.latency().sampleMs(random));
+            route.calls.increment();
+
+            double roll = random.nextDouble();
+            Reply reply;
+            if (roll < options.rateLimitRate()) {
+                route.rateLimited.increment();
+                reply = rateLimited(route);
+            } else if (roll < options.rateLimitRate() + options.serverErrorRate()) {
+                route.serverErrors.increment();
+                reply = json(503, Map.of("message", "Service Unavailable"));
+            } else {
+                route.ok.increment();
+                reply = route.handler.handle(exchange, matcher);
+            }
+            send(exchange, reply);
+        } catch (RuntimeException e) {
+            logger.error("Stub handler failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private Reply rateLimited(Route route) {
+        if (route.name.startsWith("discord")) {
+            Map<String, Object> body = Map.of("message", "You are being rate limited.", "retry_after", 1.0, "global", false);
+            return new Reply(429, body, Map.of("Retry-After", "1", "X-RateLimit-Remaining", "0",
+                "X-RateLimit-Reset-After", "1.0", "X-RateLimit-Scope", "user"));
+        }
+        return new Reply(429, Map.of("message", "API rate limit exceeded"), Map.of("Retry-After", "1",
+            "X-RateLimit-Remaining", "0"));
+    }
+
+    private Reply listMessages(HttpExchange exchange, Matcher path) {
+        long latest = advance(mailboxes, bearer(exchange));
+        List<Map<String, Object>> messages = new ArrayList<>();
+        for (long n = latest; n > Math.max(0, latest - 10); n--) {
+            String id = messageId(n);
+            messages.add(Map.of("id", id, "threadId", id));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (!messages.isEmpty()) {
+            body.put("messages", messages);
+        }
+        body.put("resultSizeEstimate", messages.size());
+        return json(200, body);
+    }
+
+    private Reply getMessage(HttpExchange exchange, Matcher path) {
+        String id = path.group(1);
+        List<Map<String, String>> headers = new ArrayList<>();
+        for (String name : List.of("Delivered-To", "Received", "Received", "DKIM-Signature", "Message-ID",
+                "Date", "MIME-Version", "Content-Type", "To", "List-Unsubscribe")) {
+            headers.add(Map.of("name", name, "value", "stub " + name.toLowerCase() + " for " + id));
+        }
+        headers.add(Map.of("name", "Subject", "value", "Build " + id + " failed on main"));
+        headers.add(Map.of("name", "From", "value", "CI Bot <ci@example.com>"));
+
+        return json(200, Map.of(
+            "id", id,
+            "threadId", id,
+            "labelIds", List.of("INBOX", "UNREAD"),
+            "snippet", "The nightly build failed at step test: 3 failures in WorkflowExecutorTest. See the attached log",
+            "internalDate", Long.toString(System.currentTimeMillis()),
+            "payload", Map.of("mimeType", "text/plain", "headers", headers)));
+    }
+
+    private Reply listItems(Map<String, AtomicLong> counters, Matcher path, String kind) {
+        String owner = path.group(1);
+        String repo = path.group(2);
+        long latest = advance(counters, owner + "/" + repo);
+        List<Map<String, Object>> items = new ArrayList<>();
+        String now = Instant.now().toString();
+        for (long n = latest; n > Math.max(0, latest - 30); n--) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", n);
+            item.put("number", n);
+            item.put("title", "Simulated " + kind + " #" + n);
+            item.put("body", "Steps to reproduce:\n1. Start the server\n2. Wait for the poll cycle\n\nExpected: no error");
+            item.put("state", "open");
+            item.put("html_url", "https://github.com/" + owner + "/" + repo + "/" + kind + "/" + n);
+            item.put("created_at", now);
+            item.put("updated_at", now);
+            item.put("user", Map.of("login", "octocat", "html_url", "https://github.com/octocat"));
+            item.put("labels", List.of(Map.of("name", "bug")));
+            if ("pull".equals(kind)) {
+                item.put("head", Map.of("ref", "feature-" + n));
+                item.put("base", Map.of("ref", "main"));
+            }
+            items.add(item);
+        }
+        return json(200, items);
+    }
+
+    private Reply createIssue(HttpExchange exchange, Matcher path) {
+        String repository = path.group(1) + "/" + path.group(2);
+        long number = issues.computeIfAbsent(repository, key -> new AtomicLong()).incrementAndGet();
+        return json(201, Map.of(
+            "id", sequence.incrementAndGet(),
+            "number", number,
+            "title", "Created by simulation",
+            "state", "open",
+            "html_url", "https://github.com/" + repository + "/issues/" + number));
+    }
+
+    private Reply postChannelMessage(HttpExchange exchange, Matcher path) {
+        String channelId = path.group(1);
+        Map<String, Object> body = Map.of(
+            "id", Long.toString(sequence.incrementAndGet()),
+            "channel_id", channelId,
+            "type", 0,
+            "timestamp", Instant.now().toString());
+        return new Reply(200, body, Map.of(
+            "X-RateLimit-Bucket", "channel-" + channelId,
+            "X-RateLimit-Limit", "5",
+            "X-RateLimit-Remaining", "4",
+            "X-RateLimit-Reset-After", "1.0"));
+    }
+
+    private long advance(Map<String, AtomicLong> counters, String key) {
+        AtomicLong counter = counters.computeIfAbsent(key, k -> new AtomicLong());
+        if (ThreadLocalRandom.current().nextDouble() < options.newItemRate()) {
+            return counter.incrementAndGet();
+        }
+        return counter.get();
+    }
+
+    private static String messageId(long n) {
+        // Fixed width, so ids order the same way as strings and numbers
+        return String.format("%016x", n);
+    }
+
+    private static String bearer(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null) {
+            Matcher matcher = BEARER.matcher(authorization);
+            if (matcher.matches()) {
+                return matcher.group(2);
+            }
+        }
+        return "anonymous";
+    }
+
+    private static Reply json(int status, Object body) {
+        return new Reply(status, body, Map.of());
+    }
+
+    private void send(HttpExchange exchange, Reply reply) throws IOException {
+        reply.headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        if (reply.body == null) {
+            exchange.sendResponseHeaders(reply.status, -1);
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(reply.body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(reply.status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long ms) {
+        if (ms <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Reply handle(HttpExchange exchange, Matcher path);
+    }
+
+    private record Reply(int status, Object body, Map<String, String> headers) {}
+
+    private static final class Route {
+        final String name;
+        final String caller;
+        final String method;
+        final Pattern path;
+        final Handler handler;
+        final LongAdder calls = new LongAdder();
+        final LongAdder ok = new LongAdder();
+        final LongAdder rateLimited = new LongAdder();
+        final LongAdder serverErrors = new LongAdder();
+
+        Route(String name, String caller, String method, Pattern path, Handler handler) {
+            this.name = name;
+            this.caller = caller;
+            this.method = method;
+            this.path = path;
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.area.server.simulator;
+
+import com.area.server.model.Area;
+import com.area.server.model.DiscordReactionConfig;
+import com.area.server.model.GitHubActionConfig;
+import com.area.server.model.GmailActionConfig;
+import com.area.server.model.ServiceConnection;
+import com.area.server.model.TimerActionConfig;
+import com.area.server.model.User;
+import com.area.server.model.Workflow;
+import com.area.server.repository.AreaRepository;
+import com.area.server.repository.ServiceConnectionRepository;
+import com.area.server.repository.UserRepository;
+import com.area.server.repository.WorkflowRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts simulated users, their Gmail/GitHub/Discord connections, active
+ * workflows and legacy areas directly through the repositories. Like workflows
+ * created from the API, they reference connections by id in their JSON. Workflows
+ * rotate through three shapes that together exercise every stubbed provider:
+ * <ol>
+ *   <li>gmail.email_received -> discord.send_message</li>
+ *   <li>github.issue_created -> discord.send_message</li>
+ *   <li>gmail.email_received -> github.create_issue</li>
+ * </ol>
+ * Areas alternate between the first two shapes, and timer areas post the current
+ * time to Discord every minute.
+ */
+public class WorkloadSeeder {
+
+    private final UserRepository userRepository;
+    private final ServiceConnectionRepository connectionRepository;
+    private final WorkflowRepository workflowRepository;
+    private final AreaRepository areaRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public WorkloadSeeder(UserRepository userRepository,
+                          ServiceConnectionRepository connectionRepository,
+                          WorkflowRepository workflowRepository,
+                          AreaRepository areaRepository) {
+        this.userRepository = userRepository;
+        this.connectionRepository = connectionRepository;
+        this.workflowRepository = workflowRepository;
+        this.areaRepository = areaRepository;
+    }
+
+    /**
+     * @param users             number of users
+     * @param workflowsPerUser  active workflows per user
+     * @param areasPerUser      active Gmail/GitHub areas per user
+     * @param timersPerUser     active timer areas per user
+     * @param expiringTokenRate fraction of Gmail connections whose token expires soon,
+     *                          so the proactive refresh scheduler has work
+     * @return what was created
+     */
+    public Seeded seed(int users, int workflowsPerUser, int areasPerUser, int timersPerUser,
+                       double expiringTokenRate) {
+        Instant now = Instant.now();
+        int expiringEvery = expiringTokenRate > 0 ? (int) Math.max(1, Math.round(1 / expiringTokenRate)) : 0;
+        List<Workflow> workflows = new ArrayList<>(users * workflowsPerUser);
+        List<Area> areas = new ArrayList<>(users * (areasPerUser + timersPerUser));
+
+        for (int u = 0; u < users; u++) {
+            User user = userRepository.save(new User("sim-user-" + u + "@example.com", "sim-user-" + u,
+                "{noop}not-a-real-hash", "Simulated User " + u));
+
+            boolean expiring = expiringEvery > 0 && u % expiringEvery == 0;
+            ServiceConnection gmail = connectionRepository.save(connection(user, ServiceConnection.ServiceType.GMAIL,
+                "sim-gmail-" + u, "sim-gmail-refresh-" + u,
+                now.plus(expiring ? Duration.ofMinutes(10) : Duration.ofHours(1)), null));
+            ServiceConnection github = connectionRepository.save(connection(user, ServiceConnection.ServiceType.GITHUB,
+                "sim-github-" + u, null, null, null));
+            ServiceConnection discord = connectionRepository.save(connection(user, ServiceConnection.ServiceType.DISCORD,
+                "sim-bot-" + u, null, null, json(Map.of("channelId", Long.toString(900_000_000_000L + u)))));
+
+            for (int w = 0; w < workflowsPerUser; w++) {
+                int shape = (u * workflowsPerUser + w) % 3;
+                Workflow workflow = new Workflow();
+                workflow.setUser(user);
+                workflow.setName("Simulated workflow " + u + "-" + w);
+                workflow.setActive(true);
+                switch (shape) {
+                    case 0 -> {
+                        workflow.setWorkflowData(workflowData(
+                            step("gmail", "email_received", gmail, Map.of("label", "INBOX", "subjectContains", "failed")),
+                            step("discord", "send_message", discord,
+                                Map.of("message", "New mail from {{from}}: **{{subject}}**\n> {{snippet}}"))));
+                    }
+                    case 1 -> {
+                        workflow.setWorkflowData(workflowData(
+                            step("github", "issue_created", github, Map.of("repository", "sim-org/repo-" + u + "-" + w)),
+                            step("discord", "send_message", discord,
+                                Map.of("message", "Issue #{{issueNumber}} opened: {{issueTitle}}"))));
+                    }
+                    default -> {
+                        workflow.setWorkflowData(workflowData(
+                            step("gmail", "email_received", gmail, Map.of("label", "INBOX")),
+                            step("github", "create_issue", github, Map.of(
+                                "repository", "sim-org/inbox-" + u,
+                                "issueTitle", "Mail: {email.subject}",
+                                "issueBody", "From {email.from}\n\n{email.snippet}",
+                                "labels", "inbox"))));
+                    }
+                }
+                workflows.add(workflow);
+            }
+
+            for (int a = 0; a < areasPerUser; a++) {
+                Area area;
+                if ((u * areasPerUser + a) % 2 == 0) {
+                    area = area(user, discord, "New mail from {{from}}: **{{subject}}**");
+                    GmailActionConfig config = new GmailActionConfig();
+                    config.setLabel("INBOX");
+                    area.setActionType("gmail.email_received");
+                    area.setActionConnection(gmail);
+                    area.setGmailConfig(config);
+                } else {
+                    area = area(user, discord, "Issue #{{issueNumber}} opened: {{issueTitle}}");
+                    GitHubActionConfig config = new GitHubActionConfig();
+                    config.setActionType("issue_created");
+                    config.setRepository("sim-org/area-" + u + "-" + a);
+                    area.setActionType("github.issue_created");
+                    area.setActionConnection(github);
+                    area.setGithubActionConfig(config);
+                }
+                areas.add(area);
+            }
+
+            for (int t = 0; t < timersPerUser; t++) {
+                TimerActionConfig config = new TimerActionConfig();
+                config.setTimerType("current_time");
+                config.setIntervalMinutes(1);
+                Area timer = area(user, discord, "It is {{time}}");
+                timer.setActionType("timer.current_time");
+                timer.setTimerConfig(config);
+                areas.add(timer);
+            }
+        }
+
+        workflowRepository.saveAll(workflows);
+        areaRepository.saveAll(areas);
+        int timers = users * timersPerUser;
+        return new Seeded(workflows.size(), areas.size() - timers, timers);
+    }
+
+    /**
+     * Number of workflows, areas and timer areas created by {@link #seed}.
+     */
+    public record Seeded(int workflows, int areas, int timers) {
+    }
+
+    private static Area area(User user, ServiceConnection discord, String messageTemplate) {
+        DiscordReactionConfig reaction = new DiscordReactionConfig();
+        reaction.setMessageTemplate(messageTemplate);
+        Area area = new Area();
+        area.setUser(user);
+        area.setActive(true);
+        area.setReactionType("discord.send_message");
+        area.setReactionConnection(discord);
+        area.setDiscordConfig(reaction);
+        return area;
+    }
+
+    private static ServiceConnection connection(User user, ServiceConnection.ServiceType type, String accessToken,
+                                                String refreshToken, Instant expiresAt, String metadata) {
+        ServiceConnection connection = new ServiceConnection();
+        connection.setUser(user);
+        connection.setType(type);
+        connection.setAccessToken(accessToken);
+        connection.setRefreshToken(refreshToken);
+        connection.setTokenExpiresAt(expiresAt);
+        connection.setMetadata(metadata);
+        return connection;
+    }
+
+    private static Map<String, Object> step(String service, String type, ServiceConnection connection,
+                                            Map<String, Object> config) {
+        Map<String, Object> step = new LinkedHashMap<>();
+        step.put("service", service);
+        step.put("type", type);
+        step.put("connectionId", connection.getId());
+        step.put("config", config);
+        return step;
+    }
+
+    private String workflowData(Map<String, Object> trigger, Map<String, Object> action) {
+        return json(Map.of("trigger", trigger, "actions", List.of(action)));
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.area.server.fault;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FaultInjectorTest {
+
+    private final FaultInjector faultInjector = new FaultInjector();
+    private final AtomicInteger networkCalls = new AtomicInteger();
+    private final ExchangeFunction network = request -> {
+        networkCalls.incrementAndGet();
+        return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+    };
+
+    @Test
+    public void testMatchingRulesReplaceTheCallUntilPaused() {
+        // Arrange
+        faultInjector.addRule("GitHub", null, "/repos/.*/issues", FaultRule.Type.RATE_LIMIT, 1.0, 0, null, 30);
+        faultInjector.addRule(null, "POST", null, FaultRule.Type.CONNECTION_RESET, 1.0, 0, null, 0);
+        ClientRequest issues = request(HttpMethod.GET, "https://api.github.com/repos/acme/app/issues?state=open");
+        ClientRequest webhook = request(HttpMethod.POST, "https://discord.com/api/webhooks/1/abc");
+        ClientRequest user = request(HttpMethod.GET, "https://api.github.com/user");
+
+        // Act
+        ClientResponse limited = faultInjector.filter("GitHub").filter(issues, network).block();
+        ClientResponse passed = faultInjector.filter("GitHub").filter(user, network).block();
+        faultInjector.setActive(false);
+        ClientResponse paused = faultInjector.filter("Discord").filter(webhook, network).block();
+        faultInjector.setActive(true);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, limited.statusCode());
+        assertEquals("30", limited.headers().asHttpHeaders().getFirst("Retry-After"));
+        assertEquals(HttpStatus.OK, passed.statusCode());
+        assertEquals(HttpStatus.OK, paused.statusCode());
+        assertEquals(2, networkCalls.get());
+        assertThrows(WebClientRequestException.class,
+            () -> faultInjector.filter("Discord").filter(webhook, network).block());
+        assertEquals(1, faultInjector.getRules().get(0).getInjected());
+        assertEquals(1, faultInjector.getRules().get(1).getInjected());
+    }
+
+    private static ClientRequest request(HttpMethod method, String url) {
+        return ClientRequest.create(method, URI.create(url)).build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.area.server.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FlightRecorderServiceTest {
+
+    @Test
+    public void testDumpContainsApplicationEvents(@TempDir Path dir) throws Exception {
+        // Arrange
+        FlightRecorderService service = new FlightRecorderService(dir.toString(), "default", 5);
+        service.start(Duration.ofMinutes(1));
+
+        // Act
+        WorkflowExecutionEvent event = new WorkflowExecutionEvent();
+        event.begin();
+        event.workflowId = 42;
+        event.triggerType = "github.new_issue";
+        event.status = "SUCCESS";
+        event.commit();
+        Path file = service.dump();
+        service.stop();
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(recorded -> recorded.getEventType().getName().equals("com.area.server.WorkflowExecution"))
+            .toList();
+        assertEquals(1, events.size());
+        assertEquals(42, events.get(0).getLong("workflowId"));
+        assertThrows(IllegalStateException.class, service::stop);
+    }
+
+    @Test
+    public void testEndpointTemplateHidesIdsAndWebhookTokens() {
+        // Act & Assert
+        assertEquals("/repos/acme/area/issues/{id}",
+            ExternalApiCallEvent.endpointTemplate(URI.create("https://api.github.com/repos/acme/area/issues/123")));
+        assertEquals("/api/webhooks/{id}/{id}",
+            ExternalApiCallEvent.endpointTemplate(URI.create("https://discord.com/api/webhooks/1234/secret-token")));
+        assertEquals("/gmail/v1/users/me/messages/{id}",
+            ExternalApiCallEvent.endpointTemplate(URI.create("https://gmail.googleapis.com/gmail/v1/users/me/messages/18c2f1a9b3e4d5f6a7")));
+    }
+}
@@ -0,0 +1,48 @@
+package com.area.server.logging;
+
+import com.area.server.tracing.Tracer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ApiResponseLoggerTest {
+
+    private final ApiResponseLogger apiResponseLogger =
+        new ApiResponseLogger(new ObjectMapper(), new Tracer(span -> { }, false, 1.0), "", 100);
+
+    @Test
+    public void testLargeBodiesAreCutOffWhileSerializing() {
+        // Arrange
+        List<String> largeBody = Collections.nCopies(100_000, "workflow");
+
+        // Act
+        String small = apiResponseLogger.serialize(Map.of("id", 1));
+        String large = apiResponseLogger.serialize(largeBody);
+
+        // Assert
+        assertEquals("{\"id\":1}", small);
+        assertTrue(large.endsWith("... [truncated]"));
+        assertEquals(100 + "... [truncated]".length(), large.length());
+    }
+
+    @Test
+    public void testReactiveResultsAreNotSubscribed() {
+        // Arrange
+        Mono<String> result = Mono.fromCallable(() -> {
+            throw new AssertionError("subscribed");
+        });
+
+        // Act
+        String logged = apiResponseLogger.serialize(result);
+
+        // Assert
+        assertTrue(logged.startsWith("[Mono"));
+    }
+}
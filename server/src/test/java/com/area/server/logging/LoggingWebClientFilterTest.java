@@ -0,0 +1,82 @@
+package com.area.server.logging;
+
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.tracing.Tracer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LoggingWebClientFilterTest {
+
+    private final ExternalApiLogger apiLogger = mock(ExternalApiLogger.class);
+    private final List<String> loggedTraceIds = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    public void testUnsampledCallKeepsTheRequestTraceId() {
+        // Arrange
+        MDC.put("traceId", "request-trace");
+        WebClient client = client(new Tracer(span -> { }, false, 1.0));
+
+        // Act
+        client.get().uri("/ping").retrieve().toBodilessEntity().block(Duration.ofSeconds(5));
+
+        // Assert
+        assertThat(loggedTraceIds).containsOnly("request-trace");
+        assertThat(MDC.get("traceId")).isEqualTo("request-trace");
+    }
+
+    @Test
+    public void testSampledCallRestoresThePreviousTraceId() {
+        // Arrange
+        MDC.put("traceId", "request-trace");
+        WebClient client = client(new Tracer(span -> { }, true, 1.0));
+
+        // Act
+        client.get().uri("/ping").retrieve().toBodilessEntity().block(Duration.ofSeconds(5));
+
+        // Assert: the client span's trace id while logging, the request's afterwards
+        assertThat(loggedTraceIds).hasSize(2).doesNotContain("request-trace");
+        assertThat(MDC.get("traceId")).isEqualTo("request-trace");
+    }
+
+    private WebClient client(Tracer tracer) {
+        when(apiLogger.nextRequestId()).thenReturn("req-1");
+        when(apiLogger.isTraced(anyString())).thenReturn(true);
+        doAnswer(invocation -> loggedTraceIds.add(MDC.get("traceId")))
+            .when(apiLogger).logRequest(anyString(), anyString(), anyString(), anyString(), any());
+        doAnswer(invocation -> loggedTraceIds.add(MDC.get("traceId")))
+            .when(apiLogger).logResponse(anyString(), anyString(), anyInt(), anyLong(), any(), anyBoolean());
+        EngineMetrics metrics = new EngineMetrics(new SimpleMeterRegistry(), Clock.systemUTC(), 500, 900_000, 512);
+        LoggingWebClientFilter filter = new LoggingWebClientFilter(apiLogger, metrics, tracer);
+        return WebClient.builder()
+            .baseUrl("https://api.test")
+            .filter(filter.logExchange("Test"))
+            .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+            .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.area.server.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class EngineMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final EngineMetrics metrics = new EngineMetrics(registry, Clock.systemUTC(), 2, 60_000, 16);
+
+    @Test
+    public void testWorkflowTagsAreCapped() {
+        // Act
+        metrics.recordWorkflowExecution(1L, "SUCCESS", 10);
+        metrics.recordWorkflowExecution(2L, "SUCCESS", 10);
+        metrics.recordWorkflowExecution(3L, "SUCCESS", 10);
+        metrics.recordWorkflowExecution(4L, "FAILURE", 10);
+        metrics.recordWorkflowExecution(1L, "SUCCESS", 10);
+
+        // Assert
+        assertEquals(2, registry.get("area.workflow.executions").tag("workflow", "1").timer().count());
+        assertEquals(1, registry.get("area.workflow.executions").tag("workflow", "other").tag("status", "SUCCESS").timer().count());
+        assertEquals(1, registry.get("area.workflow.executions").tag("workflow", "other").tag("status", "FAILURE").timer().count());
+    }
+
+    @Test
+    public void testEngineStatsReportSlowestItemsAndLag() {
+        // Arrange
+        long started = metrics.pollCycleStarted("area", 1000);
+        metrics.recordItemExecution("area", 1L, "SUCCESS", 30);
+        metrics.recordItemExecution("area", 2L, "SUCCESS", 300);
+        metrics.recordItemExecution("area", 3L, "FAILURE", 120);
+        metrics.pollCycleFinished("area", started);
+        metrics.pollCycleStarted("area", 0);
+
+        // Act
+        EngineStats.Snapshot snapshot = metrics.getEngineStats("area").orElseThrow()
+            .snapshot(System.currentTimeMillis(), 2, true);
+
+        // Assert
+        assertEquals(1, snapshot.cycles());
+        assertEquals(List.of(2L, 3L), snapshot.slowest().stream().map(EngineStats.ItemStats::id).toList());
+        assertEquals(3, snapshot.items().size());
+        assertEquals(1, snapshot.scheduleLag().samples());
+    }
+
+    @Test
+    public void testOutboundCallsAreTaggedByProviderAndStatus() {
+        // Act
+        metrics.recordOutbound("GitHub", "GET", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.recordOutbound("GitHub", "GET", 503, TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.recordRateLimitRemaining("GitHub", 4999);
+
+        // Assert
+        assertNotNull(registry.get("area.external.requests").tag("status", "200").tag("outcome", "success").timer());
+        assertEquals(1, registry.get("area.external.requests").tag("status", "503").tag("outcome", "error").timer().count());
+        assertEquals(4999, registry.get("area.external.ratelimit.remaining").tag("provider", "GitHub").gauge().value());
+    }
+}
@@ -0,0 +1,187 @@
+package com.area.server.scheduler;
+
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.metrics.EngineStats;
+import com.area.server.model.Area;
+import com.area.server.model.AutomationEntity;
+import com.area.server.model.ServiceConnection;
+import com.area.server.model.TimerActionConfig;
+import com.area.server.model.User;
+import com.area.server.repository.AreaRepository;
+import com.area.server.repository.ServiceConnectionRepository;
+import com.area.server.repository.UserRepository;
+import com.area.server.service.integration.executor.ReactionExecutor;
+import com.area.server.service.integration.executor.TriggerContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replays a full day of timer polling against a {@link VirtualClock}: the clock is
+ * advanced one polling interval at a time and the cycle is invoked directly, so
+ * firing counts and latencies are exact and independent of the machine running
+ * the test. The real {@code @Scheduled} triggers of every scheduler are pushed a
+ * day into the future so they never interfere, and SQL and engine logging is
+ * turned down so a day replays in seconds.
+ */
+@SpringBootTest(properties = {
+    "timer.polling.interval=300000",
+    "timer.polling.initial-delay=86400000",
+    "area.polling.initial-delay=86400000",
+    "workflow.polling.initial-delay=86400000",
+    "oauth.refresh.proactive.initial-delay=86400000",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.com.area.server.scheduler=WARN",
+    "logging.level.com.area.server.service=WARN"
+})
+@ActiveProfiles("test")
+public class TimerTimeWarpTest {
+
+    private static final Instant START = Instant.parse("2026-01-05T00:00:00Z");
+    private static final Duration TICK = Duration.ofMinutes(5);
+    private static final Duration DAY = Duration.ofHours(24);
+
+    @Autowired
+    private TimerPollingScheduler scheduler;
+
+    @Autowired
+    private VirtualClock clock;
+
+    @Autowired
+    private RecordingReactionExecutor reactions;
+
+    @Autowired
+    private EngineMetrics metrics;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceConnectionRepository connectionRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Test
+    public void testReplaysOneDayOfTimers() {
+        // Arrange
+        User user = userRepository.save(new User("time-warp@example.com", "time-warp", "{noop}x", "Time Warp"));
+        ServiceConnection reaction = new ServiceConnection();
+        reaction.setUser(user);
+        reaction.setType(ServiceConnection.ServiceType.DISCORD);
+        reaction.setAccessToken("unused");
+        reaction = connectionRepository.save(reaction);
+
+        Area hourly = areaRepository.save(timerArea(user, reaction, "current_time", 60));
+        Area quarterHourly = areaRepository.save(timerArea(user, reaction, "current_time", 15));
+        Area daily = areaRepository.save(timerArea(user, reaction, "days_until", null));
+
+        // Act
+        for (Duration elapsed = Duration.ZERO; elapsed.compareTo(DAY) < 0; elapsed = elapsed.plus(TICK)) {
+            scheduler.pollActiveTimers();
+            clock.advance(TICK);
+        }
+
+        // Assert
+        assertFirings(hourly, 24, Duration.ofMinutes(60));
+        assertFirings(quarterHourly, 96, Duration.ofMinutes(15));
+        assertFirings(daily, 1, Duration.ofDays(1));
+
+        EngineStats.Snapshot stats = metrics.getEngineStats("timer").orElseThrow()
+            .snapshot(clock.millis(), 0, false);
+        assertEquals(DAY.dividedBy(TICK), stats.cycles());
+        assertEquals(0, stats.scheduleLag().maxMs());
+    }
+
+    /**
+     * Each area fires on its first cycle, then exactly once per interval: no
+     * firing may come earlier than the interval or later than one tick after it.
+     */
+    private void assertFirings(Area area, int expected, Duration interval) {
+        List<Instant> firings = reactions.firings(area.getId());
+        assertEquals(expected, firings.size(), "firings of area " + area.getId());
+        assertEquals(START, firings.get(0));
+        for (int i = 1; i < firings.size(); i++) {
+            Duration gap = Duration.between(firings.get(i - 1), firings.get(i));
+            assertTrue(gap.compareTo(interval) >= 0 && gap.compareTo(interval.plus(TICK)) < 0,
+                "gap " + gap + " for area " + area.getId());
+        }
+    }
+
+    private static Area timerArea(User user, ServiceConnection reaction, String timerType, Integer intervalMinutes) {
+        TimerActionConfig config = new TimerActionConfig();
+        config.setTimerType(timerType);
+        config.setIntervalMinutes(intervalMinutes);
+        config.setDaysCount("days_until".equals(timerType) ? 3 : null);
+
+        Area area = new Area();
+        area.setUser(user);
+        area.setActionType("timer." + timerType);
+        area.setTimerConfig(config);
+        area.setReactionConnection(reaction);
+        area.setReactionType(RecordingReactionExecutor.TYPE);
+        area.setActive(true);
+        return area;
+    }
+
+    @TestConfiguration
+    static class VirtualTimeConfig {
+
+        @Bean
+        @Primary
+        VirtualClock virtualClock() {
+            return new VirtualClock(START, ZoneOffset.UTC);
+        }
+
+        @Bean
+        RecordingReactionExecutor recordingReactionExecutor(Clock clock) {
+            return new RecordingReactionExecutor(clock);
+        }
+    }
+
+    static class RecordingReactionExecutor implements ReactionExecutor {
+
+        static final String TYPE = "test.record";
+
+        private final Clock clock;
+        private final Map<Long, List<Instant>> firings = new ConcurrentHashMap<>();
+
+        RecordingReactionExecutor(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public String getReactionType() {
+            return TYPE;
+        }
+
+        @Override
+        public Mono<Void> execute(AutomationEntity entity, TriggerContext context) {
+            return Mono.fromRunnable(() -> firings
+                .computeIfAbsent(entity.getId(), id -> new ArrayList<>())
+                .add(clock.instant()));
+        }
+
+        List<Instant> firings(Long areaId) {
+            return firings.getOrDefault(areaId, List.of());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.area.server.scheduler;
+
+import com.area.server.model.ServiceConnection;
+import com.area.server.repository.ServiceConnectionRepository;
+import com.area.server.service.TokenRefreshService;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenRefreshSchedulerTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    public void testRunDoesNotWaitAndNeverOverlaps() {
+        // Arrange: a token endpoint that has not answered yet
+        ServiceConnection connection = new ServiceConnection();
+        connection.setRefreshToken("refresh-token");
+        ServiceConnectionRepository repository = mock(ServiceConnectionRepository.class);
+        when(repository.findByTypeAndTokenExpiresAtBeforeAndRefreshTokenIsNotNull(any(), any()))
+            .thenReturn(List.of(connection));
+        Sinks.One<ServiceConnection> pending = Sinks.one();
+        TokenRefreshService tokenRefreshService = mock(TokenRefreshService.class);
+        when(tokenRefreshService.refreshToken(connection))
+            .thenReturn(pending.asMono())
+            .thenReturn(Mono.just(connection));
+        TokenRefreshScheduler scheduler = new TokenRefreshScheduler(repository, tokenRefreshService, clock,
+            900_000, 300_000, 10, 0);
+
+        // Act: the first run returns while the refresh is pending, the second finds it still running
+        scheduler.refreshExpiringTokens();
+        boolean runningAfterFirst = scheduler.isRunning();
+        scheduler.refreshExpiringTokens();
+        verify(tokenRefreshService, timeout(5_000)).refreshToken(connection);
+        pending.tryEmitValue(connection);
+        boolean runningAfterRefresh = scheduler.isRunning();
+        scheduler.refreshExpiringTokens();
+
+        // Assert
+        assertThat(runningAfterFirst).isTrue();
+        assertThat(runningAfterRefresh).isFalse();
+        verify(tokenRefreshService, timeout(5_000).times(2)).refreshToken(connection);
+    }
+}
@@ -0,0 +1,40 @@
+package com.area.server.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Clock that only moves when told to. Replaces the application clock in tests
+ * that replay hours of scheduler activity in a few seconds.
+ */
+public class VirtualClock extends Clock {
+
+    private volatile Instant now;
+    private final ZoneId zone;
+
+    public VirtualClock(Instant start, ZoneId zone) {
+        this.now = start;
+        this.zone = zone;
+    }
+
+    public void advance(Duration duration) {
+        now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new VirtualClock(now, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+}
@@ -0,0 +1,204 @@
+package com.area.server.scheduler;
+
+import com.area.server.logging.ExternalApiLogger;
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.model.AutomationEntity;
+import com.area.server.model.ServiceConnection;
+import com.area.server.model.Workflow;
+import com.area.server.model.WorkflowTriggerState;
+import com.area.server.repository.ServiceConnectionRepository;
+import com.area.server.repository.WorkflowExecutionLogRepository;
+import com.area.server.repository.WorkflowRepository;
+import com.area.server.repository.WorkflowTriggerStateRepository;
+import com.area.server.service.GmailService;
+import com.area.server.service.TokenRefreshService;
+import com.area.server.service.WorkflowTriggerStateService;
+import com.area.server.service.integration.executor.ActionExecutorRegistry;
+import com.area.server.service.integration.executor.ContextKeys;
+import com.area.server.service.integration.executor.GmailActionExecutor;
+import com.area.server.service.integration.executor.ReactionExecutor;
+import com.area.server.service.integration.executor.ReactionExecutorRegistry;
+import com.area.server.service.integration.executor.TriggerContext;
+import com.area.server.service.integration.window.TriggerWindowService;
+import com.area.server.tracing.Tracer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WorkflowPollingSchedulerTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final String TRIGGER = "{\"service\":\"gmail\",\"type\":\"email_received\",\"config\":{}";
+    private static final String ACTIONS = "\"actions\":[{\"service\":\"discord\",\"type\":\"send_message\",\"config\":{}}]";
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+    private final WorkflowTriggerState state = new WorkflowTriggerState();
+    private final List<String> listCalls = new CopyOnWriteArrayList<>();
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final List<String> cursorsDuringReactions = new CopyOnWriteArrayList<>();
+    private final TriggerWindowService windowService = mock(TriggerWindowService.class);
+
+    @Test
+    public void testBurstLargerThanOnePageIsDeliveredWhole() {
+        // Arrange: 25 new emails after the cursor m100, newest first in pages of 10
+        List<String> mailbox = IntStream.rangeClosed(90, 125).mapToObj(i -> String.format("m%03d", i))
+            .sorted((a, b) -> b.compareTo(a))
+            .toList();
+        state.setLastProcessedItemId("m100");
+        WorkflowPollingScheduler scheduler = scheduler(mailbox, true, "{\"trigger\":" + TRIGGER + "}," + ACTIONS + "}");
+
+        // Act: max-items is 20, so the burst takes two polls
+        scheduler.pollActiveWorkflows();
+        scheduler.pollActiveWorkflows();
+
+        // Assert: every email once, oldest first, and the cursor only moved after each one's reactions
+        List<String> expected = IntStream.rangeClosed(101, 125).mapToObj(i -> "m" + i).toList();
+        assertThat(delivered).containsExactlyElementsOf(expected);
+        List<String> previous = new ArrayList<>(List.of("m100"));
+        previous.addAll(expected.subList(0, expected.size() - 1));
+        assertThat(cursorsDuringReactions).containsExactlyElementsOf(previous);
+        assertThat(state.getLastProcessedItemId()).isEqualTo("m125");
+        // First poll reads down to the cursor's page, the second stops at the first page
+        assertThat(listCalls).containsExactly(null, "p2", "p3", null);
+    }
+
+    @Test
+    public void testWindowedTriggerLeavesTheCursorToTheWindow() {
+        // Arrange: a window that is not due yet
+        List<String> mailbox = IntStream.rangeClosed(95, 105).mapToObj(i -> String.format("m%03d", i))
+            .sorted((a, b) -> b.compareTo(a))
+            .toList();
+        state.setLastProcessedItemId("m100");
+        WorkflowPollingScheduler scheduler = scheduler(mailbox, false,
+            "{\"trigger\":" + TRIGGER + ",\"window\":{\"type\":\"tumbling\",\"sizeSeconds\":3600}}," + ACTIONS + "}");
+
+        // Act
+        scheduler.pollActiveWorkflows();
+
+        // Assert: the five new emails and their cursor go to the window in one save
+        assertThat(state.getLastProcessedItemId()).isEqualTo("m100");
+        verify(windowService).accumulate(any(), any(), argThat(items -> items.size() == 5), eq("m105"), any());
+        assertThat(delivered).isEmpty();
+    }
+
+    private WorkflowPollingScheduler scheduler(List<String> mailbox, boolean perItem, String workflowData) {
+        Workflow workflow = new Workflow();
+        workflow.setId(1L);
+        workflow.setActive(true);
+        ServiceConnection connection = new ServiceConnection();
+        connection.setAccessToken("token");
+        workflow.setTriggerConnection(connection);
+        workflow.setWorkflowData(workflowData);
+        state.setWorkflow(workflow);
+        state.setConsecutiveFailures(0);
+
+        WorkflowRepository workflowRepository = mock(WorkflowRepository.class);
+        when(workflowRepository.findByActive(true)).thenReturn(List.of(workflow));
+        WorkflowTriggerStateRepository stateRepository = mock(WorkflowTriggerStateRepository.class);
+        when(stateRepository.findByWorkflowId(1L)).thenReturn(Optional.of(state));
+        when(stateRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        WorkflowTriggerStateService stateService = new WorkflowTriggerStateService(stateRepository, clock);
+        TokenRefreshService tokenRefreshService = mock(TokenRefreshService.class);
+        when(tokenRefreshService.refreshTokenIfNeeded(any()))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        GmailService gmailService = new GmailService(gmailClient(mailbox), new ExternalApiLogger(""), 500);
+        GmailActionExecutor trigger = new GmailActionExecutor(gmailService, null, tokenRefreshService,
+            stateService, perItem);
+        ReactionExecutor reaction = new ReactionExecutor() {
+            @Override
+            public String getReactionType() {
+                return "discord.send_message";
+            }
+
+            @Override
+            public Mono<Void> execute(AutomationEntity entity, TriggerContext context) {
+                return Mono.fromRunnable(() -> {
+                    cursorsDuringReactions.add(state.getLastProcessedItemId());
+                    delivered.add(context.get(ContextKeys.MESSAGE_ID));
+                });
+            }
+        };
+
+        WorkflowPollingScheduler scheduler = new WorkflowPollingScheduler(workflowRepository, stateService,
+            mock(WorkflowExecutionLogRepository.class), mock(ServiceConnectionRepository.class),
+            new ActionExecutorRegistry(List.of(trigger)), new ReactionExecutorRegistry(List.of(reaction)),
+            new ExternalApiLogger(""), new ObjectMapper(),
+            new EngineMetrics(new SimpleMeterRegistry(), clock, 500, 900_000, 512), clock,
+            new Tracer(span -> { }, false, 1.0), windowService);
+        ReflectionTestUtils.setField(scheduler, "perItem", perItem);
+        ReflectionTestUtils.setField(scheduler, "maxItems", 20);
+        ReflectionTestUtils.setField(scheduler, "itemConcurrency", 1);
+        ReflectionTestUtils.setField(scheduler, "cycleTimeoutMs", 10_000L);
+        return scheduler;
+    }
+
+    /**
+     * Serves the message list in pages of PAGE_SIZE (page tokens p2, p3, ...) and one detail per message.
+     */
+    private WebClient gmailClient(List<String> mailbox) {
+        return WebClient.builder()
+            .baseUrl("https://gmail.test")
+            .exchangeFunction(request -> {
+                String path = request.url().getPath();
+                if (path.equals("/gmail/v1/users/me/messages")) {
+                    String token = queryParam(request.url().getQuery(), "pageToken");
+                    listCalls.add(token);
+                    int page = token == null ? 1 : Integer.parseInt(token.substring(1));
+                    List<String> ids = mailbox.subList((page - 1) * PAGE_SIZE,
+                        Math.min(page * PAGE_SIZE, mailbox.size()));
+                    String next = page * PAGE_SIZE < mailbox.size() ? ",\"nextPageToken\":\"p" + (page + 1) + "\"" : "";
+                    return Mono.just(json("{\"messages\":[" + ids.stream()
+                        .map(id -> "{\"id\":\"" + id + "\"}")
+                        .collect(Collectors.joining(",")) + "]" + next + "}"));
+                }
+                String id = path.substring(path.lastIndexOf('/') + 1);
+                return Mono.just(json("{\"id\":\"" + id + "\",\"snippet\":\"...\",\"payload\":{\"headers\":"
+                    + "[{\"name\":\"Subject\",\"value\":\"" + id + "\"}]}}"));
+            })
+            .build();
+    }
+
+    private static String queryParam(String query, String name) {
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return pair.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static ClientResponse json(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+            .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+            .body(body)
+            .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.area.server.security;
+
+import com.area.server.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JwtAuthenticationFilterTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+    private final VerifiedTokenCache tokenCache = new VerifiedTokenCache(clock, 100);
+    private final JwtAuthenticationFilter filter = filter(Set.of(1L));
+
+    @AfterEach
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testAdminRoleFollowsTheUserId() throws Exception {
+        // Arrange
+        tokenCache.put("admin-token", claims(1L, "someone@example.com"));
+
+        // Act
+        Authentication authentication = authenticate("admin-token");
+
+        // Assert
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    public void testEmailAloneNeverGrantsAdmin() throws Exception {
+        // Arrange: another account registered with the admin's address in a different case
+        tokenCache.put("user-token", claims(2L, "SOMEONE@example.com"));
+
+        // Act
+        Authentication authentication = authenticate("user-token");
+
+        // Assert
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_USER");
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/scheduler/engines");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private JwtAuthenticationFilter filter(Set<Long> adminUserIds) {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findRevokedTokenEpochs()).thenReturn(List.of());
+        TokenEpochService tokenEpochService = new TokenEpochService(userRepository);
+        tokenEpochService.loadEpochs();
+        return new JwtAuthenticationFilter(mock(JwtService.class), tokenCache, tokenEpochService, adminUserIds);
+    }
+
+    private Claims claims(Long userId, String email) {
+        return Jwts.claims()
+            .subject(email)
+            .add("userId", userId)
+            .add("username", "user" + userId)
+            .add("type", "access")
+            .add("epoch", 0L)
+            .expiration(Date.from(clock.instant().plus(Duration.ofMinutes(15))))
+            .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.area.server.security;
+
+import com.area.server.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PasswordHashingExecutorTest {
+
+    @Test
+    public void testRejectsWhenQueueIsFull() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(blockingEncoder, 12, 1, 1, 5000, 2);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.encode("a"));
+        waitUntil(() -> executor.getActiveCount() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.encode("b"));
+        waitUntil(() -> executor.getQueueDepth() == 1);
+
+        // Act
+        TooManyRequestsException rejection = assertThrows(TooManyRequestsException.class,
+                () -> executor.encode("c"));
+        release.countDown();
+
+        // Assert
+        assertEquals(2, rejection.getRetryAfterSeconds());
+        assertEquals("hashed", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executor.getRejectedCount());
+        assertEquals(2, executor.getStats().completed());
+        executor.shutdown();
+    }
+
+    @Test
+    public void testNeedsRehashWhenCostDiffers() {
+        // Arrange
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(
+                new BCryptPasswordEncoder(5), 5, 1, 4, 5000, 1);
+        String current = executor.encode("Password1!");
+        String legacy = new BCryptPasswordEncoder(4).encode("Password1!");
+
+        // Act & Assert
+        assertTrue(executor.matches("Password1!", current));
+        assertFalse(executor.needsRehash(current));
+        assertTrue(executor.needsRehash(legacy));
+        assertFalse(executor.needsRehash(null));
+        executor.shutdown();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,65 @@
+package com.area.server.security;
+
+import com.area.server.model.User;
+import com.area.server.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenEpochServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    public void testRevocationRejectsEarlierTokens() {
+        // Arrange
+        when(userRepository.findRevokedTokenEpochs()).thenReturn(List.of());
+        TokenEpochService service = new TokenEpochService(userRepository);
+        service.loadEpochs();
+        User user = user(42L, 0L);
+        long issuedAt = service.currentEpoch(42L);
+
+        // Act
+        long revokedAt = service.revokeAccessTokens(user);
+
+        // Assert
+        assertEquals(0L, issuedAt);
+        assertEquals(1L, revokedAt);
+        assertEquals(1L, user.getTokenEpoch());
+        verify(userRepository).save(user);
+        assertFalse(service.isCurrent(42L, issuedAt));
+        assertFalse(service.isCurrent(42L, null));
+        assertTrue(service.isCurrent(42L, service.currentEpoch(42L)));
+        assertTrue(service.isCurrent(7L, null));
+    }
+
+    @Test
+    public void testEpochsSurviveRestart() {
+        // Arrange: user 42 was revoked twice before the restart
+        when(userRepository.findRevokedTokenEpochs()).thenReturn(List.<Object[]>of(new Object[]{42L, 2L}));
+        TokenEpochService service = new TokenEpochService(userRepository);
+
+        // Act
+        service.loadEpochs();
+        long next = service.revokeAccessTokens(user(42L, 0L));
+
+        // Assert
+        assertFalse(service.isCurrent(42L, 1L));
+        assertEquals(3L, next);
+        assertTrue(service.isCurrent(42L, 3L));
+    }
+
+    private static User user(Long id, long tokenEpoch) {
+        User user = new User();
+        user.setId(id);
+        user.setTokenEpoch(tokenEpoch);
+        return user;
+    }
+}
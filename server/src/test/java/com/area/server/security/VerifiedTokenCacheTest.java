@@ -0,0 +1,70 @@
+package com.area.server.security;
+
+import com.area.server.scheduler.VirtualClock;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class VerifiedTokenCacheTest {
+
+    private final VirtualClock clock = new VirtualClock(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    public void testEntryExpiresWithTheToken() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(clock, 100);
+        cache.put("token-a", claims(42L, Duration.ofMinutes(15)));
+
+        // Act
+        VerifiedTokenCache.VerifiedToken beforeExpiry = cache.get("token-a");
+        clock.advance(Duration.ofMinutes(15));
+        VerifiedTokenCache.VerifiedToken atExpiry = cache.get("token-a");
+
+        // Assert
+        assertNotNull(beforeExpiry);
+        assertEquals(42L, beforeExpiry.userId());
+        assertEquals("user@example.com", beforeExpiry.email());
+        assertEquals(3L, beforeExpiry.epoch());
+        assertNull(atExpiry);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testFullCacheDropsExpiredEntriesBeforeSkipping() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(clock, 2);
+        cache.put("short-lived", claims(1L, Duration.ofMinutes(1)));
+        cache.put("long-lived", claims(2L, Duration.ofHours(1)));
+
+        // Act
+        cache.put("while-full", claims(3L, Duration.ofHours(1)));
+        clock.advance(Duration.ofMinutes(2));
+        cache.put("after-expiry", claims(4L, Duration.ofHours(1)));
+
+        // Assert: a live entry is never evicted to make room
+        assertNull(cache.get("while-full"));
+        assertNotNull(cache.get("long-lived"));
+        assertNotNull(cache.get("after-expiry"));
+        assertNull(cache.get("short-lived"));
+    }
+
+    private Claims claims(Long userId, Duration validFor) {
+        return Jwts.claims()
+            .subject("user@example.com")
+            .add("userId", userId)
+            .add("username", "user")
+            .add("type", "access")
+            .add("epoch", 3L)
+            .expiration(Date.from(clock.instant().plus(validFor)))
+            .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.area.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DiscordDeliverySchedulerTest {
+
+    private final List<String> sentBodies = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testPreservesOrderPerChannel() {
+        // Arrange
+        DiscordDeliveryScheduler scheduler = scheduler(request -> okResponse(), false);
+
+        // Act
+        Flux.range(0, 20)
+                .flatMap(i -> scheduler.enqueueMessage("token", "channel-1", "message-" + i))
+                .then()
+                .block(Duration.ofSeconds(10));
+
+        // Assert
+        assertThat(sentBodies).hasSize(20);
+        for (int i = 0; i < 20; i++) {
+            assertThat(sentBodies.get(i)).contains("message-" + i + "\"");
+        }
+    }
+
+    @Test
+    public void testWaitsForRetryAfterOn429() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        DiscordDeliveryScheduler scheduler = scheduler(request -> calls.incrementAndGet() == 1
+                ? Mono.just(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                        .header("Retry-After", "0.2")
+                        .header("X-RateLimit-Bucket", "abc")
+                        .body("{\"retry_after\": 0.2, \"global\": false}")
+                        .build())
+                : okResponse(), false);
+
+        // Act
+        long start = System.nanoTime();
+        scheduler.enqueueMessage("token", "channel-1", "first").block(Duration.ofSeconds(10));
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Assert
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(elapsedMs).as("wait for Retry-After").isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    public void testCoalescesQueuedMessagesWhenEnabled() {
+        // Arrange
+        DiscordDeliveryScheduler scheduler = scheduler(request -> okResponse()
+                .delayElement(Duration.ofMillis(50)), true);
+
+        // Act
+        Flux.range(0, 25)
+                .flatMap(i -> scheduler.enqueueEmbed("token", "channel-1", Map.of("title", "embed-" + i)))
+                .then()
+                .block(Duration.ofSeconds(10));
+
+        // Assert: the first request goes out alone, the rest are batched by 10
+        assertThat(sentBodies).as("coalesced requests").hasSizeLessThan(25);
+        String all = String.join("", sentBodies);
+        for (int i = 0; i < 25; i++) {
+            assertThat(all).contains("embed-" + i + "\"");
+            if (i > 0) {
+                assertThat(all.indexOf("embed-" + (i - 1) + "\"")).isLessThan(all.indexOf("embed-" + i + "\""));
+            }
+        }
+    }
+
+    @Test
+    public void testEnqueuesOnSubscribe() {
+        // Arrange
+        DiscordDeliveryScheduler scheduler = scheduler(request -> okResponse(), false);
+
+        // Act
+        Mono<Void> delivery = scheduler.enqueueMessage("token", "channel-1", "lazy");
+
+        // Assert
+        assertThat(scheduler.getQueuedCount("channel-1")).isZero();
+        assertThat(scheduler.getChannelCount()).isZero();
+        delivery.block(Duration.ofSeconds(10));
+        assertThat(sentBodies).hasSize(1);
+    }
+
+    @Test
+    public void testBucketLimitStaysWithItsChannel() {
+        // Arrange: the first response exhausts bucket "abc" of channel-1 for 1 s
+        AtomicInteger calls = new AtomicInteger();
+        DiscordDeliveryScheduler scheduler = scheduler(request -> calls.incrementAndGet() == 1
+                ? Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header("X-RateLimit-Bucket", "abc")
+                        .header("X-RateLimit-Remaining", "0")
+                        .header("X-RateLimit-Reset-After", "1")
+                        .build())
+                : okResponse(), false);
+        scheduler.enqueueMessage("token", "channel-1", "first").block(Duration.ofSeconds(10));
+
+        // Act
+        long start = System.nanoTime();
+        scheduler.enqueueMessage("token", "channel-2", "other channel").block(Duration.ofSeconds(10));
+        long otherChannelMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        scheduler.enqueueMessage("token", "channel-1", "same channel").block(Duration.ofSeconds(10));
+        long sameChannelMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Assert
+        assertThat(otherChannelMs).as("other channel wait").isLessThan(500);
+        assertThat(sameChannelMs).as("same channel wait").isGreaterThanOrEqualTo(800);
+    }
+
+    @Test
+    public void testEvictsDrainedChannels() throws InterruptedException {
+        // Arrange
+        DiscordDeliveryScheduler scheduler = scheduler(request -> okResponse(), false);
+
+        // Act
+        Flux.range(0, 50)
+                .flatMap(i -> scheduler.enqueueMessage("token", "channel-" + (i % 10), "message-" + i))
+                .then()
+                .block(Duration.ofSeconds(10));
+
+        // Assert: queues are removed right after their last delivery completes
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (scheduler.getChannelCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(scheduler.getChannelCount()).isZero();
+        assertThat(sentBodies).hasSize(50);
+    }
+
+    private DiscordDeliveryScheduler scheduler(ExchangeFunction responder, boolean coalesce) {
+        ExchangeFunction recording = request -> captureBody(request).then(responder.exchange(request));
+        WebClient client = WebClient.builder()
+                .baseUrl("https://discord.test/api/v10")
+                .exchangeFunction(recording)
+                .build();
+        return new DiscordDeliveryScheduler(client, new ObjectMapper(), coalesce, 3, 10, 50);
+    }
+
+    private Mono<Void> captureBody(ClientRequest request) {
+        MockClientHttpRequest mock = new MockClientHttpRequest(request.method(), request.url());
+        return request.body().insert((ClientHttpRequest) mock, new BodyContext())
+                .then(Mono.defer(mock::getBodyAsString))
+                .doOnNext(sentBodies::add)
+                .then();
+    }
+
+    private static Mono<ClientResponse> okResponse() {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header("X-RateLimit-Bucket", "abc")
+                .header("X-RateLimit-Remaining", "5")
+                .header("X-RateLimit-Reset-After", "1")
+                .build());
+    }
+
+    private static class BodyContext implements BodyInserter.Context {
+        @Override
+        public List<HttpMessageWriter<?>> messageWriters() {
+            return ExchangeStrategies.withDefaults().messageWriters();
+        }
+
+        @Override
+        public Optional<ServerHttpRequest> serverRequest() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, Object> hints() {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.area.server.service;
+
+import com.area.server.dto.GitHubRepositoryDTO;
+import com.area.server.dto.GitHubRepositoryPage;
+import com.area.server.scheduler.VirtualClock;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GitHubRepositoryCacheTest {
+
+    private final VirtualClock clock = new VirtualClock(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+    private final GitHubService githubService = mock(GitHubService.class);
+    // Fresh for one minute, kept for one hour
+    private final GitHubRepositoryCache cache = new GitHubRepositoryCache(githubService, clock, 60_000, 3_600_000, 100);
+
+    private final List<GitHubRepositoryDTO> v1 = List.of(repository("octo/one"));
+    private final List<GitHubRepositoryDTO> v2 = List.of(repository("octo/one"), repository("octo/two"));
+
+    @Test
+    public void testServesFreshEntriesWithoutCallingGitHub() {
+        // Arrange
+        when(githubService.fetchUserRepositories("token", 1, 30, null))
+            .thenReturn(Mono.just(GitHubRepositoryPage.of("\"v1\"", v1)));
+
+        // Act
+        List<GitHubRepositoryDTO> first = cache.getRepositories(5L, "token", 1, 30).block();
+        clock.advance(Duration.ofSeconds(30));
+        List<GitHubRepositoryDTO> second = cache.getRepositories(5L, "token", 1, 30).block();
+
+        // Assert
+        assertEquals(v1, first);
+        assertEquals(v1, second);
+        verify(githubService, times(1)).fetchUserRepositories(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    public void testStaleEntryIsServedWhileRevalidatingWithEtag() {
+        // Arrange
+        when(githubService.fetchUserRepositories("token", 1, 30, null))
+            .thenReturn(Mono.just(GitHubRepositoryPage.of("\"v1\"", v1)));
+        when(githubService.fetchUserRepositories("token", 1, 30, "\"v1\""))
+            .thenReturn(Mono.just(GitHubRepositoryPage.notModified("\"v1\"")))
+            .thenReturn(Mono.just(GitHubRepositoryPage.of("\"v2\"", v2)));
+        cache.getRepositories(5L, "token", 1, 30).block();
+
+        // Act: stale, the 304 keeps the list and makes it fresh again
+        clock.advance(Duration.ofMinutes(2));
+        List<GitHubRepositoryDTO> stale = cache.getRepositories(5L, "token", 1, 30).block();
+        clock.advance(Duration.ofSeconds(30));
+        List<GitHubRepositoryDTO> revalidated = cache.getRepositories(5L, "token", 1, 30).block();
+        // Stale again: still served the old list, the changed list replaces it in the background
+        clock.advance(Duration.ofMinutes(2));
+        List<GitHubRepositoryDTO> staleAgain = cache.getRepositories(5L, "token", 1, 30).block();
+        List<GitHubRepositoryDTO> updated = cache.getRepositories(5L, "token", 1, 30).block();
+
+        // Assert
+        assertEquals(v1, stale);
+        assertEquals(v1, revalidated);
+        assertEquals(v1, staleAgain);
+        assertEquals(v2, updated);
+        verify(githubService, times(2)).fetchUserRepositories("token", 1, 30, "\"v1\"");
+    }
+
+    @Test
+    public void testExpiredEntryBlocksOnRevalidation() {
+        // Arrange
+        when(githubService.fetchUserRepositories("token", 1, 30, null))
+            .thenReturn(Mono.just(GitHubRepositoryPage.of("\"v1\"", v1)));
+        when(githubService.fetchUserRepositories("token", 1, 30, "\"v1\""))
+            .thenReturn(Mono.just(GitHubRepositoryPage.of("\"v2\"", v2)));
+        cache.getRepositories(5L, "token", 1, 30).block();
+
+        // Act
+        clock.advance(Duration.ofHours(2));
+        List<GitHubRepositoryDTO> result = cache.getRepositories(5L, "token", 1, 30).block();
+
+        // Assert
+        assertEquals(v2, result);
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneRequest() {
+        // Arrange
+        when(githubService.fetchUserRepositories(eq("token"), eq(1), eq(30), isNull()))
+            .thenReturn(Mono.just(GitHubRepositoryPage.of("\"v1\"", v1)).delayElement(Duration.ofMillis(100)));
+
+        // Act
+        Mono.zip(cache.getRepositories(5L, "token", 1, 30), cache.getRepositories(5L, "token", 1, 30))
+            .block(Duration.ofSeconds(5));
+        cache.evict(5L);
+        cache.getRepositories(5L, "token", 1, 30).block(Duration.ofSeconds(5));
+
+        // Assert: one request for both concurrent misses, a new one after eviction
+        verify(githubService, times(2)).fetchUserRepositories(any(), anyInt(), anyInt(), any());
+        verify(githubService, never()).fetchUserRepositories(any(), anyInt(), anyInt(), eq("\"v1\""));
+    }
+
+    private static GitHubRepositoryDTO repository(String fullName) {
+        return new GitHubRepositoryDTO(fullName, null, false, "https://github.com/" + fullName);
+    }
+}
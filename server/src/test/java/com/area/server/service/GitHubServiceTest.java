@@ -0,0 +1,281 @@
+package com.area.server.service;
+
+import com.area.server.dto.GitHubIssue;
+import com.area.server.logging.ExternalApiLogger;
+import com.area.server.metrics.EngineMetrics;
+import com.area.server.model.Area;
+import com.area.server.model.GitHubActionConfig;
+import com.area.server.model.GitHubReactionConfig;
+import com.area.server.model.ServiceConnection;
+import com.area.server.service.integration.executor.TriggerContext;
+import com.area.server.service.template.TemplateEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GitHubServiceTest {
+
+    private static final String REPO = "/repos/octo/demo";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void testTreeAlwaysCarriesBaseTree() throws Exception {
+        // Arrange: new branch, and the branches response has no tree SHA
+        Map<String, Supplier<ClientResponse>> responses = Map.of(
+            "GET " + REPO + "/branches/feature", status(HttpStatus.NOT_FOUND),
+            "GET " + REPO + "/branches/main", json("{\"commit\":{\"sha\":\"base-commit\"}}"),
+            "GET " + REPO + "/git/commits/base-commit", json("{\"tree\":{\"sha\":\"base-tree\"}}"),
+            "POST " + REPO + "/git/trees", json("{\"sha\":\"new-tree\"}"),
+            "POST " + REPO + "/git/commits", json("{\"sha\":\"new-commit\"}"),
+            "POST " + REPO + "/git/refs", json("{\"object\":{\"sha\":\"new-commit\"}}"),
+            "POST " + REPO + "/pulls", json("{\"number\":7,\"html_url\":\"https://github.test/pr/7\"}"));
+        GitHubService service = service(responses);
+
+        // Act
+        var response = service.createPullRequest(new Area(), connection(), config(), TriggerContext.empty())
+            .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(7, response.getNumber());
+        JsonNode tree = objectMapper.readTree(bodies.get("POST " + REPO + "/git/trees"));
+        assertEquals("base-tree", tree.path("base_tree").asText());
+        assertEquals(2, tree.path("tree").size());
+        JsonNode commit = objectMapper.readTree(bodies.get("POST " + REPO + "/git/commits"));
+        assertEquals("base-commit", commit.path("parents").get(0).asText());
+        assertTrue(registry.find("area.github.pr.steps").tag("step", "create_tree").timer().count() > 0);
+    }
+
+    @Test
+    public void testTreeFailsWithoutBaseTree() {
+        // Arrange: neither the branch nor the commit reports a tree
+        Map<String, Supplier<ClientResponse>> responses = Map.of(
+            "GET " + REPO + "/branches/feature", status(HttpStatus.NOT_FOUND),
+            "GET " + REPO + "/branches/main", json("{\"commit\":{\"sha\":\"base-commit\"}}"),
+            "GET " + REPO + "/git/commits/base-commit", json("{}"));
+        GitHubService service = service(responses);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> service
+            .createPullRequest(new Area(), connection(), config(), TriggerContext.empty())
+            .block(Duration.ofSeconds(5)));
+        assertFalse(calls.contains("POST " + REPO + "/git/trees"));
+    }
+
+    @Test
+    public void testExistingBranchIsFastForwarded() throws Exception {
+        // Arrange
+        Map<String, Supplier<ClientResponse>> responses = Map.of(
+            "GET " + REPO + "/branches/feature",
+            json("{\"commit\":{\"sha\":\"branch-commit\",\"commit\":{\"tree\":{\"sha\":\"branch-tree\"}}}}"),
+            "GET " + REPO + "/branches/main", status(HttpStatus.NOT_FOUND),
+            "POST " + REPO + "/git/trees", json("{\"sha\":\"new-tree\"}"),
+            "POST " + REPO + "/git/commits", json("{\"sha\":\"new-commit\"}"),
+            "PATCH " + REPO + "/git/refs/heads/feature", json("{\"object\":{\"sha\":\"new-commit\"}}"),
+            "POST " + REPO + "/pulls", json("{\"number\":8,\"html_url\":\"https://github.test/pr/8\"}"));
+        GitHubService service = service(responses);
+
+        // Act
+        service.createPullRequest(new Area(), connection(), config(), TriggerContext.empty())
+            .block(Duration.ofSeconds(5));
+
+        // Assert: one commit on top of the branch, no per-file commits, and the target lookup
+        // that ran alongside it (here failing) is not used
+        assertEquals("branch-tree",
+            objectMapper.readTree(bodies.get("POST " + REPO + "/git/trees")).path("base_tree").asText());
+        assertEquals("branch-commit",
+            objectMapper.readTree(bodies.get("POST " + REPO + "/git/commits")).path("parents").get(0).asText());
+        assertEquals("new-commit",
+            objectMapper.readTree(bodies.get("PATCH " + REPO + "/git/refs/heads/feature")).path("sha").asText());
+        assertFalse(calls.contains("POST " + REPO + "/git/refs"));
+        assertTrue(calls.stream().noneMatch(call -> call.startsWith("PUT ")), calls.toString());
+    }
+
+    @Test
+    public void testBranchCreatedMeanwhileIsUpdated() throws Exception {
+        // Arrange: the branch is missing at first, then creating it returns 422
+        Map<String, Supplier<ClientResponse>> responses = Map.of(
+            "GET " + REPO + "/branches/feature", status(HttpStatus.NOT_FOUND),
+            "GET " + REPO + "/branches/main",
+            json("{\"commit\":{\"sha\":\"base-commit\",\"commit\":{\"tree\":{\"sha\":\"base-tree\"}}}}"),
+            "POST " + REPO + "/git/trees", json("{\"sha\":\"new-tree\"}"),
+            "POST " + REPO + "/git/commits", json("{\"sha\":\"new-commit\"}"),
+            "POST " + REPO + "/git/refs", status(HttpStatus.UNPROCESSABLE_ENTITY),
+            "PATCH " + REPO + "/git/refs/heads/feature", json("{\"object\":{\"sha\":\"new-commit\"}}"),
+            "POST " + REPO + "/pulls", json("{\"number\":9,\"html_url\":\"https://github.test/pr/9\"}"));
+        GitHubService service = service(responses);
+
+        // Act
+        var response = service.createPullRequest(new Area(), connection(), config(), TriggerContext.empty())
+            .block(Duration.ofSeconds(5));
+
+        // Assert: the new commit is kept and the ref moved to it
+        assertEquals(9, response.getNumber());
+        assertEquals("new-commit",
+            objectMapper.readTree(bodies.get("PATCH " + REPO + "/git/refs/heads/feature")).path("sha").asText());
+        assertTrue(calls.stream().noneMatch(call -> call.startsWith("PUT ")), calls.toString());
+        assertEquals(1, calls.stream().filter(call -> call.equals("POST " + REPO + "/git/trees")).count());
+    }
+
+    @Test
+    public void testReusesCachedBaseRef() {
+        // Arrange
+        Map<String, Supplier<ClientResponse>> responses = Map.of(
+            "GET " + REPO + "/branches/feature", status(HttpStatus.NOT_FOUND),
+            "GET " + REPO + "/branches/main",
+            json("{\"commit\":{\"sha\":\"base-commit\",\"commit\":{\"tree\":{\"sha\":\"base-tree\"}}}}"),
+            "POST " + REPO + "/git/trees", json("{\"sha\":\"new-tree\"}"),
+            "POST " + REPO + "/git/commits", json("{\"sha\":\"new-commit\"}"),
+            "POST " + REPO + "/git/refs", json("{\"object\":{\"sha\":\"new-commit\"}}"),
+            "POST " + REPO + "/pulls", json("{\"number\":10,\"html_url\":\"https://github.test/pr/10\"}"));
+        GitHubService service = service(responses);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            service.createPullRequest(new Area(), connection(), config(), TriggerContext.empty())
+                .block(Duration.ofSeconds(5));
+        }
+
+        // Assert
+        assertEquals(1, calls.stream().filter(call -> call.equals("GET " + REPO + "/branches/main")).count());
+        assertEquals(3, calls.stream().filter(call -> call.equals("POST " + REPO + "/git/trees")).count());
+    }
+
+    @Test
+    public void testNewIssuesArePagedUntilTheCursor() {
+        // Arrange: issues #81..#140 newest first, 30 per page, cursor at #100
+        String list = "GET " + REPO + "/issues?state=open&sort=created&direction=desc&per_page=30&page=";
+        Map<String, Supplier<ClientResponse>> responses = Map.of(
+            list + "1", json(issues(140, 111)),
+            list + "2", json(issues(110, 81)),
+            list + "3", json("[]"));
+        GitHubService service = service(responses);
+        GitHubActionConfig config = new GitHubActionConfig();
+        config.setRepositoryOwner("octo");
+        config.setRepositoryName("demo");
+
+        // Act
+        List<GitHubIssue> issues = service.fetchNewIssues(connection(), config, 100L).block(Duration.ofSeconds(5));
+
+        // Assert: every issue after the cursor, and no page past it
+        assertEquals(40, issues.size());
+        assertEquals(101L, issues.stream().mapToLong(GitHubIssue::getNumber).min().orElseThrow());
+        assertEquals(2, calls.stream().filter(call -> call.equals("GET " + REPO + "/issues")).count());
+    }
+
+    private GitHubService service(Map<String, Supplier<ClientResponse>> responses) {
+        WebClient client = WebClient.builder()
+            .baseUrl("https://api.github.test")
+            .exchangeFunction(request -> {
+                String call = request.method().name() + " " + request.url().getPath();
+                calls.add(call);
+                String query = request.url().getQuery();
+                Supplier<ClientResponse> response = query != null && responses.containsKey(call + "?" + query)
+                    ? responses.get(call + "?" + query)
+                    : responses.get(call);
+                return captureBody(call, request).then(Mono.justOrEmpty(response)
+                    .map(Supplier::get)
+                    .switchIfEmpty(Mono.error(() -> new AssertionError("Unexpected call " + call))));
+            })
+            .build();
+        Clock clock = Clock.systemUTC();
+        return new GitHubService(client, objectMapper, new ExternalApiLogger(""), new TemplateEngine(100),
+            new EngineMetrics(registry, clock, 500, 900_000, 512), clock, 30_000, 500);
+    }
+
+    private Mono<Void> captureBody(String call, ClientRequest request) {
+        MockClientHttpRequest mock = new MockClientHttpRequest(request.method(), request.url());
+        return request.body().insert((ClientHttpRequest) mock, new BodyContext())
+            .then(Mono.defer(mock::getBodyAsString))
+            .doOnNext(body -> bodies.put(call, body))
+            .then();
+    }
+
+    private static ServiceConnection connection() {
+        ServiceConnection connection = new ServiceConnection();
+        connection.setAccessToken("token");
+        return connection;
+    }
+
+    private static GitHubReactionConfig config() {
+        GitHubReactionConfig config = new GitHubReactionConfig();
+        config.setRepositoryOwner("octo");
+        config.setRepositoryName("demo");
+        config.setPrTitle("Update docs");
+        config.setPrBody("Body");
+        config.setSourceBranch("feature");
+        config.setTargetBranch("main");
+        config.setFilePath("docs/a.md");
+        config.setFileContent("a");
+        config.setAdditionalFiles(Map.of("docs/b.md", "b"));
+        return config;
+    }
+
+    private static String issues(int newest, int oldest) {
+        StringBuilder body = new StringBuilder("[");
+        for (int number = newest; number >= oldest; number--) {
+            body.append(number < newest ? "," : "")
+                .append("{\"number\":").append(number).append(",\"title\":\"Issue ").append(number)
+                .append("\",\"state\":\"open\",\"html_url\":\"https://github.test/issues/").append(number).append("\"}");
+        }
+        return body.append("]").toString();
+    }
+
+    private static Supplier<ClientResponse> json(String body) {
+        return () -> ClientResponse.create(HttpStatus.OK)
+            .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+            .body(body)
+            .build();
+    }
+
+    private static Supplier<ClientResponse> status(HttpStatus status) {
+        return () -> ClientResponse.create(status).build();
+    }
+
+    private static class BodyContext implements BodyInserter.Context {
+        @Override
+        public List<HttpMessageWriter<?>> messageWriters() {
+            return ExchangeStrategies.withDefaults().messageWriters();
+        }
+
+        @Override
+        public Optional<ServerHttpRequest> serverRequest() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, Object> hints() {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.area.server.service;
+
+import com.area.server.model.RefreshToken;
+import com.area.server.model.User;
+import com.area.server.repository.RefreshTokenRepository;
+import com.area.server.security.TokenHashes;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RefreshTokenStoreTest {
+
+    private final RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+    private final RefreshTokenStore store = new RefreshTokenStore(repository, 100, 60000);
+
+    @Test
+    public void testServesRepeatedLookupsAndRevocationFromCache() {
+        // Arrange
+        RefreshToken token = refreshToken("refresh-token");
+        when(repository.findByTokenHash(TokenHashes.sha256Hex("refresh-token"))).thenReturn(Optional.of(token));
+
+        // Act
+        RefreshTokenStore.RefreshTokenState first = store.find("refresh-token").orElseThrow();
+        RefreshTokenStore.RefreshTokenState second = store.find("refresh-token").orElseThrow();
+        store.revoke("refresh-token", second);
+        RefreshTokenStore.RefreshTokenState revoked = store.find("refresh-token").orElseThrow();
+
+        // Assert
+        assertTrue(first.isValid());
+        assertEquals(42L, second.userId());
+        assertFalse(revoked.isValid());
+        verify(repository, times(1)).findByTokenHash(anyString());
+        verify(repository).revokeById(any(), any());
+    }
+
+    @Test
+    public void testFallsBackToRawTokenAndBackfillsHash() {
+        // Arrange
+        RefreshToken legacy = refreshToken("legacy-token");
+        legacy.setTokenHash(null);
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+        when(repository.findByToken("legacy-token")).thenReturn(Optional.of(legacy));
+
+        // Act
+        Optional<RefreshTokenStore.RefreshTokenState> state = store.find("legacy-token");
+
+        // Assert
+        assertTrue(state.isPresent());
+        assertEquals(TokenHashes.sha256Hex("legacy-token"), legacy.getTokenHash());
+        verify(repository).save(legacy);
+    }
+
+    private static RefreshToken refreshToken(String value) {
+        User user = new User();
+        user.setId(42L);
+        RefreshToken token = new RefreshToken(user, value, Instant.now().plusSeconds(3600), null);
+        token.setId(7L);
+        return token;
+    }
+}
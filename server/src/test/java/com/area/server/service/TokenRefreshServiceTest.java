@@ -0,0 +1,133 @@
+package com.area.server.service;
+
+import com.area.server.model.ServiceConnection;
+import com.area.server.repository.ServiceConnectionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenRefreshServiceTest {
+
+    private final Instant now = Instant.parse("2026-03-01T10:00:00Z");
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private final ServiceConnectionRepository repository = mock(ServiceConnectionRepository.class);
+    private String tokenResponse = "{\"access_token\":\"new-access-token\",\"expires_in\":3600}";
+
+    @Test
+    public void testConcurrentRefreshesShareOneTokenRequest() {
+        // Arrange: each worker holds its own entity instance of connection 5
+        TokenRefreshService service = service();
+        List<ServiceConnection> instances = List.of(connection(5L), connection(5L), connection(5L), connection(5L));
+
+        // Act
+        Flux.fromIterable(instances)
+            .flatMap(service::refreshToken)
+            .then()
+            .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(1, tokenRequests.get());
+        verify(repository, times(1)).save(any());
+        instances.forEach(instance -> {
+            assertEquals("new-access-token", instance.getAccessToken());
+            assertEquals(now.plusSeconds(3600), instance.getTokenExpiresAt());
+        });
+        assertEquals(0, service.getInFlightCount());
+    }
+
+    @Test
+    public void testOtherProvidersJoinTheSameRefresh() {
+        // Arrange
+        TokenRefreshService service = service();
+        AtomicInteger providerRequests = new AtomicInteger();
+
+        // Act: an OAuth integration refreshes the same connection while the Google refresh runs
+        Mono.when(
+                service.refreshToken(connection(5L)),
+                service.refresh(connection(5L), connection -> {
+                    providerRequests.incrementAndGet();
+                    return Mono.just(connection);
+                }))
+            .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(1, tokenRequests.get());
+        assertEquals(0, providerRequests.get());
+    }
+
+    @Test
+    public void testSequentialRefreshesEachRequestAToken() {
+        // Arrange
+        TokenRefreshService service = service();
+
+        // Act
+        service.refreshToken(connection(5L)).block(Duration.ofSeconds(5));
+        service.refreshToken(connection(5L)).block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(2, tokenRequests.get());
+    }
+
+    @Test
+    public void testRotatedRefreshTokenReachesEveryCaller() {
+        // Arrange: the provider rotates the refresh token along with the access token
+        tokenResponse = "{\"access_token\":\"new-access-token\",\"expires_in\":3600,"
+            + "\"refresh_token\":\"rotated-refresh-token\"}";
+        TokenRefreshService service = service();
+        List<ServiceConnection> instances = List.of(connection(5L), connection(5L));
+
+        // Act
+        Flux.fromIterable(instances)
+            .flatMap(service::refreshToken)
+            .then()
+            .block(Duration.ofSeconds(5));
+
+        // Assert: a caller keeping the old refresh token would overwrite the rotated one on its next save
+        assertEquals(1, tokenRequests.get());
+        instances.forEach(instance -> assertEquals("rotated-refresh-token", instance.getRefreshToken()));
+    }
+
+    private TokenRefreshService service() {
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            tokenRequests.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .body(tokenResponse)
+                    .build())
+                .delayElement(Duration.ofMillis(100));
+        });
+        TokenRefreshService service = new TokenRefreshService(builder, repository,
+            Clock.fixed(now, ZoneOffset.UTC), "https://oauth.test");
+        ReflectionTestUtils.setField(service, "clientId", "client");
+        ReflectionTestUtils.setField(service, "clientSecret", "secret");
+        return service;
+    }
+
+    private static ServiceConnection connection(Long id) {
+        ServiceConnection connection = new ServiceConnection();
+        ReflectionTestUtils.setField(connection, "id", id);
+        connection.setAccessToken("old-access-token");
+        connection.setRefreshToken("refresh-token");
+        return connection;
+    }
+}
@@ -0,0 +1,42 @@
+package com.area.server.service.integration.executor;
+
+import com.area.server.dto.GmailMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GmailActionExecutorTest {
+
+    private final GmailActionExecutor executor = new GmailActionExecutor(null, null, null, null, true);
+
+    @Test
+    public void testSplitItemsDeliversEveryMessageOldestFirst() {
+        // Arrange
+        GmailMessage newest = new GmailMessage("18c3", "Third", "c@example.com", "...", Instant.EPOCH);
+        GmailMessage oldest = new GmailMessage("18c1", "First", "a@example.com", "...", Instant.EPOCH);
+        GmailMessage middle = new GmailMessage("18c2", "Second", "b@example.com", "...", Instant.EPOCH);
+        TriggerContext batch = TriggerContext.builder()
+            .put(ContextKeys.NEW_MESSAGES, List.of(newest, oldest, middle))
+            .putInt(ContextKeys.MESSAGE_COUNT, 3)
+            .put(ContextKeys.LATEST_MESSAGE, newest)
+            .put(ContextKeys.MESSAGE_ID, newest.getId())
+            .build();
+
+        // Act
+        List<TriggerContext> items = executor.splitItems(batch);
+
+        // Assert
+        assertEquals(3, items.size());
+        assertEquals(List.of("First", "Second", "Third"),
+            items.stream().map(item -> item.get(ContextKeys.SUBJECT)).toList());
+        assertEquals(List.of("18c1", "18c2", "18c3"), items.stream().map(executor::itemCursor).toList());
+        assertEquals(1, items.get(0).getInt(ContextKeys.MESSAGE_COUNT, 0));
+        assertEquals(List.of(oldest), items.get(0).get(ContextKeys.NEW_MESSAGES));
+        assertEquals("a@example.com", items.get(0).getString("from"));
+        assertTrue(executor.splitItems(TriggerContext.empty()).isEmpty());
+    }
+}
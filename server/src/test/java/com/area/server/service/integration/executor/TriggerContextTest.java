@@ -0,0 +1,61 @@
+package com.area.server.service.integration.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TriggerContextTest {
+
+    @Test
+    public void testSlotsAndCustomEntriesAreReadableByKeyAndByName() {
+        // Arrange
+        TriggerContext.Builder builder = TriggerContext.builder()
+            .putInt(ContextKeys.MESSAGE_COUNT, 3)
+            .put(ContextKeys.SUBJECT, "Build failed")
+            .putBoolean(ContextKeys.TRIGGERED, false)
+            .put("customField", "value");
+
+        // Act
+        TriggerContext context = builder.build();
+
+        // Assert
+        assertEquals(3, context.getInt(ContextKeys.MESSAGE_COUNT, 0));
+        assertEquals(3, context.getInteger("messageCount"));
+        assertEquals("Build failed", context.getString("subject"));
+        assertFalse(context.getBoolean(ContextKeys.TRIGGERED, true));
+        assertEquals(Boolean.FALSE, context.getBoolean("triggered"));
+        assertEquals("value", context.get("customField"));
+        assertFalse(context.has(ContextKeys.ISSUE_COUNT));
+        assertEquals(0, context.getInt(ContextKeys.ISSUE_COUNT, 0));
+        assertEquals(List.of("messageCount", "subject", "triggered", "customField"), context.keys());
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    public void testLooselyTypedDataKeepsValuesThatDoNotFitTheirSlot() {
+        // Arrange
+        Map<String, Object> mock = new LinkedHashMap<>();
+        mock.put("issueNumber", 42);
+        mock.put("messageCount", "2");
+        mock.put("subject", "Hello");
+
+        // Act
+        TriggerContext context = TriggerContext.of(mock);
+
+        // Assert
+        assertEquals(42L, context.get(ContextKeys.ISSUE_NUMBER));
+        assertNull(context.get(ContextKeys.MESSAGE_COUNT));
+        assertEquals("2", context.get("messageCount"));
+        assertNull(context.getInteger("messageCount"));
+        assertTrue(context.has("messageCount"));
+        assertEquals("Hello", context.toMap().get("subject"));
+    }
+}
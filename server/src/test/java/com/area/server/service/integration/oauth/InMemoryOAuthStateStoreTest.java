@@ -0,0 +1,74 @@
+package com.area.server.service.integration.oauth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryOAuthStateStoreTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final InMemoryOAuthStateStore store = new InMemoryOAuthStateStore(clock, 600_000, 60_000);
+
+    @Test
+    public void testStateIsConsumedOnceForItsProvider() {
+        // Arrange
+        String state = store.issue("github", 42L);
+
+        // Act & Assert
+        assertTrue(store.consume("gmail", store.issue("github", 1L)).isEmpty());
+        assertEquals(42L, store.consume("github", state).orElseThrow().userId());
+        assertTrue(store.consume("github", state).isEmpty());
+        assertTrue(store.consume("github", "not-a-state").isEmpty());
+    }
+
+    @Test
+    public void testExpiredBucketsAreDropped() {
+        // Arrange
+        String expired = store.issue("github", 1L);
+        store.issue("github", 2L);
+
+        // Act
+        clock.advance(Duration.ofMinutes(12));
+        String fresh = store.issue("github", 3L);
+
+        // Assert
+        assertEquals(1, store.size());
+        assertTrue(store.consume("github", expired).isEmpty());
+        assertEquals(3L, store.consume("github", fresh).orElseThrow().userId());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
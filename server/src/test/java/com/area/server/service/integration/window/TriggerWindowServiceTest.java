@@ -0,0 +1,112 @@
+package com.area.server.service.integration.window;
+
+import com.area.server.dto.WorkflowData;
+import com.area.server.model.Workflow;
+import com.area.server.model.WorkflowTriggerState;
+import com.area.server.repository.WorkflowTriggerStateRepository;
+import com.area.server.service.WorkflowTriggerStateService;
+import com.area.server.service.integration.executor.ActionExecutor;
+import com.area.server.service.integration.executor.ActionExecutorRegistry;
+import com.area.server.service.integration.executor.ContextKeys;
+import com.area.server.service.integration.executor.TriggerContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TriggerWindowServiceTest {
+
+    private final Instant start = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Test
+    public void testTumblingWindowSurvivesRestartAndFiresOnce() {
+        // Arrange
+        Workflow workflow = new Workflow();
+        workflow.setId(7L);
+        WorkflowTriggerState stored = new WorkflowTriggerState();
+        stored.setWorkflow(workflow);
+        stored.setConsecutiveFailures(0);
+        WorkflowTriggerStateRepository repository = mock(WorkflowTriggerStateRepository.class);
+        when(repository.findByWorkflowId(7L)).thenReturn(Optional.of(stored));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        WorkflowTriggerStateService stateService =
+            new WorkflowTriggerStateService(repository, Clock.fixed(start, ZoneOffset.UTC));
+        WorkflowData.WindowConfig window = new WorkflowData.WindowConfig();
+        window.setSizeSeconds(600L);
+        window.setCount(3);
+
+        // Act
+        List<WindowItem> first = new TriggerWindowService(stateService, registry(), new ObjectMapper(), 1000)
+            .accumulate(workflow, window, List.of(issue(1, start), issue(2, start)), "issue:2", start);
+        // A new instance stands in for a restart: the open window comes back from the trigger state
+        TriggerWindowService restarted = new TriggerWindowService(stateService, registry(), new ObjectMapper(), 1000);
+        Instant later = start.plusSeconds(60);
+        List<WindowItem> due = restarted.accumulate(workflow, window, List.of(issue(3, later)), "issue:3", later);
+        TriggerContext context = TriggerWindowService.aggregate("github.issue_created", "octo/repo", due, later);
+        restarted.fired(workflow, window, later);
+        List<WindowItem> afterFiring = restarted.accumulate(workflow, window, List.of(), null, later.plusSeconds(60));
+
+        // Assert
+        assertTrue(first.isEmpty());
+        assertEquals(List.of("issue:1", "issue:2", "issue:3"), due.stream().map(WindowItem::id).toList());
+        assertEquals("3 new issues in octo/repo", context.get(ContextKeys.WINDOW_SUMMARY));
+        assertEquals(3, context.getInt(ContextKeys.ISSUE_COUNT, 0));
+        assertEquals("Issue 3", context.get(ContextKeys.ISSUE_TITLE));
+        assertEquals(start.toString(), context.get(ContextKeys.WINDOW_START));
+        assertTrue(afterFiring.isEmpty());
+        assertNull(stored.getWindowItems());
+        assertEquals("issue:3", stored.getLastProcessedItemId());
+        assertEquals(later, stored.getWindowFiredAt());
+    }
+    @Test
+    public void testValidateRejectsInvalidWindows() {
+        // Arrange
+        TriggerWindowService service = new TriggerWindowService(null, registry(), new ObjectMapper(), 1000);
+        WorkflowData.WindowConfig sliding = new WorkflowData.WindowConfig();
+        sliding.setType("sliding");
+        sliding.setCount(5);
+        WorkflowData.WindowConfig tumbling = new WorkflowData.WindowConfig();
+        tumbling.setCount(5);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.validate(trigger("github", "issue_created", sliding)));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(trigger("timer", "current_time", tumbling)));
+        assertDoesNotThrow(() -> service.validate(trigger("github", "issue_created", tumbling)));
+        assertDoesNotThrow(() -> service.validate(trigger("timer", "current_time", null)));
+    }
+
+    private static ActionExecutorRegistry registry() {
+        ActionExecutor issues = mock(ActionExecutor.class);
+        when(issues.getActionType()).thenReturn("github.issue_created");
+        when(issues.reportsItems()).thenReturn(true);
+        ActionExecutor timer = mock(ActionExecutor.class);
+        when(timer.getActionType()).thenReturn("timer.current_time");
+        return new ActionExecutorRegistry(List.of(issues, timer));
+    }
+
+    private static WorkflowData.TriggerConfig trigger(String service, String type, WorkflowData.WindowConfig window) {
+        WorkflowData.TriggerConfig trigger = new WorkflowData.TriggerConfig();
+        trigger.setService(service);
+        trigger.setType(type);
+        trigger.setWindow(window);
+        return trigger;
+    }
+
+    private static WindowItem issue(long number, Instant arrivedAt) {
+        return new WindowItem("issue:" + number, "Issue " + number, "octocat",
+            "https://github.com/octo/repo/issues/" + number, arrivedAt.toEpochMilli());
+    }
+}
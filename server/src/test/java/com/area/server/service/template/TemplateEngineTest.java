@@ -0,0 +1,61 @@
+package com.area.server.service.template;
+
+import com.area.server.dto.GitHubIssue;
+import com.area.server.model.Area;
+import com.area.server.service.integration.executor.TriggerContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TemplateEngineTest {
+
+    private final TemplateEngine templateEngine = new TemplateEngine(100);
+
+    @Test
+    public void testPlaceholdersResolveFlatKeysAliasesAndNestedPaths() {
+        // Arrange
+        GitHubIssue.GitHubUser user = new GitHubIssue.GitHubUser();
+        user.setLogin("octocat");
+        GitHubIssue issue = new GitHubIssue();
+        issue.setNumber(42L);
+        issue.setUser(user);
+        TriggerContext context = TriggerContext.of(Map.of(
+            "subject", "Costs: $100",
+            "issueNumber", 42L,
+            "latestIssue", issue));
+        Area area = new Area();
+        area.setId(7L);
+        String template = "{{subject}} / {email.subject} / #{issue.number} by {{ issue.user.login }} {unknown}";
+
+        // Act
+        String discord = templateEngine.render(area, template, context, CompiledTemplate.Missing.EMPTY);
+        String gitHub = templateEngine.render(area, template, context, CompiledTemplate.Missing.KEEP);
+
+        // Assert
+        assertEquals("Costs: $100 / Costs: $100 / #42 by octocat ", discord);
+        assertEquals("Costs: $100 / Costs: $100 / #42 by octocat {unknown}", gitHub);
+    }
+
+    @Test
+    public void testCompiledTemplatesAreCachedUntilTheTemplateChanges() {
+        // Arrange
+        Area area = new Area();
+        area.setId(7L);
+
+        // Act
+        CompiledTemplate first = templateEngine.compile(area, "Hello {name}");
+        CompiledTemplate again = templateEngine.compile(area, "Hello {name}");
+        CompiledTemplate edited = templateEngine.compile(area, "Hi {name}");
+        String code = CompiledTemplate.compile("if (x) { return {{name}}; } {}")
+            .render(Map.of("name", "y")::get, CompiledTemplate.Missing.KEEP);
+
+        // Assert
+        assertSame(first, again);
+        assertEquals("Hi {name}", edited.getSource());
+        assertEquals(2, templateEngine.getCacheSize());
+        assertEquals("if (x) { return y; } {}", code);
+    }
+}
@@ -0,0 +1,98 @@
+package com.area.server.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TracerTest {
+
+    @Test
+    public void testChildSpansFollowReactorContextAcrossThreads() {
+        // Arrange
+        List<Span> exported = new CopyOnWriteArrayList<>();
+        Tracer tracer = new Tracer(exported::add, true, 1.0);
+        Span root = tracer.startSpan("poll", Span.Kind.INTERNAL, null);
+
+        // Act
+        tracer.trace("workflow", workflow -> Mono.just("ctx")
+                .publishOn(Schedulers.parallel())
+                .flatMap(ctx -> tracer.trace("reaction", reaction -> Mono.just(ctx)
+                    .subscribeOn(Schedulers.boundedElastic()))))
+            .contextWrite(Tracer.context(root))
+            .block();
+        root.end();
+
+        // Assert
+        Span workflow = named(exported, "workflow");
+        Span reaction = named(exported, "reaction");
+        assertEquals(3, exported.size());
+        assertEquals(workflow.getSpanId(), reaction.getParentSpanId());
+        assertEquals(root.getSpanId(), workflow.getParentSpanId());
+        assertEquals(root.getTraceId(), reaction.getTraceId());
+        assertNull(root.getParentSpanId());
+    }
+
+    @Test
+    public void testExportsSpansAsOtlpJsonLines(@TempDir Path dir) throws Exception {
+        // Arrange
+        Path file = dir.resolve("traces.jsonl");
+        ObjectMapper objectMapper = new ObjectMapper();
+        OtlpJsonFileSpanExporter exporter = new OtlpJsonFileSpanExporter(objectMapper, file.toString(), "server", 16, 16, 1 << 20, 2);
+        Tracer tracer = new Tracer(exporter, true, 1.0);
+
+        // Act
+        tracer.startSpan("HTTP GET", Span.Kind.CLIENT, null)
+            .setAttribute("http.response.status_code", 503)
+            .setStatus(Span.Status.ERROR, "503")
+            .end();
+        exporter.flush();
+
+        // Assert
+        JsonNode request = objectMapper.readTree(Files.readAllLines(file).get(0));
+        JsonNode resourceSpans = request.path("resourceSpans").get(0);
+        JsonNode span = resourceSpans.path("scopeSpans").get(0).path("spans").get(0);
+        assertEquals("server", resourceSpans.path("resource").path("attributes").get(0).path("value").path("stringValue").asText());
+        assertEquals("HTTP GET", span.path("name").asText());
+        assertEquals(3, span.path("kind").asInt());
+        assertEquals(32, span.path("traceId").asText().length());
+        assertEquals("503", span.path("attributes").get(0).path("value").path("intValue").asText());
+        assertEquals(2, span.path("status").path("code").asInt());
+    }
+
+    @Test
+    public void testRollsExportFileAtMaxBytes(@TempDir Path dir) throws Exception {
+        // Arrange: every flush exceeds the limit, two rolled files are kept
+        Path file = dir.resolve("traces.jsonl");
+        OtlpJsonFileSpanExporter exporter = new OtlpJsonFileSpanExporter(new ObjectMapper(), file.toString(), "server", 16, 16, 1, 2);
+        Tracer tracer = new Tracer(exporter, true, 1.0);
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            tracer.startSpan("span-" + i, Span.Kind.INTERNAL, null).end();
+            exporter.flush();
+        }
+
+        // Assert
+        assertTrue(Files.readString(file).contains("span-3"));
+        assertTrue(Files.readString(dir.resolve("traces.jsonl.1")).contains("span-2"));
+        assertTrue(Files.readString(dir.resolve("traces.jsonl.2")).contains("span-1"));
+        assertFalse(Files.exists(dir.resolve("traces.jsonl.3")));
+    }
+
+    private static Span named(List<Span> spans, String name) {
+        return spans.stream().filter(span -> span.getName().equals(name)).findFirst().orElseThrow();
+    }
+}